@@ -43,4 +43,31 @@ public interface NodeAttribute {
     long getHeartbeatInterval();
 
     String getDestroyMethod();
+
+    /**
+     * @return the SQL returning the replication lag of the node, {@code null} if the lag is not probed
+     */
+    default String getReplicationLagSql() {
+        return null;
+    }
+
+    /**
+     * The lag is in the unit returned by {@link #getReplicationLagSql()}, seconds or bytes,
+     * {@link Double#POSITIVE_INFINITY} when the node does not replicate.
+     *
+     * @return the last replication lag sampled, {@code null} if it is unknown
+     */
+    default Double getReplicationLag() {
+        return null;
+    }
+
+    default void setReplicationLag(Double replicationLag) {
+    }
+
+    /**
+     * @return the time in milliseconds the last replication lag was sampled, {@code null} if the lag is unknown
+     */
+    default Long getReplicationLagSampledAt() {
+        return null;
+    }
 }
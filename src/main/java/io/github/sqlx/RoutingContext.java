@@ -84,6 +84,28 @@ public class RoutingContext {
         return RESOURCES.get();
     }
 
+    /**
+     * Copies the resources of the current thread, used to propagate the routing context to another thread.
+     *
+     * @return a copy of the resources
+     */
+    public static Map<Object, Object> snapshot() {
+        return new HashMap<>(RESOURCES.get());
+    }
+
+    /**
+     * Replaces the resources of the current thread with a copy of the given snapshot.
+     *
+     * @param snapshot the resources taken with {@link #snapshot()}
+     */
+    public static void restore(Map<Object, Object> snapshot) {
+        Map<Object, Object> map = new HashMap<>(2 << 3);
+        if (Objects.nonNull(snapshot)) {
+            map.putAll(snapshot);
+        }
+        RESOURCES.set(map);
+    }
+
     public static void force(RouteAttribute ra) {
         addResource(FORCE_ROUTING_ATTR, ra);
     }
@@ -0,0 +1,183 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx;
+
+import io.github.sqlx.util.StringUtils;
+
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The last writes of the current session per cluster, used by read-your-writes consistency.
+ * <p>
+ * A write is recorded once it is committed: when it succeeded in auto-commit mode, or when its transaction is committed.
+ * <p>
+ * A session is scoped explicitly and never outlives its scope. By default it is the SQLX connection: the reads
+ * of a connection follow its own writes and the session ends when the connection is closed, so separate statements
+ * each run on a connection of their own, like separate {@code JdbcTemplate} calls outside a transaction, are not
+ * consistent with each other. A session spanning several connections is {@link #open() opened} on the current thread
+ * and closed at its end, preferably with try-with-resources. In a servlet application the
+ * {@link io.github.sqlx.integration.springboot.SessionConsistencyFilter} opens one for every request.
+ * A session continues on another thread or in another request by passing its {@link Session#getToken() token}
+ * and {@link #open(String) opening} a session with it there.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public class SessionConsistency {
+
+    private static final ThreadLocal<Session> CURRENT = new ThreadLocal<>();
+
+    private SessionConsistency() {
+        throw new IllegalStateException("Instantiating SessionConsistency is not allowed");
+    }
+
+    /**
+     * Opens a session on the current thread until it is closed.
+     *
+     * @return the session
+     */
+    public static Session open() {
+        return new Session().enter();
+    }
+
+    /**
+     * Opens a session on the current thread continuing the session of the token.
+     *
+     * @param token the token taken with {@link Session#getToken()}, may be blank
+     * @return the session
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static Session open(String token) {
+        Session session = new Session();
+        session.resume(token);
+        return session.enter();
+    }
+
+    /**
+     * @return the session of the current thread, {@code null} if none
+     */
+    public static Session current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Records a write of the current session to the cluster, nothing is recorded outside a session.
+     *
+     * @param cluster the name of the cluster
+     */
+    public static void recordWrite(String cluster) {
+        Session session = CURRENT.get();
+        if (session != null) {
+            session.recordWrite(cluster);
+        }
+    }
+
+    /**
+     * @param cluster the name of the cluster
+     * @return the time in milliseconds of the last write of the current session to the cluster, {@code null} if none
+     */
+    public static Long getLastWrite(String cluster) {
+        Session session = CURRENT.get();
+        return session != null ? session.getLastWrite(cluster) : null;
+    }
+
+    /**
+     * @return the last writes of the current session as a token, empty outside a session or if it has not written
+     */
+    public static String getToken() {
+        Session session = CURRENT.get();
+        return session != null ? session.getToken() : "";
+    }
+
+    /**
+     * A session of read-your-writes consistency.
+     */
+    public static final class Session implements AutoCloseable {
+
+        private final Map<String, Long> lastWrites = new ConcurrentHashMap<>(4);
+
+        private Session previous;
+
+        /**
+         * Makes this session the session of the current thread until {@link #close()}.
+         *
+         * @return this session
+         */
+        public Session enter() {
+            previous = CURRENT.get();
+            CURRENT.set(this);
+            return this;
+        }
+
+        /**
+         * Restores the session the current thread had before {@link #enter()}.
+         */
+        @Override
+        public void close() {
+            if (CURRENT.get() != this) {
+                return;
+            }
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+            previous = null;
+        }
+
+        public void recordWrite(String cluster) {
+            lastWrites.put(cluster, System.currentTimeMillis());
+        }
+
+        public Long getLastWrite(String cluster) {
+            return lastWrites.get(cluster);
+        }
+
+        /**
+         * @return the last writes of this session as a token, empty if the session has not written
+         */
+        public String getToken() {
+            StringJoiner token = new StringJoiner(",");
+            lastWrites.forEach((cluster, time) -> token.add(cluster + "=" + time));
+            return token.toString();
+        }
+
+        /**
+         * Continues a session in this one, the later write per cluster is kept.
+         *
+         * @param token the token taken with {@link #getToken()}
+         * @throws IllegalArgumentException if the token is malformed
+         */
+        public void resume(String token) {
+            if (StringUtils.isBlank(token)) {
+                return;
+            }
+            for (String write : token.split(",")) {
+                int index = write.lastIndexOf('=');
+                if (index <= 0) {
+                    throw new IllegalArgumentException("Invalid session consistency token: " + token);
+                }
+                try {
+                    lastWrites.merge(write.substring(0, index), Long.parseLong(write.substring(index + 1)), Math::max);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid session consistency token: " + token, e);
+                }
+            }
+        }
+    }
+}
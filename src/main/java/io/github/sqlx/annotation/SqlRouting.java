@@ -41,6 +41,8 @@ import java.lang.annotation.Target;
  *   <li>{@code propagation}: (default is true) Indicates whether
  *       the routing behavior should propagate to any nested SQL
  *       operations or transactions.</li>
+ *   <li>{@code scatter}: (default is false) Sends read-only statements
+ *       to every readable node and merges their results.</li>
  * </ul>
  *
  * <p>This annotation is retained at runtime, allowing for dynamic
@@ -84,4 +86,12 @@ public @interface SqlRouting {
      * of the transaction is consistent with the propagation behavior of the routing.
      */
     boolean propagation() default true;
+
+    /**
+     * 'true' sends read-only statements outside of transactions to every readable node of the cluster in parallel,
+     * or to every node in 'nodes' when no cluster is specified, and returns a single result set that concatenates
+     * the results of the nodes, or merges them by the ORDER BY columns of the query.
+     * Aggregates such as count or sum are returned per node and must be combined by the caller.
+     */
+    boolean scatter() default false;
 }
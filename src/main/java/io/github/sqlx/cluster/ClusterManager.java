@@ -17,6 +17,7 @@ package io.github.sqlx.cluster;
 
 
 import io.github.sqlx.NodeAttribute;
+import io.github.sqlx.config.ClusterConfiguration;
 import io.github.sqlx.config.DataSourceConfiguration;
 import io.github.sqlx.config.SqlXConfiguration;
 import io.github.sqlx.exception.ManagementException;
@@ -24,6 +25,7 @@ import io.github.sqlx.util.CollectionUtils;
 import io.github.sqlx.util.MapUtils;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -94,6 +96,24 @@ public class ClusterManager {
         return clusters.get(name);
     }
 
+    /**
+     * Get the names of the readable nodes of a cluster that are currently available, sorted by name.
+     *
+     * @param name The unique identifier of the cluster.
+     * @return The available readable nodes, or an empty list if the cluster is not found.
+     */
+    public List<String> getAvailableReadableNodes(String name) {
+        ClusterConfiguration conf = sqlXConfiguration.getCluster(name);
+        if (conf == null || CollectionUtils.isEmpty(conf.getNodeAttributes())) {
+            return Collections.emptyList();
+        }
+        return conf.getReadableRoutingNodeAttributes().stream()
+                .filter(node -> node.getNodeState() == null || node.getNodeState().isAvailable())
+                .map(NodeAttribute::getName)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
     /**
      * Removes a node with the specified name from all clusters.
      * This method iterates over all clusters and attempts to remove the node with the specified name from each cluster.
@@ -0,0 +1,64 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.config;
+
+import io.github.sqlx.exception.ConfigurationException;
+import lombok.Data;
+
+import java.util.Objects;
+
+/**
+ * Configuration of the SQL audit log.
+ * <p>
+ * Routing, statement and transaction events are captured into a fixed-size ring buffer by the calling thread
+ * and written by a background thread, events are dropped when the buffer is full.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Data
+public class AuditConfiguration implements ConfigurationValidator {
+
+    private Boolean enabled = false;
+
+    private AuditFormat format = AuditFormat.JSON_LINES;
+
+    /**
+     * The number of events the ring buffer holds, a power of two.
+     */
+    private Integer bufferSize = 8192;
+
+    /**
+     * The events written per second for one SQL fingerprint, 0 writes all the events.
+     */
+    private Integer rateLimitPerFingerprint = 100;
+
+    @Override
+    public void validate() {
+        if (!Boolean.TRUE.equals(enabled)) {
+            return;
+        }
+        if (Objects.isNull(format)) {
+            throw new ConfigurationException("audit [format] attr must not be null");
+        }
+        if (Objects.isNull(bufferSize) || bufferSize < 2 || Integer.bitCount(bufferSize) != 1) {
+            throw new ConfigurationException("audit [bufferSize] attr must be a power of two greater than 1");
+        }
+        if (Objects.isNull(rateLimitPerFingerprint) || rateLimitPerFingerprint < 0) {
+            throw new ConfigurationException("audit [rateLimitPerFingerprint] attr must not be negative");
+        }
+    }
+}
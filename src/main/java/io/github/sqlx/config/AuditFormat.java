@@ -0,0 +1,35 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.config;
+
+/**
+ * The format of the lines written by the SQL audit log.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public enum AuditFormat {
+
+    /**
+     * One JSON object per line.
+     */
+    JSON_LINES,
+
+    /**
+     * One line of {@code key=value} pairs per event.
+     */
+    LOGFMT
+}
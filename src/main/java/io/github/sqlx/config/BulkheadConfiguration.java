@@ -0,0 +1,113 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.config;
+
+import io.github.sqlx.exception.ConfigurationException;
+import lombok.Data;
+
+import java.util.Objects;
+
+/**
+ * Configuration of the bulkheads that bound the concurrent connection acquisitions and statements of every node and cluster.
+ * <p>
+ * A node or cluster without a limit is not bounded, the limit of a node or cluster can be overridden by
+ * {@link DataSourceConfiguration#getMaxConcurrency()} and {@link ClusterConfiguration#getMaxConcurrency()}.
+ * A full bulkhead rejects a statement at once, or queues it for at most {@link #maxWaitMillis}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Data
+public class BulkheadConfiguration implements ConfigurationValidator {
+
+    private Boolean enabled = false;
+
+    /**
+     * The concurrent statements of a node, {@code null} leaves the nodes unbounded.
+     */
+    private Integer nodeMaxConcurrency;
+
+    /**
+     * The concurrent statements of a cluster, {@code null} leaves the clusters unbounded.
+     */
+    private Integer clusterMaxConcurrency;
+
+    /**
+     * The time a statement waits for a full bulkhead, 0 rejects it at once.
+     */
+    private Long maxWaitMillis = 0L;
+
+    /**
+     * The statements waiting for a bulkhead, further statements are rejected at once.
+     */
+    private Integer maxQueueSize = 64;
+
+    /**
+     * Whether the limit of a node is lowered when its statements slow down, and raised back up to the configured limit.
+     */
+    private Boolean adaptive = false;
+
+    private Integer adaptiveMinLimit = 1;
+
+    /**
+     * A statement slower than this multiple of the fastest recent statement of the node lowers the limit.
+     */
+    private Double adaptiveLatencyTolerance = 2.0D;
+
+    /**
+     * The factor the limit is multiplied by when it is lowered.
+     */
+    private Double adaptiveBackoffRatio = 0.9D;
+
+    /**
+     * The time a node that rejected a statement is avoided by the load balancers.
+     */
+    private Long rejectionPenaltyMillis = 1_000L;
+
+    @Override
+    public void validate() {
+        if (!Boolean.TRUE.equals(enabled)) {
+            return;
+        }
+        if (Objects.nonNull(nodeMaxConcurrency) && nodeMaxConcurrency < 1) {
+            throw new ConfigurationException("bulkhead [nodeMaxConcurrency] attr must be positive");
+        }
+        if (Objects.nonNull(clusterMaxConcurrency) && clusterMaxConcurrency < 1) {
+            throw new ConfigurationException("bulkhead [clusterMaxConcurrency] attr must be positive");
+        }
+        if (Objects.isNull(maxWaitMillis) || maxWaitMillis < 0) {
+            throw new ConfigurationException("bulkhead [maxWaitMillis] attr must not be negative");
+        }
+        if (Objects.isNull(maxQueueSize) || maxQueueSize < 0) {
+            throw new ConfigurationException("bulkhead [maxQueueSize] attr must not be negative");
+        }
+        if (Objects.isNull(rejectionPenaltyMillis) || rejectionPenaltyMillis < 0) {
+            throw new ConfigurationException("bulkhead [rejectionPenaltyMillis] attr must not be negative");
+        }
+        if (!Boolean.TRUE.equals(adaptive)) {
+            return;
+        }
+        if (Objects.isNull(adaptiveMinLimit) || adaptiveMinLimit < 1) {
+            throw new ConfigurationException("bulkhead [adaptiveMinLimit] attr must be positive");
+        }
+        if (Objects.isNull(adaptiveLatencyTolerance) || adaptiveLatencyTolerance <= 1.0D) {
+            throw new ConfigurationException("bulkhead [adaptiveLatencyTolerance] attr must be greater than 1");
+        }
+        if (Objects.isNull(adaptiveBackoffRatio) || adaptiveBackoffRatio <= 0.0D || adaptiveBackoffRatio >= 1.0D) {
+            throw new ConfigurationException("bulkhead [adaptiveBackoffRatio] attr must be between 0 and 1");
+        }
+    }
+}
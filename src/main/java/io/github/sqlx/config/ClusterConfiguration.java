@@ -78,6 +78,50 @@ public class ClusterConfiguration implements ConfigurationValidator {
     @Setter
     private Class<?> readLoadBalanceClass;
 
+    /**
+     * Whether the results of the queries routed to the cluster are cached, see {@link ResultCacheConfiguration}.
+     */
+    @Getter
+    @Setter
+    private Boolean resultCacheEnabled = false;
+
+    /**
+     * The concurrent statements of the cluster, overrides {@link BulkheadConfiguration#getClusterMaxConcurrency()}.
+     */
+    @Getter
+    @Setter
+    private Integer maxConcurrency;
+
+    /**
+     * Readable nodes whose replication lag exceeds this threshold are not chosen for reads, {@code null} ignores the lag.
+     */
+    @Getter
+    @Setter
+    private Double maxReplicationLag;
+
+    /**
+     * An excluded node is chosen again once its lag falls to this threshold, half of {@link #maxReplicationLag} if not set.
+     */
+    @Getter
+    @Setter
+    private Double replicationLagRecovery;
+
+    /**
+     * The time in milliseconds after a write during which the reads of the same session are routed to the writable nodes
+     * or to replicas that have caught up, {@code null} disables read-your-writes consistency.
+     */
+    @Getter
+    @Setter
+    private Long readYourWritesWindowMillis;
+
+    /**
+     * The query timeout in seconds of the statements routed to the cluster that set none,
+     * overrides {@link QueryTimeoutConfiguration#getSqlTypeSeconds()}.
+     */
+    @Getter
+    @Setter
+    private Integer queryTimeoutSeconds;
+
     public void setWritableNodes(Set<String> writableNodes) {
         if (CollectionUtils.isNotEmpty(writableNodes)) {
             this.writableNodes.addAll(writableNodes);
@@ -130,6 +174,19 @@ public class ClusterConfiguration implements ConfigurationValidator {
         if (CollectionUtils.isEmpty(this.readableNodes)) {
             throw new ConfigurationException(String.format("At least one readable node is required in the [%s] cluster." , name));
         }
+
+        if (Objects.nonNull(maxReplicationLag) && maxReplicationLag < 0) {
+            throw new ConfigurationException(String.format("The [maxReplicationLag] of the [%s] cluster must not be negative." , name));
+        }
+        if (Objects.nonNull(replicationLagRecovery) && (replicationLagRecovery < 0 || (Objects.nonNull(maxReplicationLag) && replicationLagRecovery > maxReplicationLag))) {
+            throw new ConfigurationException(String.format("The [replicationLagRecovery] of the [%s] cluster must be between 0 and [maxReplicationLag]." , name));
+        }
+        if (Objects.nonNull(readYourWritesWindowMillis) && readYourWritesWindowMillis < 0) {
+            throw new ConfigurationException(String.format("The [readYourWritesWindowMillis] of the [%s] cluster must not be negative." , name));
+        }
+        if (Objects.nonNull(queryTimeoutSeconds) && queryTimeoutSeconds < 0) {
+            throw new ConfigurationException(String.format("The [queryTimeoutSeconds] of the [%s] cluster must not be negative." , name));
+        }
     }
 
 
@@ -60,6 +60,11 @@ public class DataSourceConfiguration implements ConfigurationValidator {
      */
     private Double weight;
 
+    /**
+     * The concurrent statements of the node, overrides {@link BulkheadConfiguration#getNodeMaxConcurrency()}
+     */
+    private Integer maxConcurrency;
+
     /**
      * Heartbeat detection sql
      */
@@ -70,6 +75,18 @@ public class DataSourceConfiguration implements ConfigurationValidator {
      */
     private long heartbeatInterval = 10000;
 
+    /**
+     * SQL returning the replication lag of the node in seconds or bytes, sampled with the heartbeat.
+     * The lag is read from the Seconds_Behind_Source or Seconds_Behind_Master column when present, from the first column otherwise.
+     */
+    private String replicationLagSql;
+
+    /**
+     * The query timeout in seconds of the statements executed on the node that set none,
+     * overrides {@link ClusterConfiguration#getQueryTimeoutSeconds()}
+     */
+    private Integer queryTimeoutSeconds;
+
     /**
      * Routing node attributes
      */
@@ -107,7 +124,9 @@ public class DataSourceConfiguration implements ConfigurationValidator {
      */
     public synchronized NodeAttribute getNodeAttribute() {
         if (nodeAttribute == null) {
-            nodeAttribute = new DataSourceAttribute(getJdbcUrl() , NodeState.UNKNOWN ,name, weight , heartbeatSql , heartbeatInterval , destroyMethod);
+            DataSourceAttribute attribute = new DataSourceAttribute(getJdbcUrl() , NodeState.UNKNOWN ,name, weight , heartbeatSql , heartbeatInterval , destroyMethod);
+            attribute.setReplicationLagSql(replicationLagSql);
+            nodeAttribute = attribute;
         }
         return nodeAttribute;
     }
@@ -196,6 +215,9 @@ public class DataSourceConfiguration implements ConfigurationValidator {
             }
         }
 
+        if (Objects.nonNull(queryTimeoutSeconds) && queryTimeoutSeconds < 0) {
+            throw new ConfigurationException("dataSources [queryTimeoutSeconds] attr must not be negative");
+        }
         if (MapUtils.isEmpty(props)) {
             throw new ConfigurationException("dataSources [props] attr must not be empty");
         }
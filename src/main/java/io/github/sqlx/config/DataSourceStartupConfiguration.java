@@ -0,0 +1,64 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.config;
+
+import io.github.sqlx.exception.ConfigurationException;
+import lombok.Data;
+
+import java.util.Objects;
+
+/**
+ * Configuration of the data source startup.
+ * <p>
+ * The data sources are built in parallel when the application starts, optionally followed by a warm-up that
+ * opens connections and runs the heartbeat SQL of every node, so that the first requests do not hit cold pools.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Data
+public class DataSourceStartupConfiguration implements ConfigurationValidator {
+
+    /**
+     * The number of data sources built at the same time.
+     */
+    private Integer parallelism = 8;
+
+    /**
+     * The time all data sources must be built and warmed up in.
+     */
+    private Long timeoutMillis = 60_000L;
+
+    private Boolean warmUp = false;
+
+    /**
+     * The connections opened per node during the warm-up.
+     */
+    private Integer warmUpMinConnections = 1;
+
+    @Override
+    public void validate() {
+        if (Objects.isNull(parallelism) || parallelism < 1) {
+            throw new ConfigurationException("startup [parallelism] attr must be positive");
+        }
+        if (Objects.isNull(timeoutMillis) || timeoutMillis <= 0) {
+            throw new ConfigurationException("startup [timeoutMillis] attr must be positive");
+        }
+        if (Boolean.TRUE.equals(warmUp) && (Objects.isNull(warmUpMinConnections) || warmUpMinConnections < 1)) {
+            throw new ConfigurationException("when warmUp is enabled startup [warmUpMinConnections] attr must be positive");
+        }
+    }
+}
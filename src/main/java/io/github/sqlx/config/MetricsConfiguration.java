@@ -80,6 +80,27 @@ public class MetricsConfiguration implements ConfigurationValidator {
     @Expose
     private Integer collectQueueCapacity;
 
+    @Expose
+    private ParameterCaptureMode parameterCaptureMode = ParameterCaptureMode.ALL;
+
+    @Expose
+    private Double parameterCaptureSampleRate = 0.01D;
+
+    @Expose
+    private Integer parameterRenderMaxLength = 256;
+
+    @Expose
+    private Integer sqlRenderMaxLength = 8192;
+
+    @Expose
+    private Long tableMetricsFlushMillis = 1000L;
+
+    @Expose
+    private Double collectSampleRate = 1.0D;
+
+    @Expose
+    private Integer collectRateLimitPerFingerprint;
+
     @Override
     public void validate() {
         if (StringUtils.isBlank(username)) {
@@ -99,6 +120,29 @@ public class MetricsConfiguration implements ConfigurationValidator {
                 throw new ConfigurationException("when collectScope is SLOW metrics [slowTransactionMillis] attr must not be empty");
             }
         }
+        if (Objects.equals(parameterCaptureMode , ParameterCaptureMode.SAMPLED)) {
+            if (Objects.isNull(parameterCaptureSampleRate) || parameterCaptureSampleRate < 0 || parameterCaptureSampleRate > 1) {
+                throw new ConfigurationException("when parameterCaptureMode is SAMPLED metrics [parameterCaptureSampleRate] attr must be between 0 and 1");
+            }
+        }
+        if (Objects.equals(parameterCaptureMode , ParameterCaptureMode.SLOW_OR_FAILED) && Objects.isNull(slowSqlMillis)) {
+            throw new ConfigurationException("when parameterCaptureMode is SLOW_OR_FAILED metrics [slowSqlMillis] attr must not be empty");
+        }
+        if (Objects.nonNull(parameterRenderMaxLength) && parameterRenderMaxLength < 0) {
+            throw new ConfigurationException("metrics [parameterRenderMaxLength] attr must not be negative");
+        }
+        if (Objects.nonNull(sqlRenderMaxLength) && sqlRenderMaxLength <= 0) {
+            throw new ConfigurationException("metrics [sqlRenderMaxLength] attr must be positive");
+        }
+        if (Objects.nonNull(tableMetricsFlushMillis) && tableMetricsFlushMillis <= 0) {
+            throw new ConfigurationException("metrics [tableMetricsFlushMillis] attr must be positive");
+        }
+        if (Objects.nonNull(collectSampleRate) && (collectSampleRate < 0 || collectSampleRate > 1)) {
+            throw new ConfigurationException("metrics [collectSampleRate] attr must be between 0 and 1");
+        }
+        if (Objects.nonNull(collectRateLimitPerFingerprint) && collectRateLimitPerFingerprint <= 0) {
+            throw new ConfigurationException("metrics [collectRateLimitPerFingerprint] attr must be positive");
+        }
         if (Objects.isNull(collectMode)) {
             throw new ConfigurationException("metrics [collectMode] attr must not be empty");
         }
@@ -0,0 +1,49 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.config;
+
+/**
+ * An enumeration that defines how the parameter values of prepared statements are captured.
+ * - OFF: Parameter values are never captured.
+ * - SAMPLED: Parameter values are captured for a random sample of statements.
+ * - SLOW_OR_FAILED: Parameter values are captured, but only rendered for slow or failed statements.
+ * - ALL: Parameter values are captured and rendered for all statements.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public enum ParameterCaptureMode {
+
+    /**
+     * Parameter values are never captured.
+     */
+    OFF,
+
+    /**
+     * Parameter values are captured for a random sample of statements.
+     */
+    SAMPLED,
+
+    /**
+     * Parameter values are captured, but only rendered for slow or failed statements.
+     */
+    SLOW_OR_FAILED,
+
+    /**
+     * Parameter values are captured and rendered for all statements.
+     */
+    ALL
+}
@@ -0,0 +1,60 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.config;
+
+import io.github.sqlx.exception.ConfigurationException;
+import lombok.Data;
+
+import java.util.Objects;
+
+/**
+ * Configuration of the fallback of read statements from a node whose connection pool is exhausted.
+ * <p>
+ * A read statement outside of a transaction waits at most {@link #acquireBudgetMillis} for a connection of a node
+ * whose pool has no idle connection, then it is routed again to another readable node of its cluster.
+ * The load balancers avoid the exhausted node for {@link #saturationPenaltyMillis}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Data
+public class PoolFallbackConfiguration implements ConfigurationValidator {
+
+    private Boolean enabled = false;
+
+    /**
+     * The time a read statement waits for a connection of a node without idle connections before it falls back.
+     */
+    private Long acquireBudgetMillis = 50L;
+
+    /**
+     * The time a node whose pool exceeded the budget is avoided by the load balancers.
+     */
+    private Long saturationPenaltyMillis = 1_000L;
+
+    @Override
+    public void validate() {
+        if (!Boolean.TRUE.equals(enabled)) {
+            return;
+        }
+        if (Objects.isNull(acquireBudgetMillis) || acquireBudgetMillis < 1) {
+            throw new ConfigurationException("poolFallback [acquireBudgetMillis] attr must be positive");
+        }
+        if (Objects.isNull(saturationPenaltyMillis) || saturationPenaltyMillis < 0) {
+            throw new ConfigurationException("poolFallback [saturationPenaltyMillis] attr must not be negative");
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.config;
+
+import io.github.sqlx.exception.ConfigurationException;
+import io.github.sqlx.sql.SqlType;
+import lombok.Data;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Configuration of the default query timeouts and of the watchdog cancelling the statements that overrun them.
+ * <p>
+ * A statement whose application sets no query timeout gets the timeout of its node
+ * ({@link DataSourceConfiguration#getQueryTimeoutSeconds()}), else of its cluster
+ * ({@link ClusterConfiguration#getQueryTimeoutSeconds()}), else of its SQL type, else {@link #defaultSeconds}.
+ * The watchdog cancels a statement still running {@link #watchdogGraceMillis} after its query timeout,
+ * for the drivers that do not enforce the timeout themselves.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Data
+public class QueryTimeoutConfiguration implements ConfigurationValidator {
+
+    private Boolean enabled = false;
+
+    /**
+     * The query timeout in seconds of the statements no other timeout applies to, {@code null} or 0 sets none.
+     */
+    private Integer defaultSeconds;
+
+    /**
+     * The query timeouts in seconds of the statements by SQL type.
+     */
+    private Map<SqlType, Integer> sqlTypeSeconds = new EnumMap<>(SqlType.class);
+
+    /**
+     * Whether the statements still running after their query timeout are cancelled.
+     */
+    private Boolean watchdogEnabled = true;
+
+    /**
+     * The resolution of the watchdog, an overdue statement is cancelled within one tick.
+     */
+    private Long watchdogTickMillis = 100L;
+
+    /**
+     * The time left to the driver to enforce a query timeout before the watchdog cancels the statement.
+     */
+    private Long watchdogGraceMillis = 1_000L;
+
+    @Override
+    public void validate() {
+        if (!Boolean.TRUE.equals(enabled)) {
+            return;
+        }
+        if (Objects.nonNull(defaultSeconds) && defaultSeconds < 0) {
+            throw new ConfigurationException("queryTimeout [defaultSeconds] attr must not be negative");
+        }
+        if (Objects.nonNull(sqlTypeSeconds)) {
+            for (Map.Entry<SqlType, Integer> entry : sqlTypeSeconds.entrySet()) {
+                if (Objects.isNull(entry.getValue()) || entry.getValue() < 0) {
+                    throw new ConfigurationException(String.format("queryTimeout [sqlTypeSeconds] attr of [%s] must not be negative", entry.getKey()));
+                }
+            }
+        }
+        if (!Boolean.TRUE.equals(watchdogEnabled)) {
+            return;
+        }
+        if (Objects.isNull(watchdogTickMillis) || watchdogTickMillis < 1) {
+            throw new ConfigurationException("queryTimeout [watchdogTickMillis] attr must be positive");
+        }
+        if (Objects.isNull(watchdogGraceMillis) || watchdogGraceMillis < 0) {
+            throw new ConfigurationException("queryTimeout [watchdogGraceMillis] attr must not be negative");
+        }
+    }
+}
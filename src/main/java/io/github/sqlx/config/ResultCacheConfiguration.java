@@ -0,0 +1,74 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.config;
+
+import io.github.sqlx.exception.ConfigurationException;
+import lombok.Data;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Configuration of the read-through query result cache.
+ * <p>
+ * The cache is opt-in: a query is cached when its cluster enables the cache, when all of its tables are in
+ * the {@link #tables} allowlist, or when it carries the {@code cache=true} SQL hint.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Data
+public class ResultCacheConfiguration implements ConfigurationValidator {
+
+    private Boolean enabled = false;
+
+    /**
+     * The estimated memory used by all the cached results.
+     */
+    private Long maxMemoryBytes = 64L * 1024 * 1024;
+
+    /**
+     * The estimated memory of a single result, larger results are streamed without being cached.
+     */
+    private Long maxEntryBytes = 1024L * 1024;
+
+    /**
+     * Bounds the staleness of results changed by writes that are not routed through SQLX, 0 disables the expiry.
+     */
+    private Long expireAfterWriteMillis = 60_000L;
+
+    /**
+     * The tables whose queries are cached, matched case insensitively by name or qualified name.
+     */
+    private Set<String> tables = new HashSet<>();
+
+    @Override
+    public void validate() {
+        if (!Boolean.TRUE.equals(enabled)) {
+            return;
+        }
+        if (Objects.isNull(maxMemoryBytes) || maxMemoryBytes <= 0) {
+            throw new ConfigurationException("resultCache [maxMemoryBytes] attr must be greater than 0");
+        }
+        if (Objects.isNull(maxEntryBytes) || maxEntryBytes <= 0 || maxEntryBytes > maxMemoryBytes) {
+            throw new ConfigurationException("resultCache [maxEntryBytes] attr must be greater than 0 and not greater than [maxMemoryBytes]");
+        }
+        if (Objects.isNull(expireAfterWriteMillis) || expireAfterWriteMillis < 0) {
+            throw new ConfigurationException("resultCache [expireAfterWriteMillis] attr must not be negative");
+        }
+    }
+}
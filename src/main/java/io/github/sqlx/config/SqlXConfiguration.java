@@ -48,6 +48,20 @@ public class SqlXConfiguration implements ConfigurationValidator {
 
     private MetricsConfiguration metrics;
 
+    private ResultCacheConfiguration resultCache = new ResultCacheConfiguration();
+
+    private AuditConfiguration audit = new AuditConfiguration();
+
+    private DataSourceStartupConfiguration startup = new DataSourceStartupConfiguration();
+
+    private BulkheadConfiguration bulkhead = new BulkheadConfiguration();
+
+    private WeightTuningConfiguration weightTuning = new WeightTuningConfiguration();
+
+    private PoolFallbackConfiguration poolFallback = new PoolFallbackConfiguration();
+
+    private QueryTimeoutConfiguration queryTimeout = new QueryTimeoutConfiguration();
+
     public SqlParser getSqlParser() {
         return this.sqlParsing.getSqlParser();
     }
@@ -79,6 +93,27 @@ public class SqlXConfiguration implements ConfigurationValidator {
         validateCluster();
         validatePointcuts();
         metrics.validate();
+        if (resultCache != null) {
+            resultCache.validate();
+        }
+        if (audit != null) {
+            audit.validate();
+        }
+        if (startup != null) {
+            startup.validate();
+        }
+        if (bulkhead != null) {
+            bulkhead.validate();
+        }
+        if (weightTuning != null) {
+            weightTuning.validate();
+        }
+        if (poolFallback != null) {
+            poolFallback.validate();
+        }
+        if (queryTimeout != null) {
+            queryTimeout.validate();
+        }
     }
 
     private void validateDataSource() {
@@ -0,0 +1,84 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.config;
+
+import io.github.sqlx.exception.ConfigurationException;
+import lombok.Data;
+
+import java.util.Objects;
+
+/**
+ * Configuration of the controller that tunes the effective weights of the readable nodes of every cluster
+ * from their observed latency and error rate.
+ * <p>
+ * The configured weight of a node is the upper bound of its effective weight,
+ * {@link #minWeightRatio} of the configured weight is the lower bound.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Data
+public class WeightTuningConfiguration implements ConfigurationValidator {
+
+    private Boolean enabled = false;
+
+    /**
+     * The time between two tunings, the statements of a node are observed over this window.
+     */
+    private Long intervalMillis = 10_000L;
+
+    /**
+     * The statements a node must execute in a window for its weight to be tuned.
+     */
+    private Long minSamples = 50L;
+
+    /**
+     * The latency percentile the nodes are compared by.
+     */
+    private Double latencyPercentile = 0.9D;
+
+    /**
+     * The lower bound of the effective weight as a ratio of the configured weight.
+     */
+    private Double minWeightRatio = 0.1D;
+
+    /**
+     * The share of the distance to the computed weight covered by one tuning, 1 applies the computed weight at once.
+     */
+    private Double smoothing = 0.5D;
+
+    @Override
+    public void validate() {
+        if (!Boolean.TRUE.equals(enabled)) {
+            return;
+        }
+        if (Objects.isNull(intervalMillis) || intervalMillis <= 0) {
+            throw new ConfigurationException("weight tuning [intervalMillis] attr must be positive");
+        }
+        if (Objects.isNull(minSamples) || minSamples < 1) {
+            throw new ConfigurationException("weight tuning [minSamples] attr must be positive");
+        }
+        if (Objects.isNull(latencyPercentile) || latencyPercentile <= 0.0D || latencyPercentile > 1.0D) {
+            throw new ConfigurationException("weight tuning [latencyPercentile] attr must be greater than 0 and at most 1");
+        }
+        if (Objects.isNull(minWeightRatio) || minWeightRatio <= 0.0D || minWeightRatio > 1.0D) {
+            throw new ConfigurationException("weight tuning [minWeightRatio] attr must be greater than 0 and at most 1");
+        }
+        if (Objects.isNull(smoothing) || smoothing <= 0.0D || smoothing > 1.0D) {
+            throw new ConfigurationException("weight tuning [smoothing] attr must be greater than 0 and at most 1");
+        }
+    }
+}
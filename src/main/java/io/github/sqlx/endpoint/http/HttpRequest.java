@@ -42,6 +42,12 @@ public class HttpRequest {
 
     private String body;
 
+    private String authorization;
+
+    private String ifNoneMatch;
+
+    private String acceptEncoding;
+
     private HttpSession httpSession;
 
     private WebSession webSession;
@@ -18,6 +18,11 @@ package io.github.sqlx.endpoint.http;
 import lombok.Data;
 import lombok.experimental.Accessors;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * @author He Xing Mo
  * @since 1.0
@@ -32,10 +37,36 @@ public class HttpResponse {
 
     private String body;
 
+    /**
+     * Writes the body directly to the response instead of {@link #body}, used for large JSON responses.
+     */
+    private BodyWriter bodyWriter;
+
+    /**
+     * The raw body, written as is instead of {@link #body}.
+     */
+    private byte[] bodyBytes;
+
+    private final Map<String, String> headers = new LinkedHashMap<>();
+
     public HttpResponse() {
     }
 
     public HttpResponse(String contentType) {
         this.contentType = contentType;
     }
+
+    public HttpResponse addHeader(String name, String value) {
+        headers.put(name, value);
+        return this;
+    }
+
+    /**
+     * Writes a response body as it is produced.
+     */
+    @FunctionalInterface
+    public interface BodyWriter {
+
+        void writeTo(Writer writer) throws IOException;
+    }
 }
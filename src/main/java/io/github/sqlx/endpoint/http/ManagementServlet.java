@@ -49,7 +49,8 @@ public class ManagementServlet extends HttpServlet {
         String path = getPath(req);
         boolean needLogin = !SecurityUtils.containsUser(req)
                 && !path.endsWith("/login") && !path.endsWith("/login.html")
-                && !path.endsWith(".css") && !path.endsWith(".js");
+                && !path.endsWith(".css") && !path.endsWith(".js")
+                && !SecurityUtils.isMetricsScrapePath(path);
         if (needLogin) {
             resp.sendRedirect(req.getServletPath() + "/login.html");
             return;
@@ -61,12 +62,23 @@ public class ManagementServlet extends HttpServlet {
                 .setPath(path)
                 .setMethod(req.getMethod())
                 .setParameterMap(req.getParameterMap())
-                .setHttpSession(req.getSession())
+                .setHttpSession(req.getSession(!SecurityUtils.isMetricsScrapePath(path)))
+                .setAuthorization(req.getHeader("Authorization"))
+                .setIfNoneMatch(req.getHeader("If-None-Match"))
+                .setAcceptEncoding(req.getHeader("Accept-Encoding"))
                 .setBody(body);
         HttpResponse httpResponse = dispatcherHttpHandler.handle(httpRequest);
         resp.setStatus(httpResponse.getStatus());
         resp.setContentType(httpResponse.getContentType());
-        if (StringUtils.isNotBlank(httpResponse.getBody())) {
+        httpResponse.getHeaders().forEach(resp::setHeader);
+        if (httpResponse.getBodyBytes() != null) {
+            resp.setContentLength(httpResponse.getBodyBytes().length);
+            resp.getOutputStream().write(httpResponse.getBodyBytes());
+            resp.flushBuffer();
+        } else if (httpResponse.getBodyWriter() != null) {
+            httpResponse.getBodyWriter().writeTo(resp.getWriter());
+            resp.flushBuffer();
+        } else if (StringUtils.isNotBlank(httpResponse.getBody())) {
             resp.getWriter().write(httpResponse.getBody());
             resp.flushBuffer();
         }
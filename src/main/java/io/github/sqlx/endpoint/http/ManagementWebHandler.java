@@ -18,6 +18,7 @@ package io.github.sqlx.endpoint.http;
 import io.github.sqlx.util.SecurityUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -26,6 +27,7 @@ import org.springframework.http.server.RequestPath;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebHandler;
@@ -33,6 +35,9 @@ import reactor.core.publisher.Mono;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.WebSession;
 
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
@@ -101,7 +106,8 @@ public class ManagementWebHandler implements WebHandler {
             boolean hasUser = SecurityUtils.containsUser(session);
             boolean needLogin = !hasUser
                     && !path.endsWith("/login") && !path.endsWith("/login.html")
-                    && !path.endsWith(".css") && !path.endsWith(".js");
+                    && !path.endsWith(".css") && !path.endsWith(".js")
+                    && !SecurityUtils.isMetricsScrapePath(path);
 
             // TODO 还有问题
             if (needLogin) {
@@ -124,7 +130,23 @@ public class ManagementWebHandler implements WebHandler {
                 return formData.flatMap(data -> {
                     HttpRequest httpRequest = getHttpRequest(exchange, data, body, session);
                     HttpResponse httpResponse = dispatcherHttpHandler.handle(httpRequest);
+                    if (httpResponse.getContentType() == null || httpResponse.getBodyBytes() != null) {
+                        ServerResponse.BodyBuilder builder = ServerResponse.status(httpResponse.getStatus())
+                                .headers(responseHeaders -> httpResponse.getHeaders().forEach(responseHeaders::set));
+                        if (httpResponse.getContentType() != null) {
+                            builder.contentType(MediaType.parseMediaType(httpResponse.getContentType()));
+                        }
+                        if (httpResponse.getBodyBytes() == null) {
+                            return builder.build();
+                        }
+                        return builder.body(BodyInserters.fromDataBuffers(Mono.just(exchange.getResponse().bufferFactory().wrap(httpResponse.getBodyBytes()))));
+                    }
                     MediaType responseContentType = new MediaType(MediaType.parseMediaType(httpResponse.getContentType()), StandardCharsets.UTF_8);
+                    if (httpResponse.getBodyWriter() != null) {
+                        return ServerResponse.status(httpResponse.getStatus())
+                                .contentType(responseContentType)
+                                .body(BodyInserters.fromDataBuffers(Mono.fromCallable(() -> writeBody(exchange.getResponse().bufferFactory(), httpResponse))));
+                    }
                     return ServerResponse.status(httpResponse.getStatus())
                             .contentType(responseContentType)
                             .bodyValue(httpResponse.getBody());
@@ -143,6 +165,9 @@ public class ManagementWebHandler implements WebHandler {
                 .setMethod(request.getMethodValue())
                 .setParameterMap(parameterMap)
                 .setWebSession(session)
+                .setAuthorization(request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION))
+                .setIfNoneMatch(request.getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH))
+                .setAcceptEncoding(request.getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING))
                 .setBody(body);
     }
 
@@ -192,6 +217,9 @@ public class ManagementWebHandler implements WebHandler {
                     .setPath(getPath(request))
                     .setMethod(request.getMethodValue())
                     .setParameterMap(parameterMap)
+                    .setAuthorization(request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION))
+                .setIfNoneMatch(request.getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH))
+                .setAcceptEncoding(request.getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING))
                     .setBody(body);
 
             HttpResponse httpResponse = dispatcherHttpHandler.handle(httpRequest);
@@ -199,14 +227,48 @@ public class ManagementWebHandler implements WebHandler {
             ServerHttpResponse response = exchange.getResponse();
             response.setRawStatusCode(httpResponse.getStatus());
             HttpHeaders headers = response.getHeaders();
-            headers.add("Content-Type", httpResponse.getContentType());
+            if (httpResponse.getContentType() != null) {
+                headers.add("Content-Type", httpResponse.getContentType());
+            }
+            httpResponse.getHeaders().forEach(headers::set);
 
+            if (httpResponse.getBodyBytes() != null) {
+                return response.writeWith(Mono.just(response.bufferFactory().wrap(httpResponse.getBodyBytes())));
+            }
+            if (httpResponse.getBodyWriter() != null) {
+                return response.writeWith(Mono.fromCallable(() -> writeBody(response.bufferFactory(), httpResponse)));
+            }
+            if (httpResponse.getBody() == null) {
+                return response.setComplete();
+            }
             DataBuffer responseBuffer = response.bufferFactory()
                     .wrap(httpResponse.getBody().getBytes(StandardCharsets.UTF_8));
             return response.writeWith(Mono.just(responseBuffer));
         });
     }
 
+    /**
+     * Writes the body of the response into a data buffer without building the body string.
+     *
+     * @param bufferFactory the buffer factory of the response
+     * @param httpResponse  the response whose body writer is used
+     * @return the data buffer containing the body
+     * @throws IOException if writing fails
+     */
+    private DataBuffer writeBody(DataBufferFactory bufferFactory, HttpResponse httpResponse) throws IOException {
+        DataBuffer dataBuffer = bufferFactory.allocateBuffer();
+        boolean written = false;
+        try (Writer writer = new OutputStreamWriter(dataBuffer.asOutputStream(), StandardCharsets.UTF_8)) {
+            httpResponse.getBodyWriter().writeTo(writer);
+            written = true;
+        } finally {
+            if (!written) {
+                DataBufferUtils.release(dataBuffer);
+            }
+        }
+        return dataBuffer;
+    }
+
     private Map<String, String[]> convertMultiValueMapToMap(MultiValueMap<String, String> multiValueMap) {
         return multiValueMap.entrySet().stream()
                 .collect(Collectors.toMap(
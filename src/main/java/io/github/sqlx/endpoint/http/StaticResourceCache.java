@@ -0,0 +1,247 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.endpoint.http;
+
+import io.github.sqlx.util.IOUtils;
+import io.github.sqlx.util.StringUtils;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Holds the static resources of the management UI in memory, each with its gzip variant and a content hash used as ETag.
+ * <p>
+ * The resources under the resource path are loaded once when the cache is created,
+ * resources that could not be listed are loaded on first request. Missing resources are not cached.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Slf4j
+public class StaticResourceCache {
+
+    private final String resourcePath;
+
+    private final Map<String, StaticResource> resources = new ConcurrentHashMap<>();
+
+    public StaticResourceCache(String resourcePath) {
+        this.resourcePath = resourcePath;
+        preload();
+    }
+
+    /**
+     * Returns the static resource of the request path.
+     *
+     * @param path the request path, starting with a slash
+     * @return the resource, or {@code null} if it does not exist
+     */
+    public StaticResource get(String path) {
+        StaticResource resource = resources.get(path);
+        if (resource != null) {
+            return resource;
+        }
+        resource = load(path);
+        if (resource != null) {
+            resources.putIfAbsent(path, resource);
+        }
+        return resource;
+    }
+
+    /**
+     * @return the number of cached resources
+     */
+    public int size() {
+        return resources.size();
+    }
+
+    private void preload() {
+        URL url = getClass().getClassLoader().getResource(resourcePath);
+        if (url == null) {
+            return;
+        }
+        try {
+            if ("file".equals(url.getProtocol())) {
+                Path root = Paths.get(url.toURI());
+                try (Stream<Path> files = Files.walk(root)) {
+                    files.filter(Files::isRegularFile)
+                            .forEach(file -> preload("/" + root.relativize(file).toString().replace('\\', '/')));
+                }
+            } else if ("jar".equals(url.getProtocol())) {
+                URLConnection connection = url.openConnection();
+                connection.setUseCaches(false);
+                String prefix = ((JarURLConnection) connection).getEntryName() + "/";
+                try (JarFile jarFile = ((JarURLConnection) connection).getJarFile()) {
+                    Enumeration<JarEntry> entries = jarFile.entries();
+                    while (entries.hasMoreElements()) {
+                        JarEntry entry = entries.nextElement();
+                        if (!entry.isDirectory() && entry.getName().startsWith(prefix)) {
+                            preload("/" + entry.getName().substring(prefix.length()));
+                        }
+                    }
+                }
+            }
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            log.warn("Failed to preload static resources of {}, they are loaded on first request", resourcePath, e);
+        }
+        log.info("Preloaded {} static resources of {}", resources.size(), resourcePath);
+    }
+
+    private void preload(String path) {
+        if (StaticResource.contentTypeOf(path) == null) {
+            return;
+        }
+        StaticResource resource = load(path);
+        if (resource != null) {
+            resources.put(path, resource);
+        }
+    }
+
+    private StaticResource load(String path) {
+        String contentType = StaticResource.contentTypeOf(path);
+        if (contentType == null || path.contains("..")) {
+            return null;
+        }
+        try {
+            byte[] bytes = IOUtils.readByteArrayFromResource(resourcePath + path);
+            return bytes == null ? null : new StaticResource(contentType, bytes);
+        } catch (IOException e) {
+            log.warn("Failed to load static resource {}", path, e);
+            return null;
+        }
+    }
+
+    /**
+     * A static resource with its precomputed gzip variant and ETags.
+     */
+    @Getter
+    public static class StaticResource {
+
+        private final String contentType;
+
+        private final byte[] bytes;
+
+        /**
+         * The gzip variant, {@code null} if compressing does not make the resource smaller.
+         */
+        private final byte[] gzipBytes;
+
+        private final String etag;
+
+        private final String gzipEtag;
+
+        StaticResource(String contentType, byte[] bytes) {
+            this.contentType = contentType;
+            this.bytes = bytes;
+            byte[] gzip = gzip(bytes);
+            this.gzipBytes = gzip.length < bytes.length ? gzip : null;
+            String hash = hash(bytes);
+            this.etag = "\"" + hash + "\"";
+            this.gzipEtag = "\"" + hash + "-gzip\"";
+        }
+
+        /**
+         * Checks whether the {@code If-None-Match} header matches either variant of the resource.
+         *
+         * @param ifNoneMatch the header value, may be {@code null}
+         * @return true if the client already has the resource
+         */
+        public boolean isNotModified(String ifNoneMatch) {
+            if (StringUtils.isBlank(ifNoneMatch)) {
+                return false;
+            }
+            for (String tag : ifNoneMatch.split(",")) {
+                String value = tag.trim();
+                if (value.startsWith("W/")) {
+                    value = value.substring(2);
+                }
+                if ("*".equals(value) || etag.equals(value) || gzipEtag.equals(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Checks whether the gzip variant is sent for the {@code Accept-Encoding} header.
+         *
+         * @param acceptEncoding the header value, may be {@code null}
+         * @return true if the gzip variant exists and the client accepts it
+         */
+        public boolean isGzipAccepted(String acceptEncoding) {
+            if (gzipBytes == null || StringUtils.isBlank(acceptEncoding)) {
+                return false;
+            }
+            for (String coding : acceptEncoding.split(",")) {
+                String[] parts = coding.trim().split(";");
+                if (!"gzip".equalsIgnoreCase(parts[0].trim())) {
+                    continue;
+                }
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+            return false;
+        }
+
+        static String contentTypeOf(String path) {
+            if (path.endsWith(".html") || path.endsWith(".htm")) {
+                return "text/html;charset=UTF-8";
+            } else if (path.endsWith(".js")) {
+                return "text/javascript;charset=UTF-8";
+            } else if (path.endsWith(".css")) {
+                return "text/css;charset=UTF-8";
+            }
+            return null;
+        }
+
+        private static byte[] gzip(byte[] bytes) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length / 2 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+                gzip.write(bytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return output.toByteArray();
+        }
+
+        private static String hash(byte[] bytes) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+                return Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
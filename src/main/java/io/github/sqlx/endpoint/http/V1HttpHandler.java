@@ -21,9 +21,10 @@ import io.github.sqlx.config.DataSourceConfiguration;
 import io.github.sqlx.config.MetricsConfiguration;
 import io.github.sqlx.config.SqlXConfiguration;
 import io.github.sqlx.endpoint.jmx.StatManagerMBean;
+import io.github.sqlx.jdbc.datasource.DataSourceStartupTiming;
+import io.github.sqlx.loadbalance.WeightTuningDecision;
 import io.github.sqlx.metrics.DatasourceDashboardMetrics;
 import io.github.sqlx.metrics.DatasourceDashboardMetricsQueryCriteria;
-import io.github.sqlx.metrics.Page;
 import io.github.sqlx.metrics.PagingCriteria;
 import io.github.sqlx.metrics.RoutingMetrics;
 import io.github.sqlx.metrics.RoutingMetricsQueryCriteria;
@@ -37,15 +38,15 @@ import io.github.sqlx.metrics.TableMetricsQueryCriteria;
 import io.github.sqlx.metrics.TransactionMetrics;
 import io.github.sqlx.metrics.TransactionMetricsQueryCriteria;
 import io.github.sqlx.metrics.TransactionMetricsRepository;
+import io.github.sqlx.metrics.meter.PrometheusExposition;
+import io.github.sqlx.metrics.meter.SqlXMeters;
 import io.github.sqlx.metrics.nitrite.NodeSqlExecuteNumMetricsRepository;
-import io.github.sqlx.util.IOUtils;
 import io.github.sqlx.util.JsonUtils;
 import io.github.sqlx.util.SecurityUtils;
 import io.github.sqlx.util.StringUtils;
 import com.google.gson.JsonElement;
 import lombok.extern.slf4j.Slf4j;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -60,7 +61,7 @@ import java.util.Objects;
 @Slf4j
 public class V1HttpHandler {
 
-    private final String resourcePath;
+    private final StaticResourceCache staticResources;
 
     private final SqlXConfiguration sqlXConfiguration;
 
@@ -76,6 +77,8 @@ public class V1HttpHandler {
 
     private final NodeSqlExecuteNumMetricsRepository nodeSqlExecuteNumMetricsRepository;
 
+    private final SqlXMeters meters;
+
     /**
      * Constructs a new V1HttpHandler.
      *
@@ -86,9 +89,11 @@ public class V1HttpHandler {
      * @param sqlMetricsRepository         the SqlMetricsRepository instance
      * @param transactionMetricsRepository the TransactionMetricsRepository instance
      * @param tableAccessMetricsRepository the TableAccessMetricsRepository instance
+     * @param nodeSqlExecuteNumMetricsRepository the NodeSqlExecuteNumMetricsRepository instance
+     * @param meters                       the in-memory meters exposed to scrapers
      */
-    public V1HttpHandler(String resourcePath, SqlXConfiguration sqlXConfiguration, StatManagerMBean statManagerMBean, RoutingMetricsRepository routingMetricsRepository, SqlMetricsRepository sqlMetricsRepository, TransactionMetricsRepository transactionMetricsRepository, TableAccessMetricsRepository tableAccessMetricsRepository, NodeSqlExecuteNumMetricsRepository nodeSqlExecuteNumMetricsRepository) {
-        this.resourcePath = resourcePath;
+    public V1HttpHandler(String resourcePath, SqlXConfiguration sqlXConfiguration, StatManagerMBean statManagerMBean, RoutingMetricsRepository routingMetricsRepository, SqlMetricsRepository sqlMetricsRepository, TransactionMetricsRepository transactionMetricsRepository, TableAccessMetricsRepository tableAccessMetricsRepository, NodeSqlExecuteNumMetricsRepository nodeSqlExecuteNumMetricsRepository, SqlXMeters meters) {
+        this.staticResources = new StaticResourceCache(resourcePath);
         this.sqlXConfiguration = sqlXConfiguration;
         this.statManagerMBean = statManagerMBean;
         this.routingMetricsRepository = routingMetricsRepository;
@@ -96,6 +101,7 @@ public class V1HttpHandler {
         this.transactionMetricsRepository = transactionMetricsRepository;
         this.tableAccessMetricsRepository = tableAccessMetricsRepository;
         this.nodeSqlExecuteNumMetricsRepository = nodeSqlExecuteNumMetricsRepository;
+        this.meters = meters;
     }
 
     @HttpHandle(path = "/v1/login", method = "post")
@@ -132,34 +138,37 @@ public class V1HttpHandler {
 
     /**
      * Handles requests for static resources such as HTML, JavaScript, and CSS files.
+     * The resources are served from memory, gzip compressed when the client accepts it,
+     * and answered with 304 when the client already has the current version.
      *
      * @param request the HttpRequest instance
      * @return an HttpResponse containing the requested resource or a 404 error
-     * @throws IOException if an I/O error occurs while reading the resource
      */
     @HttpHandle(path = "\\/[a-zA-Z0-9\\-._~:\\/?#\\[\\]@!$&'()*+,;=]+\\.((html?)|(js)|(css))")
-    public HttpResponse handleStaticResources(HttpRequest request) throws IOException {
-        HttpResponse httpResponse = new HttpResponse();
-        String path = resourcePath + request.getPath();
-        if (!IOUtils.exists(path)) {
-            httpResponse.setStatus(404);
-
-            if (path.endsWith(".html")) {
-                httpResponse.setContentType("text/html;charset=UTF-8");
-                httpResponse.setBody(IOUtils.readFromResource(resourcePath + "/404.html"));
-            }
-        } else {
-
-            if (path.endsWith(".html")) {
-                httpResponse.setContentType("text/html;charset=UTF-8");
-            } else if (path.endsWith(".js")) {
-                httpResponse.setContentType("text/javascript;charset=UTF-8");
-            } else if (path.endsWith(".css")) {
-                httpResponse.setContentType("text/css;charset=UTF-8");
+    public HttpResponse handleStaticResources(HttpRequest request) {
+        StaticResourceCache.StaticResource resource = staticResources.get(request.getPath());
+        if (resource == null) {
+            HttpResponse httpResponse = new HttpResponse().setStatus(404);
+            StaticResourceCache.StaticResource notFound = request.getPath().endsWith(".html") ? staticResources.get("/404.html") : null;
+            if (notFound != null) {
+                httpResponse.setContentType(notFound.getContentType()).setBodyBytes(notFound.getBytes());
             }
-            httpResponse.setBody(IOUtils.readFromResource(path)).setStatus(200);
+            return httpResponse;
         }
-        return httpResponse;
+
+        boolean gzip = resource.isGzipAccepted(request.getAcceptEncoding());
+        HttpResponse httpResponse = new HttpResponse()
+                .addHeader("ETag", gzip ? resource.getGzipEtag() : resource.getEtag())
+                .addHeader("Cache-Control", resource.getContentType().startsWith("text/html") ? "private, no-cache" : "private, max-age=3600")
+                .addHeader("Vary", "Accept-Encoding");
+        if (resource.isNotModified(request.getIfNoneMatch())) {
+            return httpResponse.setStatus(304);
+        }
+        httpResponse.setStatus(200).setContentType(resource.getContentType());
+        if (gzip) {
+            return httpResponse.addHeader("Content-Encoding", "gzip").setBodyBytes(resource.getGzipBytes());
+        }
+        return httpResponse.setBodyBytes(resource.getBytes());
     }
 
     /**
@@ -173,7 +182,35 @@ public class V1HttpHandler {
         HttpResponse httpResponse = new HttpResponse("application/json;charset=UTF-8");
         List<DataSourceConfiguration> dataSources = sqlXConfiguration.getDataSources();
         Result<List<DataSourceConfiguration>> result = Result.ok(dataSources);
-        httpResponse.setStatus(200).setBody(JsonUtils.maskPasswordToJson(result));
+        httpResponse.setStatus(200).setBodyWriter(writer -> JsonUtils.maskPasswordToJson(result, writer));
+        return httpResponse;
+    }
+
+    /**
+     * Retrieves how long every data source took to build and warm up when the application started.
+     *
+     * @param request the HttpRequest instance
+     * @return an HttpResponse containing the startup timing of every data source in JSON format
+     */
+    @HttpHandle(path = "/v1/datasource/startup", method = "get")
+    public HttpResponse getDatasourceStartupTimings(HttpRequest request) {
+        HttpResponse httpResponse = new HttpResponse("application/json;charset=UTF-8");
+        Result<List<DataSourceStartupTiming>> result = Result.ok(statManagerMBean.getDataSourceStartupTimings());
+        httpResponse.setStatus(200).setBody(JsonUtils.toJson(result));
+        return httpResponse;
+    }
+
+    /**
+     * Retrieves the effective weights the last weight tuning chose for the readable nodes of every cluster.
+     *
+     * @param request the HttpRequest instance
+     * @return an HttpResponse containing the decisions of the last weight tuning in JSON format
+     */
+    @HttpHandle(path = "/v1/cluster/weight-tuning", method = "get")
+    public HttpResponse getWeightTuningDecisions(HttpRequest request) {
+        HttpResponse httpResponse = new HttpResponse("application/json;charset=UTF-8");
+        Result<List<WeightTuningDecision>> result = Result.ok(statManagerMBean.getWeightTuningDecisions());
+        httpResponse.setStatus(200).setBody(JsonUtils.toJson(result));
         return httpResponse;
     }
 
@@ -361,21 +398,15 @@ public class V1HttpHandler {
         if (log.isDebugEnabled()) {
             log.debug("request query routing-metrics page API body {}", request.getBody());
         }
-        HttpResponse httpResponse = new HttpResponse("application/json;charset=UTF-8");
-        String body = request.getBody();
-        Result<Page<RoutingMetrics>> result;
+        HttpResponse httpResponse = new HttpResponse("application/json;charset=UTF-8").setStatus(200);
         try {
-            RoutingMetricsQueryCriteria criteria = JsonUtils.fromJson(body, RoutingMetricsQueryCriteria.class);
+            RoutingMetricsQueryCriteria criteria = JsonUtils.fromJson(request.getBody(), RoutingMetricsQueryCriteria.class);
             validatePagingCriteria(criteria.getPagingCriteria());
-            Page<RoutingMetrics> page = routingMetricsRepository.selectPage(criteria);
-            result = Result.ok(page);
-            httpResponse.setStatus(200);
+            httpResponse.setBodyWriter(writer -> JsonUtils.<RoutingMetrics>writePage(writer, consumer -> routingMetricsRepository.selectPage(criteria, consumer)));
         } catch (Exception e) {
             log.error("request query routing-metrics page error", e);
-            result = Result.fail(e.getMessage());
-            httpResponse.setStatus(200);
+            httpResponse.setBody(JsonUtils.toJson(Result.fail(e.getMessage())));
         }
-        httpResponse.setBody(JsonUtils.toJson(result));
         return httpResponse;
     }
 
@@ -387,25 +418,18 @@ public class V1HttpHandler {
      */
     @HttpHandle(path = "/v1/sql-metrics/page", method = "post")
     public HttpResponse querySqlMetricsPage(HttpRequest request) {
-
         if (log.isDebugEnabled()) {
             log.debug("request query sql-metrics page API body {}", request.getBody());
         }
-        HttpResponse httpResponse = new HttpResponse("application/json;charset=UTF-8");
-        String body = request.getBody();
-        Result<Page<SqlMetrics>> result;
+        HttpResponse httpResponse = new HttpResponse("application/json;charset=UTF-8").setStatus(200);
         try {
-            SqlMetricsQueryCriteria criteria = JsonUtils.fromJson(body, SqlMetricsQueryCriteria.class);
+            SqlMetricsQueryCriteria criteria = JsonUtils.fromJson(request.getBody(), SqlMetricsQueryCriteria.class);
             validatePagingCriteria(criteria.getPagingCriteria());
-            Page<SqlMetrics> page = sqlMetricsRepository.selectPage(criteria);
-            result = Result.ok(page);
-            httpResponse.setStatus(200);
+            httpResponse.setBodyWriter(writer -> JsonUtils.<SqlMetrics>writePage(writer, consumer -> sqlMetricsRepository.selectPage(criteria, consumer)));
         } catch (Exception e) {
             log.error("request query sql-metrics page error", e);
-            result = Result.fail(e.getMessage());
-            httpResponse.setStatus(200);
+            httpResponse.setBody(JsonUtils.toJson(Result.fail(e.getMessage())));
         }
-        httpResponse.setBody(JsonUtils.toJson(result));
         return httpResponse;
     }
 
@@ -420,21 +444,15 @@ public class V1HttpHandler {
         if (log.isDebugEnabled()) {
             log.debug("request query transaction-metrics page API body {}", request.getBody());
         }
-        HttpResponse httpResponse = new HttpResponse("application/json;charset=UTF-8");
-        String body = request.getBody();
-        Result<Page<TransactionMetrics>> result;
+        HttpResponse httpResponse = new HttpResponse("application/json;charset=UTF-8").setStatus(200);
         try {
-            TransactionMetricsQueryCriteria criteria = JsonUtils.fromJson(body, TransactionMetricsQueryCriteria.class);
+            TransactionMetricsQueryCriteria criteria = JsonUtils.fromJson(request.getBody(), TransactionMetricsQueryCriteria.class);
             validatePagingCriteria(criteria.getPagingCriteria());
-            Page<TransactionMetrics> page = transactionMetricsRepository.selectPage(criteria);
-            result = Result.ok(page);
-            httpResponse.setStatus(200);
+            httpResponse.setBodyWriter(writer -> JsonUtils.<TransactionMetrics>writePage(writer, consumer -> transactionMetricsRepository.selectPage(criteria, consumer)));
         } catch (Exception e) {
             log.error("request query transaction-metrics page error", e);
-            result = Result.fail(e.getMessage());
-            httpResponse.setStatus(200);
+            httpResponse.setBody(JsonUtils.toJson(Result.fail(e.getMessage())));
         }
-        httpResponse.setBody(JsonUtils.toJson(result));
         return httpResponse;
     }
 
@@ -449,20 +467,14 @@ public class V1HttpHandler {
         if (log.isDebugEnabled()) {
             log.debug("request query table-metrics page API body {}", request.getBody());
         }
-        HttpResponse httpResponse = new HttpResponse("application/json;charset=UTF-8");
-        String body = request.getBody();
-        Result<Page<TableAccessMetrics>> result;
+        HttpResponse httpResponse = new HttpResponse("application/json;charset=UTF-8").setStatus(200);
         try {
-            TableMetricsQueryCriteria criteria = JsonUtils.fromJson(body, TableMetricsQueryCriteria.class);
-            Page<TableAccessMetrics> page = tableAccessMetricsRepository.selectPage(criteria);
-            result = Result.ok(page);
-            httpResponse.setStatus(200);
+            TableMetricsQueryCriteria criteria = JsonUtils.fromJson(request.getBody(), TableMetricsQueryCriteria.class);
+            httpResponse.setBodyWriter(writer -> JsonUtils.<TableAccessMetrics>writePage(writer, consumer -> tableAccessMetricsRepository.selectPage(criteria, consumer)));
         } catch (Exception e) {
             log.error("request query table-metrics page error", e);
-            result = Result.fail(e.getMessage());
-            httpResponse.setStatus(200);
+            httpResponse.setBody(JsonUtils.toJson(Result.fail(e.getMessage())));
         }
-        httpResponse.setBody(JsonUtils.toJson(result));
         return httpResponse;
     }
 
@@ -489,6 +501,11 @@ public class V1HttpHandler {
                 if (Objects.nonNull(dataSourceConfiguration)) {
                     NodeAttribute nodeAttribute = dataSourceConfiguration.getNodeAttribute();
                     metrics.setNodeState(nodeAttribute.getNodeState());
+                    Double replicationLag = nodeAttribute.getReplicationLag();
+                    if (Objects.nonNull(replicationLag)) {
+                        metrics.setReplicationStopped(replicationLag.isInfinite());
+                        metrics.setReplicationLag(replicationLag.isInfinite() ? null : replicationLag);
+                    }
                 }
             }
             result = Result.ok(metricsList);
@@ -502,12 +519,31 @@ public class V1HttpHandler {
         return httpResponse;
     }
 
+    /**
+     * Exposes the in-memory meters in the Prometheus text format. Scrapers authenticate with HTTP Basic credentials,
+     * the metrics username and password, a logged in session is accepted as well.
+     *
+     * @param request the HttpRequest instance
+     * @return an HttpResponse containing the meters, or a 401 status if the request is not authenticated
+     */
+    @HttpHandle(path = "/v1/metrics/prometheus", method = "get")
+    public HttpResponse scrapePrometheusMetrics(HttpRequest request) {
+        MetricsConfiguration metrics = sqlXConfiguration.getMetrics();
+        boolean authorized = SecurityUtils.containsUser(request.getHttpSession())
+                || SecurityUtils.containsUser(request.getWebSession())
+                || SecurityUtils.isBasicAuthorized(request.getAuthorization(), metrics.getUsername(), metrics.getPassword());
+        if (!authorized) {
+            return new HttpResponse("text/plain;charset=UTF-8").setStatus(401).setBody("Unauthorized");
+        }
+        return new HttpResponse(PrometheusExposition.CONTENT_TYPE).setStatus(200).setBody(PrometheusExposition.write(meters));
+    }
+
     @HttpHandle(path = "/v1/configuration", method = "get")
     public HttpResponse getConfiguration(HttpRequest request) {
         HttpResponse httpResponse = new HttpResponse("application/json;charset=UTF-8").setStatus(200);
         try {
             Result<SqlXConfiguration> result = Result.ok(sqlXConfiguration);
-            httpResponse.setBody(JsonUtils.maskPasswordToJsonExcludeWithoutExpose(result));
+            httpResponse.setBodyWriter(writer -> JsonUtils.maskPasswordToJsonExcludeWithoutExpose(result, writer));
         } catch (Exception e) {
             log.error("get Configuration error", e);
             httpResponse.setBody(JsonUtils.toJson(Result.fail(e.getMessage())));
@@ -526,12 +562,15 @@ public class V1HttpHandler {
         if (pagingCriteria == null) {
             throw new IllegalArgumentException("PagingCriteria is required");
         }
-        if (pagingCriteria.getPageNo() == null) {
-            throw new IllegalArgumentException("Page number (pageNo) is required");
+        if (pagingCriteria.getPageNo() == null && !pagingCriteria.isKeyset()) {
+            throw new IllegalArgumentException("Page number (pageNo) or afterCreatedTime is required");
         }
-        if (pagingCriteria.getPageNo() < 0) {
+        if (pagingCriteria.getPageNo() != null && pagingCriteria.getPageNo() < 0) {
             throw new IllegalArgumentException("Page number (pageNo) must be non-negative");
         }
+        if (pagingCriteria.getAfterCreatedTimeOffset() != null && pagingCriteria.getAfterCreatedTimeOffset() < 0) {
+            throw new IllegalArgumentException("afterCreatedTimeOffset must be non-negative");
+        }
         if (pagingCriteria.getPageSize() == null) {
             throw new IllegalArgumentException("Page size (pageSize) is required");
         }
@@ -27,9 +27,12 @@ import io.github.sqlx.exception.ManagementException;
 import io.github.sqlx.exception.SqlXRuntimeException;
 import io.github.sqlx.integration.datasource.DataSourceInitializer;
 import io.github.sqlx.jdbc.datasource.DataSourceWrapper;
+import io.github.sqlx.jdbc.datasource.DataSourceStartupTiming;
 import io.github.sqlx.jdbc.datasource.DatasourceManager;
 import io.github.sqlx.jdbc.transaction.Transaction;
 import io.github.sqlx.listener.EventListener;
+import io.github.sqlx.loadbalance.WeightTuner;
+import io.github.sqlx.loadbalance.WeightTuningDecision;
 import io.github.sqlx.rule.group.CompositeRouteGroup;
 import io.github.sqlx.rule.group.DefaultRouteGroup;
 import io.github.sqlx.rule.group.NoneClusterRouteGroupBuilder;
@@ -52,6 +55,7 @@ import javax.management.openmbean.TabularType;
 import javax.sql.DataSource;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -82,6 +86,8 @@ public class StatManager implements StatManagerMBean {
 
     private final Transaction transaction;
 
+    private WeightTuner weightTuner;
+
     static {
         initDataSourceCompositeType();
         initClusterCompositeType();
@@ -150,6 +156,20 @@ public class StatManager implements StatManagerMBean {
         return data;
     }
 
+    @Override
+    public List<DataSourceStartupTiming> getDataSourceStartupTimings() {
+        return datasourceManager.getStartupTimings();
+    }
+
+    @Override
+    public List<WeightTuningDecision> getWeightTuningDecisions() {
+        return weightTuner != null ? weightTuner.getDecisions() : Collections.emptyList();
+    }
+
+    public void setWeightTuner(WeightTuner weightTuner) {
+        this.weightTuner = weightTuner;
+    }
+
     @Override
     public String getDefaultCluster() {
         return null;
@@ -18,9 +18,12 @@ package io.github.sqlx.endpoint.jmx;
 import io.github.sqlx.NodeState;
 import io.github.sqlx.config.ClusterConfiguration;
 import io.github.sqlx.config.DataSourceConfiguration;
+import io.github.sqlx.jdbc.datasource.DataSourceStartupTiming;
+import io.github.sqlx.loadbalance.WeightTuningDecision;
 
 import javax.management.JMException;
 import javax.management.openmbean.TabularData;
+import java.util.List;
 
 /**
  * The javax.management MBean for SQLRouting.
@@ -129,4 +132,18 @@ public interface StatManagerMBean {
      * @see ClusterConfiguration
      */
     void addCluster(String clusterConfJson);
+
+    /**
+     * Returns how long every node took to start when the application started.
+     *
+     * @return the startup timing of every node
+     */
+    List<DataSourceStartupTiming> getDataSourceStartupTimings();
+
+    /**
+     * Returns the effective weights the last weight tuning chose for the readable nodes of every cluster.
+     *
+     * @return the decisions of the last weight tuning, empty if the weight tuning is disabled
+     */
+    List<WeightTuningDecision> getWeightTuningDecisions();
 }
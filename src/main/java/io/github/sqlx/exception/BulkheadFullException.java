@@ -0,0 +1,36 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.exception;
+
+import java.sql.SQLTransientException;
+
+/**
+ * Thrown when a statement is rejected because the bulkhead of its node or cluster is full.
+ * The statement was not sent to the database, retrying it later or on another node may succeed.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public class BulkheadFullException extends SQLTransientException {
+
+    public BulkheadFullException(String message) {
+        super(message);
+    }
+
+    public BulkheadFullException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
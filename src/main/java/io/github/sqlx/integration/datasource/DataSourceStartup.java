@@ -0,0 +1,207 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.integration.datasource;
+
+import io.github.sqlx.NodeAttribute;
+import io.github.sqlx.NodeState;
+import io.github.sqlx.config.DataSourceConfiguration;
+import io.github.sqlx.config.DataSourceStartupConfiguration;
+import io.github.sqlx.exception.SqlXRuntimeException;
+import io.github.sqlx.jdbc.datasource.DataSourceStartupTiming;
+import io.github.sqlx.jdbc.datasource.DataSourceWrapper;
+import io.github.sqlx.util.NamedThreadFactory;
+import io.github.sqlx.util.StringUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Builds the configured data sources in parallel when the application starts, and optionally warms up their pools.
+ * <p>
+ * The data sources are built by a bounded number of threads and must all be ready within the configured timeout,
+ * otherwise the startup fails and the data sources already built are destroyed.
+ * The warm-up opens the configured number of connections on every node and runs its heartbeat SQL,
+ * a node whose heartbeat succeeds starts {@link NodeState#UP} instead of {@link NodeState#UNKNOWN},
+ * a node that cannot be warmed up does not fail the startup.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Slf4j
+public class DataSourceStartup {
+
+    private final DataSourceInitializer dataSourceInitializer;
+
+    private final DataSourceStartupConfiguration configuration;
+
+    private final List<DataSourceStartupTiming> timings = new ArrayList<>();
+
+    public DataSourceStartup(DataSourceInitializer dataSourceInitializer, DataSourceStartupConfiguration configuration) {
+        this.dataSourceInitializer = dataSourceInitializer;
+        this.configuration = configuration != null ? configuration : new DataSourceStartupConfiguration();
+    }
+
+    /**
+     * Builds the data sources.
+     *
+     * @param dataSourceConfs the configurations of the data sources
+     * @return the data sources by name, in the order of the configurations
+     * @throws SqlXRuntimeException if a data source cannot be built or the timeout elapses
+     */
+    public Map<String, DataSourceWrapper> start(List<DataSourceConfiguration> dataSourceConfs) {
+        long startNanos = System.nanoTime();
+        int threads = Math.max(1, Math.min(configuration.getParallelism(), dataSourceConfs.size()));
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new NamedThreadFactory("sqlx-datasource-startup", true));
+        List<Future<Startup>> futures = new ArrayList<>(dataSourceConfs.size());
+        for (DataSourceConfiguration dataSourceConf : dataSourceConfs) {
+            futures.add(executor.submit(() -> startNode(dataSourceConf)));
+        }
+
+        Map<String, DataSourceWrapper> dataSources = new LinkedHashMap<>();
+        List<DataSourceStartupTiming> nodeTimings = new ArrayList<>(dataSourceConfs.size());
+        long deadline = startNanos + TimeUnit.MILLISECONDS.toNanos(configuration.getTimeoutMillis());
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                Startup startup = futures.get(i).get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                dataSources.put(dataSourceConfs.get(i).getName(), startup.dataSource);
+                nodeTimings.add(startup.timing);
+            }
+        } catch (TimeoutException e) {
+            List<String> pending = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                if (!futures.get(i).isDone()) {
+                    pending.add(dataSourceConfs.get(i).getName());
+                }
+            }
+            throw fail(futures, new SqlXRuntimeException(String.format("DataSource startup did not finish within %d ms, pending %s",
+                    configuration.getTimeoutMillis(), pending)));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw fail(futures, cause instanceof RuntimeException ? (RuntimeException) cause : new SqlXRuntimeException(cause));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw fail(futures, new SqlXRuntimeException("DataSource startup interrupted", e));
+        } finally {
+            executor.shutdownNow();
+        }
+        synchronized (timings) {
+            timings.addAll(nodeTimings);
+        }
+        log.info("{} DataSources started in {} ms", dataSources.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        return dataSources;
+    }
+
+    /**
+     * @return the startup timing of every node, in the order of the configurations
+     */
+    public List<DataSourceStartupTiming> getTimings() {
+        synchronized (timings) {
+            return new ArrayList<>(timings);
+        }
+    }
+
+    private Startup startNode(DataSourceConfiguration dataSourceConf) {
+        DataSourceStartupTiming timing = new DataSourceStartupTiming();
+        timing.setName(dataSourceConf.getName());
+        long startNanos = System.nanoTime();
+        DataSource dataSource = dataSourceInitializer.initialize(dataSourceConf);
+        timing.setInitializeMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        DataSourceWrapper dataSourceWrapper = new DataSourceWrapper(dataSourceConf.getName(), dataSource, dataSourceConf.getNodeAttribute(), dataSourceConf.getDefaulted());
+        if (Boolean.TRUE.equals(configuration.getWarmUp())) {
+            warmUp(dataSourceWrapper, timing);
+        }
+        log.info("DataSource {} started, initialize {} ms, warm-up {} ms", timing.getName(), timing.getInitializeMillis(), timing.getWarmUpMillis());
+        return new Startup(dataSourceWrapper, timing);
+    }
+
+    private void warmUp(DataSourceWrapper dataSourceWrapper, DataSourceStartupTiming timing) {
+        long startNanos = System.nanoTime();
+        NodeAttribute nodeAttribute = dataSourceWrapper.getNodeAttribute();
+        List<Connection> connections = new ArrayList<>(configuration.getWarmUpMinConnections());
+        try {
+            for (int i = 0; i < configuration.getWarmUpMinConnections(); i++) {
+                connections.add(dataSourceWrapper.getConnection());
+            }
+            timing.setWarmedUpConnections(connections.size());
+            String heartbeatSql = nodeAttribute.getHeartbeatSql();
+            if (StringUtils.isNotBlank(heartbeatSql)) {
+                Connection connection = connections.get(0);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(heartbeatSql);
+                }
+                dataSourceWrapper.captureMetaDataSnapshot(connection.getMetaData());
+                timing.setHeartbeatSucceeded(true);
+                if (Objects.equals(nodeAttribute.getNodeState(), NodeState.UNKNOWN)) {
+                    nodeAttribute.setNodeState(NodeState.UP);
+                }
+            }
+        } catch (SQLException e) {
+            timing.setWarmedUpConnections(connections.size());
+            timing.setHeartbeatSucceeded(false);
+            timing.setWarmUpError(e.getMessage());
+            log.warn("DataSource {} warm-up failed", dataSourceWrapper.getName(), e);
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    log.warn("DataSource {} warm-up connection close error", dataSourceWrapper.getName(), e);
+                }
+            }
+            timing.setWarmUpMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        }
+    }
+
+    private RuntimeException fail(List<Future<Startup>> futures, RuntimeException e) {
+        for (Future<Startup> future : futures) {
+            if (!future.cancel(true) && !future.isCancelled()) {
+                try {
+                    future.get(0L, TimeUnit.NANOSECONDS).dataSource.destroy();
+                } catch (Exception ignored) {
+                    // the data source was not built
+                }
+            }
+        }
+        return e;
+    }
+
+    private static class Startup {
+
+        private final DataSourceWrapper dataSource;
+
+        private final DataSourceStartupTiming timing;
+
+        Startup(DataSourceWrapper dataSource, DataSourceStartupTiming timing) {
+            this.dataSource = dataSource;
+            this.timing = timing;
+        }
+    }
+}
@@ -68,7 +68,7 @@ public class AnnotationMethodInterceptor extends AbstractMethodInterceptor {
             } else {
                 nodes.addAll(specificNodes);
             }
-            return new RouteAttribute(sqlRouting.cluster(), nodes, sqlRouting.propagation(), null, null, method);
+            return new RouteAttribute(sqlRouting.cluster(), nodes, sqlRouting.propagation(), null, null, method, sqlRouting.scatter());
         }
         return null;
     }
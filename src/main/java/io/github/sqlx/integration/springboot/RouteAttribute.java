@@ -43,4 +43,13 @@ public class RouteAttribute {
     private RouteAttribute prev;
 
     private Method method;
+
+    /**
+     * Whether read statements are sent to every readable node and their results merged.
+     */
+    private Boolean scatter;
+
+    public RouteAttribute(String cluster, List<String> nodes, Boolean propagation, Boolean root, RouteAttribute prev, Method method) {
+        this(cluster, nodes, propagation, root, prev, method, null);
+    }
 }
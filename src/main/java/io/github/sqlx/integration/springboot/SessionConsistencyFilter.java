@@ -0,0 +1,68 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.integration.springboot;
+
+import io.github.sqlx.SessionConsistency;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Opens a read-your-writes session for every request, so the reads of a request follow the writes it made
+ * on any SQLX connection, not only on the connection that made them.
+ * <p>
+ * A request continues the session of the token in its {@link #TOKEN_HEADER} header, the token of the session
+ * is returned in the same response header unless the response is already committed.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Slf4j
+public class SessionConsistencyFilter implements Filter {
+
+    public static final String TOKEN_HEADER = "X-SQLX-Session-Token";
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        SessionConsistency.Session session = open(request);
+        try {
+            chain.doFilter(request, response);
+            String token = session.getToken();
+            if (!token.isEmpty() && response instanceof HttpServletResponse && !response.isCommitted()) {
+                ((HttpServletResponse) response).setHeader(TOKEN_HEADER, token);
+            }
+        } finally {
+            session.close();
+        }
+    }
+
+    private static SessionConsistency.Session open(ServletRequest request) {
+        String token = request instanceof HttpServletRequest ? ((HttpServletRequest) request).getHeader(TOKEN_HEADER) : null;
+        try {
+            return SessionConsistency.open(token);
+        } catch (IllegalArgumentException e) {
+            log.debug("Ignoring the session consistency token of the request", e);
+            return SessionConsistency.open();
+        }
+    }
+}
@@ -20,12 +20,8 @@ import io.github.sqlx.NodeAttribute;
 import io.github.sqlx.jdbc.transaction.Transaction;
 import io.github.sqlx.jdbc.transaction.TransactionIdGenerator;
 import io.github.sqlx.sql.SqlAttribute;
-import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.List;
-import java.util.Optional;
-
 /**
  * @author He Xing Mo
  * @since 1.0
@@ -50,42 +46,26 @@ public class SpringTransaction implements Transaction {
 
     @Override
     public void registerNode(NodeAttribute node, SqlAttribute sqlAttr) {
-        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
-        Optional<TransactionSynchronization> optional = synchronizations.stream()
-                .filter(NodeSynchronization.class::isInstance).findFirst();
-        if (!optional.isPresent()) {
-            NodeSynchronization rns = new NodeSynchronization(node);
-            rns.addSqlAttr(sqlAttr);
-            TransactionSynchronizationManager.registerSynchronization(rns);
-            TransactionSynchronizationManager.registerSynchronization(new TransactionIdSynchronization(transactionIdGenerator.getTransactionId()));
-        } else {
-            NodeSynchronization rns = (NodeSynchronization) optional.get();
-            rns.addSqlAttr(sqlAttr);
+        TransactionRoutingState state = TransactionRoutingState.current();
+        if (state == null) {
+            state = new TransactionRoutingState(node, transactionIdGenerator.getTransactionId());
+            TransactionRoutingState.bind(state);
         }
+        state.addSqlAttr(sqlAttr);
     }
 
     @Override
     public void addSql(SqlAttribute sqlAttr) {
-        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
-        Optional<TransactionSynchronization> optional = synchronizations.stream()
-                .filter(NodeSynchronization.class::isInstance).findFirst();
-        if (optional.isPresent()) {
-            NodeSynchronization rns = (NodeSynchronization) optional.get();
-            rns.addSqlAttr(sqlAttr);
+        TransactionRoutingState state = TransactionRoutingState.current();
+        if (state != null) {
+            state.addSqlAttr(sqlAttr);
         }
     }
 
     @Override
     public NodeAttribute getCurrentNode() {
-        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
-        Optional<TransactionSynchronization> optional = synchronizations.stream()
-                .filter(NodeSynchronization.class::isInstance).findFirst();
-        NodeAttribute node = null;
-        if (optional.isPresent()) {
-            NodeSynchronization ts = (NodeSynchronization) optional.get();
-            node = ts.getNodeAttr();
-        }
-        return node;
+        TransactionRoutingState state = TransactionRoutingState.current();
+        return state != null ? state.getNodeAttr() : null;
     }
 
     @Override
@@ -95,15 +75,7 @@ public class SpringTransaction implements Transaction {
 
     @Override
     public String getTransactionId() {
-        Optional<TransactionSynchronization> optional = TransactionSynchronizationManager.getSynchronizations()
-                .stream()
-                .filter(TransactionIdSynchronization.class::isInstance)
-                .findFirst();
-        String trxId = null;
-        if (optional.isPresent()) {
-            TransactionIdSynchronization synchronization = (TransactionIdSynchronization) optional.get();
-            trxId = synchronization.getTransactionId();
-        }
-        return trxId;
+        TransactionRoutingState state = TransactionRoutingState.current();
+        return state != null ? state.getTransactionId() : null;
     }
 }
@@ -1,17 +1,31 @@
 package io.github.sqlx.integration.springboot;
 
+import io.github.sqlx.config.AuditConfiguration;
+import io.github.sqlx.config.BulkheadConfiguration;
+import io.github.sqlx.config.DataSourceStartupConfiguration;
 import io.github.sqlx.config.ClusterConfiguration;
 import io.github.sqlx.config.DataSourceConfiguration;
 import io.github.sqlx.config.MetricsConfiguration;
 import io.github.sqlx.config.PointcutConfiguration;
+import io.github.sqlx.config.PoolFallbackConfiguration;
+import io.github.sqlx.config.QueryTimeoutConfiguration;
+import io.github.sqlx.config.ResultCacheConfiguration;
 import io.github.sqlx.config.SqlParsingConfiguration;
 import io.github.sqlx.config.SqlXConfiguration;
+import io.github.sqlx.config.WeightTuningConfiguration;
+import io.github.sqlx.integration.springboot.properties.AuditProperties;
+import io.github.sqlx.integration.springboot.properties.BulkheadProperties;
+import io.github.sqlx.integration.springboot.properties.DataSourceStartupProperties;
 import io.github.sqlx.integration.springboot.properties.ClusterProperties;
 import io.github.sqlx.integration.springboot.properties.DataSourceProperties;
 import io.github.sqlx.integration.springboot.properties.MetricsProperties;
 import io.github.sqlx.integration.springboot.properties.PointcutProperties;
+import io.github.sqlx.integration.springboot.properties.PoolFallbackProperties;
+import io.github.sqlx.integration.springboot.properties.QueryTimeoutProperties;
+import io.github.sqlx.integration.springboot.properties.ResultCacheProperties;
 import io.github.sqlx.integration.springboot.properties.SqlParsingProperties;
 import io.github.sqlx.integration.springboot.properties.SqlXProperties;
+import io.github.sqlx.integration.springboot.properties.WeightTuningProperties;
 import io.github.sqlx.sql.parser.AnnotationSqlParser;
 import io.github.sqlx.sql.parser.DefaultAnnotationSqlHintParser;
 import io.github.sqlx.sql.parser.FailBehaviorSqlParser;
@@ -48,6 +62,13 @@ public class SqlXConfigurationCreator {
         configuration.setClusters(createClusters(sqlXProperties.getClusters()));
         configuration.setPointcuts(createPointcuts(sqlXProperties.getPointcuts()));
         configuration.setMetrics(createMetrics(sqlXProperties.getMetrics()));
+        configuration.setResultCache(createResultCache(sqlXProperties.getResultCache()));
+        configuration.setAudit(createAudit(sqlXProperties.getAudit()));
+        configuration.setStartup(createStartup(sqlXProperties.getStartup()));
+        configuration.setBulkhead(createBulkhead(sqlXProperties.getBulkhead()));
+        configuration.setWeightTuning(createWeightTuning(sqlXProperties.getWeightTuning()));
+        configuration.setPoolFallback(createPoolFallback(sqlXProperties.getPoolFallback()));
+        configuration.setQueryTimeout(createQueryTimeout(sqlXProperties.getQueryTimeout()));
         configuration.init();
         configuration.validate();
         return configuration;
@@ -77,6 +98,145 @@ public class SqlXConfigurationCreator {
         configuration.setCollectMaxPoolSize(metrics.getCollectMaxPoolSize());
         configuration.setCollectKeepAliveMillis(metrics.getCollectKeepAliveMillis());
         configuration.setCollectQueueCapacity(metrics.getCollectQueueCapacity());
+        configuration.setParameterCaptureMode(metrics.getParameterCaptureMode());
+        configuration.setParameterCaptureSampleRate(metrics.getParameterCaptureSampleRate());
+        configuration.setParameterRenderMaxLength(metrics.getParameterRenderMaxLength());
+        configuration.setSqlRenderMaxLength(metrics.getSqlRenderMaxLength());
+        configuration.setTableMetricsFlushMillis(metrics.getTableMetricsFlushMillis());
+        configuration.setCollectSampleRate(metrics.getCollectSampleRate());
+        configuration.setCollectRateLimitPerFingerprint(metrics.getCollectRateLimitPerFingerprint());
+        return configuration;
+    }
+
+    /**
+     * Creates a ResultCacheConfiguration instance based on the provided ResultCacheProperties.
+     *
+     * @param resultCache The properties used to configure the result cache, may be null.
+     * @return A ResultCacheConfiguration instance, disabled if no properties are provided.
+     */
+    private static ResultCacheConfiguration createResultCache(ResultCacheProperties resultCache) {
+        ResultCacheConfiguration configuration = new ResultCacheConfiguration();
+        if (resultCache == null) {
+            return configuration;
+        }
+        configuration.setEnabled(resultCache.getEnabled());
+        configuration.setMaxMemoryBytes(resultCache.getMaxMemoryBytes());
+        configuration.setMaxEntryBytes(resultCache.getMaxEntryBytes());
+        configuration.setExpireAfterWriteMillis(resultCache.getExpireAfterWriteMillis());
+        if (resultCache.getTables() != null) {
+            configuration.getTables().addAll(resultCache.getTables());
+        }
+        return configuration;
+    }
+
+    /**
+     * Creates an AuditConfiguration instance based on the provided AuditProperties.
+     *
+     * @param audit The properties used to configure the SQL audit log, may be null.
+     * @return An AuditConfiguration instance, disabled if no properties are provided.
+     */
+    private static AuditConfiguration createAudit(AuditProperties audit) {
+        AuditConfiguration configuration = new AuditConfiguration();
+        if (audit == null) {
+            return configuration;
+        }
+        configuration.setEnabled(audit.getEnabled());
+        configuration.setFormat(audit.getFormat());
+        configuration.setBufferSize(audit.getBufferSize());
+        configuration.setRateLimitPerFingerprint(audit.getRateLimitPerFingerprint());
+        return configuration;
+    }
+
+    /**
+     * Creates a DataSourceStartupConfiguration instance based on the provided DataSourceStartupProperties.
+     *
+     * @param startup The properties used to configure the data source startup, may be null.
+     * @return A DataSourceStartupConfiguration instance, with the defaults if no properties are provided.
+     */
+    private static DataSourceStartupConfiguration createStartup(DataSourceStartupProperties startup) {
+        DataSourceStartupConfiguration configuration = new DataSourceStartupConfiguration();
+        if (startup == null) {
+            return configuration;
+        }
+        configuration.setParallelism(startup.getParallelism());
+        configuration.setTimeoutMillis(startup.getTimeoutMillis());
+        configuration.setWarmUp(startup.getWarmUp());
+        configuration.setWarmUpMinConnections(startup.getWarmUpMinConnections());
+        return configuration;
+    }
+
+    /**
+     * Creates a BulkheadConfiguration instance based on the provided BulkheadProperties.
+     *
+     * @param bulkhead The properties used to configure the bulkheads, may be null.
+     * @return A BulkheadConfiguration instance, disabled if no properties are provided.
+     */
+    private static BulkheadConfiguration createBulkhead(BulkheadProperties bulkhead) {
+        BulkheadConfiguration configuration = new BulkheadConfiguration();
+        if (bulkhead == null) {
+            return configuration;
+        }
+        configuration.setEnabled(bulkhead.getEnabled());
+        configuration.setNodeMaxConcurrency(bulkhead.getNodeMaxConcurrency());
+        configuration.setClusterMaxConcurrency(bulkhead.getClusterMaxConcurrency());
+        configuration.setMaxWaitMillis(bulkhead.getMaxWaitMillis());
+        configuration.setMaxQueueSize(bulkhead.getMaxQueueSize());
+        configuration.setAdaptive(bulkhead.getAdaptive());
+        configuration.setAdaptiveMinLimit(bulkhead.getAdaptiveMinLimit());
+        configuration.setAdaptiveLatencyTolerance(bulkhead.getAdaptiveLatencyTolerance());
+        configuration.setAdaptiveBackoffRatio(bulkhead.getAdaptiveBackoffRatio());
+        configuration.setRejectionPenaltyMillis(bulkhead.getRejectionPenaltyMillis());
+        return configuration;
+    }
+
+    private static WeightTuningConfiguration createWeightTuning(WeightTuningProperties weightTuning) {
+        WeightTuningConfiguration configuration = new WeightTuningConfiguration();
+        if (weightTuning == null) {
+            return configuration;
+        }
+        configuration.setEnabled(weightTuning.getEnabled());
+        configuration.setIntervalMillis(weightTuning.getIntervalMillis());
+        configuration.setMinSamples(weightTuning.getMinSamples());
+        configuration.setLatencyPercentile(weightTuning.getLatencyPercentile());
+        configuration.setMinWeightRatio(weightTuning.getMinWeightRatio());
+        configuration.setSmoothing(weightTuning.getSmoothing());
+        return configuration;
+    }
+
+    /**
+     * Creates a PoolFallbackConfiguration instance based on the provided PoolFallbackProperties.
+     *
+     * @param poolFallback The properties used to configure the pool fallback, may be null.
+     * @return A PoolFallbackConfiguration instance, disabled if no properties are provided.
+     */
+    private static PoolFallbackConfiguration createPoolFallback(PoolFallbackProperties poolFallback) {
+        PoolFallbackConfiguration configuration = new PoolFallbackConfiguration();
+        if (poolFallback == null) {
+            return configuration;
+        }
+        configuration.setEnabled(poolFallback.getEnabled());
+        configuration.setAcquireBudgetMillis(poolFallback.getAcquireBudgetMillis());
+        configuration.setSaturationPenaltyMillis(poolFallback.getSaturationPenaltyMillis());
+        return configuration;
+    }
+
+    /**
+     * Creates a QueryTimeoutConfiguration instance based on the provided QueryTimeoutProperties.
+     *
+     * @param queryTimeout The properties used to configure the default query timeouts, may be null.
+     * @return A QueryTimeoutConfiguration instance, disabled if no properties are provided.
+     */
+    private static QueryTimeoutConfiguration createQueryTimeout(QueryTimeoutProperties queryTimeout) {
+        QueryTimeoutConfiguration configuration = new QueryTimeoutConfiguration();
+        if (queryTimeout == null) {
+            return configuration;
+        }
+        configuration.setEnabled(queryTimeout.getEnabled());
+        configuration.setDefaultSeconds(queryTimeout.getDefaultSeconds());
+        Optional.ofNullable(queryTimeout.getSqlTypeSeconds()).ifPresent(configuration::setSqlTypeSeconds);
+        configuration.setWatchdogEnabled(queryTimeout.getWatchdogEnabled());
+        configuration.setWatchdogTickMillis(queryTimeout.getWatchdogTickMillis());
+        configuration.setWatchdogGraceMillis(queryTimeout.getWatchdogGraceMillis());
         return configuration;
     }
 
@@ -112,6 +272,12 @@ public class SqlXConfigurationCreator {
             configuration.setReadableNodes(t.getReadableNodes());
             configuration.setWriteLoadBalanceClass(t.getWriteLoadBalanceClass());
             configuration.setReadLoadBalanceClass(t.getReadLoadBalanceClass());
+            configuration.setResultCacheEnabled(Boolean.TRUE.equals(t.getResultCacheEnabled()));
+            configuration.setMaxConcurrency(t.getMaxConcurrency());
+            configuration.setMaxReplicationLag(t.getMaxReplicationLag());
+            configuration.setReplicationLagRecovery(t.getReplicationLagRecovery());
+            configuration.setReadYourWritesWindowMillis(t.getReadYourWritesWindowMillis());
+            configuration.setQueryTimeoutSeconds(t.getQueryTimeoutSeconds());
             return configuration;
         }).collect(Collectors.toList());
     }
@@ -132,8 +298,11 @@ public class SqlXConfigurationCreator {
             configuration.setDestroyMethod(t.getDestroyMethod());
             configuration.setInitSqlScript(t.getInitSqlScript());
             configuration.setWeight(t.getWeight());
+            configuration.setMaxConcurrency(t.getMaxConcurrency());
             configuration.setHeartbeatInterval(t.getHeartbeatInterval());
             configuration.setHeartbeatSql(t.getHeartbeatSql());
+            configuration.setReplicationLagSql(t.getReplicationLagSql());
+            configuration.setQueryTimeoutSeconds(t.getQueryTimeoutSeconds());
             Optional.ofNullable(t.getProps()).ifPresent(configuration::setProps);
             return configuration;
         }).collect(Collectors.toList());
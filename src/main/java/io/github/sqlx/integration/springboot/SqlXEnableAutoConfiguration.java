@@ -22,6 +22,7 @@ import io.github.sqlx.cluster.Cluster;
 import io.github.sqlx.cluster.ClusterManager;
 import io.github.sqlx.config.ClusterConfiguration;
 import io.github.sqlx.config.DataSourceConfiguration;
+import io.github.sqlx.config.ResultCacheConfiguration;
 import io.github.sqlx.config.SqlXConfiguration;
 import io.github.sqlx.endpoint.http.DispatcherHttpHandler;
 import io.github.sqlx.endpoint.http.ManagementServlet;
@@ -36,23 +37,34 @@ import io.github.sqlx.factory.ObjectFactory;
 import io.github.sqlx.factory.SpringObjectFactory;
 import io.github.sqlx.integration.datasource.CompositeDataSourceInitializer;
 import io.github.sqlx.integration.datasource.DataSourceInitializer;
+import io.github.sqlx.integration.datasource.DataSourceStartup;
 import io.github.sqlx.integration.datasource.GenericDataSourceInitializer;
 import io.github.sqlx.integration.springboot.properties.SqlXProperties;
+import io.github.sqlx.jdbc.ParameterCapturePolicy;
+import io.github.sqlx.jdbc.bulkhead.Bulkheads;
+import io.github.sqlx.jdbc.cache.ResultCache;
 import io.github.sqlx.jdbc.datasource.DataSourceWrapper;
 import io.github.sqlx.jdbc.datasource.DatasourceManager;
 import io.github.sqlx.jdbc.datasource.DefaultSqlXDataSource;
+import io.github.sqlx.jdbc.datasource.PoolFallback;
 import io.github.sqlx.jdbc.datasource.SqlXDataSource;
+import io.github.sqlx.jdbc.timeout.QueryTimeouts;
+import io.github.sqlx.jdbc.transaction.TimeOrderedTransactionIdGenerator;
 import io.github.sqlx.jdbc.transaction.Transaction;
 import io.github.sqlx.jdbc.transaction.TransactionIdGenerator;
-import io.github.sqlx.jdbc.transaction.UUIDTransactionIdGenerator;
 import io.github.sqlx.listener.CompositeEventListener;
 import io.github.sqlx.listener.DefaultEventListener;
 import io.github.sqlx.listener.EventListener;
 import io.github.sqlx.listener.LoggingEventListener;
+import io.github.sqlx.listener.MeterEventListener;
 import io.github.sqlx.listener.MetricsCollectEventListener;
+import io.github.sqlx.listener.audit.AuditEventListener;
 import io.github.sqlx.loadbalance.LoadBalance;
+import io.github.sqlx.loadbalance.ReplicationLagAdmission;
 import io.github.sqlx.loadbalance.WeightRandomLoadBalance;
+import io.github.sqlx.loadbalance.WeightTuner;
 import io.github.sqlx.metrics.AsyncMetricsCollector;
+import io.github.sqlx.metrics.BufferedTableAccessMetricsRepository;
 import io.github.sqlx.metrics.DeleteByCreateTimeStorageReleaser;
 import io.github.sqlx.metrics.GenericMetricsRepository;
 import io.github.sqlx.metrics.MetricsCollectMode;
@@ -63,24 +75,30 @@ import io.github.sqlx.metrics.SqlMetrics;
 import io.github.sqlx.metrics.SyncMetricsCollector;
 import io.github.sqlx.metrics.TableAccessMetrics;
 import io.github.sqlx.metrics.TransactionMetrics;
+import io.github.sqlx.metrics.meter.SqlXMeters;
 import io.github.sqlx.metrics.nitrite.NitriteRoutingMetricsRepository;
 import io.github.sqlx.metrics.nitrite.NitriteSqlMetricsRepository;
 import io.github.sqlx.metrics.nitrite.NitriteTableAccessMetricsRepository;
 import io.github.sqlx.metrics.nitrite.NitriteTransactionMetricsRepository;
 import io.github.sqlx.metrics.nitrite.NodeSqlExecuteNumMetricsRepository;
+import io.github.sqlx.rule.ReadYourWrites;
 import io.github.sqlx.rule.group.ClusterRouteGroupBuilder;
 import io.github.sqlx.rule.group.CompositeRouteGroup;
 import io.github.sqlx.rule.group.DefaultRouteGroup;
 import io.github.sqlx.rule.group.NoneClusterRouteGroupBuilder;
 import io.github.sqlx.rule.group.RouteGroup;
 import io.github.sqlx.sql.parser.SqlParser;
+import io.github.sqlx.util.StringUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.joor.Reflect;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.boot.web.servlet.ServletRegistrationBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -93,9 +111,9 @@ import org.springframework.web.reactive.function.server.ServerResponse;
 
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
-import javax.sql.DataSource;
 import java.lang.management.ManagementFactory;
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * Auto-configuration class for SQLX, enabling various components and configurations
@@ -107,21 +125,34 @@ import java.util.*;
 @EnableConfigurationProperties({SqlXProperties.class})
 @ConditionalOnProperty(prefix = "sqlx", name = "enabled", havingValue = "true", matchIfMissing = true)
 @Import({SqlXEnableAutoConfiguration.BaseConfiguration.class,
-        SqlXEnableAutoConfiguration.MetricsConfiguration.class})
+        SqlXEnableAutoConfiguration.MetricsConfiguration.class,
+        SqlXEnableAutoConfiguration.SessionConsistencyConfiguration.class})
 @Slf4j
 public class SqlXEnableAutoConfiguration {
 
     private static final String HTTP_RESOURCES_PATH = "META-INF/http/resources";
 
     @Configuration
-    static class BaseConfiguration {
+    static class BaseConfiguration implements DisposableBean {
 
         private final SqlXProperties properties;
 
+        /**
+         * The audit listener of the event listener bean, its writer thread is stopped with the application context.
+         */
+        private AuditEventListener auditEventListener;
+
         BaseConfiguration(SqlXProperties properties) {
             this.properties = properties;
         }
 
+        @Override
+        public void destroy() {
+            if (auditEventListener != null) {
+                auditEventListener.close();
+            }
+        }
+
         private static void registerMBean(StatManager statManager) {
             try {
                 MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
@@ -160,7 +191,7 @@ public class SqlXEnableAutoConfiguration {
 
         @Bean
         public TransactionIdGenerator transactionIdGenerator() {
-            return new UUIDTransactionIdGenerator();
+            return new TimeOrderedTransactionIdGenerator();
         }
 
         @Bean
@@ -183,19 +214,45 @@ public class SqlXEnableAutoConfiguration {
         @Bean
         public DatasourceManager datasourceManager(DataSourceInitializer dataSourceInitializer) {
             SqlXConfiguration configuration = sqlXConfiguration();
-            Map<String, DataSourceWrapper> allDataSources = new HashMap<>();
-            for (DataSourceConfiguration dataSourceConf : configuration.getDataSources()) {
-                DataSource dataSource = dataSourceInitializer.initialize(dataSourceConf);
-                allDataSources.put(dataSourceConf.getName(), new DataSourceWrapper(dataSourceConf.getName(), dataSource, dataSourceConf.getNodeAttribute(), dataSourceConf.getDefaulted()));
-            }
+            DataSourceStartup startup = new DataSourceStartup(dataSourceInitializer, configuration.getStartup());
+            Map<String, DataSourceWrapper> allDataSources = startup.start(configuration.getDataSources());
 
             DatasourceManager datasourceManager = new DatasourceManager(configuration);
             datasourceManager.addDataSources(allDataSources);
+            datasourceManager.addStartupTimings(startup.getTimings());
             return datasourceManager;
         }
 
         @Bean
-        public ClusterManager clusterManager(SqlParser sqlParser, Transaction transaction, EventListener eventListener) {
+        public Bulkheads bulkheads() {
+            return new Bulkheads(sqlXConfiguration());
+        }
+
+        /**
+         * The meters of the nodes, shared by the weight tuner and the metrics endpoint.
+         */
+        @Bean
+        public SqlXMeters sqlXMeters() {
+            return new SqlXMeters();
+        }
+
+        @Bean(destroyMethod = "stop")
+        public WeightTuner weightTuner(SqlXMeters sqlXMeters) {
+            return new WeightTuner(sqlXConfiguration(), sqlXMeters);
+        }
+
+        @Bean
+        public PoolFallback poolFallback(DatasourceManager datasourceManager) {
+            return new PoolFallback(sqlXConfiguration(), datasourceManager);
+        }
+
+        @Bean(destroyMethod = "stop")
+        public QueryTimeouts queryTimeouts() {
+            return new QueryTimeouts(sqlXConfiguration());
+        }
+
+        @Bean
+        public ClusterManager clusterManager(SqlParser sqlParser, Transaction transaction, EventListener eventListener, Bulkheads bulkheads, WeightTuner weightTuner, PoolFallback poolFallback) {
             SqlXConfiguration config = sqlXConfiguration();
             ClusterManager cm = new ClusterManager(config);
             for (ClusterConfiguration conf : config.getClusters()) {
@@ -212,6 +269,19 @@ public class SqlXEnableAutoConfiguration {
                             conf.getReadableRoutingNodeAttributes().forEach(loadBalance::addOption);
                             return loadBalance;
                         }).orElse(new WeightRandomLoadBalance(conf.getReadableRoutingNodeAttributes()));;
+                if (conf.getMaxReplicationLag() != null) {
+                    rlb.addNodeAdmission(new ReplicationLagAdmission(conf.getName(), conf.getMaxReplicationLag(), conf.getReplicationLagRecovery()));
+                }
+                if (bulkheads.isEnabled()) {
+                    wlb.addNodeAdmission(bulkheads);
+                    rlb.addNodeAdmission(bulkheads);
+                }
+                if (poolFallback.isEnabled()) {
+                    rlb.addNodeAdmission(poolFallback);
+                }
+                if (weightTuner.isEnabled()) {
+                    weightTuner.register(conf.getName(), rlb);
+                }
 
                 Cluster cluster = new Cluster();
                 cluster.setName(conf.getName());
@@ -224,21 +294,34 @@ public class SqlXEnableAutoConfiguration {
                         .transaction(transaction)
                         .readLoadBalance(rlb)
                         .writeLoadBalance(wlb)
+                        .readYourWrites(conf.getReadYourWritesWindowMillis() != null && conf.getReadYourWritesWindowMillis() > 0
+                                ? new ReadYourWrites(conf.getName(), conf.getReadYourWritesWindowMillis()) : null)
                         .build();
                 compositeRoutingGroup.installLast(defaultRoutingGroup);
                 cluster.setRule(compositeRoutingGroup);
 
                 cm.addCluster(conf.getName(), cluster);
             }
+            if (weightTuner.isEnabled()) {
+                weightTuner.start();
+            }
             return cm;
         }
 
 
         @Bean
-        public EventListener eventListener(@Autowired(required = false) List<EventListener> eventListeners) {
+        public EventListener eventListener(@Autowired(required = false) List<EventListener> eventListeners, WeightTuner weightTuner, SqlXMeters sqlXMeters) {
             List<EventListener> listeners = new ArrayList<>();
-            listeners.add(new DefaultEventListener());
+            listeners.add(new DefaultEventListener(ParameterCapturePolicy.of(sqlXConfiguration().getMetrics())));
             listeners.add(new LoggingEventListener());
+            if (Boolean.TRUE.equals(sqlXConfiguration().getAudit().getEnabled())) {
+                auditEventListener = new AuditEventListener(sqlXConfiguration().getAudit());
+                listeners.add(auditEventListener);
+            }
+            if (weightTuner.isEnabled() || Boolean.TRUE.equals(sqlXConfiguration().getMetrics().getEnabled())) {
+                // one listener updates the meters read by both the weight tuner and the metrics endpoint
+                listeners.add(new MeterEventListener(sqlXMeters));
+            }
             if (eventListeners != null && !eventListeners.isEmpty()) {
                 listeners.addAll(eventListeners);
             }
@@ -262,12 +345,16 @@ public class SqlXEnableAutoConfiguration {
         }
 
         @Bean
-        public StatManager statManager(DataSourceInitializer dataSourceInitializer, DatasourceManager datasourceManager, ClusterManager clusterManager, List<RouteGroup<?>> routingGroups, EventListener eventListener, Transaction transaction) {
-            return new StatManager(sqlXConfiguration(), dataSourceInitializer, datasourceManager, clusterManager, routingGroups, eventListener, transaction);
+        public StatManager statManager(DataSourceInitializer dataSourceInitializer, DatasourceManager datasourceManager, ClusterManager clusterManager, List<RouteGroup<?>> routingGroups, EventListener eventListener, Transaction transaction, WeightTuner weightTuner) {
+            StatManager statManager = new StatManager(sqlXConfiguration(), dataSourceInitializer, datasourceManager, clusterManager, routingGroups, eventListener, transaction);
+            if (weightTuner.isEnabled()) {
+                statManager.setWeightTuner(weightTuner);
+            }
+            return statManager;
         }
 
         @Bean("sqlXDataSource")
-        public SqlXDataSource sqlXDataSource(StatManager statManager, ClusterManager clusterManager, DatasourceManager datasourceManager, EventListener eventListener, Transaction transaction) {
+        public SqlXDataSource sqlXDataSource(StatManager statManager, ClusterManager clusterManager, DatasourceManager datasourceManager, EventListener eventListener, Transaction transaction, Bulkheads bulkheads, PoolFallback poolFallback, QueryTimeouts queryTimeouts) {
             registerMBean(statManager);
             SqlXConfiguration configuration = sqlXConfiguration();
             DefaultRouteGroup drg = NoneClusterRouteGroupBuilder.builder()
@@ -278,16 +365,54 @@ public class SqlXEnableAutoConfiguration {
                     .build();
             CompositeRouteGroup compositeRoutingGroup = new CompositeRouteGroup(eventListener, transaction);
             compositeRoutingGroup.installLast(drg);
-            return new DefaultSqlXDataSource(clusterManager, datasourceManager, eventListener, compositeRoutingGroup);
+            DefaultSqlXDataSource dataSource = new DefaultSqlXDataSource(clusterManager, datasourceManager, eventListener, compositeRoutingGroup);
+            ResultCacheConfiguration resultCache = configuration.getResultCache();
+            if (Objects.nonNull(resultCache) && Boolean.TRUE.equals(resultCache.getEnabled())) {
+                Set<String> clusters = new HashSet<>();
+                for (ClusterConfiguration cc : configuration.getClusters()) {
+                    if (Boolean.TRUE.equals(cc.getResultCacheEnabled())) {
+                        clusters.add(cc.getName());
+                    }
+                }
+                ResultCache cache = new ResultCache(resultCache, clusters);
+                cache.setTransaction(transaction);
+                dataSource.setResultCache(cache);
+            }
+            if (bulkheads.isEnabled()) {
+                dataSource.setBulkheads(bulkheads);
+            }
+            if (poolFallback.isEnabled()) {
+                dataSource.setPoolFallback(poolFallback);
+            }
+            if (queryTimeouts.isEnabled()) {
+                dataSource.setQueryTimeouts(queryTimeouts);
+            }
+            return dataSource;
         }
 
     }
 
 
+    /**
+     * Scopes the read-your-writes sessions to the requests of a servlet application.
+     */
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class SessionConsistencyConfiguration {
+
+        @Bean
+        public FilterRegistrationBean<SessionConsistencyFilter> sessionConsistencyFilter(SqlXConfiguration sqlXConfiguration) {
+            FilterRegistrationBean<SessionConsistencyFilter> registration = new FilterRegistrationBean<>(new SessionConsistencyFilter());
+            registration.setEnabled(sqlXConfiguration.getClusters().stream()
+                    .anyMatch(c -> c.getReadYourWritesWindowMillis() != null && c.getReadYourWritesWindowMillis() > 0));
+            return registration;
+        }
+    }
+
     @Configuration
     @DependsOn("eventListener")
     @ConditionalOnProperty(prefix = "sqlx.metrics", name = "enabled", havingValue = "true")
-    static class MetricsConfiguration implements InitializingBean {
+    static class MetricsConfiguration implements InitializingBean, DisposableBean {
 
         private static final String PATH_PREFIX = "/sqlx";
 
@@ -301,19 +426,32 @@ public class SqlXEnableAutoConfiguration {
 
         private final NitriteTransactionMetricsRepository transactionMetricsRepository;
 
-        private final NitriteTableAccessMetricsRepository tableAccessMetricsRepository;
+        private final BufferedTableAccessMetricsRepository tableAccessMetricsRepository;
 
         private final NodeSqlExecuteNumMetricsRepository nodeSqlExecuteNumMetricsRepository;
 
-        public MetricsConfiguration(SqlXConfiguration sqlXConfiguration, CompositeEventListener compositeEventListener) {
+        private final SqlXMeters meters;
+
+        public MetricsConfiguration(SqlXConfiguration sqlXConfiguration, CompositeEventListener compositeEventListener, Bulkheads bulkheads, QueryTimeouts queryTimeouts, SqlXMeters meters) {
             this.sqlXConfiguration = sqlXConfiguration;
             this.compositeEventListener = compositeEventListener;
+            this.meters = meters;
+            if (bulkheads.isEnabled()) {
+                this.meters.setBulkheads(bulkheads);
+            }
+            if (queryTimeouts.isEnabled()) {
+                this.meters.setQueryTimeouts(queryTimeouts);
+            }
+            this.meters.setNodeAttributes(() -> sqlXConfiguration.getDataSources().stream()
+                    .map(DataSourceConfiguration::getNodeAttribute)
+                    .filter(n -> StringUtils.isNotBlank(n.getReplicationLagSql()))
+                    .collect(Collectors.toList()));
 
             io.github.sqlx.config.MetricsConfiguration metrics = sqlXConfiguration.getMetrics();
             this.routingMetricsRepository = new NitriteRoutingMetricsRepository(metrics.getFileDirectory());
             this.sqlMetricsRepository = new NitriteSqlMetricsRepository(metrics.getFileDirectory());
             this.transactionMetricsRepository = new NitriteTransactionMetricsRepository(metrics.getFileDirectory());
-            this.tableAccessMetricsRepository = new NitriteTableAccessMetricsRepository(metrics.getFileDirectory());
+            this.tableAccessMetricsRepository = new BufferedTableAccessMetricsRepository(new NitriteTableAccessMetricsRepository(metrics.getFileDirectory()));
             this.nodeSqlExecuteNumMetricsRepository = new NodeSqlExecuteNumMetricsRepository(metrics.getFileDirectory());
         }
 
@@ -337,6 +475,8 @@ public class SqlXEnableAutoConfiguration {
                 throw new ConfigurationException("Unsupported metrics collect mode: " + metrics.getCollectMode());
             }
             compositeEventListener.addListener(new MetricsCollectEventListener(metrics, metricsCollector));
+            Long tableMetricsFlushMillis = metrics.getTableMetricsFlushMillis();
+            tableAccessMetricsRepository.start(Objects.isNull(tableMetricsFlushMillis) ? BufferedTableAccessMetricsRepository.DEFAULT_FLUSH_MILLIS : tableMetricsFlushMillis);
 
             DeleteByCreateTimeStorageReleaser storageReleaser = new DeleteByCreateTimeStorageReleaser(metrics);
             storageReleaser.registerRepository(metricsRepository);
@@ -345,12 +485,17 @@ public class SqlXEnableAutoConfiguration {
             storageReleaser.start();
         }
 
+        @Override
+        public void destroy() {
+            tableAccessMetricsRepository.stop();
+        }
+
         @ConditionalOnBean(type = "org.springframework.web.servlet.DispatcherServlet")
         @Bean
         public ServletRegistrationBean<ManagementServlet> servletRegistrationBean(StatManager statManager) {
 
             List<Object> handlers = new ArrayList<>();
-            handlers.add(new V1HttpHandler(HTTP_RESOURCES_PATH, sqlXConfiguration, statManager, routingMetricsRepository, sqlMetricsRepository, transactionMetricsRepository, tableAccessMetricsRepository, nodeSqlExecuteNumMetricsRepository));
+            handlers.add(new V1HttpHandler(HTTP_RESOURCES_PATH, sqlXConfiguration, statManager, routingMetricsRepository, sqlMetricsRepository, transactionMetricsRepository, tableAccessMetricsRepository, nodeSqlExecuteNumMetricsRepository, meters));
             DispatcherHttpHandler dispatcherHttpHandler = new DispatcherHttpHandler(handlers);
             return new ServletRegistrationBean<>(new ManagementServlet(dispatcherHttpHandler), PATH_PREFIX + "/*");
         }
@@ -360,7 +505,7 @@ public class SqlXEnableAutoConfiguration {
         @Bean
         public RouterFunction<ServerResponse> route(StatManager statManager) {
             List<Object> handlers = new ArrayList<>();
-            handlers.add(new V1HttpHandler(HTTP_RESOURCES_PATH, sqlXConfiguration, statManager, routingMetricsRepository, sqlMetricsRepository, transactionMetricsRepository, tableAccessMetricsRepository, nodeSqlExecuteNumMetricsRepository));
+            handlers.add(new V1HttpHandler(HTTP_RESOURCES_PATH, sqlXConfiguration, statManager, routingMetricsRepository, sqlMetricsRepository, transactionMetricsRepository, tableAccessMetricsRepository, nodeSqlExecuteNumMetricsRepository, meters));
             DispatcherHttpHandler dispatcherHttpHandler = new DispatcherHttpHandler(handlers);
             ManagementWebHandler managementWebHandler = new ManagementWebHandler(PATH_PREFIX, dispatcherHttpHandler);
             return RouterFunctions.route()
@@ -13,11 +13,10 @@
  *    See the License for the specific language governing permissions and
  *    limitations under the License.
  */
-
 package io.github.sqlx.integration.springboot;
 
-import io.github.sqlx.RoutingContext;
 import io.github.sqlx.NodeAttribute;
+import io.github.sqlx.RoutingContext;
 import io.github.sqlx.sql.SqlAttribute;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -25,24 +24,53 @@ import org.springframework.core.Ordered;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
+ * The routing state of a Spring managed transaction: the node it is bound to, its id and the SQL it executed.
+ * <p>
+ * The state is bound as a transaction resource under {@link #RESOURCE_KEY} when the first statement of the transaction
+ * is routed, so every following statement finds it with a single map lookup instead of scanning
+ * the synchronizations. It is unbound when the transaction is suspended or completes, and bound again when it resumes.
+ *
  * @author He Xing Mo
  * @since 1.0
  */
-
 @Getter
 @Slf4j
-public class NodeSynchronization implements TransactionSynchronization , Ordered {
+public class TransactionRoutingState implements TransactionSynchronization, Ordered {
+
+    public static final Object RESOURCE_KEY = TransactionRoutingState.class.getName();
 
     private final NodeAttribute nodeAttr;
 
-    private final LinkedList<SqlAttribute> sqlAttrs = new LinkedList<>();
+    private final String transactionId;
+
+    private final List<SqlAttribute> sqlAttrs = new ArrayList<>();
 
-    public NodeSynchronization(NodeAttribute nodeAttr) {
+    public TransactionRoutingState(NodeAttribute nodeAttr, String transactionId) {
         this.nodeAttr = nodeAttr;
+        this.transactionId = transactionId;
+    }
+
+    /**
+     * @return the routing state of the current transaction, or {@code null} if no statement was routed in it yet
+     */
+    public static TransactionRoutingState current() {
+        return (TransactionRoutingState) TransactionSynchronizationManager.getResource(RESOURCE_KEY);
+    }
+
+    /**
+     * Binds the state to the current transaction, it is released when the transaction completes.
+     *
+     * @param state the state of the current transaction
+     */
+    public static void bind(TransactionRoutingState state) {
+        // registered first, so nothing is left bound if synchronization is not active
+        TransactionSynchronizationManager.registerSynchronization(state);
+        TransactionSynchronizationManager.bindResource(RESOURCE_KEY, state);
     }
 
     @Override
@@ -52,12 +80,23 @@ public class NodeSynchronization implements TransactionSynchronization , Ordered
 
     public void addSqlAttr(SqlAttribute sqlAttr) {
         if (sqlAttr != null) {
-            sqlAttrs.addLast(sqlAttr);
+            sqlAttrs.add(sqlAttr);
         }
     }
 
+    @Override
+    public void suspend() {
+        TransactionSynchronizationManager.unbindResourceIfPossible(RESOURCE_KEY);
+    }
+
+    @Override
+    public void resume() {
+        TransactionSynchronizationManager.bindResource(RESOURCE_KEY, this);
+    }
+
     @Override
     public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(RESOURCE_KEY);
         if (log.isDebugEnabled()) {
             logging(status);
         }
@@ -87,15 +126,15 @@ public class NodeSynchronization implements TransactionSynchronization , Ordered
         StringBuilder nativeSqlMsg = new StringBuilder("[");
         for (int i = 0; i < sqlAttrs.size(); i++) {
             SqlAttribute sqlAttr = sqlAttrs.get(i);
-            String sql = sqlAttr.getSql();
-            String nativeSql = sqlAttr.getNativeSql();
-            sqlMsg.append(System.lineSeparator()).append(i).append(". ").append(sql);
-            nativeSqlMsg.append(System.lineSeparator()).append(i).append(". ").append(nativeSql);
+            sqlMsg.append(System.lineSeparator()).append(i).append(". ").append(sqlAttr.getSql());
+            nativeSqlMsg.append(System.lineSeparator()).append(i).append(". ").append(sqlAttr.getNativeSql());
         }
         sqlMsg.append("]");
         nativeSqlMsg.append("]");
 
         String msg = "Transaction " + txStatus +
+                System.lineSeparator() +
+                "Transaction Id: " + transactionId +
                 System.lineSeparator() +
                 "Transaction Name: " + transactionName +
                 System.lineSeparator() +
@@ -0,0 +1,49 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.integration.springboot.properties;
+
+import io.github.sqlx.config.AuditFormat;
+import lombok.Data;
+
+/**
+ * SQL audit log configuration properties.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Data
+public class AuditProperties {
+
+    /**
+     * Whether routings, statement executions, commits and rollbacks are written to the io.github.sqlx.audit logger.
+     */
+    private Boolean enabled = false;
+
+    /**
+     * The format of the audit lines.
+     */
+    private AuditFormat format = AuditFormat.JSON_LINES;
+
+    /**
+     * The number of events buffered for the background writer, a power of two. Events are dropped when the buffer is full.
+     */
+    private Integer bufferSize = 8192;
+
+    /**
+     * The events written per second for one SQL fingerprint, 0 writes all the events.
+     */
+    private Integer rateLimitPerFingerprint = 100;
+}
@@ -0,0 +1,78 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.integration.springboot.properties;
+
+import lombok.Data;
+
+/**
+ * Bulkhead configuration properties.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Data
+public class BulkheadProperties {
+
+    /**
+     * Whether the concurrent connection acquisitions and statements of the nodes and clusters are bounded.
+     */
+    private Boolean enabled = false;
+
+    /**
+     * The concurrent statements of a node, unbounded if not set. Overridden by sqlx.data-sources[].max-concurrency.
+     */
+    private Integer nodeMaxConcurrency;
+
+    /**
+     * The concurrent statements of a cluster, unbounded if not set. Overridden by sqlx.clusters[].max-concurrency.
+     */
+    private Integer clusterMaxConcurrency;
+
+    /**
+     * The time in milliseconds a statement waits for a full bulkhead, 0 rejects it at once.
+     */
+    private Long maxWaitMillis = 0L;
+
+    /**
+     * The statements waiting for a bulkhead, further statements are rejected at once.
+     */
+    private Integer maxQueueSize = 64;
+
+    /**
+     * Whether the limit of a node is lowered when its statements slow down, and raised back up to the configured limit.
+     */
+    private Boolean adaptive = false;
+
+    /**
+     * The lowest limit of a node when the limit is adaptive.
+     */
+    private Integer adaptiveMinLimit = 1;
+
+    /**
+     * A statement slower than this multiple of the fastest recent statement of the node lowers the adaptive limit.
+     */
+    private Double adaptiveLatencyTolerance = 2.0D;
+
+    /**
+     * The factor the adaptive limit is multiplied by when it is lowered.
+     */
+    private Double adaptiveBackoffRatio = 0.9D;
+
+    /**
+     * The time in milliseconds a node that rejected a statement is avoided by the load balancers.
+     */
+    private Long rejectionPenaltyMillis = 1_000L;
+}
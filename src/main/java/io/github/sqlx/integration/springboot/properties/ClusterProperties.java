@@ -58,4 +58,35 @@ public class ClusterProperties {
      * The read load balance class.
      */
     private Class<?> readLoadBalanceClass;
+
+    /**
+     * Whether the results of the queries routed to the cluster are cached.
+     */
+    private Boolean resultCacheEnabled = false;
+
+    /**
+     * The concurrent statements of the cluster when the bulkheads are enabled, overrides sqlx.bulkhead.cluster-max-concurrency.
+     */
+    private Integer maxConcurrency;
+
+    /**
+     * Readable nodes whose replication lag exceeds this threshold are not chosen for reads, in the unit of sqlx.data-sources[].replication-lag-sql.
+     */
+    private Double maxReplicationLag;
+
+    /**
+     * An excluded node is chosen again once its replication lag falls to this threshold, half of max-replication-lag if not set.
+     */
+    private Double replicationLagRecovery;
+
+    /**
+     * The time in milliseconds after a write during which the reads of the same session are routed to the writable nodes
+     * or to replicas that have caught up, read-your-writes consistency is disabled if not set.
+     */
+    private Long readYourWritesWindowMillis;
+
+    /**
+     * The query timeout in seconds of the statements routed to the cluster that set none, overrides sqlx.query-timeout.sql-type-seconds.
+     */
+    private Integer queryTimeoutSeconds;
 }
@@ -49,6 +49,11 @@ public class DataSourceProperties {
      */
     private Double weight;
 
+    /**
+     * The concurrent statements of the node when the bulkheads are enabled, overrides sqlx.bulkhead.node-max-concurrency
+     */
+    private Integer maxConcurrency;
+
     /**
      * Heartbeat detection sql
      */
@@ -59,6 +64,16 @@ public class DataSourceProperties {
      */
     private long heartbeatInterval = 10000;
 
+    /**
+     * SQL returning the replication lag of the node in seconds or bytes, sampled with the heartbeat, e.g. SHOW REPLICA STATUS
+     */
+    private String replicationLagSql;
+
+    /**
+     * The query timeout in seconds of the statements executed on the node that set none, overrides sqlx.clusters[].query-timeout-seconds
+     */
+    private Integer queryTimeoutSeconds;
+
     /**
      * The name of the method that can be invoked to initialize
      * the data source when it is first created or configured.
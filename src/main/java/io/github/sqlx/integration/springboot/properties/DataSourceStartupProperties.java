@@ -0,0 +1,48 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.integration.springboot.properties;
+
+import lombok.Data;
+
+/**
+ * Data source startup configuration properties.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Data
+public class DataSourceStartupProperties {
+
+    /**
+     * The number of data sources built at the same time when the application starts.
+     */
+    private Integer parallelism = 8;
+
+    /**
+     * The time in milliseconds all data sources must be built and warmed up in, the startup fails otherwise.
+     */
+    private Long timeoutMillis = 60_000L;
+
+    /**
+     * Whether connections are opened and the heartbeat SQL is run on every node before the application is ready.
+     */
+    private Boolean warmUp = false;
+
+    /**
+     * The connections opened per node during the warm-up.
+     */
+    private Integer warmUpMinConnections = 1;
+}
@@ -17,6 +17,7 @@
 package io.github.sqlx.integration.springboot.properties;
 
 import io.github.sqlx.config.MetricsCollectScope;
+import io.github.sqlx.config.ParameterCaptureMode;
 import io.github.sqlx.metrics.MetricsCollectMode;
 import lombok.Data;
 
@@ -111,4 +112,41 @@ public class MetricsProperties {
      */
     private Integer collectQueueCapacity;
 
+    /**
+     * How parameter values of prepared statements are captured (off, sampled, only for slow or failed statements, all).
+     */
+    private ParameterCaptureMode parameterCaptureMode = ParameterCaptureMode.ALL;
+
+    /**
+     * Fraction of statements (0 to 1) whose parameter values are captured when the capture mode is sampled.
+     */
+    private Double parameterCaptureSampleRate = 0.01D;
+
+    /**
+     * Maximum number of characters rendered for a single parameter value, longer values are truncated.
+     */
+    private Integer parameterRenderMaxLength = 256;
+
+    /**
+     * Maximum number of characters of a SQL statement rendered with its parameter values.
+     */
+    private Integer sqlRenderMaxLength = 8192;
+
+    /**
+     * Interval in milliseconds at which the accumulated table access counts are written to the metrics storage.
+     */
+    private Long tableMetricsFlushMillis = 1000L;
+
+    /**
+     * Fraction of statements, transactions and routings (0 to 1) that are recorded when the collect scope is all.
+     * Failed and slow ones are always recorded.
+     */
+    private Double collectSampleRate = 1.0D;
+
+    /**
+     * Maximum number of records per second for each SQL fingerprint when the collect scope is all, unlimited if not set.
+     * Failed and slow ones are always recorded.
+     */
+    private Integer collectRateLimitPerFingerprint;
+
 }
@@ -0,0 +1,43 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.integration.springboot.properties;
+
+import lombok.Data;
+
+/**
+ * Pool fallback configuration properties.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Data
+public class PoolFallbackProperties {
+
+    /**
+     * Whether a read statement falls back to another readable node when the connection pool of its node is exhausted.
+     */
+    private Boolean enabled = false;
+
+    /**
+     * The time in milliseconds a read statement waits for a connection of a node without idle connections before it falls back.
+     */
+    private Long acquireBudgetMillis = 50L;
+
+    /**
+     * The time in milliseconds a node whose pool exceeded the budget is avoided by the load balancers.
+     */
+    private Long saturationPenaltyMillis = 1_000L;
+}
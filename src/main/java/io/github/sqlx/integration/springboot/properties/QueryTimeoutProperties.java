@@ -0,0 +1,62 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.integration.springboot.properties;
+
+import io.github.sqlx.sql.SqlType;
+import lombok.Data;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Query timeout configuration properties.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Data
+public class QueryTimeoutProperties {
+
+    /**
+     * Whether the statements whose application sets no query timeout get a default one.
+     */
+    private Boolean enabled = false;
+
+    /**
+     * The query timeout in seconds of the statements no node, cluster or SQL type timeout applies to.
+     */
+    private Integer defaultSeconds;
+
+    /**
+     * The query timeouts in seconds of the statements by SQL type, e.g. select: 30.
+     */
+    private Map<SqlType, Integer> sqlTypeSeconds = new EnumMap<>(SqlType.class);
+
+    /**
+     * Whether the statements still running after their query timeout are cancelled, for the drivers that do not enforce it.
+     */
+    private Boolean watchdogEnabled = true;
+
+    /**
+     * The resolution of the watchdog in milliseconds, an overdue statement is cancelled within one tick.
+     */
+    private Long watchdogTickMillis = 100L;
+
+    /**
+     * The time in milliseconds left to the driver to enforce a query timeout before the watchdog cancels the statement.
+     */
+    private Long watchdogGraceMillis = 1_000L;
+}
@@ -0,0 +1,55 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.integration.springboot.properties;
+
+import lombok.Data;
+
+import java.util.Set;
+
+/**
+ * Query result cache configuration properties.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Data
+public class ResultCacheProperties {
+
+    /**
+     * Whether the result cache is enabled.
+     */
+    private Boolean enabled = false;
+
+    /**
+     * The estimated memory used by all the cached results, in bytes.
+     */
+    private Long maxMemoryBytes = 64L * 1024 * 1024;
+
+    /**
+     * The estimated memory of a single cached result, in bytes. Larger results are not cached.
+     */
+    private Long maxEntryBytes = 1024L * 1024;
+
+    /**
+     * The time after which a cached result expires, in milliseconds. 0 disables the expiry.
+     */
+    private Long expireAfterWriteMillis = 60_000L;
+
+    /**
+     * The tables whose queries are cached.
+     */
+    private Set<String> tables;
+}
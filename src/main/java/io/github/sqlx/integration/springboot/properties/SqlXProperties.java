@@ -50,4 +50,46 @@ public class SqlXProperties {
     @NestedConfigurationProperty
     private MetricsProperties metrics;
 
+    /**
+     * Query result cache configuration properties.
+     */
+    @NestedConfigurationProperty
+    private ResultCacheProperties resultCache;
+
+    /**
+     * SQL audit log configuration properties.
+     */
+    @NestedConfigurationProperty
+    private AuditProperties audit;
+
+    /**
+     * Data source startup configuration properties.
+     */
+    @NestedConfigurationProperty
+    private DataSourceStartupProperties startup;
+
+    /**
+     * Bulkhead configuration properties.
+     */
+    @NestedConfigurationProperty
+    private BulkheadProperties bulkhead;
+
+    /**
+     * Weight tuning configuration properties.
+     */
+    @NestedConfigurationProperty
+    private WeightTuningProperties weightTuning;
+
+    /**
+     * Pool fallback configuration properties.
+     */
+    @NestedConfigurationProperty
+    private PoolFallbackProperties poolFallback;
+
+    /**
+     * Query timeout configuration properties.
+     */
+    @NestedConfigurationProperty
+    private QueryTimeoutProperties queryTimeout;
+
 }
@@ -0,0 +1,58 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.integration.springboot.properties;
+
+import lombok.Data;
+
+/**
+ * Weight tuning configuration properties.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Data
+public class WeightTuningProperties {
+
+    /**
+     * Whether the effective weights of the readable nodes are tuned from their observed latency and error rate.
+     */
+    private Boolean enabled = false;
+
+    /**
+     * The time in milliseconds between two tunings, the statements of a node are observed over this window.
+     */
+    private Long intervalMillis = 10_000L;
+
+    /**
+     * The statements a node must execute in a window for its weight to be tuned.
+     */
+    private Long minSamples = 50L;
+
+    /**
+     * The latency percentile the nodes are compared by.
+     */
+    private Double latencyPercentile = 0.9D;
+
+    /**
+     * The lower bound of the effective weight as a ratio of the configured weight, which is the upper bound.
+     */
+    private Double minWeightRatio = 0.1D;
+
+    /**
+     * The share of the distance to the computed weight covered by one tuning, 1 applies the computed weight at once.
+     */
+    private Double smoothing = 0.5D;
+}
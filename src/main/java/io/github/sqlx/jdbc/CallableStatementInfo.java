@@ -16,7 +16,7 @@
 package io.github.sqlx.jdbc;
 
 import java.sql.CallableStatement;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -25,7 +25,7 @@ import java.util.Map;
  */
 public class CallableStatementInfo extends PreparedStatementInfo {
 
-    private final Map<String, Value> namedParameterValues = new HashMap<>();
+    private final Map<String, Object> namedParameterValues = new LinkedHashMap<>();
 
     private CallableStatement callableStatement;
 
@@ -41,7 +41,7 @@ public class CallableStatementInfo extends PreparedStatementInfo {
     @Override
     public String getSqlWithValues() {
 
-        if (namedParameterValues.isEmpty()) {
+        if (namedParameterValues.isEmpty() || !getParameterCapturePolicy().shouldRender(this)) {
             return super.getSqlWithValues();
         }
 
@@ -58,39 +58,7 @@ public class CallableStatementInfo extends PreparedStatementInfo {
           Example:  {? = call test_proc(?,?)} 1:value1, 3:value3, param2:value2
         */
 
-        final StringBuilder result = new StringBuilder();
-        final String statementQuery = getNativeSql();
-
-        // first append the original statement
-        result.append(statementQuery);
-        result.append(" ");
-
-        StringBuilder parameters = new StringBuilder();
-
-        // add parameters set with ordinal positions
-        for (Map.Entry<Integer, Value> entry : getParameterValues().entrySet()) {
-            appendParameter(parameters, entry.getKey().toString(), entry.getValue());
-        }
-
-        // add named parameters
-        for (Map.Entry<String, Value> entry : namedParameterValues.entrySet()) {
-            appendParameter(parameters, entry.getKey(), entry.getValue());
-        }
-
-
-        result.append(parameters);
-
-        return result.toString();
-    }
-
-    private void appendParameter(StringBuilder parameters, String name, Value value) {
-        if (parameters.length() > 0) {
-            parameters.append(", ");
-        }
-
-        parameters.append(name);
-        parameters.append(":");
-        parameters.append(value != null ? value.toString() : new Value().toString());
+        return getParameterCapturePolicy().getRenderer().renderNamed(getNativeSql(), getParameterValues(), namedParameterValues, resolveLiteralFormatter());
     }
 
     /**
@@ -100,6 +68,15 @@ public class CallableStatementInfo extends PreparedStatementInfo {
      * @param value the value of the parameter
      */
     public void setParameterValue(final String name, final Object value) {
-        namedParameterValues.put(name, new Value(value));
+        if (!isParameterCaptureEnabled()) {
+            return;
+        }
+        namedParameterValues.put(name, value);
+    }
+
+    @Override
+    public void clearParameterValues() {
+        super.clearParameterValues();
+        namedParameterValues.clear();
     }
 }
@@ -0,0 +1,175 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable copy of the constant {@link DatabaseMetaData} of a node, such as the product name,
+ * the identifier quote string or the supported features, captured once so that callers are answered
+ * without acquiring a connection.
+ * <p>
+ * Catalog queries returning a {@link ResultSet}, {@link DatabaseMetaData#isReadOnly()},
+ * {@link DatabaseMetaData#supportsConvert(int, int)} and any value the driver failed to report are not captured,
+ * they are answered by a live {@link DatabaseMetaData}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Slf4j
+public final class DatabaseMetaDataSnapshot {
+
+    private static final Set<String> LIVE_METHODS = new HashSet<>(Arrays.asList("getConnection", "isReadOnly", "supportsConvert"));
+
+    private static final List<Integer> RESULT_SET_TYPES = Arrays.asList(
+            ResultSet.TYPE_FORWARD_ONLY, ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.TYPE_SCROLL_SENSITIVE);
+
+    private static final List<Integer> CONCURRENCIES = Arrays.asList(ResultSet.CONCUR_READ_ONLY, ResultSet.CONCUR_UPDATABLE);
+
+    private static final List<Integer> HOLDABILITIES = Arrays.asList(ResultSet.HOLD_CURSORS_OVER_COMMIT, ResultSet.CLOSE_CURSORS_AT_COMMIT);
+
+    private static final List<Integer> ISOLATION_LEVELS = Arrays.asList(Connection.TRANSACTION_NONE, Connection.TRANSACTION_READ_UNCOMMITTED,
+            Connection.TRANSACTION_READ_COMMITTED, Connection.TRANSACTION_REPEATABLE_READ, Connection.TRANSACTION_SERIALIZABLE);
+
+    private final Map<String, Object> values;
+
+    private DatabaseMetaDataSnapshot(Map<String, Object> values) {
+        this.values = Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Captures the constant values of the given metadata.
+     *
+     * @param metaData the metadata of a live connection
+     * @return the snapshot
+     */
+    public static DatabaseMetaDataSnapshot capture(DatabaseMetaData metaData) {
+        Map<String, Object> values = new HashMap<>();
+        for (Method method : DatabaseMetaData.class.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || LIVE_METHODS.contains(method.getName())
+                    || ResultSet.class.isAssignableFrom(method.getReturnType())) {
+                continue;
+            }
+            for (Object[] args : argumentsOf(method)) {
+                try {
+                    values.put(key(method, args), method.invoke(metaData, args));
+                } catch (InvocationTargetException | IllegalAccessException | AbstractMethodError e) {
+                    log.debug("DatabaseMetaData#{} is not captured and will be answered by a live connection", method.getName(), e);
+                }
+            }
+        }
+        return new DatabaseMetaDataSnapshot(values);
+    }
+
+    /**
+     * Creates a {@link DatabaseMetaData} answering the captured values, other invocations go to the live metadata.
+     *
+     * @param live provides the live metadata
+     * @return the metadata view
+     */
+    DatabaseMetaData view(LiveMetaData live) {
+        return (DatabaseMetaData) Proxy.newProxyInstance(DatabaseMetaData.class.getClassLoader(), new Class<?>[]{DatabaseMetaData.class}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return method.invoke(this, args);
+            }
+            String key = key(method, args);
+            if (values.containsKey(key)) {
+                return values.get(key);
+            }
+            DatabaseMetaData metaData = live.get();
+            if (metaData == null) {
+                throw new SQLException("No connection is available to answer DatabaseMetaData#" + method.getName());
+            }
+            try {
+                return method.invoke(metaData, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    private static List<Object[]> argumentsOf(Method method) {
+        Class<?>[] types = method.getParameterTypes();
+        if (types.length == 0) {
+            return Collections.singletonList(new Object[0]);
+        }
+        String name = method.getName();
+        if ("supportsResultSetConcurrency".equals(name)) {
+            List<Object[]> arguments = new ArrayList<>();
+            for (Integer type : RESULT_SET_TYPES) {
+                for (Integer concurrency : CONCURRENCIES) {
+                    arguments.add(new Object[]{type, concurrency});
+                }
+            }
+            return arguments;
+        }
+        if (types.length != 1 || types[0] != int.class) {
+            return Collections.emptyList();
+        }
+        List<Integer> domain;
+        if ("supportsTransactionIsolationLevel".equals(name)) {
+            domain = ISOLATION_LEVELS;
+        } else if ("supportsResultSetHoldability".equals(name)) {
+            domain = HOLDABILITIES;
+        } else if (name.endsWith("AreVisible") || name.endsWith("AreDetected") || "supportsResultSetType".equals(name)) {
+            domain = RESULT_SET_TYPES;
+        } else {
+            return Collections.emptyList();
+        }
+        List<Object[]> arguments = new ArrayList<>(domain.size());
+        for (Integer value : domain) {
+            arguments.add(new Object[]{value});
+        }
+        return arguments;
+    }
+
+    private static String key(Method method, Object[] args) {
+        if (args == null || args.length == 0) {
+            return method.getName();
+        }
+        StringBuilder key = new StringBuilder(method.getName());
+        for (Object arg : args) {
+            key.append(':').append(arg);
+        }
+        return key.toString();
+    }
+
+    /**
+     * Provides the metadata of a live connection.
+     */
+    @FunctionalInterface
+    interface LiveMetaData {
+
+        DatabaseMetaData get() throws SQLException;
+    }
+}
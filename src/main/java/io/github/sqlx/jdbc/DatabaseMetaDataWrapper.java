@@ -26,6 +26,10 @@ import java.sql.RowIdLifetime;
 import java.sql.SQLException;
 
 /**
+ * The {@link DatabaseMetaData} of a {@link ProxyConnection}.
+ * Constant metadata is answered by the {@link DatabaseMetaDataSnapshot} of the node when one is set,
+ * catalog queries go to the metadata of a live connection, which is acquired the first time one is needed.
+ *
  * @author He Xing Mo
  * @since 1.0
  */
@@ -34,7 +38,12 @@ public class DatabaseMetaDataWrapper extends WrapperAdapter implements DatabaseM
 
     @Getter
     @Setter
-    private DatabaseMetaData delegate;
+    private volatile DatabaseMetaData delegate;
+
+    @Getter
+    private volatile DatabaseMetaDataSnapshot snapshot;
+
+    private volatile DatabaseMetaData snapshotView;
 
     private final Connection connection;
 
@@ -43,744 +52,909 @@ public class DatabaseMetaDataWrapper extends WrapperAdapter implements DatabaseM
         this.connection = connection;
     }
 
+    public void setSnapshot(DatabaseMetaDataSnapshot snapshot) {
+        this.snapshotView = snapshot != null ? snapshot.view(this::live) : null;
+        this.snapshot = snapshot;
+    }
+
+    private DatabaseMetaData constant() throws SQLException {
+        DatabaseMetaData view = snapshotView;
+        return view != null ? view : live();
+    }
+
+    private DatabaseMetaData live() throws SQLException {
+        if (delegate == null && connection instanceof ProxyConnection) {
+            ((ProxyConnection) connection).acquireDatabaseMetaData();
+        }
+        return delegate;
+    }
+
     @Override
     public boolean allProceduresAreCallable() throws SQLException {
-        return delegate != null && delegate.allProceduresAreCallable();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.allProceduresAreCallable();
     }
 
     @Override
     public boolean allTablesAreSelectable() throws SQLException {
-        return delegate != null && delegate.allTablesAreSelectable();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.allTablesAreSelectable();
     }
 
     @Override
     public String getURL() throws SQLException {
-        return delegate != null ? delegate.getURL() : "jdbc:sqlx:~";
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getURL() : "jdbc:sqlx:~";
     }
 
     @Override
     public String getUserName() throws SQLException {
-        return delegate != null ? delegate.getUserName() : null;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getUserName() : null;
     }
 
     @Override
     public boolean isReadOnly() throws SQLException {
-        return delegate != null && delegate.isReadOnly();
+        DatabaseMetaData metaData = live();
+        return metaData != null && metaData.isReadOnly();
     }
 
     @Override
     public boolean nullsAreSortedHigh() throws SQLException {
-        return delegate != null && delegate.nullsAreSortedHigh();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.nullsAreSortedHigh();
     }
 
     @Override
     public boolean nullsAreSortedLow() throws SQLException {
-        return delegate != null && delegate.nullsAreSortedLow();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.nullsAreSortedLow();
     }
 
     @Override
     public boolean nullsAreSortedAtStart() throws SQLException {
-        return delegate != null && delegate.nullsAreSortedAtStart();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.nullsAreSortedAtStart();
     }
 
     @Override
     public boolean nullsAreSortedAtEnd() throws SQLException {
-        return delegate != null && delegate.nullsAreSortedAtEnd();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.nullsAreSortedAtEnd();
     }
 
     @Override
     public String getDatabaseProductName() throws SQLException {
-        return delegate != null ? delegate.getDatabaseProductName() : "SQLX Multiple DataSource Proxy";
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getDatabaseProductName() : "SQLX Multiple DataSource Proxy";
     }
 
     @Override
     public String getDatabaseProductVersion() throws SQLException {
-        return delegate != null ? delegate.getDatabaseProductVersion() : null;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getDatabaseProductVersion() : null;
     }
 
     @Override
     public String getDriverName() throws SQLException {
-        return delegate != null ? delegate.getDriverName() : null;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getDriverName() : null;
     }
 
     @Override
     public String getDriverVersion() throws SQLException {
-        return delegate != null ? delegate.getDriverVersion() : null;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getDriverVersion() : null;
     }
 
     @Override
     public int getDriverMajorVersion() {
-        return delegate != null ? delegate.getDriverMajorVersion() : -1;
+        DatabaseMetaData metaData = snapshotView != null ? snapshotView : delegate;
+        return metaData != null ? metaData.getDriverMajorVersion() : -1;
     }
 
     @Override
     public int getDriverMinorVersion() {
-        return delegate != null ? delegate.getDriverMinorVersion() : -1;
+        DatabaseMetaData metaData = snapshotView != null ? snapshotView : delegate;
+        return metaData != null ? metaData.getDriverMinorVersion() : -1;
     }
 
     @Override
     public boolean usesLocalFiles() throws SQLException {
-        return delegate != null && delegate.usesLocalFiles();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.usesLocalFiles();
     }
 
     @Override
     public boolean usesLocalFilePerTable() throws SQLException {
-        return delegate != null && delegate.usesLocalFilePerTable();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.usesLocalFilePerTable();
     }
 
     @Override
     public boolean supportsMixedCaseIdentifiers() throws SQLException {
-        return delegate != null && delegate.supportsMixedCaseIdentifiers();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsMixedCaseIdentifiers();
     }
 
     @Override
     public boolean storesUpperCaseIdentifiers() throws SQLException {
-        return delegate != null && delegate.storesUpperCaseIdentifiers();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.storesUpperCaseIdentifiers();
     }
 
     @Override
     public boolean storesLowerCaseIdentifiers() throws SQLException {
-        return delegate != null && delegate.storesLowerCaseIdentifiers();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.storesLowerCaseIdentifiers();
     }
 
     @Override
     public boolean storesMixedCaseIdentifiers() throws SQLException {
-        return delegate != null && delegate.storesMixedCaseIdentifiers();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.storesMixedCaseIdentifiers();
     }
 
     @Override
     public boolean supportsMixedCaseQuotedIdentifiers() throws SQLException {
-        return delegate != null && delegate.supportsMixedCaseQuotedIdentifiers();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsMixedCaseQuotedIdentifiers();
     }
 
     @Override
     public boolean storesUpperCaseQuotedIdentifiers() throws SQLException {
-        return delegate != null && delegate.storesUpperCaseQuotedIdentifiers();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.storesUpperCaseQuotedIdentifiers();
     }
 
     @Override
     public boolean storesLowerCaseQuotedIdentifiers() throws SQLException {
-        return delegate != null && delegate.storesLowerCaseQuotedIdentifiers();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.storesLowerCaseQuotedIdentifiers();
     }
 
     @Override
     public boolean storesMixedCaseQuotedIdentifiers() throws SQLException {
-        return delegate != null && delegate.storesMixedCaseQuotedIdentifiers();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.storesMixedCaseQuotedIdentifiers();
     }
 
     @Override
     public String getIdentifierQuoteString() throws SQLException {
-        return delegate != null ? delegate.getIdentifierQuoteString() : null;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getIdentifierQuoteString() : null;
     }
 
     @Override
     public String getSQLKeywords() throws SQLException {
-        return delegate != null ? delegate.getSQLKeywords() : null;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getSQLKeywords() : null;
     }
 
     @Override
     public String getNumericFunctions() throws SQLException {
-        return delegate != null ? delegate.getNumericFunctions() : null;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getNumericFunctions() : null;
     }
 
     @Override
     public String getStringFunctions() throws SQLException {
-        return delegate != null ? delegate.getStringFunctions() : null;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getStringFunctions() : null;
     }
 
     @Override
     public String getSystemFunctions() throws SQLException {
-        return delegate != null ? delegate.getSystemFunctions() : null;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getSystemFunctions() : null;
     }
 
     @Override
     public String getTimeDateFunctions() throws SQLException {
-        return delegate != null ? delegate.getTimeDateFunctions() : null;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getTimeDateFunctions() : null;
     }
 
     @Override
     public String getSearchStringEscape() throws SQLException {
-        return delegate != null ? delegate.getSearchStringEscape() : null;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getSearchStringEscape() : null;
     }
 
     @Override
     public String getExtraNameCharacters() throws SQLException {
-        return delegate != null ? delegate.getExtraNameCharacters() : null;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getExtraNameCharacters() : null;
     }
 
     @Override
     public boolean supportsAlterTableWithAddColumn() throws SQLException {
-        return delegate != null && delegate.supportsAlterTableWithAddColumn();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsAlterTableWithAddColumn();
     }
 
     @Override
     public boolean supportsAlterTableWithDropColumn() throws SQLException {
-        return delegate != null && delegate.supportsAlterTableWithDropColumn();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsAlterTableWithDropColumn();
     }
 
     @Override
     public boolean supportsColumnAliasing() throws SQLException {
-        return delegate != null && delegate.supportsColumnAliasing();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsColumnAliasing();
     }
 
     @Override
     public boolean nullPlusNonNullIsNull() throws SQLException {
-        return delegate != null && delegate.nullPlusNonNullIsNull();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.nullPlusNonNullIsNull();
     }
 
     @Override
     public boolean supportsConvert() throws SQLException {
-        return delegate != null && delegate.supportsConvert();
+        DatabaseMetaData metaData = live();
+        return metaData != null && metaData.supportsConvert();
     }
 
     @Override
     public boolean supportsConvert(int fromType, int toType) throws SQLException {
-        return delegate != null && delegate.supportsConvert();
+        DatabaseMetaData metaData = live();
+        return metaData != null && metaData.supportsConvert();
     }
 
     @Override
     public boolean supportsTableCorrelationNames() throws SQLException {
-        return delegate != null && delegate.supportsTableCorrelationNames();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsTableCorrelationNames();
     }
 
     @Override
     public boolean supportsDifferentTableCorrelationNames() throws SQLException {
-        return delegate != null && delegate.supportsDifferentTableCorrelationNames();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsDifferentTableCorrelationNames();
     }
 
     @Override
     public boolean supportsExpressionsInOrderBy() throws SQLException {
-        return delegate != null && delegate.supportsExpressionsInOrderBy();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsExpressionsInOrderBy();
     }
 
     @Override
     public boolean supportsOrderByUnrelated() throws SQLException {
-        return delegate != null && delegate.supportsOrderByUnrelated();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsOrderByUnrelated();
     }
 
     @Override
     public boolean supportsGroupBy() throws SQLException {
-        return delegate != null && delegate.supportsGroupBy();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsGroupBy();
     }
 
     @Override
     public boolean supportsGroupByUnrelated() throws SQLException {
-        return delegate != null && delegate.supportsGroupByUnrelated();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsGroupByUnrelated();
     }
 
     @Override
     public boolean supportsGroupByBeyondSelect() throws SQLException {
-        return delegate != null && delegate.supportsGroupByBeyondSelect();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsGroupByBeyondSelect();
     }
 
     @Override
     public boolean supportsLikeEscapeClause() throws SQLException {
-        return delegate != null && delegate.supportsLikeEscapeClause();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsLikeEscapeClause();
     }
 
     @Override
     public boolean supportsMultipleResultSets() throws SQLException {
-        return delegate != null && delegate.supportsMultipleResultSets();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsMultipleResultSets();
     }
 
     @Override
     public boolean supportsMultipleTransactions() throws SQLException {
-        return delegate != null && delegate.supportsMultipleTransactions();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsMultipleTransactions();
     }
 
     @Override
     public boolean supportsNonNullableColumns() throws SQLException {
-        return delegate != null && delegate.supportsNonNullableColumns();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsNonNullableColumns();
     }
 
     @Override
     public boolean supportsMinimumSQLGrammar() throws SQLException {
-        return delegate != null && delegate.supportsMinimumSQLGrammar();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsMinimumSQLGrammar();
     }
 
     @Override
     public boolean supportsCoreSQLGrammar() throws SQLException {
-        return delegate != null && delegate.supportsCoreSQLGrammar();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsCoreSQLGrammar();
     }
 
     @Override
     public boolean supportsExtendedSQLGrammar() throws SQLException {
-        return delegate != null && delegate.supportsExtendedSQLGrammar();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsExtendedSQLGrammar();
     }
 
     @Override
     public boolean supportsANSI92EntryLevelSQL() throws SQLException {
-        return delegate != null && delegate.supportsANSI92EntryLevelSQL();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsANSI92EntryLevelSQL();
     }
 
     @Override
     public boolean supportsANSI92IntermediateSQL() throws SQLException {
-        return delegate != null && delegate.supportsANSI92IntermediateSQL();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsANSI92IntermediateSQL();
     }
 
     @Override
     public boolean supportsANSI92FullSQL() throws SQLException {
-        return delegate != null && delegate.supportsANSI92FullSQL();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsANSI92FullSQL();
     }
 
     @Override
     public boolean supportsIntegrityEnhancementFacility() throws SQLException {
-        return delegate != null && delegate.supportsIntegrityEnhancementFacility();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsIntegrityEnhancementFacility();
     }
 
     @Override
     public boolean supportsOuterJoins() throws SQLException {
-        return delegate != null && delegate.supportsOuterJoins();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsOuterJoins();
     }
 
     @Override
     public boolean supportsFullOuterJoins() throws SQLException {
-        return delegate != null && delegate.supportsFullOuterJoins();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsFullOuterJoins();
     }
 
     @Override
     public boolean supportsLimitedOuterJoins() throws SQLException {
-        return delegate != null && delegate.supportsLimitedOuterJoins();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsLimitedOuterJoins();
     }
 
     @Override
     public String getSchemaTerm() throws SQLException {
-        return delegate != null ? delegate.getSchemaTerm() : null;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getSchemaTerm() : null;
     }
 
     @Override
     public String getProcedureTerm() throws SQLException {
-        return delegate != null ? delegate.getProcedureTerm() : null;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getProcedureTerm() : null;
     }
 
     @Override
     public String getCatalogTerm() throws SQLException {
-        return delegate != null ? delegate.getCatalogTerm() : null;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getCatalogTerm() : null;
     }
 
     @Override
     public boolean isCatalogAtStart() throws SQLException {
-        return delegate != null && delegate.isCatalogAtStart();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.isCatalogAtStart();
     }
 
     @Override
     public String getCatalogSeparator() throws SQLException {
-        return delegate != null ? delegate.getCatalogSeparator() : null;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getCatalogSeparator() : null;
     }
 
     @Override
     public boolean supportsSchemasInDataManipulation() throws SQLException {
-        return delegate != null && delegate.supportsSchemasInDataManipulation();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsSchemasInDataManipulation();
     }
 
     @Override
     public boolean supportsSchemasInProcedureCalls() throws SQLException {
-        return delegate != null && delegate.supportsSchemasInProcedureCalls();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsSchemasInProcedureCalls();
     }
 
     @Override
     public boolean supportsSchemasInTableDefinitions() throws SQLException {
-        return delegate != null && delegate.supportsSchemasInTableDefinitions();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsSchemasInTableDefinitions();
     }
 
     @Override
     public boolean supportsSchemasInIndexDefinitions() throws SQLException {
-        return delegate != null && delegate.supportsSchemasInIndexDefinitions();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsSchemasInIndexDefinitions();
     }
 
     @Override
     public boolean supportsSchemasInPrivilegeDefinitions() throws SQLException {
-        return delegate != null && delegate.supportsSchemasInPrivilegeDefinitions();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsSchemasInPrivilegeDefinitions();
     }
 
     @Override
     public boolean supportsCatalogsInDataManipulation() throws SQLException {
-        return delegate != null && delegate.supportsCatalogsInDataManipulation();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsCatalogsInDataManipulation();
     }
 
     @Override
     public boolean supportsCatalogsInProcedureCalls() throws SQLException {
-        return delegate != null && delegate.supportsCatalogsInProcedureCalls();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsCatalogsInProcedureCalls();
     }
 
     @Override
     public boolean supportsCatalogsInTableDefinitions() throws SQLException {
-        return delegate != null && delegate.supportsCatalogsInTableDefinitions();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsCatalogsInTableDefinitions();
     }
 
     @Override
     public boolean supportsCatalogsInIndexDefinitions() throws SQLException {
-        return delegate != null && delegate.supportsCatalogsInIndexDefinitions();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsCatalogsInIndexDefinitions();
     }
 
     @Override
     public boolean supportsCatalogsInPrivilegeDefinitions() throws SQLException {
-        return delegate != null && delegate.supportsCatalogsInPrivilegeDefinitions();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsCatalogsInPrivilegeDefinitions();
     }
 
     @Override
     public boolean supportsPositionedDelete() throws SQLException {
-        return delegate != null && delegate.supportsPositionedDelete();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsPositionedDelete();
     }
 
     @Override
     public boolean supportsPositionedUpdate() throws SQLException {
-        return delegate != null && delegate.supportsPositionedUpdate();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsPositionedUpdate();
     }
 
     @Override
     public boolean supportsSelectForUpdate() throws SQLException {
-        return delegate != null && delegate.supportsSelectForUpdate();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsSelectForUpdate();
     }
 
     @Override
     public boolean supportsStoredProcedures() throws SQLException {
-        return delegate != null && delegate.supportsStoredProcedures();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsStoredProcedures();
     }
 
     @Override
     public boolean supportsSubqueriesInComparisons() throws SQLException {
-        return delegate != null && delegate.supportsSubqueriesInComparisons();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsSubqueriesInComparisons();
     }
 
     @Override
     public boolean supportsSubqueriesInExists() throws SQLException {
-        return delegate != null && delegate.supportsSubqueriesInExists();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsSubqueriesInExists();
     }
 
     @Override
     public boolean supportsSubqueriesInIns() throws SQLException {
-        return delegate != null && delegate.supportsSubqueriesInIns();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsSubqueriesInIns();
     }
 
     @Override
     public boolean supportsSubqueriesInQuantifieds() throws SQLException {
-        return delegate != null && delegate.supportsSubqueriesInQuantifieds();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsSubqueriesInQuantifieds();
     }
 
     @Override
     public boolean supportsCorrelatedSubqueries() throws SQLException {
-        return delegate != null && delegate.supportsCorrelatedSubqueries();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsCorrelatedSubqueries();
     }
 
     @Override
     public boolean supportsUnion() throws SQLException {
-        return delegate != null && delegate.supportsUnion();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsUnion();
     }
 
     @Override
     public boolean supportsUnionAll() throws SQLException {
-        return delegate != null && delegate.supportsUnionAll();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsUnionAll();
     }
 
     @Override
     public boolean supportsOpenCursorsAcrossCommit() throws SQLException {
-        return delegate != null && delegate.supportsOpenCursorsAcrossCommit();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsOpenCursorsAcrossCommit();
     }
 
     @Override
     public boolean supportsOpenCursorsAcrossRollback() throws SQLException {
-        return delegate != null && delegate.supportsOpenCursorsAcrossRollback();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsOpenCursorsAcrossRollback();
     }
 
     @Override
     public boolean supportsOpenStatementsAcrossCommit() throws SQLException {
-        return delegate != null && delegate.supportsOpenStatementsAcrossCommit();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsOpenStatementsAcrossCommit();
     }
 
     @Override
     public boolean supportsOpenStatementsAcrossRollback() throws SQLException {
-        return delegate != null && delegate.supportsOpenStatementsAcrossRollback();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsOpenStatementsAcrossRollback();
     }
 
     @Override
     public int getMaxBinaryLiteralLength() throws SQLException {
-        return delegate != null ? delegate.getMaxBinaryLiteralLength() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getMaxBinaryLiteralLength() : -1;
     }
 
     @Override
     public int getMaxCharLiteralLength() throws SQLException {
-        return delegate != null ? delegate.getMaxCharLiteralLength() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getMaxCharLiteralLength() : -1;
     }
 
     @Override
     public int getMaxColumnNameLength() throws SQLException {
-        return delegate != null ? delegate.getMaxColumnNameLength() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getMaxColumnNameLength() : -1;
     }
 
     @Override
     public int getMaxColumnsInGroupBy() throws SQLException {
-        return delegate != null ? delegate.getMaxColumnsInGroupBy() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getMaxColumnsInGroupBy() : -1;
     }
 
     @Override
     public int getMaxColumnsInIndex() throws SQLException {
-        return delegate != null ? delegate.getMaxColumnsInIndex() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getMaxColumnsInIndex() : -1;
     }
 
     @Override
     public int getMaxColumnsInOrderBy() throws SQLException {
-        return delegate != null ? delegate.getMaxColumnsInOrderBy() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getMaxColumnsInOrderBy() : -1;
     }
 
     @Override
     public int getMaxColumnsInSelect() throws SQLException {
-        return delegate != null ? delegate.getMaxColumnsInSelect() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getMaxColumnsInSelect() : -1;
     }
 
     @Override
     public int getMaxColumnsInTable() throws SQLException {
-        return delegate != null ? delegate.getMaxColumnsInTable() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getMaxColumnsInTable() : -1;
     }
 
     @Override
     public int getMaxConnections() throws SQLException {
-        return delegate != null ? delegate.getMaxConnections() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getMaxConnections() : -1;
     }
 
     @Override
     public int getMaxCursorNameLength() throws SQLException {
-        return delegate != null ? delegate.getMaxCursorNameLength() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getMaxCursorNameLength() : -1;
     }
 
     @Override
     public int getMaxIndexLength() throws SQLException {
-        return delegate != null ? delegate.getMaxIndexLength() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getMaxIndexLength() : -1;
     }
 
     @Override
     public int getMaxSchemaNameLength() throws SQLException {
-        return delegate != null ? delegate.getMaxSchemaNameLength() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getMaxSchemaNameLength() : -1;
     }
 
     @Override
     public int getMaxProcedureNameLength() throws SQLException {
-        return delegate != null ? delegate.getMaxProcedureNameLength() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getMaxProcedureNameLength() : -1;
     }
 
     @Override
     public int getMaxCatalogNameLength() throws SQLException {
-        return delegate != null ? delegate.getMaxCatalogNameLength() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getMaxCatalogNameLength() : -1;
     }
 
     @Override
     public int getMaxRowSize() throws SQLException {
-        return delegate != null ? delegate.getMaxRowSize() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getMaxRowSize() : -1;
     }
 
     @Override
     public boolean doesMaxRowSizeIncludeBlobs() throws SQLException {
-        return delegate != null && delegate.doesMaxRowSizeIncludeBlobs();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.doesMaxRowSizeIncludeBlobs();
     }
 
     @Override
     public int getMaxStatementLength() throws SQLException {
-        return delegate != null ? delegate.getMaxStatementLength() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getMaxStatementLength() : -1;
     }
 
     @Override
     public int getMaxStatements() throws SQLException {
-        return delegate != null ? delegate.getMaxStatements() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getMaxStatements() : -1;
     }
 
     @Override
     public int getMaxTableNameLength() throws SQLException {
-        return delegate != null ? delegate.getMaxTableNameLength() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getMaxTableNameLength() : -1;
     }
 
     @Override
     public int getMaxTablesInSelect() throws SQLException {
-        return delegate != null ? delegate.getMaxTablesInSelect() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getMaxTablesInSelect() : -1;
     }
 
     @Override
     public int getMaxUserNameLength() throws SQLException {
-        return delegate != null ? delegate.getMaxUserNameLength() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getMaxUserNameLength() : -1;
     }
 
     @Override
     public int getDefaultTransactionIsolation() throws SQLException {
-        return delegate != null ? delegate.getDefaultTransactionIsolation() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getDefaultTransactionIsolation() : -1;
     }
 
     @Override
     public boolean supportsTransactions() throws SQLException {
-        return delegate != null && delegate.supportsTransactions();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsTransactions();
     }
 
     @Override
     public boolean supportsTransactionIsolationLevel(int level) throws SQLException {
-        return delegate != null && delegate.supportsTransactionIsolationLevel(level);
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsTransactionIsolationLevel(level);
     }
 
     @Override
     public boolean supportsDataDefinitionAndDataManipulationTransactions() throws SQLException {
-        return delegate != null && delegate.supportsDataDefinitionAndDataManipulationTransactions();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsDataDefinitionAndDataManipulationTransactions();
     }
 
     @Override
     public boolean supportsDataManipulationTransactionsOnly() throws SQLException {
-        return delegate != null && delegate.supportsDataManipulationTransactionsOnly();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsDataManipulationTransactionsOnly();
     }
 
     @Override
     public boolean dataDefinitionCausesTransactionCommit() throws SQLException {
-        return delegate != null && delegate.dataDefinitionCausesTransactionCommit();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.dataDefinitionCausesTransactionCommit();
     }
 
     @Override
     public boolean dataDefinitionIgnoredInTransactions() throws SQLException {
-        return delegate != null && delegate.dataDefinitionIgnoredInTransactions();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.dataDefinitionIgnoredInTransactions();
     }
 
     @Override
     public ResultSet getProcedures(String catalog, String schemaPattern, String procedureNamePattern) throws SQLException {
-        return delegate != null ? delegate.getProcedures(catalog , schemaPattern , procedureNamePattern) : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getProcedures(catalog , schemaPattern , procedureNamePattern) : null;
     }
 
     @Override
     public ResultSet getProcedureColumns(String catalog, String schemaPattern, String procedureNamePattern, String columnNamePattern) throws SQLException {
-        return delegate != null ? delegate.getProcedureColumns(catalog , schemaPattern , procedureNamePattern , columnNamePattern) : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getProcedureColumns(catalog , schemaPattern , procedureNamePattern , columnNamePattern) : null;
     }
 
     @Override
     public ResultSet getTables(String catalog, String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
-        return delegate != null ? delegate.getTables(catalog , schemaPattern , tableNamePattern , types) : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getTables(catalog , schemaPattern , tableNamePattern , types) : null;
     }
 
     @Override
     public ResultSet getSchemas() throws SQLException {
-        return delegate != null ? delegate.getSchemas() : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getSchemas() : null;
     }
 
     @Override
     public ResultSet getCatalogs() throws SQLException {
-        return delegate != null ? delegate.getCatalogs() : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getCatalogs() : null;
     }
 
     @Override
     public ResultSet getTableTypes() throws SQLException {
-        return delegate != null ? delegate.getTableTypes() : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getTableTypes() : null;
     }
 
     @Override
     public ResultSet getColumns(String catalog, String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
-        return delegate != null ? delegate.getColumns(catalog , schemaPattern , tableNamePattern , columnNamePattern) : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getColumns(catalog , schemaPattern , tableNamePattern , columnNamePattern) : null;
     }
 
     @Override
     public ResultSet getColumnPrivileges(String catalog, String schema, String table, String columnNamePattern) throws SQLException {
-        return delegate != null ? delegate.getColumnPrivileges(catalog , schema , table , columnNamePattern) : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getColumnPrivileges(catalog , schema , table , columnNamePattern) : null;
     }
 
     @Override
     public ResultSet getTablePrivileges(String catalog, String schemaPattern, String tableNamePattern) throws SQLException {
-        return delegate != null ? delegate.getTablePrivileges(catalog , schemaPattern , tableNamePattern) : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getTablePrivileges(catalog , schemaPattern , tableNamePattern) : null;
     }
 
     @Override
     public ResultSet getBestRowIdentifier(String catalog, String schema, String table, int scope, boolean nullable) throws SQLException {
-        return delegate != null ? delegate.getBestRowIdentifier(catalog , schema , table , scope , nullable) : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getBestRowIdentifier(catalog , schema , table , scope , nullable) : null;
     }
 
     @Override
     public ResultSet getVersionColumns(String catalog, String schema, String table) throws SQLException {
-        return delegate != null ? delegate.getVersionColumns(catalog , schema , table) : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getVersionColumns(catalog , schema , table) : null;
     }
 
     @Override
     public ResultSet getPrimaryKeys(String catalog, String schema, String table) throws SQLException {
-        return delegate != null ? delegate.getPrimaryKeys(catalog , schema , table) : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getPrimaryKeys(catalog , schema , table) : null;
     }
 
     @Override
     public ResultSet getImportedKeys(String catalog, String schema, String table) throws SQLException {
-        return delegate != null ? delegate.getImportedKeys(catalog , schema , table) : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getImportedKeys(catalog , schema , table) : null;
     }
 
     @Override
     public ResultSet getExportedKeys(String catalog, String schema, String table) throws SQLException {
-        return delegate != null ? delegate.getExportedKeys(catalog , schema , table) : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getExportedKeys(catalog , schema , table) : null;
     }
 
     @Override
     public ResultSet getCrossReference(String parentCatalog, String parentSchema, String parentTable, String foreignCatalog, String foreignSchema, String foreignTable) throws SQLException {
-        return delegate != null ? delegate.getCrossReference(parentCatalog , parentSchema , parentTable , foreignCatalog , foreignSchema , foreignTable) : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getCrossReference(parentCatalog , parentSchema , parentTable , foreignCatalog , foreignSchema , foreignTable) : null;
     }
 
     @Override
     public ResultSet getTypeInfo() throws SQLException {
-        return delegate != null ? delegate.getTypeInfo() : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getTypeInfo() : null;
     }
 
     @Override
     public ResultSet getIndexInfo(String catalog, String schema, String table, boolean unique, boolean approximate) throws SQLException {
-        return delegate != null ? delegate.getIndexInfo(catalog , schema , table , unique , approximate) : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getIndexInfo(catalog , schema , table , unique , approximate) : null;
     }
 
     @Override
     public boolean supportsResultSetType(int type) throws SQLException {
-        return delegate != null && delegate.supportsResultSetType(type);
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsResultSetType(type);
     }
 
     @Override
     public boolean supportsResultSetConcurrency(int type, int concurrency) throws SQLException {
-        return delegate != null && delegate.supportsResultSetConcurrency(type , concurrency);
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsResultSetConcurrency(type , concurrency);
     }
 
     @Override
     public boolean ownUpdatesAreVisible(int type) throws SQLException {
-        return delegate != null && delegate.ownUpdatesAreVisible(type);
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.ownUpdatesAreVisible(type);
     }
 
     @Override
     public boolean ownDeletesAreVisible(int type) throws SQLException {
-        return delegate != null && delegate.ownDeletesAreVisible(type);
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.ownDeletesAreVisible(type);
     }
 
     @Override
     public boolean ownInsertsAreVisible(int type) throws SQLException {
-        return delegate != null && delegate.ownInsertsAreVisible(type);
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.ownInsertsAreVisible(type);
     }
 
     @Override
     public boolean othersUpdatesAreVisible(int type) throws SQLException {
-        return delegate != null && delegate.othersUpdatesAreVisible(type);
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.othersUpdatesAreVisible(type);
     }
 
     @Override
     public boolean othersDeletesAreVisible(int type) throws SQLException {
-        return delegate != null && delegate.othersDeletesAreVisible(type);
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.othersDeletesAreVisible(type);
     }
 
     @Override
     public boolean othersInsertsAreVisible(int type) throws SQLException {
-        return delegate != null && delegate.othersInsertsAreVisible(type);
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.othersInsertsAreVisible(type);
     }
 
     @Override
     public boolean updatesAreDetected(int type) throws SQLException {
-        return delegate != null && delegate.updatesAreDetected(type);
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.updatesAreDetected(type);
     }
 
     @Override
     public boolean deletesAreDetected(int type) throws SQLException {
-        return delegate != null && delegate.deletesAreDetected(type);
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.deletesAreDetected(type);
     }
 
     @Override
     public boolean insertsAreDetected(int type) throws SQLException {
-        return delegate != null && delegate.insertsAreDetected(type);
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.insertsAreDetected(type);
     }
 
     @Override
     public boolean supportsBatchUpdates() throws SQLException {
-        return delegate != null && delegate.supportsBatchUpdates();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsBatchUpdates();
     }
 
     @Override
     public ResultSet getUDTs(String catalog, String schemaPattern, String typeNamePattern, int[] types) throws SQLException {
-        return delegate != null ? delegate.getUDTs(catalog , schemaPattern , typeNamePattern , types) : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getUDTs(catalog , schemaPattern , typeNamePattern , types) : null;
     }
 
     @Override
@@ -790,126 +964,151 @@ public class DatabaseMetaDataWrapper extends WrapperAdapter implements DatabaseM
 
     @Override
     public boolean supportsSavepoints() throws SQLException {
-        return delegate != null && delegate.supportsSavepoints();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsSavepoints();
     }
 
     @Override
     public boolean supportsNamedParameters() throws SQLException {
-        return delegate != null && delegate.supportsNamedParameters();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsNamedParameters();
     }
 
     @Override
     public boolean supportsMultipleOpenResults() throws SQLException {
-        return delegate != null && delegate.supportsMultipleOpenResults();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsMultipleOpenResults();
     }
 
     @Override
     public boolean supportsGetGeneratedKeys() throws SQLException {
-        return delegate != null && delegate.supportsGetGeneratedKeys();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsGetGeneratedKeys();
     }
 
     @Override
     public ResultSet getSuperTypes(String catalog, String schemaPattern, String typeNamePattern) throws SQLException {
-        return delegate != null ? delegate.getSuperTypes(catalog , schemaPattern , typeNamePattern) : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getSuperTypes(catalog , schemaPattern , typeNamePattern) : null;
     }
 
     @Override
     public ResultSet getSuperTables(String catalog, String schemaPattern, String tableNamePattern) throws SQLException {
-        return delegate != null ? delegate.getSuperTables(catalog , schemaPattern , tableNamePattern) : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getSuperTables(catalog , schemaPattern , tableNamePattern) : null;
     }
 
     @Override
     public ResultSet getAttributes(String catalog, String schemaPattern, String typeNamePattern, String attributeNamePattern) throws SQLException {
-        return delegate != null ? delegate.getAttributes(catalog , schemaPattern , typeNamePattern , attributeNamePattern) : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getAttributes(catalog , schemaPattern , typeNamePattern , attributeNamePattern) : null;
     }
 
     @Override
     public boolean supportsResultSetHoldability(int holdability) throws SQLException {
-        return delegate != null && delegate.supportsResultSetHoldability(holdability);
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsResultSetHoldability(holdability);
     }
 
     @Override
     public int getResultSetHoldability() throws SQLException {
-        return delegate != null ? delegate.getResultSetHoldability() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getResultSetHoldability() : -1;
     }
 
     @Override
     public int getDatabaseMajorVersion() throws SQLException {
-        return delegate != null ? delegate.getDatabaseMajorVersion() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getDatabaseMajorVersion() : -1;
     }
 
     @Override
     public int getDatabaseMinorVersion() throws SQLException {
-        return delegate != null ? delegate.getDatabaseMinorVersion() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getDatabaseMinorVersion() : -1;
     }
 
     @Override
     public int getJDBCMajorVersion() throws SQLException {
-        return delegate != null ? delegate.getJDBCMajorVersion() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getJDBCMajorVersion() : -1;
     }
 
     @Override
     public int getJDBCMinorVersion() throws SQLException {
-        return delegate != null ? delegate.getJDBCMinorVersion() : -1;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getJDBCMinorVersion() : -1;
     }
 
     @Override
     public int getSQLStateType() throws SQLException {
-        return delegate != null ? delegate.getSQLStateType() : DatabaseMetaData.sqlStateSQL;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getSQLStateType() : DatabaseMetaData.sqlStateSQL;
     }
 
     @Override
     public boolean locatorsUpdateCopy() throws SQLException {
-        return delegate != null && delegate.locatorsUpdateCopy();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.locatorsUpdateCopy();
     }
 
     @Override
     public boolean supportsStatementPooling() throws SQLException {
-        return delegate != null && delegate.supportsStatementPooling();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsStatementPooling();
     }
 
     @Override
     public RowIdLifetime getRowIdLifetime() throws SQLException {
-        return delegate != null ? delegate.getRowIdLifetime() : null;
+        DatabaseMetaData metaData = constant();
+        return metaData != null ? metaData.getRowIdLifetime() : null;
     }
 
     @Override
     public ResultSet getSchemas(String catalog, String schemaPattern) throws SQLException {
-        return delegate != null ? delegate.getSchemas(catalog , schemaPattern) : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getSchemas(catalog , schemaPattern) : null;
     }
 
     @Override
     public boolean supportsStoredFunctionsUsingCallSyntax() throws SQLException {
-        return delegate != null && delegate.supportsStoredFunctionsUsingCallSyntax();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.supportsStoredFunctionsUsingCallSyntax();
     }
 
     @Override
     public boolean autoCommitFailureClosesAllResultSets() throws SQLException {
-        return delegate != null && delegate.autoCommitFailureClosesAllResultSets();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.autoCommitFailureClosesAllResultSets();
     }
 
     @Override
     public ResultSet getClientInfoProperties() throws SQLException {
-        return delegate != null ? delegate.getClientInfoProperties() : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getClientInfoProperties() : null;
     }
 
     @Override
     public ResultSet getFunctions(String catalog, String schemaPattern, String functionNamePattern) throws SQLException {
-        return delegate != null ? delegate.getFunctions(catalog , schemaPattern , functionNamePattern) : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getFunctions(catalog , schemaPattern , functionNamePattern) : null;
     }
 
     @Override
     public ResultSet getFunctionColumns(String catalog, String schemaPattern, String functionNamePattern, String columnNamePattern) throws SQLException {
-        return delegate != null ? delegate.getFunctionColumns(catalog , schemaPattern , functionNamePattern , columnNamePattern) : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getFunctionColumns(catalog , schemaPattern , functionNamePattern , columnNamePattern) : null;
     }
 
     @Override
     public ResultSet getPseudoColumns(String catalog, String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
-        return delegate != null ? delegate.getPseudoColumns(catalog , schemaPattern , tableNamePattern , columnNamePattern) : null;
+        DatabaseMetaData metaData = live();
+        return metaData != null ? metaData.getPseudoColumns(catalog , schemaPattern , tableNamePattern , columnNamePattern) : null;
     }
 
     @Override
     public boolean generatedKeyAlwaysReturned() throws SQLException {
-        return delegate != null && delegate.generatedKeyAlwaysReturned();
+        DatabaseMetaData metaData = constant();
+        return metaData != null && metaData.generatedKeyAlwaysReturned();
     }
 }
@@ -0,0 +1,148 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.jdbc;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * ANSI SQL literal formatter.
+ * <p>
+ * Dates are rendered as {@code DATE '...'}, {@code TIME '...'} and {@code TIMESTAMP '...'} literals,
+ * binary values as {@code X'...'}. Dialects override the protected methods to adapt the syntax.
+ * Streams and LOBs are never read, they are rendered as a placeholder.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public class DefaultLiteralFormatter implements LiteralFormatter {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    protected static final String TRUNCATED = "...";
+
+    @Override
+    public void format(Object value, int maxLength, StringBuilder out) {
+        if (value == null) {
+            out.append("NULL");
+        } else if (value instanceof BigDecimal) {
+            out.append(((BigDecimal) value).toPlainString());
+        } else if (value instanceof Number) {
+            out.append(value);
+        } else if (value instanceof Boolean) {
+            formatBoolean((Boolean) value, out);
+        } else if (value instanceof CharSequence || value instanceof Character) {
+            formatString(value.toString(), maxLength, out);
+        } else if (value instanceof byte[]) {
+            formatBinary((byte[]) value, maxLength, out);
+        } else if (value instanceof Timestamp) {
+            formatTimestamp(value.toString(), out);
+        } else if (value instanceof java.sql.Date) {
+            formatDate(value.toString(), out);
+        } else if (value instanceof Time) {
+            formatTime(value.toString(), out);
+        } else if (value instanceof java.util.Date) {
+            formatTimestamp(new Timestamp(((java.util.Date) value).getTime()).toString(), out);
+        } else if (value instanceof LocalDate) {
+            formatDate(value.toString(), out);
+        } else if (value instanceof LocalTime) {
+            formatTime(value.toString(), out);
+        } else if (value instanceof LocalDateTime) {
+            formatTimestamp(Timestamp.valueOf((LocalDateTime) value).toString(), out);
+        } else if (value instanceof Instant) {
+            formatTimestamp(Timestamp.from((Instant) value).toString(), out);
+        } else if (value instanceof TemporalAccessor) {
+            formatString(value.toString(), maxLength, out);
+        } else if (value instanceof InputStream || value instanceof Blob) {
+            out.append("'[binary]'");
+        } else if (value instanceof Reader || value instanceof Clob) {
+            out.append("'[text]'");
+        } else {
+            formatString(value.toString(), maxLength, out);
+        }
+    }
+
+    protected void formatBoolean(boolean value, StringBuilder out) {
+        out.append(value ? "TRUE" : "FALSE");
+    }
+
+    protected void formatDate(String date, StringBuilder out) {
+        out.append("DATE '").append(date).append('\'');
+    }
+
+    protected void formatTime(String time, StringBuilder out) {
+        out.append("TIME '").append(time).append('\'');
+    }
+
+    protected void formatTimestamp(String timestamp, StringBuilder out) {
+        out.append("TIMESTAMP '").append(timestamp).append('\'');
+    }
+
+    protected void formatBinary(byte[] bytes, int maxLength, StringBuilder out) {
+        out.append("X'");
+        appendHex(bytes, maxLength, out);
+        out.append('\'');
+        appendBinaryTruncation(bytes, maxLength, out);
+    }
+
+    protected void formatString(String value, int maxLength, StringBuilder out) {
+        int length = Math.min(value.length(), Math.max(maxLength, 0));
+        out.append('\'');
+        for (int i = 0; i < length; i++) {
+            appendEscaped(value.charAt(i), out);
+        }
+        out.append('\'');
+        if (length < value.length()) {
+            out.append(TRUNCATED).append('(').append(value.length()).append(" chars)");
+        }
+    }
+
+    /**
+     * Appends a character of a string literal, a single quote is escaped with another single quote.
+     */
+    protected void appendEscaped(char c, StringBuilder out) {
+        if (c == '\'') {
+            out.append('\'');
+        }
+        out.append(c);
+    }
+
+    /**
+     * Appends the hex digits of at most {@code maxLength / 2} bytes.
+     */
+    protected static void appendHex(byte[] bytes, int maxLength, StringBuilder out) {
+        int length = Math.min(bytes.length, Math.max(maxLength, 0) / 2);
+        for (int i = 0; i < length; i++) {
+            out.append(HEX[(bytes[i] >> 4) & 0x0F]).append(HEX[bytes[i] & 0x0F]);
+        }
+    }
+
+    protected static void appendBinaryTruncation(byte[] bytes, int maxLength, StringBuilder out) {
+        if (bytes.length > Math.max(maxLength, 0) / 2) {
+            out.append(TRUNCATED).append('(').append(bytes.length).append(" bytes)");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.jdbc;
+
+/**
+ * Formats a parameter value as a SQL literal, used when a statement is rendered with its values.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ * @see LiteralFormatters
+ */
+public interface LiteralFormatter {
+
+    /**
+     * Appends the literal of the given value.
+     *
+     * @param value     the parameter value, may be {@code null}
+     * @param maxLength the maximum number of characters of text or binary content to render,
+     *                  longer content is truncated
+     * @param out       the buffer to append to
+     */
+    void format(Object value, int maxLength, StringBuilder out);
+
+    /**
+     * Formats the literal of the given value.
+     *
+     * @param value     the parameter value, may be {@code null}
+     * @param maxLength the maximum number of characters of text or binary content to render
+     * @return the literal
+     */
+    default String format(Object value, int maxLength) {
+        StringBuilder out = new StringBuilder();
+        format(value, maxLength, out);
+        return out.toString();
+    }
+
+    /**
+     * @return whether a backslash escapes the next character of a string literal in the dialect
+     */
+    default boolean isBackslashEscapes() {
+        return false;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.jdbc;
+
+import io.github.sqlx.util.JdbcUtils;
+
+/**
+ * Dialect aware {@link LiteralFormatter} instances.
+ * The dialect is looked up by the database type derived from the JDBC url, see {@link JdbcUtils#getDbType(String)}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public class LiteralFormatters {
+
+    public static final LiteralFormatter ANSI = new DefaultLiteralFormatter();
+
+    public static final LiteralFormatter MYSQL = new MySqlLiteralFormatter();
+
+    public static final LiteralFormatter POSTGRESQL = new PostgreSqlLiteralFormatter();
+
+    public static final LiteralFormatter ORACLE = new OracleLiteralFormatter();
+
+    public static final LiteralFormatter SQLSERVER = new SqlServerLiteralFormatter();
+
+    private LiteralFormatters() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Returns the formatter of the given database type.
+     *
+     * @param databaseType the database type, may be {@code null}
+     * @return the formatter of the dialect, or {@link #ANSI} if the database type is unknown
+     */
+    public static LiteralFormatter forDatabaseType(String databaseType) {
+        if (databaseType == null) {
+            return ANSI;
+        }
+        switch (databaseType) {
+            case "mysql":
+            case "mariadb":
+            case "oceanbase":
+                return MYSQL;
+            case "postgresql":
+            case "edb":
+                return POSTGRESQL;
+            case "oracle":
+            case "AliOracle":
+            case "oceanbase_oracle":
+                return ORACLE;
+            case "sqlserver":
+            case "jtds":
+            case "sybase":
+                return SQLSERVER;
+            default:
+                return ANSI;
+        }
+    }
+
+    /**
+     * Backslashes are escape characters in MySQL string literals, binary values use the {@code 0x} notation.
+     */
+    private static class MySqlLiteralFormatter extends DefaultLiteralFormatter {
+
+        @Override
+        public boolean isBackslashEscapes() {
+            return true;
+        }
+
+        @Override
+        protected void appendEscaped(char c, StringBuilder out) {
+            if (c == '\\') {
+                out.append('\\');
+            }
+            super.appendEscaped(c, out);
+        }
+
+        @Override
+        protected void formatBinary(byte[] bytes, int maxLength, StringBuilder out) {
+            out.append("0x");
+            appendHex(bytes, maxLength, out);
+            appendBinaryTruncation(bytes, maxLength, out);
+        }
+    }
+
+    /**
+     * Binary values are rendered as {@code bytea} hex literals.
+     */
+    private static class PostgreSqlLiteralFormatter extends DefaultLiteralFormatter {
+
+        @Override
+        protected void formatBinary(byte[] bytes, int maxLength, StringBuilder out) {
+            out.append("'\\x");
+            appendHex(bytes, maxLength, out);
+            out.append("'::bytea");
+            appendBinaryTruncation(bytes, maxLength, out);
+        }
+    }
+
+    /**
+     * Oracle has no TIME type nor boolean literals, binary values are converted with {@code HEXTORAW}.
+     */
+    private static class OracleLiteralFormatter extends DefaultLiteralFormatter {
+
+        @Override
+        protected void formatBoolean(boolean value, StringBuilder out) {
+            out.append(value ? '1' : '0');
+        }
+
+        @Override
+        protected void formatTime(String time, StringBuilder out) {
+            out.append('\'').append(time).append('\'');
+        }
+
+        @Override
+        protected void formatBinary(byte[] bytes, int maxLength, StringBuilder out) {
+            out.append("HEXTORAW('");
+            appendHex(bytes, maxLength, out);
+            out.append("')");
+            appendBinaryTruncation(bytes, maxLength, out);
+        }
+    }
+
+    /**
+     * SQL Server has no typed date literals nor boolean literals, binary values use the {@code 0x} notation.
+     */
+    private static class SqlServerLiteralFormatter extends DefaultLiteralFormatter {
+
+        @Override
+        protected void formatBoolean(boolean value, StringBuilder out) {
+            out.append(value ? '1' : '0');
+        }
+
+        @Override
+        protected void formatDate(String date, StringBuilder out) {
+            out.append('\'').append(date).append('\'');
+        }
+
+        @Override
+        protected void formatTime(String time, StringBuilder out) {
+            out.append('\'').append(time).append('\'');
+        }
+
+        @Override
+        protected void formatTimestamp(String timestamp, StringBuilder out) {
+            out.append('\'').append(timestamp).append('\'');
+        }
+
+        @Override
+        protected void formatBinary(byte[] bytes, int maxLength, StringBuilder out) {
+            out.append("0x");
+            appendHex(bytes, maxLength, out);
+            appendBinaryTruncation(bytes, maxLength, out);
+        }
+    }
+}
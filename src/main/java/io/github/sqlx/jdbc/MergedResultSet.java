@@ -0,0 +1,1320 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.jdbc;
+
+import io.github.sqlx.exception.UnsupportedJdbcMethodException;
+import io.github.sqlx.sql.OrderByItem;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * A forward only, read only result set over the result sets of several nodes.
+ * <p>
+ * Without ORDER BY items the result sets are concatenated in order. With ORDER BY items every result set
+ * is expected to be sorted by them and the rows are k-way merged, holding only the sort keys of the current
+ * row of each result set, so the results are streamed and never buffered.
+ * <p>
+ * NULL sort keys follow the explicit {@code NULLS FIRST} or {@code NULLS LAST} of an item, otherwise the default
+ * of the database: NULLs are the highest values in PostgreSQL and Oracle, the lowest elsewhere. Numbers are
+ * compared by value whatever their type, NaN is the highest number. Strings are compared by
+ * {@link String#compareTo(String)}, which only agrees with a binary collation: the results of string keys
+ * sorted by a case insensitive or linguistic collation are interleaved in a different order than the database
+ * would sort them.
+ * <p>
+ * The merged result is limited to the max rows of the statement, each node is limited to them as well.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public class MergedResultSet extends WrapperAdapter implements ResultSet {
+
+    private final List<ResultSet> resultSets;
+
+    private final Statement statement;
+
+    private final List<AutoCloseable> resources;
+
+    /**
+     * The 1-based column index of each sort key, {@code null} when the result sets are concatenated.
+     */
+    private final int[] keyColumns;
+
+    private final boolean[] ascending;
+
+    private final boolean[] nullsFirst;
+
+    /**
+     * The maximum number of rows of the merged result, 0 if unlimited.
+     */
+    private final int maxRows;
+
+    private final PriorityQueue<Cursor> queue;
+
+    private ResultSet current;
+
+    private Cursor currentCursor;
+
+    private int concatIndex;
+
+    private int row;
+
+    private boolean started;
+
+    private boolean exhausted;
+
+    private boolean closed;
+
+    /**
+     * @param resultSets   the result sets of the nodes
+     * @param orderByItems the ORDER BY items of the query, the result sets are concatenated if empty
+     * @param statement    the statement that produced this result set
+     * @param resources    the statements and connections closed together with this result set
+     * @throws SQLException if an ORDER BY item cannot be found in the select list
+     */
+    public MergedResultSet(List<ResultSet> resultSets, List<OrderByItem> orderByItems, Statement statement, List<AutoCloseable> resources) throws SQLException {
+        this(resultSets, orderByItems, null, 0, statement, resources);
+    }
+
+    /**
+     * @param resultSets   the result sets of the nodes
+     * @param orderByItems the ORDER BY items of the query, the result sets are concatenated if empty
+     * @param databaseType the database type of the nodes deciding the default null ordering, may be {@code null}
+     * @param maxRows      the maximum number of rows of the merged result, 0 if unlimited
+     * @param statement    the statement that produced this result set
+     * @param resources    the statements and connections closed together with this result set
+     * @throws SQLException if an ORDER BY item cannot be found in the select list
+     */
+    public MergedResultSet(List<ResultSet> resultSets, List<OrderByItem> orderByItems, String databaseType, int maxRows,
+                           Statement statement, List<AutoCloseable> resources) throws SQLException {
+        if (resultSets == null || resultSets.isEmpty()) {
+            throw new IllegalArgumentException("resultSets must not be empty");
+        }
+        this.resultSets = resultSets;
+        this.statement = statement;
+        this.resources = resources;
+        this.maxRows = Math.max(maxRows, 0);
+        if (orderByItems == null || orderByItems.isEmpty() || resultSets.size() == 1) {
+            this.keyColumns = null;
+            this.ascending = null;
+            this.nullsFirst = null;
+            this.queue = null;
+        } else {
+            this.keyColumns = new int[orderByItems.size()];
+            this.ascending = new boolean[orderByItems.size()];
+            this.nullsFirst = new boolean[orderByItems.size()];
+            boolean nullsHighest = isNullHighest(databaseType);
+            ResultSetMetaData metaData = resultSets.get(0).getMetaData();
+            for (int i = 0; i < orderByItems.size(); i++) {
+                OrderByItem item = orderByItems.get(i);
+                keyColumns[i] = resolveColumn(metaData, item);
+                ascending[i] = item.isAsc();
+                nullsFirst[i] = item.getNullsFirst() != null ? item.getNullsFirst() : item.isAsc() != nullsHighest;
+            }
+            this.queue = new PriorityQueue<>(resultSets.size(), this::compare);
+        }
+    }
+
+    /**
+     * @return true if NULLs are higher than any value by default in the given database, as in PostgreSQL and Oracle
+     */
+    private static boolean isNullHighest(String databaseType) {
+        if (databaseType == null) {
+            return false;
+        }
+        switch (databaseType) {
+            case "postgresql":
+            case "edb":
+            case "oracle":
+            case "AliOracle":
+            case "oceanbase_oracle":
+            case "db2":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        checkOpen();
+        if (exhausted) {
+            return false;
+        }
+        boolean next = (maxRows == 0 || row < maxRows) && (queue == null ? nextConcat() : nextMerged());
+        if (next) {
+            row++;
+        } else {
+            exhausted = true;
+            current = null;
+        }
+        return next;
+    }
+
+    private boolean nextConcat() throws SQLException {
+        while (concatIndex < resultSets.size()) {
+            current = resultSets.get(concatIndex);
+            if (current.next()) {
+                return true;
+            }
+            concatIndex++;
+        }
+        return false;
+    }
+
+    private boolean nextMerged() throws SQLException {
+        if (!started) {
+            started = true;
+            for (int i = 0; i < resultSets.size(); i++) {
+                Cursor cursor = new Cursor(i, resultSets.get(i), keyColumns.length);
+                if (cursor.advance()) {
+                    queue.add(cursor);
+                }
+            }
+        } else if (currentCursor != null && currentCursor.advance()) {
+            // the current row is consumed only now, so its columns stay readable until next() is called
+            queue.add(currentCursor);
+        }
+        currentCursor = queue.poll();
+        if (currentCursor == null) {
+            return false;
+        }
+        current = currentCursor.resultSet;
+        return true;
+    }
+
+    private int compare(Cursor a, Cursor b) {
+        for (int i = 0; i < keyColumns.length; i++) {
+            Object x = a.keys[i];
+            Object y = b.keys[i];
+            if (x == null || y == null) {
+                if (x != y) {
+                    // the null ordering does not depend on the sort direction
+                    return (x == null) == nullsFirst[i] ? -1 : 1;
+                }
+                continue;
+            }
+            int c = compareValues(x, y);
+            if (c != 0) {
+                return ascending[i] ? c : -c;
+            }
+        }
+        return Integer.compare(a.index, b.index);
+    }
+
+    /**
+     * Compares two sort keys in ascending order, NULL is the lowest value.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static int compareValues(Object a, Object b) {
+        if (a == b) {
+            return 0;
+        }
+        if (a == null) {
+            return -1;
+        }
+        if (b == null) {
+            return 1;
+        }
+        if (a instanceof Number && b instanceof Number && a.getClass() != b.getClass()) {
+            int rankA = rank((Number) a);
+            int rankB = rank((Number) b);
+            if (rankA != 0 || rankB != 0) {
+                return Integer.compare(rankA, rankB);
+            }
+            return new BigDecimal(a.toString()).compareTo(new BigDecimal(b.toString()));
+        }
+        if (a instanceof Comparable && a.getClass().isInstance(b)) {
+            return ((Comparable) a).compareTo(b);
+        }
+        return a.toString().compareTo(b.toString());
+    }
+
+    /**
+     * Ranks the non-finite numbers around the finite ones, which have no {@link BigDecimal} value:
+     * -1 for negative infinity, 0 for a finite number, 1 for positive infinity and 2 for NaN.
+     */
+    private static int rank(Number number) {
+        if (!(number instanceof Double || number instanceof Float)) {
+            return 0;
+        }
+        double value = number.doubleValue();
+        if (Double.isNaN(value)) {
+            return 2;
+        }
+        return Double.isInfinite(value) ? (value > 0 ? 1 : -1) : 0;
+    }
+
+    private static int resolveColumn(ResultSetMetaData metaData, OrderByItem item) throws SQLException {
+        int count = metaData.getColumnCount();
+        if (item.getPosition() > 0 && item.getPosition() <= count) {
+            return item.getPosition();
+        }
+        for (int i = 1; i <= count; i++) {
+            if (item.getColumn() != null && (item.getColumn().equalsIgnoreCase(metaData.getColumnLabel(i)) || item.getColumn().equalsIgnoreCase(metaData.getColumnName(i)))) {
+                return i;
+            }
+        }
+        throw new SQLException(String.format("ORDER BY item [%s] must be in the select list to merge the results of several nodes", item.getColumn() != null ? item.getColumn() : item.getPosition()));
+    }
+
+    private ResultSet current() throws SQLException {
+        checkOpen();
+        if (current == null) {
+            throw new SQLException("The result set is not positioned on a row");
+        }
+        return current;
+    }
+
+    private void checkOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException("The result set is closed");
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        current = null;
+        SQLException e = null;
+        List<AutoCloseable> closeables = new ArrayList<>(resultSets);
+        if (resources != null) {
+            closeables.addAll(resources);
+        }
+        for (AutoCloseable closeable : closeables) {
+            try {
+                closeable.close();
+            } catch (Exception ex) {
+                if (e == null) {
+                    e = ex instanceof SQLException ? (SQLException) ex : new SQLException(ex);
+                } else {
+                    e.addSuppressed(ex);
+                }
+            }
+        }
+        if (e != null) {
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return closed;
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+        return current().wasNull();
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        checkOpen();
+        return resultSets.get(0).getMetaData();
+    }
+
+    @Override
+    public int findColumn(String columnLabel) throws SQLException {
+        checkOpen();
+        return resultSets.get(0).findColumn(columnLabel);
+    }
+
+    @Override
+    public Statement getStatement() throws SQLException {
+        return statement;
+    }
+
+    @Override
+    public int getType() throws SQLException {
+        return ResultSet.TYPE_FORWARD_ONLY;
+    }
+
+    @Override
+    public int getConcurrency() throws SQLException {
+        return ResultSet.CONCUR_READ_ONLY;
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        return resultSets.get(0).getHoldability();
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        return resultSets.get(0).getFetchSize();
+    }
+
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+        for (ResultSet resultSet : resultSets) {
+            resultSet.setFetchSize(rows);
+        }
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        return ResultSet.FETCH_FORWARD;
+    }
+
+    @Override
+    public void setFetchDirection(int direction) throws SQLException {
+        if (direction != ResultSet.FETCH_FORWARD) {
+            throw new UnsupportedJdbcMethodException("Unsupported fetch direction " + direction + " on a merged result set");
+        }
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        SQLWarning warnings = null;
+        for (ResultSet resultSet : resultSets) {
+            SQLWarning warning = resultSet.getWarnings();
+            if (warning == null) {
+                continue;
+            }
+            if (warnings == null) {
+                warnings = warning;
+            } else {
+                warnings.setNextWarning(warning);
+            }
+        }
+        return warnings;
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        for (ResultSet resultSet : resultSets) {
+            resultSet.clearWarnings();
+        }
+    }
+
+    @Override
+    public int getRow() throws SQLException {
+        return current == null ? 0 : row;
+    }
+
+    @Override
+    public boolean isBeforeFirst() throws SQLException {
+        return row == 0 && !exhausted;
+    }
+
+    @Override
+    public boolean isAfterLast() throws SQLException {
+        return exhausted && row > 0;
+    }
+
+    @Override
+    public boolean isFirst() throws SQLException {
+        return row == 1 && current != null;
+    }
+
+    @Override
+    public boolean isLast() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method isLast() on a merged result set");
+    }
+
+    @Override
+    public String getCursorName() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method getCursorName() on a merged result set");
+    }
+
+    @Override
+    public String getString(int columnIndex) throws SQLException {
+        return current().getString(columnIndex);
+    }
+
+    @Override
+    public boolean getBoolean(int columnIndex) throws SQLException {
+        return current().getBoolean(columnIndex);
+    }
+
+    @Override
+    public byte getByte(int columnIndex) throws SQLException {
+        return current().getByte(columnIndex);
+    }
+
+    @Override
+    public short getShort(int columnIndex) throws SQLException {
+        return current().getShort(columnIndex);
+    }
+
+    @Override
+    public int getInt(int columnIndex) throws SQLException {
+        return current().getInt(columnIndex);
+    }
+
+    @Override
+    public long getLong(int columnIndex) throws SQLException {
+        return current().getLong(columnIndex);
+    }
+
+    @Override
+    public float getFloat(int columnIndex) throws SQLException {
+        return current().getFloat(columnIndex);
+    }
+
+    @Override
+    public double getDouble(int columnIndex) throws SQLException {
+        return current().getDouble(columnIndex);
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
+        return current().getBigDecimal(columnIndex, scale);
+    }
+
+    @Override
+    public byte[] getBytes(int columnIndex) throws SQLException {
+        return current().getBytes(columnIndex);
+    }
+
+    @Override
+    public Date getDate(int columnIndex) throws SQLException {
+        return current().getDate(columnIndex);
+    }
+
+    @Override
+    public Time getTime(int columnIndex) throws SQLException {
+        return current().getTime(columnIndex);
+    }
+
+    @Override
+    public Timestamp getTimestamp(int columnIndex) throws SQLException {
+        return current().getTimestamp(columnIndex);
+    }
+
+    @Override
+    public InputStream getAsciiStream(int columnIndex) throws SQLException {
+        return current().getAsciiStream(columnIndex);
+    }
+
+    @Override
+    public InputStream getUnicodeStream(int columnIndex) throws SQLException {
+        return current().getUnicodeStream(columnIndex);
+    }
+
+    @Override
+    public InputStream getBinaryStream(int columnIndex) throws SQLException {
+        return current().getBinaryStream(columnIndex);
+    }
+
+    @Override
+    public String getString(String columnLabel) throws SQLException {
+        return current().getString(columnLabel);
+    }
+
+    @Override
+    public boolean getBoolean(String columnLabel) throws SQLException {
+        return current().getBoolean(columnLabel);
+    }
+
+    @Override
+    public byte getByte(String columnLabel) throws SQLException {
+        return current().getByte(columnLabel);
+    }
+
+    @Override
+    public short getShort(String columnLabel) throws SQLException {
+        return current().getShort(columnLabel);
+    }
+
+    @Override
+    public int getInt(String columnLabel) throws SQLException {
+        return current().getInt(columnLabel);
+    }
+
+    @Override
+    public long getLong(String columnLabel) throws SQLException {
+        return current().getLong(columnLabel);
+    }
+
+    @Override
+    public float getFloat(String columnLabel) throws SQLException {
+        return current().getFloat(columnLabel);
+    }
+
+    @Override
+    public double getDouble(String columnLabel) throws SQLException {
+        return current().getDouble(columnLabel);
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
+        return current().getBigDecimal(columnLabel, scale);
+    }
+
+    @Override
+    public byte[] getBytes(String columnLabel) throws SQLException {
+        return current().getBytes(columnLabel);
+    }
+
+    @Override
+    public Date getDate(String columnLabel) throws SQLException {
+        return current().getDate(columnLabel);
+    }
+
+    @Override
+    public Time getTime(String columnLabel) throws SQLException {
+        return current().getTime(columnLabel);
+    }
+
+    @Override
+    public Timestamp getTimestamp(String columnLabel) throws SQLException {
+        return current().getTimestamp(columnLabel);
+    }
+
+    @Override
+    public InputStream getAsciiStream(String columnLabel) throws SQLException {
+        return current().getAsciiStream(columnLabel);
+    }
+
+    @Override
+    public InputStream getUnicodeStream(String columnLabel) throws SQLException {
+        return current().getUnicodeStream(columnLabel);
+    }
+
+    @Override
+    public InputStream getBinaryStream(String columnLabel) throws SQLException {
+        return current().getBinaryStream(columnLabel);
+    }
+
+    @Override
+    public Object getObject(int columnIndex) throws SQLException {
+        return current().getObject(columnIndex);
+    }
+
+    @Override
+    public Object getObject(String columnLabel) throws SQLException {
+        return current().getObject(columnLabel);
+    }
+
+    @Override
+    public Reader getCharacterStream(int columnIndex) throws SQLException {
+        return current().getCharacterStream(columnIndex);
+    }
+
+    @Override
+    public Reader getCharacterStream(String columnLabel) throws SQLException {
+        return current().getCharacterStream(columnLabel);
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+        return current().getBigDecimal(columnIndex);
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+        return current().getBigDecimal(columnLabel);
+    }
+
+    @Override
+    public Object getObject(int columnIndex, Map<String, Class<?>> map) throws SQLException {
+        return current().getObject(columnIndex, map);
+    }
+
+    @Override
+    public Ref getRef(int columnIndex) throws SQLException {
+        return current().getRef(columnIndex);
+    }
+
+    @Override
+    public Blob getBlob(int columnIndex) throws SQLException {
+        return current().getBlob(columnIndex);
+    }
+
+    @Override
+    public Clob getClob(int columnIndex) throws SQLException {
+        return current().getClob(columnIndex);
+    }
+
+    @Override
+    public Array getArray(int columnIndex) throws SQLException {
+        return current().getArray(columnIndex);
+    }
+
+    @Override
+    public Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException {
+        return current().getObject(columnLabel, map);
+    }
+
+    @Override
+    public Ref getRef(String columnLabel) throws SQLException {
+        return current().getRef(columnLabel);
+    }
+
+    @Override
+    public Blob getBlob(String columnLabel) throws SQLException {
+        return current().getBlob(columnLabel);
+    }
+
+    @Override
+    public Clob getClob(String columnLabel) throws SQLException {
+        return current().getClob(columnLabel);
+    }
+
+    @Override
+    public Array getArray(String columnLabel) throws SQLException {
+        return current().getArray(columnLabel);
+    }
+
+    @Override
+    public Date getDate(int columnIndex, Calendar cal) throws SQLException {
+        return current().getDate(columnIndex, cal);
+    }
+
+    @Override
+    public Date getDate(String columnLabel, Calendar cal) throws SQLException {
+        return current().getDate(columnLabel, cal);
+    }
+
+    @Override
+    public Time getTime(int columnIndex, Calendar cal) throws SQLException {
+        return current().getTime(columnIndex, cal);
+    }
+
+    @Override
+    public Time getTime(String columnLabel, Calendar cal) throws SQLException {
+        return current().getTime(columnLabel, cal);
+    }
+
+    @Override
+    public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
+        return current().getTimestamp(columnIndex, cal);
+    }
+
+    @Override
+    public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
+        return current().getTimestamp(columnLabel, cal);
+    }
+
+    @Override
+    public URL getURL(int columnIndex) throws SQLException {
+        return current().getURL(columnIndex);
+    }
+
+    @Override
+    public URL getURL(String columnLabel) throws SQLException {
+        return current().getURL(columnLabel);
+    }
+
+    @Override
+    public RowId getRowId(int columnIndex) throws SQLException {
+        return current().getRowId(columnIndex);
+    }
+
+    @Override
+    public RowId getRowId(String columnLabel) throws SQLException {
+        return current().getRowId(columnLabel);
+    }
+
+    @Override
+    public NClob getNClob(int columnIndex) throws SQLException {
+        return current().getNClob(columnIndex);
+    }
+
+    @Override
+    public NClob getNClob(String columnLabel) throws SQLException {
+        return current().getNClob(columnLabel);
+    }
+
+    @Override
+    public SQLXML getSQLXML(int columnIndex) throws SQLException {
+        return current().getSQLXML(columnIndex);
+    }
+
+    @Override
+    public SQLXML getSQLXML(String columnLabel) throws SQLException {
+        return current().getSQLXML(columnLabel);
+    }
+
+    @Override
+    public String getNString(int columnIndex) throws SQLException {
+        return current().getNString(columnIndex);
+    }
+
+    @Override
+    public String getNString(String columnLabel) throws SQLException {
+        return current().getNString(columnLabel);
+    }
+
+    @Override
+    public Reader getNCharacterStream(int columnIndex) throws SQLException {
+        return current().getNCharacterStream(columnIndex);
+    }
+
+    @Override
+    public Reader getNCharacterStream(String columnLabel) throws SQLException {
+        return current().getNCharacterStream(columnLabel);
+    }
+
+    @Override
+    public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+        return current().getObject(columnIndex, type);
+    }
+
+    @Override
+    public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
+        return current().getObject(columnLabel, type);
+    }
+
+    @Override
+    public void beforeFirst() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method beforeFirst() on a merged result set");
+    }
+
+    @Override
+    public void afterLast() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method afterLast() on a merged result set");
+    }
+
+    @Override
+    public boolean first() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method first() on a merged result set");
+    }
+
+    @Override
+    public boolean last() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method last() on a merged result set");
+    }
+
+    @Override
+    public boolean absolute(int row) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method absolute(int row) on a merged result set");
+    }
+
+    @Override
+    public boolean relative(int rows) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method relative(int rows) on a merged result set");
+    }
+
+    @Override
+    public boolean previous() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method previous() on a merged result set");
+    }
+
+    @Override
+    public boolean rowUpdated() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method rowUpdated() on a merged result set");
+    }
+
+    @Override
+    public boolean rowInserted() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method rowInserted() on a merged result set");
+    }
+
+    @Override
+    public boolean rowDeleted() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method rowDeleted() on a merged result set");
+    }
+
+    @Override
+    public void updateNull(int columnIndex) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNull(int columnIndex) on a merged result set");
+    }
+
+    @Override
+    public void updateBoolean(int columnIndex, boolean x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBoolean(int columnIndex, boolean x) on a merged result set");
+    }
+
+    @Override
+    public void updateByte(int columnIndex, byte x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateByte(int columnIndex, byte x) on a merged result set");
+    }
+
+    @Override
+    public void updateShort(int columnIndex, short x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateShort(int columnIndex, short x) on a merged result set");
+    }
+
+    @Override
+    public void updateInt(int columnIndex, int x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateInt(int columnIndex, int x) on a merged result set");
+    }
+
+    @Override
+    public void updateLong(int columnIndex, long x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateLong(int columnIndex, long x) on a merged result set");
+    }
+
+    @Override
+    public void updateFloat(int columnIndex, float x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateFloat(int columnIndex, float x) on a merged result set");
+    }
+
+    @Override
+    public void updateDouble(int columnIndex, double x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateDouble(int columnIndex, double x) on a merged result set");
+    }
+
+    @Override
+    public void updateBigDecimal(int columnIndex, BigDecimal x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBigDecimal(int columnIndex, BigDecimal x) on a merged result set");
+    }
+
+    @Override
+    public void updateString(int columnIndex, String x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateString(int columnIndex, String x) on a merged result set");
+    }
+
+    @Override
+    public void updateBytes(int columnIndex, byte[] x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBytes(int columnIndex, byte[] x) on a merged result set");
+    }
+
+    @Override
+    public void updateDate(int columnIndex, Date x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateDate(int columnIndex, Date x) on a merged result set");
+    }
+
+    @Override
+    public void updateTime(int columnIndex, Time x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateTime(int columnIndex, Time x) on a merged result set");
+    }
+
+    @Override
+    public void updateTimestamp(int columnIndex, Timestamp x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateTimestamp(int columnIndex, Timestamp x) on a merged result set");
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, InputStream x, int length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateAsciiStream(int columnIndex, InputStream x, int length) on a merged result set");
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, InputStream x, int length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBinaryStream(int columnIndex, InputStream x, int length) on a merged result set");
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, Reader x, int length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateCharacterStream(int columnIndex, Reader x, int length) on a merged result set");
+    }
+
+    @Override
+    public void updateObject(int columnIndex, Object x, int scaleOrLength) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateObject(int columnIndex, Object x, int scaleOrLength) on a merged result set");
+    }
+
+    @Override
+    public void updateObject(int columnIndex, Object x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateObject(int columnIndex, Object x) on a merged result set");
+    }
+
+    @Override
+    public void updateNull(String columnLabel) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNull(String columnLabel) on a merged result set");
+    }
+
+    @Override
+    public void updateBoolean(String columnLabel, boolean x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBoolean(String columnLabel, boolean x) on a merged result set");
+    }
+
+    @Override
+    public void updateByte(String columnLabel, byte x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateByte(String columnLabel, byte x) on a merged result set");
+    }
+
+    @Override
+    public void updateShort(String columnLabel, short x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateShort(String columnLabel, short x) on a merged result set");
+    }
+
+    @Override
+    public void updateInt(String columnLabel, int x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateInt(String columnLabel, int x) on a merged result set");
+    }
+
+    @Override
+    public void updateLong(String columnLabel, long x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateLong(String columnLabel, long x) on a merged result set");
+    }
+
+    @Override
+    public void updateFloat(String columnLabel, float x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateFloat(String columnLabel, float x) on a merged result set");
+    }
+
+    @Override
+    public void updateDouble(String columnLabel, double x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateDouble(String columnLabel, double x) on a merged result set");
+    }
+
+    @Override
+    public void updateBigDecimal(String columnLabel, BigDecimal x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBigDecimal(String columnLabel, BigDecimal x) on a merged result set");
+    }
+
+    @Override
+    public void updateString(String columnLabel, String x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateString(String columnLabel, String x) on a merged result set");
+    }
+
+    @Override
+    public void updateBytes(String columnLabel, byte[] x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBytes(String columnLabel, byte[] x) on a merged result set");
+    }
+
+    @Override
+    public void updateDate(String columnLabel, Date x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateDate(String columnLabel, Date x) on a merged result set");
+    }
+
+    @Override
+    public void updateTime(String columnLabel, Time x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateTime(String columnLabel, Time x) on a merged result set");
+    }
+
+    @Override
+    public void updateTimestamp(String columnLabel, Timestamp x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateTimestamp(String columnLabel, Timestamp x) on a merged result set");
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, InputStream x, int length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateAsciiStream(String columnLabel, InputStream x, int length) on a merged result set");
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, InputStream x, int length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBinaryStream(String columnLabel, InputStream x, int length) on a merged result set");
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, Reader reader, int length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateCharacterStream(String columnLabel, Reader reader, int length) on a merged result set");
+    }
+
+    @Override
+    public void updateObject(String columnLabel, Object x, int scaleOrLength) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateObject(String columnLabel, Object x, int scaleOrLength) on a merged result set");
+    }
+
+    @Override
+    public void updateObject(String columnLabel, Object x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateObject(String columnLabel, Object x) on a merged result set");
+    }
+
+    @Override
+    public void insertRow() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method insertRow() on a merged result set");
+    }
+
+    @Override
+    public void updateRow() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateRow() on a merged result set");
+    }
+
+    @Override
+    public void deleteRow() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method deleteRow() on a merged result set");
+    }
+
+    @Override
+    public void refreshRow() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method refreshRow() on a merged result set");
+    }
+
+    @Override
+    public void cancelRowUpdates() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method cancelRowUpdates() on a merged result set");
+    }
+
+    @Override
+    public void moveToInsertRow() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method moveToInsertRow() on a merged result set");
+    }
+
+    @Override
+    public void moveToCurrentRow() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method moveToCurrentRow() on a merged result set");
+    }
+
+    @Override
+    public void updateRef(int columnIndex, Ref x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateRef(int columnIndex, Ref x) on a merged result set");
+    }
+
+    @Override
+    public void updateRef(String columnLabel, Ref x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateRef(String columnLabel, Ref x) on a merged result set");
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, Blob x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBlob(int columnIndex, Blob x) on a merged result set");
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, Blob x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBlob(String columnLabel, Blob x) on a merged result set");
+    }
+
+    @Override
+    public void updateClob(int columnIndex, Clob x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateClob(int columnIndex, Clob x) on a merged result set");
+    }
+
+    @Override
+    public void updateClob(String columnLabel, Clob x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateClob(String columnLabel, Clob x) on a merged result set");
+    }
+
+    @Override
+    public void updateArray(int columnIndex, Array x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateArray(int columnIndex, Array x) on a merged result set");
+    }
+
+    @Override
+    public void updateArray(String columnLabel, Array x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateArray(String columnLabel, Array x) on a merged result set");
+    }
+
+    @Override
+    public void updateRowId(int columnIndex, RowId x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateRowId(int columnIndex, RowId x) on a merged result set");
+    }
+
+    @Override
+    public void updateRowId(String columnLabel, RowId x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateRowId(String columnLabel, RowId x) on a merged result set");
+    }
+
+    @Override
+    public void updateNString(int columnIndex, String nString) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNString(int columnIndex, String nString) on a merged result set");
+    }
+
+    @Override
+    public void updateNString(String columnLabel, String nString) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNString(String columnLabel, String nString) on a merged result set");
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, NClob nClob) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNClob(int columnIndex, NClob nClob) on a merged result set");
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, NClob nClob) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNClob(String columnLabel, NClob nClob) on a merged result set");
+    }
+
+    @Override
+    public void updateSQLXML(int columnIndex, SQLXML xmlObject) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateSQLXML(int columnIndex, SQLXML xmlObject) on a merged result set");
+    }
+
+    @Override
+    public void updateSQLXML(String columnLabel, SQLXML xmlObject) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateSQLXML(String columnLabel, SQLXML xmlObject) on a merged result set");
+    }
+
+    @Override
+    public void updateNCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNCharacterStream(int columnIndex, Reader x, long length) on a merged result set");
+    }
+
+    @Override
+    public void updateNCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNCharacterStream(String columnLabel, Reader reader, long length) on a merged result set");
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, InputStream x, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateAsciiStream(int columnIndex, InputStream x, long length) on a merged result set");
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, InputStream x, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBinaryStream(int columnIndex, InputStream x, long length) on a merged result set");
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateCharacterStream(int columnIndex, Reader x, long length) on a merged result set");
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, InputStream x, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateAsciiStream(String columnLabel, InputStream x, long length) on a merged result set");
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, InputStream x, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBinaryStream(String columnLabel, InputStream x, long length) on a merged result set");
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateCharacterStream(String columnLabel, Reader reader, long length) on a merged result set");
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, InputStream inputStream, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBlob(int columnIndex, InputStream inputStream, long length) on a merged result set");
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, InputStream inputStream, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBlob(String columnLabel, InputStream inputStream, long length) on a merged result set");
+    }
+
+    @Override
+    public void updateClob(int columnIndex, Reader reader, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateClob(int columnIndex, Reader reader, long length) on a merged result set");
+    }
+
+    @Override
+    public void updateClob(String columnLabel, Reader reader, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateClob(String columnLabel, Reader reader, long length) on a merged result set");
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, Reader reader, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNClob(int columnIndex, Reader reader, long length) on a merged result set");
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, Reader reader, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNClob(String columnLabel, Reader reader, long length) on a merged result set");
+    }
+
+    @Override
+    public void updateNCharacterStream(int columnIndex, Reader x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNCharacterStream(int columnIndex, Reader x) on a merged result set");
+    }
+
+    @Override
+    public void updateNCharacterStream(String columnLabel, Reader reader) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNCharacterStream(String columnLabel, Reader reader) on a merged result set");
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, InputStream x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateAsciiStream(int columnIndex, InputStream x) on a merged result set");
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, InputStream x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBinaryStream(int columnIndex, InputStream x) on a merged result set");
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, Reader x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateCharacterStream(int columnIndex, Reader x) on a merged result set");
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, InputStream x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateAsciiStream(String columnLabel, InputStream x) on a merged result set");
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, InputStream x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBinaryStream(String columnLabel, InputStream x) on a merged result set");
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, Reader reader) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateCharacterStream(String columnLabel, Reader reader) on a merged result set");
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, InputStream inputStream) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBlob(int columnIndex, InputStream inputStream) on a merged result set");
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, InputStream inputStream) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBlob(String columnLabel, InputStream inputStream) on a merged result set");
+    }
+
+    @Override
+    public void updateClob(int columnIndex, Reader reader) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateClob(int columnIndex, Reader reader) on a merged result set");
+    }
+
+    @Override
+    public void updateClob(String columnLabel, Reader reader) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateClob(String columnLabel, Reader reader) on a merged result set");
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, Reader reader) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNClob(int columnIndex, Reader reader) on a merged result set");
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, Reader reader) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNClob(String columnLabel, Reader reader) on a merged result set");
+    }
+
+    /**
+     * A result set of a node with the sort keys of its current row.
+     */
+    private class Cursor {
+
+        private final int index;
+
+        private final ResultSet resultSet;
+
+        private final Object[] keys;
+
+        Cursor(int index, ResultSet resultSet, int keySize) {
+            this.index = index;
+            this.resultSet = resultSet;
+            this.keys = new Object[keySize];
+        }
+
+        boolean advance() throws SQLException {
+            if (!resultSet.next()) {
+                return false;
+            }
+            for (int i = 0; i < keyColumns.length; i++) {
+                keys[i] = resultSet.getObject(keyColumns[i]);
+            }
+            return true;
+        }
+    }
+}
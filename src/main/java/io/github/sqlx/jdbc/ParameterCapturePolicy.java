@@ -0,0 +1,99 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.jdbc;
+
+import io.github.sqlx.config.MetricsConfiguration;
+import io.github.sqlx.config.ParameterCaptureMode;
+import io.github.sqlx.util.CollectionUtils;
+import lombok.Getter;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides whether the parameter values of a prepared statement are captured,
+ * and whether and how the captured values are rendered into {@link Measurable#getSqlWithValues()}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ * @see ParameterCaptureMode
+ */
+@Getter
+public class ParameterCapturePolicy {
+
+    public static final ParameterCapturePolicy ALL = new ParameterCapturePolicy(ParameterCaptureMode.ALL, 1.0D, 0L);
+
+    private final ParameterCaptureMode mode;
+
+    private final double sampleRate;
+
+    private final long slowSqlNanos;
+
+    private final SqlWithValuesRenderer renderer;
+
+    public ParameterCapturePolicy(ParameterCaptureMode mode, double sampleRate, long slowSqlMillis) {
+        this(mode, sampleRate, slowSqlMillis, SqlWithValuesRenderer.DEFAULT);
+    }
+
+    public ParameterCapturePolicy(ParameterCaptureMode mode, double sampleRate, long slowSqlMillis, SqlWithValuesRenderer renderer) {
+        this.mode = Objects.requireNonNull(mode, "mode must not be null");
+        this.sampleRate = sampleRate;
+        this.slowSqlNanos = TimeUnit.MILLISECONDS.toNanos(slowSqlMillis);
+        this.renderer = Objects.requireNonNull(renderer, "renderer must not be null");
+    }
+
+    public static ParameterCapturePolicy of(MetricsConfiguration configuration) {
+        if (configuration == null || configuration.getParameterCaptureMode() == null) {
+            return ALL;
+        }
+        double sampleRate = Objects.isNull(configuration.getParameterCaptureSampleRate()) ? 0D : configuration.getParameterCaptureSampleRate();
+        long slowSqlMillis = Objects.isNull(configuration.getSlowSqlMillis()) ? 0L : configuration.getSlowSqlMillis();
+        int maxValueLength = Objects.isNull(configuration.getParameterRenderMaxLength()) ? SqlWithValuesRenderer.DEFAULT_MAX_VALUE_LENGTH : configuration.getParameterRenderMaxLength();
+        int maxSqlLength = Objects.isNull(configuration.getSqlRenderMaxLength()) ? SqlWithValuesRenderer.DEFAULT_MAX_SQL_LENGTH : configuration.getSqlRenderMaxLength();
+        SqlWithValuesRenderer renderer = new SqlWithValuesRenderer(maxValueLength, maxSqlLength);
+        return new ParameterCapturePolicy(configuration.getParameterCaptureMode(), sampleRate, slowSqlMillis, renderer);
+    }
+
+    /**
+     * Called once per statement when it is prepared.
+     *
+     * @return true if the parameter values of the statement should be captured
+     */
+    public boolean shouldCapture() {
+        switch (mode) {
+            case OFF:
+                return false;
+            case SAMPLED:
+                return sampleRate > 0 && (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Called when the statement is rendered with its values.
+     *
+     * @param statementInfo the statement whose captured values would be rendered
+     * @return true if the captured values should be rendered
+     */
+    public boolean shouldRender(StatementInfo statementInfo) {
+        if (mode != ParameterCaptureMode.SLOW_OR_FAILED) {
+            return true;
+        }
+        return CollectionUtils.isNotEmpty(statementInfo.getExceptions()) || statementInfo.getTotalTimeElapsed() >= slowSqlNanos;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.jdbc;
+
+import java.sql.Types;
+import java.util.Arrays;
+
+/**
+ * Captured parameter values of a {@link java.sql.PreparedStatement}.
+ * <p>
+ * Values are kept in typed slots indexed by parameter position (starting with 0),
+ * so primitive values are stored without boxing and no per-parameter object is allocated.
+ * The slots grow on demand and are reset in place, which allows the same instance to be
+ * reused for every row of a batch.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public class ParameterValues {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private static final byte UNSET = 0;
+
+    private static final byte LONG = 1;
+
+    private static final byte DOUBLE = 2;
+
+    private static final byte OBJECT = 3;
+
+    /**
+     * A null value, its SQL type is kept in the long slot.
+     */
+    private static final byte NULL = 4;
+
+    /**
+     * A float value kept in the double slot, read back as a {@link Float} so it renders with float precision.
+     */
+    private static final byte FLOAT = 5;
+
+    private byte[] types;
+
+    private long[] longs;
+
+    private double[] doubles;
+
+    private Object[] objects;
+
+    /**
+     * one past the highest position that has been set
+     */
+    private int size;
+
+    public ParameterValues() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ParameterValues(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        this.types = new byte[capacity];
+        this.longs = new long[capacity];
+        this.doubles = new double[capacity];
+        this.objects = new Object[capacity];
+    }
+
+    public void setLong(int index, long value) {
+        ensureCapacity(index);
+        types[index] = LONG;
+        longs[index] = value;
+        objects[index] = null;
+    }
+
+    public void setDouble(int index, double value) {
+        ensureCapacity(index);
+        types[index] = DOUBLE;
+        doubles[index] = value;
+        objects[index] = null;
+    }
+
+    public void setFloat(int index, float value) {
+        ensureCapacity(index);
+        types[index] = FLOAT;
+        doubles[index] = value;
+        objects[index] = null;
+    }
+
+    public void setObject(int index, Object value) {
+        ensureCapacity(index);
+        types[index] = OBJECT;
+        objects[index] = value;
+    }
+
+    /**
+     * Sets a null value of the given SQL type, bound again with the same type.
+     *
+     * @param index   the position of the parameter (starts with 0)
+     * @param sqlType the SQL type from {@link Types}
+     */
+    public void setNull(int index, int sqlType) {
+        ensureCapacity(index);
+        types[index] = NULL;
+        longs[index] = sqlType;
+        objects[index] = null;
+    }
+
+    /**
+     * @param index the position of the parameter (starts with 0)
+     * @return the SQL type of a null value set by {@link #setNull(int, int)}, otherwise {@link Types#NULL}
+     */
+    public int getSqlType(int index) {
+        return isSet(index) && types[index] == NULL ? (int) longs[index] : Types.NULL;
+    }
+
+    /**
+     * @return one past the highest position that has been set
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean isSet(int index) {
+        return index >= 0 && index < size && types[index] != UNSET;
+    }
+
+    /**
+     * Returns the value at the given position, boxing primitive values on demand.
+     *
+     * @param index the position of the parameter (starts with 0)
+     * @return the value, or {@code null} if the position was not set
+     */
+    public Object getValue(int index) {
+        if (index < 0 || index >= size) {
+            return null;
+        }
+        switch (types[index]) {
+            case LONG:
+                return longs[index];
+            case DOUBLE:
+                return doubles[index];
+            case FLOAT:
+                return (float) doubles[index];
+            case OBJECT:
+                return objects[index];
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Resets all slots in place, keeping the allocated arrays for reuse.
+     */
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        Arrays.fill(types, 0, size, UNSET);
+        Arrays.fill(objects, 0, size, null);
+        size = 0;
+    }
+
+    private void ensureCapacity(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Parameter position must not be negative: " + index);
+        }
+        if (index >= types.length) {
+            int capacity = Math.max(types.length << 1, index + 1);
+            types = Arrays.copyOf(types, capacity);
+            longs = Arrays.copyOf(longs, capacity);
+            doubles = Arrays.copyOf(doubles, capacity);
+            objects = Arrays.copyOf(objects, capacity);
+        }
+        if (index >= size) {
+            size = index + 1;
+        }
+    }
+}
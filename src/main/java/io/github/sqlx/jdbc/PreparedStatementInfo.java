@@ -16,12 +16,12 @@
 package io.github.sqlx.jdbc;
 
 import io.github.sqlx.rule.RouteInfo;
+import io.github.sqlx.sql.PlaceholderIndex;
 import lombok.Data;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
 
 /**
  * @author He Xing Mo
@@ -31,7 +31,12 @@ import java.util.Map;
 @Data
 public class PreparedStatementInfo extends StatementInfo {
 
-    private final Map<Integer, Value> parameterValues = new HashMap<>();
+    /**
+     * captured parameter values , {@code null} while capturing is disabled for this statement
+     */
+    private ParameterValues parameterValues;
+
+    private ParameterCapturePolicy parameterCapturePolicy = ParameterCapturePolicy.ALL;
 
     private ConnectionInfo connectionInfo;
 
@@ -59,25 +64,87 @@ public class PreparedStatementInfo extends StatementInfo {
     }
 
     public String getSqlWithValues() {
-        final StringBuilder sb = new StringBuilder();
         final String statementQuery = getNativeSql();
+        if (statementQuery == null || parameterValues == null || !parameterCapturePolicy.shouldRender(this)) {
+            return statementQuery;
+        }
+        LiteralFormatter formatter = resolveLiteralFormatter();
+        return parameterCapturePolicy.getRenderer().render(statementQuery, resolvePlaceholderIndex(statementQuery, formatter), parameterValues, formatter);
+    }
+
+    /**
+     * Uses the placeholder index cached with the parse result of the statement when it matches the native SQL,
+     * it is scanned without backslash escapes.
+     */
+    protected PlaceholderIndex resolvePlaceholderIndex(String statementQuery, LiteralFormatter formatter) {
+        if (formatter.isBackslashEscapes()) {
+            return PlaceholderIndex.of(statementQuery, true);
+        }
+        RouteInfo routeInfo = getRouteInfo();
+        if (routeInfo != null && routeInfo.getSqlAttribute() != null && Objects.equals(routeInfo.getSqlAttribute().getNativeSql(), statementQuery)) {
+            return routeInfo.getSqlAttribute().getPlaceholderIndex();
+        }
+        return PlaceholderIndex.of(statementQuery);
+    }
+
+    /**
+     * Chooses the literal dialect from the database type of the node the statement was routed to.
+     */
+    protected LiteralFormatter resolveLiteralFormatter() {
+        RouteInfo routeInfo = getRouteInfo();
+        if (routeInfo == null || routeInfo.getHitNodeAttr() == null) {
+            return LiteralFormatters.ANSI;
+        }
+        return LiteralFormatters.forDatabaseType(routeInfo.getHitNodeAttr().getDatabaseType());
+    }
 
-        // iterate over the characters in the query replacing the parameter placeholders
-        // with the actual values
-        int currentParameter = 0;
-        for( int pos = 0; pos < statementQuery.length(); pos ++) {
-            char character = statementQuery.charAt(pos);
-            if( statementQuery.charAt(pos) == '?' && currentParameter <= parameterValues.size()) {
-                // replace with parameter value
-                Value value = parameterValues.get(currentParameter);
-                sb.append(value != null ? value.toString() : new Value().toString());
-                currentParameter++;
-            } else {
-                sb.append(character);
-            }
+    /**
+     * Enables capturing of parameter values for this statement.
+     *
+     * @param policy the policy deciding whether the captured values are rendered
+     */
+    public void enableParameterCapture(ParameterCapturePolicy policy) {
+        this.parameterCapturePolicy = policy;
+        if (parameterValues == null) {
+            parameterValues = new ParameterValues();
         }
+    }
+
+    public boolean isParameterCaptureEnabled() {
+        return parameterValues != null;
+    }
 
-        return sb.toString();
+    /**
+     * Records the value of a parameter.
+     * @param position the position of the parameter (starts with 1 not 0)
+     * @param value the value of the parameter
+     */
+    public void setParameterValue(final int position, final long value) {
+        if (parameterValues != null) {
+            parameterValues.setLong(position - 1, value);
+        }
+    }
+
+    /**
+     * Records the value of a parameter.
+     * @param position the position of the parameter (starts with 1 not 0)
+     * @param value the value of the parameter
+     */
+    public void setParameterValue(final int position, final float value) {
+        if (parameterValues != null) {
+            parameterValues.setFloat(position - 1, value);
+        }
+    }
+
+    /**
+     * Records the value of a parameter.
+     * @param position the position of the parameter (starts with 1 not 0)
+     * @param value the value of the parameter
+     */
+    public void setParameterValue(final int position, final double value) {
+        if (parameterValues != null) {
+            parameterValues.setDouble(position - 1, value);
+        }
     }
 
     /**
@@ -86,10 +153,32 @@ public class PreparedStatementInfo extends StatementInfo {
      * @param value the value of the parameter
      */
     public void setParameterValue(final int position, final Object value) {
-        parameterValues.put(position - 1, new Value(value));
+        if (parameterValues != null) {
+            parameterValues.setObject(position - 1, value);
+        }
+    }
+
+    /**
+     * Records a null parameter of the given SQL type.
+     * @param position the position of the parameter (starts with 1 not 0)
+     * @param sqlType the SQL type from {@link java.sql.Types}
+     */
+    public void setParameterNull(final int position, final int sqlType) {
+        if (parameterValues != null) {
+            parameterValues.setNull(position - 1, sqlType);
+        }
+    }
+
+    /**
+     * Resets the captured parameter values in place.
+     */
+    public void clearParameterValues() {
+        if (parameterValues != null) {
+            parameterValues.clear();
+        }
     }
 
-    protected Map<Integer, Value> getParameterValues() {
+    protected ParameterValues getParameterValues() {
         return parameterValues;
     }
 
@@ -17,9 +17,16 @@
 package io.github.sqlx.jdbc;
 
 
+import io.github.sqlx.SessionConsistency;
+import io.github.sqlx.jdbc.bulkhead.Bulkheads;
+import io.github.sqlx.jdbc.cache.ResultCache;
 import io.github.sqlx.jdbc.datasource.SqlXDataSource;
+import io.github.sqlx.jdbc.datasource.DataSourceWrapper;
+import io.github.sqlx.jdbc.datasource.PoolFallback;
 import io.github.sqlx.jdbc.datasource.RoutedDataSource;
 import io.github.sqlx.rule.RouteInfo;
+import io.github.sqlx.sql.SqlAttribute;
+import io.github.sqlx.sql.SqlType;
 import io.github.sqlx.listener.EventListener;
 import io.github.sqlx.util.MapUtils;
 import io.github.sqlx.util.RoutingUtils;
@@ -38,6 +45,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLClientInfoException;
 import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
 import java.sql.SQLWarning;
 import java.sql.SQLXML;
 import java.sql.Savepoint;
@@ -46,11 +54,14 @@ import java.sql.Struct;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.Executor;
 
 /**
@@ -63,8 +74,25 @@ public class ProxyConnection extends AbstractConnectionAdapter {
 
     private final List<Statement> openStatements = Collections.synchronizedList(new LinkedList<>());
 
+    /**
+     * The connection the last statement ran on.
+     */
     private Connection physicalConnection;
 
+    /**
+     * The physical connection of every node a statement of this connection was routed to, keyed by node name.
+     * Outside a transaction every statement runs on the connection of its node, so reads following a write
+     * leave the writable node, inside a transaction the statements stay on {@link #transactionConnection}.
+     */
+    private final Map<String, Connection> physicalConnections = new LinkedHashMap<>();
+
+    /**
+     * The connection the current transaction is pinned to until it is committed or rolled back, {@code null} outside a transaction.
+     * The first statement of the transaction that is not a plain read, or any statement of a transaction of the routing rules,
+     * pins the connection of the node it was routed to, only that connection leaves auto-commit mode.
+     */
+    private Connection transactionConnection;
+
     private volatile boolean autoCommit = true;
 
     private volatile boolean readOnly = false;
@@ -87,8 +115,23 @@ public class ProxyConnection extends AbstractConnectionAdapter {
 
     private final List<RouteInfo> routeInfoList = new ArrayList<>();
 
+    /**
+     * The writes whose tables are invalidated again in the result cache when they are committed.
+     */
+    private final List<SqlAttribute> pendingInvalidations = new ArrayList<>();
+
+    /**
+     * The clusters written by the current transaction, recorded in the read-your-writes session when it is committed.
+     */
+    private final Set<String> pendingWrites = new LinkedHashSet<>();
+
     private final ConnectionInfo connectionInfo = new ConnectionInfo();
 
+    /**
+     * The read-your-writes session of this connection, used when no session is open on the current thread.
+     */
+    private final SessionConsistency.Session session = new SessionConsistency.Session();
+
     private Properties clientInfo;
 
     private String username;
@@ -213,8 +256,17 @@ public class ProxyConnection extends AbstractConnectionAdapter {
         try {
             eventListener.onBeforeSetAutoCommit(connectionInfo, autoCommit, oldAutoCommit);
             this.autoCommit = autoCommit;
-            if (Objects.nonNull(physicalConnection)) {
-                physicalConnection.setAutoCommit(autoCommit);
+            if (autoCommit) {
+                // enabling auto-commit commits the pending transaction
+                for (Connection connection : physicalConnections()) {
+                    SessionState.of(connection).setAutoCommit(connection, true);
+                }
+                transactionConnection = null;
+                recordPendingWrites();
+                invalidatePendingResults();
+            } else if (transactionConnection != null) {
+                // the other connections stay in auto-commit mode, they never join the transaction
+                SessionState.of(transactionConnection).setAutoCommit(transactionConnection, false);
             }
         } catch (SQLException sqle){
             e = sqle;
@@ -226,7 +278,7 @@ public class ProxyConnection extends AbstractConnectionAdapter {
 
     @Override
     public synchronized boolean getAutoCommit() throws SQLException {
-        return Objects.nonNull(physicalConnection) ? physicalConnection.getAutoCommit() : this.autoCommit;
+        return this.autoCommit;
     }
 
     @Override
@@ -237,8 +289,8 @@ public class ProxyConnection extends AbstractConnectionAdapter {
     @Override
     public void setTypeMap(Map<String,Class<?>> typeMap) throws SQLException {
         this.typeMap = typeMap;
-        if (Objects.nonNull(physicalConnection)) {
-            physicalConnection.setTypeMap(typeMap);
+        for (Connection connection : physicalConnections()) {
+            connection.setTypeMap(typeMap);
         }
     }
 
@@ -262,7 +314,7 @@ public class ProxyConnection extends AbstractConnectionAdapter {
 
 
     @Override
-    public void commit() throws SQLException {
+    public synchronized void commit() throws SQLException {
         if (Objects.isNull(physicalConnection)) {
             throw new SQLException("Physical connection is not initialized. Unable to commit.");
         }
@@ -271,11 +323,17 @@ public class ProxyConnection extends AbstractConnectionAdapter {
             connectionInfo.setBeforeTimeToCommitNs(System.nanoTime());
             connectionInfo.setBeforeTimeToCommitMillis(System.currentTimeMillis());
             eventListener.onBeforeCommit(connectionInfo);
-            physicalConnection.commit();
+            for (Connection connection : transactionConnections()) {
+                connection.commit();
+            }
         } catch (SQLException sqle) {
             e = sqle;
             throw e;
         } finally {
+            // a failed commit may still have committed the writes, the reads keep following them
+            recordPendingWrites();
+            transactionConnection = null;
+            invalidatePendingResults();
             connectionInfo.setAfterTimeToCommitNs(System.nanoTime());
             connectionInfo.setAfterTimeToCommitMillis(System.currentTimeMillis());
             eventListener.onAfterCommit(connectionInfo, e);
@@ -283,7 +341,7 @@ public class ProxyConnection extends AbstractConnectionAdapter {
     }
 
     @Override
-    public void rollback() throws SQLException {
+    public synchronized void rollback() throws SQLException {
         if (Objects.isNull(physicalConnection)) {
             throw new SQLException("Physical connection is not initialized. Unable to rollback.");
         }
@@ -292,11 +350,16 @@ public class ProxyConnection extends AbstractConnectionAdapter {
             connectionInfo.setBeforeTimeToRollbackNs(System.nanoTime());
             connectionInfo.setBeforeTimeToRollbackMillis(System.currentTimeMillis());
             eventListener.onBeforeRollback(connectionInfo);
-            physicalConnection.rollback();
+            pendingWrites.clear();
+            for (Connection connection : transactionConnections()) {
+                connection.rollback();
+            }
         } catch (SQLException sqle) {
             e = sqle;
             throw e;
         } finally {
+            transactionConnection = null;
+            invalidatePendingResults();
             connectionInfo.setAfterTimeToRollbackNs(System.nanoTime());
             connectionInfo.setAfterTimeToRollbackMillis(System.currentTimeMillis());
             eventListener.onAfterRollback(connectionInfo, e);
@@ -316,11 +379,26 @@ public class ProxyConnection extends AbstractConnectionAdapter {
             connectionInfo.setBeforeTimeToCloseConnectionNs(System.nanoTime());
             connectionInfo.setBeforeTimeToCloseConnectionMillis(System.currentTimeMillis());
             eventListener.onBeforeConnectionClose(connectionInfo);
-            physicalConnection.close();
-        } catch (SQLException ex) {
-            e = ex;
-            throw ex;
+            for (Connection connection : physicalConnections()) {
+                try {
+                    connection.close();
+                    SessionState.released(connection);
+                } catch (SQLException ex) {
+                    if (e == null) {
+                        e = ex;
+                    } else {
+                        e.addSuppressed(ex);
+                    }
+                }
+            }
+            if (e != null) {
+                throw e;
+            }
         } finally {
+            physicalConnections.clear();
+            transactionConnection = null;
+            pendingWrites.clear();
+            invalidatePendingResults();
             connectionInfo.setAfterTimeToCloseConnectionNs(System.nanoTime());
             connectionInfo.setAfterTimeToCloseConnectionMillis(System.currentTimeMillis());
             eventListener.onAfterConnectionClose(connectionInfo , e);
@@ -339,25 +417,51 @@ public class ProxyConnection extends AbstractConnectionAdapter {
     public synchronized DatabaseMetaData getMetaData() throws SQLException {
         if (this.physicalConnection != null) {
             if (this.databaseMetaData.getDelegate() == null) {
-                this.databaseMetaData.setDelegate(physicalConnection.getMetaData());
+                this.databaseMetaData.setDelegate(SessionState.of(physicalConnection).getMetaData(physicalConnection));
             }
-        } else {
+        } else if (this.databaseMetaData.getSnapshot() == null) {
             RoutedDataSource routedDataSource = sqlXDataSource.getDataSourceForDatabaseMetaData();
-            RouteInfo routeInfo = routedDataSource.getRouteInfo();
-            this.connectionInfo.setCurrentRouteInfo(routeInfo);
-            this.routeInfoList.add(routeInfo);
-            this.physicalConnection = acquireConnection(routedDataSource);
-            DatabaseMetaData metaData = physicalConnection.getMetaData();
-            this.databaseMetaData.setDelegate(metaData);
+            DatabaseMetaDataSnapshot snapshot = routedDataSource.getDelegate() instanceof DataSourceWrapper
+                    ? ((DataSourceWrapper) routedDataSource.getDelegate()).getMetaDataSnapshot() : null;
+            if (snapshot != null) {
+                this.databaseMetaData.setSnapshot(snapshot);
+            } else {
+                acquireDatabaseMetaData(routedDataSource);
+            }
         }
         return databaseMetaData;
     }
 
+    /**
+     * Acquires a connection from the node designated for metadata, used for metadata a snapshot cannot answer.
+     *
+     * @throws SQLException if a database access error occurs
+     */
+    synchronized void acquireDatabaseMetaData() throws SQLException {
+        if (this.databaseMetaData.getDelegate() != null) {
+            return;
+        }
+        if (this.physicalConnection != null) {
+            this.databaseMetaData.setDelegate(SessionState.of(physicalConnection).getMetaData(physicalConnection));
+            return;
+        }
+        acquireDatabaseMetaData(sqlXDataSource.getDataSourceForDatabaseMetaData());
+    }
+
+    private void acquireDatabaseMetaData(RoutedDataSource routedDataSource) throws SQLException {
+        RouteInfo routeInfo = routedDataSource.getRouteInfo();
+        this.connectionInfo.setCurrentRouteInfo(routeInfo);
+        this.routeInfoList.add(routeInfo);
+        this.physicalConnection = acquireConnection(routedDataSource);
+        this.physicalConnections.put(nodeName(routeInfo), physicalConnection);
+        this.databaseMetaData.setDelegate(SessionState.of(physicalConnection).getMetaData(physicalConnection));
+    }
+
     @Override
     public synchronized void setReadOnly(boolean readOnly) throws SQLException {
         this.readOnly = readOnly;
-        if (Objects.nonNull(physicalConnection)) {
-            physicalConnection.setReadOnly(readOnly);
+        for (Connection connection : physicalConnections()) {
+            SessionState.of(connection).setReadOnly(connection, readOnly);
         }
     }
 
@@ -369,8 +473,8 @@ public class ProxyConnection extends AbstractConnectionAdapter {
     @Override
     public synchronized void setTransactionIsolation(int level) throws SQLException {
         this.isolation = level;
-        if (Objects.nonNull(physicalConnection)) {
-            physicalConnection.setTransactionIsolation(level);
+        for (Connection connection : physicalConnections()) {
+            SessionState.of(connection).setTransactionIsolation(connection, level);
         }
     }
 
@@ -395,7 +499,7 @@ public class ProxyConnection extends AbstractConnectionAdapter {
         if (Objects.isNull(physicalConnection)) {
             throw new SQLException("Physical connection is not initialized. Unable to setSavepoint.");
         }
-        return physicalConnection.setSavepoint();
+        return currentTransactionConnection().setSavepoint();
     }
 
     @Override
@@ -403,7 +507,7 @@ public class ProxyConnection extends AbstractConnectionAdapter {
         if (Objects.isNull(physicalConnection)) {
             throw new SQLException("Physical connection is not initialized. Unable to setSavepoint.");
         }
-        return physicalConnection.setSavepoint(name);
+        return currentTransactionConnection().setSavepoint(name);
     }
 
     @Override
@@ -416,7 +520,7 @@ public class ProxyConnection extends AbstractConnectionAdapter {
             connectionInfo.setBeforeTimeToRollbackNs(System.nanoTime());
             connectionInfo.setBeforeTimeToRollbackMillis(System.currentTimeMillis());
             eventListener.onBeforeSavepointRollback(connectionInfo , savepoint);
-            physicalConnection.rollback(savepoint);
+            currentTransactionConnection().rollback(savepoint);
         } catch (SQLException sqle) {
             e = sqle;
             throw e;
@@ -432,7 +536,7 @@ public class ProxyConnection extends AbstractConnectionAdapter {
         if (Objects.isNull(physicalConnection)) {
             throw new SQLException("Physical connection is not initialized. Unable to release Savepoint.");
         }
-        physicalConnection.releaseSavepoint(savepoint);
+        currentTransactionConnection().releaseSavepoint(savepoint);
     }
 
     @Override
@@ -495,16 +599,16 @@ public class ProxyConnection extends AbstractConnectionAdapter {
     @Override
     public synchronized void setClientInfo(String name, String value) throws SQLClientInfoException {
         clientInfoMap.put(name , value);
-        if (Objects.nonNull(physicalConnection)) {
-            physicalConnection.setClientInfo(name , value);
+        for (Connection connection : physicalConnections()) {
+            connection.setClientInfo(name , value);
         }
     }
 
     @Override
     public synchronized void setClientInfo(Properties properties) throws SQLClientInfoException {
         this.clientInfo = properties;
-        if (Objects.nonNull(physicalConnection)) {
-            physicalConnection.setClientInfo(properties);
+        for (Connection connection : physicalConnections()) {
+            connection.setClientInfo(properties);
         }
     }
 
@@ -522,8 +626,8 @@ public class ProxyConnection extends AbstractConnectionAdapter {
     @Override
     public synchronized void setSchema(String schema) throws SQLException {
         this.schema = schema;
-        if (Objects.nonNull(physicalConnection)) {
-            physicalConnection.setSchema(schema);
+        for (Connection connection : physicalConnections()) {
+            SessionState.of(connection).setSchema(connection, schema);
         }
     }
 
@@ -535,8 +639,8 @@ public class ProxyConnection extends AbstractConnectionAdapter {
     @Override
     public synchronized void setHoldability(int holdability) throws SQLException {
         this.holdability = holdability;
-        if (Objects.nonNull(physicalConnection)) {
-            physicalConnection.setHoldability(holdability);
+        for (Connection connection : physicalConnections()) {
+            SessionState.of(connection).setHoldability(connection, holdability);
         }
     }
 
@@ -571,8 +675,8 @@ public class ProxyConnection extends AbstractConnectionAdapter {
     @Override
     public void setCatalog(String catalog) throws SQLException {
         this.catalog = catalog;
-        if (Objects.nonNull(physicalConnection)) {
-            physicalConnection.setCatalog(catalog);
+        for (Connection connection : physicalConnections()) {
+            SessionState.of(connection).setCatalog(connection, catalog);
         }
     }
 
@@ -580,9 +684,10 @@ public class ProxyConnection extends AbstractConnectionAdapter {
      * Retrieves a routed connection based on the provided SQL statement.
      * This method performs several key operations:
      * 1. Obtains the appropriate RoutedDataSource based on the provided SQL.
-     * 2. Checks if a physical connection already exists.
-     * 3. If a physical connection exists, it updates the route information, transaction details, and adds the route info to the list.
-     * 4. If no physical connection exists, it retrieves the route information, updates the connection details, and acquires a new physical connection.
+     * 2. Updates the route information, transaction details, and adds the route info to the list.
+     * 3. Inside a transaction, reuses the physical connection the transaction is pinned to, see {@link #transactionConnection}.
+     * 4. Outside a transaction, reuses the physical connection of the routed node, or acquires one with the recorded session properties.
+     *    A read statement whose node has an exhausted pool falls back to another node, see {@link PoolFallback}.
      * 5. Sets the default database for the physical connection using the route information.
      * 6. Returns a new RoutedConnection object containing the routed data source and the physical connection.
      *
@@ -591,27 +696,216 @@ public class ProxyConnection extends AbstractConnectionAdapter {
      * @throws SQLException if a database access error occurs or the data source is invalid
      */
     public synchronized RoutedConnection getConnection(String sql) throws SQLException {
-        RoutedDataSource routedDataSource = sqlXDataSource.getDataSource(sql);
-        if (Objects.nonNull(physicalConnection)) {
-            RouteInfo routeInfo = routedDataSource.getRouteInfo();
-            RoutingUtils.setDefaultDatabase(physicalConnection.getCatalog() , routeInfo);
-            this.connectionInfo.setCurrentRouteInfo(routeInfo);
-            this.connectionInfo.setTransactionId(routeInfo.getTransactionId());
-            this.connectionInfo.setTransactionName(routeInfo.getTransactionName());
-            this.routeInfoList.add(routeInfo);
-            return new RoutedConnection(routedDataSource , this.physicalConnection);
+        if (SessionConsistency.current() != null) {
+            return route(sql);
+        }
+        // outside an explicit session the reads of this connection follow its own writes
+        session.enter();
+        try {
+            return route(sql);
+        } finally {
+            session.close();
         }
+    }
+
+    /**
+     * Records a write executed by a statement of this connection in the read-your-writes session once it is committed:
+     * at once in auto-commit mode, otherwise when the transaction is committed.
+     * The write is recorded in the session open on the current thread, or else in the session of this connection.
+     *
+     * @param statementInfo the executed statement
+     */
+    static void recordWrite(StatementInfo statementInfo) {
+        ConnectionInfo connectionInfo = statementInfo.getConnectionInfo();
+        if (connectionInfo != null && connectionInfo.getConnection() instanceof ProxyConnection) {
+            ((ProxyConnection) connectionInfo.getConnection()).recordWrite(statementInfo.getRouteInfo());
+        }
+    }
+
+    private synchronized void recordWrite(RouteInfo routeInfo) {
+        SqlAttribute sqlAttribute = routeInfo != null ? routeInfo.getSqlAttribute() : null;
+        if (sqlAttribute == null || !sqlAttribute.isWrite() || routeInfo.getCluster() == null) {
+            return;
+        }
+        if (!autoCommit) {
+            pendingWrites.add(routeInfo.getCluster().getName());
+        } else {
+            currentSession().recordWrite(routeInfo.getCluster().getName());
+        }
+    }
+
+    private synchronized void recordPendingWrites() {
+        SessionConsistency.Session current = currentSession();
+        for (String cluster : pendingWrites) {
+            current.recordWrite(cluster);
+        }
+        pendingWrites.clear();
+    }
+
+    private SessionConsistency.Session currentSession() {
+        SessionConsistency.Session current = SessionConsistency.current();
+        return current != null ? current : session;
+    }
 
+    private RoutedConnection route(String sql) throws SQLException {
+        RoutedDataSource routedDataSource = sqlXDataSource.getDataSource(sql);
+        invalidateResults(routedDataSource.getRouteInfo());
         RouteInfo routeInfo = routedDataSource.getRouteInfo();
         this.connectionInfo.setCurrentRouteInfo(routeInfo);
         this.connectionInfo.setTransactionId(routeInfo.getTransactionId());
         this.connectionInfo.setTransactionName(routeInfo.getTransactionName());
         this.routeInfoList.add(routeInfo);
-        Connection connection = acquireConnection(routedDataSource);
-        RoutingUtils.setDefaultDatabase(connection.getCatalog() , routeInfo);
+
+        String node = nodeName(routeInfo);
+        boolean inTransaction = isInTransaction(routeInfo);
+        Connection connection = null;
+        if (inTransaction && Objects.nonNull(transactionConnection)) {
+            connection = transactionConnection;
+        } else if (Objects.nonNull(physicalConnection) && node == null) {
+            connection = physicalConnection;
+        } else if (physicalConnections.containsKey(node)) {
+            connection = physicalConnections.get(node);
+        }
+        if (connection == null) {
+            PoolFallback poolFallback = sqlXDataSource.getPoolFallback();
+            if (poolFallback != null && poolFallback.isEligible(routeInfo)) {
+                connection = acquireConnection(routedDataSource, poolFallback);
+                if (connection != null) {
+                    physicalConnections.put(node, connection);
+                } else {
+                    routedDataSource = fallback(sql, node, poolFallback);
+                    routeInfo = routedDataSource.getRouteInfo();
+                    node = nodeName(routeInfo);
+                    connection = physicalConnections.get(node);
+                }
+            }
+        }
+        if (connection == null) {
+            connection = acquireConnection(routedDataSource);
+            physicalConnections.put(node, connection);
+        }
+        this.physicalConnection = connection;
+        SessionState state = SessionState.of(connection);
+        if (inTransaction && Objects.isNull(transactionConnection) && joinsTransaction(routeInfo)) {
+            state.setAutoCommit(connection, autoCommit);
+            this.transactionConnection = connection;
+        }
+        RoutingUtils.setDefaultDatabase(state.getCatalog(connection) , routeInfo);
+        if (routeInfo.getSqlAttribute() != null && SqlType.OTHER.is(routeInfo.getSqlAttribute().getSqlType())) {
+            // the statement may switch the catalog or schema of the session
+            state.invalidateCatalog();
+        }
         return new RoutedConnection(routedDataSource , connection);
     }
 
+    private RoutedDataSource fallback(String sql, String node, PoolFallback poolFallback) {
+        poolFallback.markSaturated(node);
+        RoutedDataSource routedDataSource = poolFallback.excluding(node, () -> sqlXDataSource.getFallbackDataSource(sql, node));
+        RouteInfo routeInfo = routedDataSource.getRouteInfo();
+        log.debug("The pool of node [{}] is exhausted, SQL [{}] falls back to node [{}]", node, sql, nodeName(routeInfo));
+        this.connectionInfo.setCurrentRouteInfo(routeInfo);
+        this.routeInfoList.add(routeInfo);
+        return routedDataSource;
+    }
+
+    private boolean isInTransaction(RouteInfo routeInfo) {
+        return !autoCommit || Boolean.TRUE.equals(routeInfo.getIsTransactionActive());
+    }
+
+    /**
+     * A plain read routed before the transaction is pinned runs on its node in auto-commit mode,
+     * any other statement pins the transaction to the connection it was routed to.
+     */
+    private static boolean joinsTransaction(RouteInfo routeInfo) {
+        SqlAttribute sqlAttribute = routeInfo.getSqlAttribute();
+        return Boolean.TRUE.equals(routeInfo.getIsTransactionActive()) || sqlAttribute == null || !sqlAttribute.isRead();
+    }
+
+    private static String nodeName(RouteInfo routeInfo) {
+        return routeInfo != null && routeInfo.getHitNodeAttr() != null ? routeInfo.getHitNodeAttr().getName() : null;
+    }
+
+    /**
+     * @return every physical connection acquired by this connection
+     */
+    private Set<Connection> physicalConnections() {
+        Set<Connection> connections = new LinkedHashSet<>(physicalConnections.values());
+        if (physicalConnection != null) {
+            connections.add(physicalConnection);
+        }
+        return connections;
+    }
+
+    /**
+     * @return the connections a commit or rollback applies to: the connection the transaction is pinned to,
+     *         or every connection that is not known to be in auto-commit mode
+     */
+    private Set<Connection> transactionConnections() {
+        if (transactionConnection != null) {
+            return Collections.singleton(transactionConnection);
+        }
+        Set<Connection> connections = physicalConnections();
+        connections.removeIf(connection -> SessionState.of(connection).isAutoCommit());
+        return connections;
+    }
+
+    private Connection currentTransactionConnection() {
+        return Objects.nonNull(transactionConnection) ? transactionConnection : physicalConnection;
+    }
+
+    /**
+     * Decides whether the results of a routed query are read through the result cache,
+     * queries of a connection that is not in auto-commit mode are never cached.
+     *
+     * @param routeInfo the route of the query
+     * @return true if the results of the query are cached
+     */
+    public boolean isResultCacheable(RouteInfo routeInfo) {
+        return isResultCacheReadable() && sqlXDataSource.getResultCache().isCacheable(routeInfo);
+    }
+
+    /**
+     * Decides whether the queries executed now may read through the result cache,
+     * checked on every execution as a prepared statement outlives the auto-commit mode and the transaction it was prepared in.
+     *
+     * @return true if the connection is in auto-commit mode and outside any transaction
+     */
+    public boolean isResultCacheReadable() {
+        ResultCache resultCache = sqlXDataSource.getResultCache();
+        return resultCache != null && autoCommit && !resultCache.isTransactionActive();
+    }
+
+    /**
+     * Invalidates the cached results of the tables written by a routed statement.
+     * The tables are invalidated once more when the write is known to be complete: on commit or rollback,
+     * or on the next statement of an auto-commit connection, so a result read while the write was running is dropped.
+     */
+    private void invalidateResults(RouteInfo routeInfo) {
+        ResultCache resultCache = sqlXDataSource.getResultCache();
+        if (resultCache == null) {
+            return;
+        }
+        if (autoCommit) {
+            invalidatePendingResults();
+        }
+        SqlAttribute sqlAttribute = routeInfo.getSqlAttribute();
+        if (sqlAttribute != null && sqlAttribute.isWrite()) {
+            resultCache.invalidate(sqlAttribute);
+            pendingInvalidations.add(sqlAttribute);
+        }
+    }
+
+    private synchronized void invalidatePendingResults() {
+        ResultCache resultCache = sqlXDataSource.getResultCache();
+        if (resultCache == null || pendingInvalidations.isEmpty()) {
+            return;
+        }
+        for (SqlAttribute sqlAttribute : pendingInvalidations) {
+            resultCache.invalidate(sqlAttribute);
+        }
+        pendingInvalidations.clear();
+    }
+
     public Connection getPhysicalConnection() {
         return this.physicalConnection;
     }
@@ -621,67 +915,105 @@ public class ProxyConnection extends AbstractConnectionAdapter {
      * This method performs several key operations:
      * 1. Records the start time for connection acquisition.
      * 2. Notifies the event listener before attempting to get a connection.
-     * 3. Attempts to obtain a connection from the DataSource.
-     * 4. Sets the delegate of the databaseMetaData to the metadata of the acquired connection.
-     * 5. Sets various connection properties such as auto-commit, read-only, transaction isolation, schema, holdability, client info, and catalog.
-     * 6. Records the end time for connection acquisition.
-     * 7. Notifies the event listener after attempting to get a connection, including any exceptions that occurred.
+     * 3. Takes the bulkhead permits of the routed node and cluster, so a saturated node does not pile up threads waiting on its pool,
+     *    then attempts to obtain a connection from the DataSource.
+     * 4. Sets the connection properties such as auto-commit, read-only, transaction isolation, schema, holdability, client info, and catalog
+     *    that differ from the state the connection was handed out in.
+     * 5. Records the end time for connection acquisition.
+     * 6. Notifies the event listener after attempting to get a connection, including any exceptions that occurred.
      *
      * @param dataSource the DataSource from which to acquire the connection
      * @return the acquired Connection object
      * @throws SQLException if a database access error occurs or the DataSource is invalid
      */
     private synchronized Connection acquireConnection(DataSource dataSource) throws SQLException {
+        return acquireConnection(dataSource, null);
+    }
+
+    /**
+     * Acquires a physical connection, waiting at most the budget of the pool fallback for it.
+     *
+     * @param dataSource   the DataSource from which to acquire the connection
+     * @param poolFallback bounds the wait for a connection, {@code null} waits as long as the pool does
+     * @return the acquired Connection object, {@code null} if the budget of the pool fallback is exceeded
+     * @throws SQLException if a database access error occurs or the DataSource is invalid
+     */
+    private synchronized Connection acquireConnection(DataSource dataSource, PoolFallback poolFallback) throws SQLException {
 
         SQLException e = null;
+        Bulkheads.Permit permit = Bulkheads.Permit.NONE;
         try {
             connectionInfo.setBeforeTimeToGetConnectionNs(System.nanoTime());
             connectionInfo.setBeforeTimeToGetConnectionMillis(System.currentTimeMillis());
             eventListener.onBeforeGetConnection(connectionInfo);
-            if (StringUtils.isNotBlank(username) && StringUtils.isNotBlank(password)) {
-                this.physicalConnection = dataSource.getConnection(username , password);
+            permit = acquireBulkheadPermit(dataSource);
+            Connection connection;
+            if (poolFallback != null) {
+                String node = nodeName(((RoutedDataSource) dataSource).getRouteInfo());
+                connection = poolFallback.acquire(node, dataSource, () -> getPhysicalConnection(dataSource));
+                if (connection == null) {
+                    e = new SQLTransientConnectionException(String.format("No connection of node [%s] within the fallback budget", node));
+                    return null;
+                }
             } else {
-                this.physicalConnection = dataSource.getConnection();
+                connection = getPhysicalConnection(dataSource);
             }
-            this.databaseMetaData.setDelegate(this.physicalConnection.getMetaData());
-            connectionPropertiesSet();
-            return this.physicalConnection;
+            this.physicalConnection = connection;
+            connectionPropertiesSet(connection, SessionState.acquired(connection, dataSource));
+            return connection;
         } catch (SQLException ex) {
             e = ex;
             throw ex;
         } finally {
+            permit.release(false);
             connectionInfo.setAfterTimeToGetConnectionNs(System.nanoTime());
             connectionInfo.setAfterTimeToGetConnectionMillis(System.currentTimeMillis());
             eventListener.onAfterGetConnection(connectionInfo , e);
         }
     }
 
-    private void connectionPropertiesSet() throws SQLException {
-        this.physicalConnection.setAutoCommit(this.autoCommit);
-        this.physicalConnection.setReadOnly(this.readOnly);
+    private Connection getPhysicalConnection(DataSource dataSource) throws SQLException {
+        if (StringUtils.isNotBlank(username) && StringUtils.isNotBlank(password)) {
+            return dataSource.getConnection(username , password);
+        }
+        return dataSource.getConnection();
+    }
+
+    private Bulkheads.Permit acquireBulkheadPermit(DataSource dataSource) throws SQLException {
+        Bulkheads bulkheads = sqlXDataSource.getBulkheads();
+        if (bulkheads == null || !(dataSource instanceof RoutedDataSource)) {
+            return Bulkheads.Permit.NONE;
+        }
+        return bulkheads.acquire(((RoutedDataSource) dataSource).getRouteInfo());
+    }
+
+    private void connectionPropertiesSet(Connection connection, SessionState state) throws SQLException {
+        // a connection leaves auto-commit mode only when the transaction is pinned to it
+        state.setAutoCommit(connection, true);
+        state.setReadOnly(connection, this.readOnly);
         if (this.schema != null) {
-            this.physicalConnection.setSchema(this.schema);
+            state.setSchema(connection, this.schema);
         }
         if (holdability != null) {
-            this.physicalConnection.setHoldability(holdability);
+            state.setHoldability(connection, holdability);
         }
         if (isolation != null) {
-            this.physicalConnection.setTransactionIsolation(isolation);
+            state.setTransactionIsolation(connection, isolation);
         }
         if (this.clientInfo != null) {
-            this.physicalConnection.setClientInfo(clientInfo);
+            connection.setClientInfo(clientInfo);
         }
         for (Map.Entry<String, String> entry : this.clientInfoMap.entrySet()) {
-            this.physicalConnection.setClientInfo(entry.getKey() , entry.getValue());
+            connection.setClientInfo(entry.getKey() , entry.getValue());
         }
         if (StringUtils.isNotBlank(catalog)) {
-            this.physicalConnection.setCatalog(catalog);
+            state.setCatalog(connection, catalog);
         }
         if (MapUtils.isNotEmpty(typeMap)) {
-            this.physicalConnection.setTypeMap(typeMap);
+            connection.setTypeMap(typeMap);
         }
         if (this.executor != null && this.networkTimeout != null) {
-            this.physicalConnection.setNetworkTimeout(executor , networkTimeout);
+            connection.setNetworkTimeout(executor , networkTimeout);
         }
     }
 
@@ -709,9 +1041,23 @@ public class ProxyConnection extends AbstractConnectionAdapter {
             RoutedConnection routedConnection = getConnection(sql);
             preparedStatementInfo.setRouteInfo(routedConnection.getRoutedDataSource().getRouteInfo());
             eventListener.onBeforePrepareStatement(preparedStatementInfo);
+            List<String> scatterNodes = ScatterGatherExecutor.resolveNodes(sqlXDataSource, preparedStatementInfo.getRouteInfo());
+            if (!scatterNodes.isEmpty()) {
+                // the parameter values are bound again on the other nodes
+                preparedStatementInfo.setScatterNodes(scatterNodes);
+            } else if (isResultCacheable(preparedStatementInfo.getRouteInfo())) {
+                // the parameter values are part of the cache key, whether the cache is read is checked again on every execution
+                preparedStatementInfo.setResultCacheable(true);
+            }
+            if ((!scatterNodes.isEmpty() || preparedStatementInfo.isResultCacheable()) && !preparedStatementInfo.isParameterCaptureEnabled()) {
+                preparedStatementInfo.enableParameterCapture(ParameterCapturePolicy.ALL);
+            }
             Connection connection = routedConnection.getConnection();
             String nativeSql = routedConnection.getNativeSql();
             PreparedStatement ps = createPreparedStatementWithArgs(connection, nativeSql, args);
+            if (sqlXDataSource.getQueryTimeouts() != null) {
+                sqlXDataSource.getQueryTimeouts().applyDefault(ps, preparedStatementInfo.getRouteInfo());
+            }
             preparedStatementInfo.setNativeSql(nativeSql);
             preparedStatementInfo.setStatement(ps);
             return new ProxyPreparedStatement(this.sqlXDataSource, preparedStatementInfo, this.eventListener);
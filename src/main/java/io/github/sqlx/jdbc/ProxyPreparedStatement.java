@@ -18,7 +18,10 @@ package io.github.sqlx.jdbc;
 
 
 
+import io.github.sqlx.jdbc.bulkhead.Bulkheads;
 import io.github.sqlx.jdbc.datasource.SqlXDataSource;
+import io.github.sqlx.jdbc.timeout.QueryTimeouts;
+import io.github.sqlx.jdbc.timeout.StatementWatchdog;
 import io.github.sqlx.listener.EventListener;
 import lombok.Getter;
 
@@ -67,6 +70,11 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
 
     private final ProxyStatement proxyStatement;
 
+    /**
+     * The result set of {@link #execute()} produced by SQLX, merged from several nodes or read from the result cache.
+     */
+    private ResultSet composedResultSet;
+
     public ProxyPreparedStatement(SqlXDataSource sqlXDataSource, PreparedStatementInfo preparedStatementInfo, EventListener eventListener) {
         this.sqlXDataSource = sqlXDataSource;
         this.preparedStatementInfo = preparedStatementInfo;
@@ -82,11 +90,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             preparedStatementInfo.setBeforeTimeToExecuteNs(System.nanoTime());
             preparedStatementInfo.setBeforeTimeToExecuteMillis(System.currentTimeMillis());
             eventListener.onBeforeExecuteQuery(preparedStatementInfo);
-            ResultSet resultSet = delegate.executeQuery();
-            ResultSetInfo resultSetInfo = new ResultSetInfo();
-            resultSetInfo.setResultSet(resultSet);
-            resultSetInfo.setStatementInfo(preparedStatementInfo);
-            return new ResultSetWrapper(resultSet , resultSetInfo , eventListener);
+            return executeRoutedQuery();
         } catch (SQLException ex) {
             e = ex;
             throw ex;
@@ -98,6 +102,68 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
         }
     }
 
+    private ResultSet executeRoutedQuery() throws SQLException {
+        if (!preparedStatementInfo.getScatterNodes().isEmpty()) {
+            return ScatterGatherExecutor.executeQuery(sqlXDataSource, preparedStatementInfo, this, preparedStatementInfo.getParameterValues(), this::executeLocalQuery);
+        }
+        if (isResultCacheReadable()) {
+            return sqlXDataSource.getResultCache().executeQuery(preparedStatementInfo, this, preparedStatementInfo.getParameterValues(), this::executeLocalQuery);
+        }
+        return executeLocalQuery();
+    }
+
+    /**
+     * Whether this execution reads through the result cache: the statement was cacheable when prepared, and its
+     * connection is still in auto-commit mode and outside any transaction.
+     */
+    private boolean isResultCacheReadable() {
+        if (!preparedStatementInfo.isResultCacheable()) {
+            return false;
+        }
+        ConnectionInfo connectionInfo = preparedStatementInfo.getConnectionInfo();
+        return connectionInfo != null && connectionInfo.getConnection() instanceof ProxyConnection
+                && ((ProxyConnection) connectionInfo.getConnection()).isResultCacheReadable();
+    }
+
+    private ResultSet executeLocalQuery() throws SQLException {
+        ResultSet resultSet = executeInBulkhead(delegate::executeQuery);
+        ResultSetInfo resultSetInfo = new ResultSetInfo();
+        resultSetInfo.setResultSet(resultSet);
+        resultSetInfo.setStatementInfo(preparedStatementInfo);
+        return new ResultSetWrapper(resultSet , resultSetInfo , eventListener);
+    }
+
+    /**
+     * Executes the physical statement within the bulkheads of its node and cluster, watched by the statement watchdog
+     * once it entered the bulkheads.
+     */
+    private <T> T executeInBulkhead(Bulkheads.StatementCall<T> call) throws SQLException {
+        Bulkheads.StatementCall<T> watched = () -> executeWatched(call);
+        Bulkheads bulkheads = sqlXDataSource != null ? sqlXDataSource.getBulkheads() : null;
+        if (bulkheads == null) {
+            return watched.execute();
+        }
+        return bulkheads.execute(preparedStatementInfo.getRouteInfo(), watched);
+    }
+
+    /**
+     * Executes the physical statement watched by the statement watchdog, the time spent waiting for the bulkheads
+     * does not count against its query timeout.
+     * A write that succeeded is recorded for read-your-writes consistency.
+     */
+    private <T> T executeWatched(Bulkheads.StatementCall<T> call) throws SQLException {
+        QueryTimeouts queryTimeouts = sqlXDataSource != null ? sqlXDataSource.getQueryTimeouts() : null;
+        StatementWatchdog.Watch watch = queryTimeouts != null ? queryTimeouts.watch(delegate, preparedStatementInfo.getRouteInfo()) : StatementWatchdog.Watch.NONE;
+        T result;
+        try {
+            result = call.execute();
+        } finally {
+            watch.done();
+        }
+        ProxyConnection.recordWrite(preparedStatementInfo);
+        return result;
+    }
+
     @Override
     public int executeUpdate() throws SQLException {
         SQLException e = null;
@@ -106,7 +172,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             preparedStatementInfo.setBeforeTimeToExecuteMillis(System.currentTimeMillis());
             preparedStatementInfo.setBeforeTimeToExecuteNs(System.nanoTime());
             eventListener.onBeforeExecuteUpdate(preparedStatementInfo);
-            rows = delegate.executeUpdate();
+            rows = executeInBulkhead(delegate::executeUpdate);
             return rows;
         } catch (SQLException ex) {
             e = ex;
@@ -128,7 +194,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             preparedStatementInfo.setBeforeTimeToExecuteMillis(System.currentTimeMillis());
             preparedStatementInfo.setBeforeTimeToExecuteNs(System.nanoTime());
             eventListener.onBeforeExecuteUpdate(preparedStatementInfo);
-            return delegate.executeLargeUpdate();
+            return executeInBulkhead(delegate::executeLargeUpdate);
         } catch (SQLException ex) {
             e = ex;
             throw ex;
@@ -147,7 +213,12 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             preparedStatementInfo.setBeforeTimeToExecuteMillis(System.currentTimeMillis());
             preparedStatementInfo.setBeforeTimeToExecuteNs(System.nanoTime());
             eventListener.onBeforeExecute(preparedStatementInfo);
-            return delegate.execute();
+            composedResultSet = null;
+            if (!preparedStatementInfo.getScatterNodes().isEmpty() || isResultCacheReadable()) {
+                composedResultSet = executeRoutedQuery();
+                return true;
+            }
+            return executeInBulkhead(delegate::execute);
         } catch (SQLException ex) {
             e = ex;
             throw ex;
@@ -178,6 +249,8 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             if (eventListener != null) {
                 eventListener.onAfterAddBatch(preparedStatementInfo, System.nanoTime() - start, e);
             }
+            // the captured values belong to the row just added, reuse the slots for the next one
+            preparedStatementInfo.clearParameterValues();
         }
     }
 
@@ -210,7 +283,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             if (eventListener != null) {
                 eventListener.onBeforeExecuteBatch(preparedStatementInfo , start);
             }
-            counts = delegate.executeBatch();
+            counts = executeInBulkhead(delegate::executeBatch);
             return counts;
         } catch (SQLException sqle) {
             e = sqle;
@@ -236,7 +309,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
         long[] counts = null;
         try {
             eventListener.onBeforeExecuteBatch(preparedStatementInfo , start);
-            counts = delegate.executeLargeBatch();
+            counts = executeInBulkhead(delegate::executeLargeBatch);
             return counts;
         } catch (SQLException sqle) {
             e = sqle;
@@ -258,6 +331,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterNull(parameterIndex, sqlType);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, null, e);
         }
     }
@@ -272,6 +346,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -286,6 +361,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -300,6 +376,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -314,6 +391,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -328,6 +406,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -342,6 +421,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -356,6 +436,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -370,6 +451,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -384,6 +466,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -398,6 +481,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -412,6 +496,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -426,6 +511,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -440,6 +526,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -454,6 +541,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -468,6 +556,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -482,6 +571,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -489,6 +579,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
     @Override
     public void clearParameters() throws SQLException {
         delegate.clearParameters();
+        preparedStatementInfo.clearParameterValues();
     }
 
     @Override
@@ -501,6 +592,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -515,6 +607,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -529,6 +622,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, reader);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, reader, e);
         }
     }
@@ -543,6 +637,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -557,6 +652,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -571,6 +667,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -585,6 +682,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -604,6 +702,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -618,6 +717,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -632,6 +732,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -646,6 +747,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterNull(parameterIndex, sqlType);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, null, e);
         }
     }
@@ -660,6 +762,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -679,6 +782,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -693,6 +797,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, value);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, value, e);
         }
     }
@@ -707,6 +812,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, value);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, value, e);
         }
     }
@@ -721,6 +827,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, value);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, value, e);
         }
     }
@@ -735,6 +842,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, reader);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, reader, e);
         }
     }
@@ -749,6 +857,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, inputStream);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, inputStream, e);
         }
     }
@@ -763,6 +872,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, reader);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, reader, e);
         }
     }
@@ -777,6 +887,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, xmlObject);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, xmlObject, e);
         }
     }
@@ -791,6 +902,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -805,6 +917,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -819,6 +932,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -833,6 +947,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, reader);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, reader, e);
         }
     }
@@ -847,6 +962,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -861,6 +977,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -875,6 +992,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, reader);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, reader, e);
         }
     }
@@ -889,6 +1007,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, value);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, value, e);
         }
     }
@@ -903,6 +1022,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, reader);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, reader, e);
         }
     }
@@ -917,6 +1037,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, inputStream);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, inputStream, e);
         }
     }
@@ -931,6 +1052,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, reader);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, reader, e);
         }
     }
@@ -945,6 +1067,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -959,6 +1082,7 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             throw e;
         } finally {
             preparedStatementInfo.addException(e);
+            preparedStatementInfo.setParameterValue(parameterIndex, x);
             eventListener.onAfterPreparedStatementSet(preparedStatementInfo, parameterIndex, x, e);
         }
     }
@@ -970,6 +1094,10 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
             preparedStatementInfo.setBeforeTimeToCloseNs(System.nanoTime());
             preparedStatementInfo.setBeforeTimeToCloseMillis(System.currentTimeMillis());
             eventListener.onBeforeStatementClose(preparedStatementInfo);
+            if (composedResultSet != null) {
+                composedResultSet.close();
+                composedResultSet = null;
+            }
             delegate.close();
         } catch (SQLException sqle) {
             e = sqle;
@@ -1041,6 +1169,9 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
 
     @Override
     public ResultSet getResultSet() throws SQLException {
+        if (composedResultSet != null) {
+            return composedResultSet;
+        }
         ResultSetInfo resultSetInfo = new ResultSetInfo();
         resultSetInfo.setResultSet(delegate.getResultSet());
         resultSetInfo.setStatementInfo(preparedStatementInfo);
@@ -1049,11 +1180,19 @@ public class ProxyPreparedStatement extends WrapperAdapter implements PreparedSt
 
     @Override
     public int getUpdateCount() throws SQLException {
+        if (composedResultSet != null) {
+            return -1;
+        }
         return delegate.getUpdateCount();
     }
 
     @Override
     public boolean getMoreResults() throws SQLException {
+        if (composedResultSet != null) {
+            composedResultSet.close();
+            composedResultSet = null;
+            return false;
+        }
         return delegate.getMoreResults();
     }
 
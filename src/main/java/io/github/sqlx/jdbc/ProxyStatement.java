@@ -17,7 +17,10 @@
 package io.github.sqlx.jdbc;
 
 
+import io.github.sqlx.jdbc.bulkhead.Bulkheads;
 import io.github.sqlx.jdbc.datasource.SqlXDataSource;
+import io.github.sqlx.jdbc.timeout.QueryTimeouts;
+import io.github.sqlx.jdbc.timeout.StatementWatchdog;
 import io.github.sqlx.listener.EventListener;
 
 import java.sql.Connection;
@@ -108,11 +111,17 @@ public class ProxyStatement extends AbstractStatementAdapter {
             statementInfo.setBeforeTimeToExecuteNs(System.nanoTime());
             statementInfo.setBeforeTimeToExecuteMillis(System.currentTimeMillis());
             eventListener.onBeforeExecuteQuery(statementInfo);
-            ResultSet rs = statement.executeQuery(statementInfo.getNativeSql());
-            ResultSetInfo resultSetInfo = new ResultSetInfo();
-            resultSetInfo.setResultSet(rs);
-            resultSetInfo.setStatementInfo(statementInfo);
-            return new ResultSetWrapper(rs , resultSetInfo ,eventListener);
+            StatementInfo localStatementInfo = statementInfo;
+            statementInfo.setScatterNodes(ScatterGatherExecutor.resolveNodes(dataSource, statementInfo.getRouteInfo()));
+            if (!statementInfo.getScatterNodes().isEmpty()) {
+                return ScatterGatherExecutor.executeQuery(dataSource, statementInfo, this, null, () -> executeLocalQuery(statement, localStatementInfo));
+            }
+            ProxyConnection proxyConnection = (ProxyConnection) statementInfo.getConnectionInfo().getConnection();
+            statementInfo.setResultCacheable(proxyConnection.isResultCacheable(statementInfo.getRouteInfo()));
+            if (statementInfo.isResultCacheable()) {
+                return dataSource.getResultCache().executeQuery(statementInfo, this, null, () -> executeLocalQuery(statement, localStatementInfo));
+            }
+            return executeLocalQuery(statement, statementInfo);
         } catch (SQLException ex) {
             e = ex;
             throw ex;
@@ -126,6 +135,14 @@ public class ProxyStatement extends AbstractStatementAdapter {
         }
     }
 
+    private ResultSet executeLocalQuery(Statement statement, StatementInfo statementInfo) throws SQLException {
+        ResultSet rs = executeInBulkhead(statementInfo, (s, nativeSql) -> s.executeQuery(nativeSql));
+        ResultSetInfo resultSetInfo = new ResultSetInfo();
+        resultSetInfo.setResultSet(rs);
+        resultSetInfo.setStatementInfo(statementInfo);
+        return new ResultSetWrapper(rs , resultSetInfo ,eventListener);
+    }
+
     @Override
     public int executeUpdate(String sql) throws SQLException {
         SQLException e = null;
@@ -133,11 +150,10 @@ public class ProxyStatement extends AbstractStatementAdapter {
         int rows = 0;
         try {
             statementInfo = acquireStatement(sql);
-            Statement statement = statementInfo.getStatement();
             statementInfo.setBeforeTimeToExecuteNs(System.nanoTime());
             statementInfo.setBeforeTimeToExecuteMillis(System.currentTimeMillis());
             eventListener.onBeforeExecuteUpdate(statementInfo);
-            rows = statement.executeUpdate(statementInfo.getNativeSql());
+            rows = executeInBulkhead(statementInfo, (s, nativeSql) -> s.executeUpdate(nativeSql));
             return rows;
         } catch (SQLException ex) {
             e = ex;
@@ -159,13 +175,12 @@ public class ProxyStatement extends AbstractStatementAdapter {
         StatementInfo statementInfo = null;
         try {
             statementInfo = acquireStatement(sql);
-            Statement statement = statementInfo.getStatement();
             statementInfo.setBeforeTimeToExecuteNs(System.nanoTime());
             statementInfo.setBeforeTimeToExecuteMillis(System.currentTimeMillis());
             if (eventListener != null) {
                 eventListener.onBeforeExecuteUpdate(statementInfo);
             }
-            return statement.executeUpdate(statementInfo.getNativeSql() , autoGeneratedKeys);
+            return executeInBulkhead(statementInfo, (s, nativeSql) -> s.executeUpdate(nativeSql, autoGeneratedKeys));
         } catch (SQLException ex) {
             e = ex;
             throw ex;
@@ -187,11 +202,10 @@ public class ProxyStatement extends AbstractStatementAdapter {
         StatementInfo statementInfo = null;
         try {
             statementInfo = acquireStatement(sql);
-            Statement statement = statementInfo.getStatement();
             statementInfo.setBeforeTimeToExecuteNs(System.nanoTime());
             statementInfo.setBeforeTimeToExecuteMillis(System.currentTimeMillis());
             eventListener.onBeforeExecuteUpdate(statementInfo);
-            return statement.executeUpdate(statementInfo.getNativeSql() , columnIndexes);
+            return executeInBulkhead(statementInfo, (s, nativeSql) -> s.executeUpdate(nativeSql, columnIndexes));
         } catch (SQLException ex) {
             e = ex;
             throw ex;
@@ -211,13 +225,12 @@ public class ProxyStatement extends AbstractStatementAdapter {
         StatementInfo statementInfo = null;
         try {
             statementInfo = acquireStatement(sql);
-            Statement statement = statementInfo.getStatement();
             statementInfo.setBeforeTimeToExecuteNs(System.nanoTime());
             statementInfo.setBeforeTimeToExecuteMillis(System.currentTimeMillis());
             if (eventListener != null) {
                 eventListener.onBeforeExecuteQuery(statementInfo);
             }
-            return statement.executeUpdate(statementInfo.getNativeSql() , columnNames);
+            return executeInBulkhead(statementInfo, (s, nativeSql) -> s.executeUpdate(nativeSql, columnNames));
         } catch (SQLException ex) {
             e = ex;
             throw ex;
@@ -238,13 +251,12 @@ public class ProxyStatement extends AbstractStatementAdapter {
         StatementInfo statementInfo = null;
         try {
             statementInfo = acquireStatement(sql);
-            Statement statement = statementInfo.getStatement();
             statementInfo.setBeforeTimeToExecuteNs(System.nanoTime());
             statementInfo.setBeforeTimeToExecuteMillis(System.currentTimeMillis());
             if (eventListener != null) {
                 eventListener.onBeforeExecute(statementInfo);
             }
-            return statement.execute(statementInfo.getNativeSql());
+            return executeInBulkhead(statementInfo, (s, nativeSql) -> s.execute(nativeSql));
         } catch (SQLException ex) {
             e = ex;
             throw ex;
@@ -264,13 +276,12 @@ public class ProxyStatement extends AbstractStatementAdapter {
         StatementInfo statementInfo = null;
         try {
             statementInfo = acquireStatement(sql);
-            Statement statement = statementInfo.getStatement();
             statementInfo.setBeforeTimeToExecuteNs(System.nanoTime());
             statementInfo.setBeforeTimeToExecuteMillis(System.currentTimeMillis());
             if (eventListener != null) {
                 eventListener.onBeforeExecute(statementInfo);
             }
-            return statement.execute(statementInfo.getNativeSql() , autoGeneratedKeys);
+            return executeInBulkhead(statementInfo, (s, nativeSql) -> s.execute(nativeSql, autoGeneratedKeys));
         } catch (SQLException ex) {
             e = ex;
             throw ex;
@@ -290,13 +301,12 @@ public class ProxyStatement extends AbstractStatementAdapter {
         StatementInfo statementInfo = null;
         try {
             statementInfo = acquireStatement(sql);
-            Statement statement = statementInfo.getStatement();
             statementInfo.setBeforeTimeToExecuteNs(System.nanoTime());
             statementInfo.setBeforeTimeToExecuteMillis(System.currentTimeMillis());
             if (eventListener != null) {
                 eventListener.onBeforeExecute(statementInfo);
             }
-            return statement.execute(statementInfo.getNativeSql() , columnIndexes);
+            return executeInBulkhead(statementInfo, (s, nativeSql) -> s.execute(nativeSql, columnIndexes));
         } catch (SQLException ex) {
             e = ex;
             throw ex;
@@ -316,12 +326,11 @@ public class ProxyStatement extends AbstractStatementAdapter {
         StatementInfo statementInfo = null;
         try {
             statementInfo = acquireStatement(sql);
-            Statement statement = statementInfo.getStatement();
             statementInfo.setBeforeTimeToExecuteNs(System.nanoTime());
             if (eventListener != null) {
                 eventListener.onBeforeExecute(statementInfo);
             }
-            return statement.execute(statementInfo.getNativeSql() , columnNames);
+            return executeInBulkhead(statementInfo, (s, nativeSql) -> s.execute(nativeSql, columnNames));
         } catch (SQLException ex) {
             e = ex;
             throw ex;
@@ -386,6 +395,9 @@ public class ProxyStatement extends AbstractStatementAdapter {
 
     @Override
     public synchronized int getQueryTimeout() throws SQLException {
+        if (this.queryTimeout == null) {
+            return Objects.nonNull(currentStatement) ? currentStatement.getQueryTimeout() : 0;
+        }
         return this.queryTimeout;
     }
 
@@ -591,6 +603,8 @@ public class ProxyStatement extends AbstractStatementAdapter {
             }
             if (this.queryTimeout != null) {
                 actualStatement.setQueryTimeout(this.queryTimeout);
+            } else if (dataSource.getQueryTimeouts() != null) {
+                dataSource.getQueryTimeouts().applyDefault(actualStatement, statementInfo.getRouteInfo());
             }
             if (this.poolable != null) {
                 actualStatement.setPoolable(poolable);
@@ -614,6 +628,45 @@ public class ProxyStatement extends AbstractStatementAdapter {
         return statementInfo;
     }
 
+    /**
+     * Executes a statement on the physical statement within the bulkheads of its node and cluster,
+     * watched by the statement watchdog once it entered the bulkheads.
+     */
+    private <T> T executeInBulkhead(StatementInfo statementInfo, PhysicalExecution<T> execution) throws SQLException {
+        Statement statement = statementInfo.getStatement();
+        String nativeSql = statementInfo.getNativeSql();
+        Bulkheads.StatementCall<T> call = () -> executeWatched(statementInfo, () -> execution.execute(statement, nativeSql));
+        Bulkheads bulkheads = dataSource.getBulkheads();
+        if (bulkheads == null) {
+            return call.execute();
+        }
+        return bulkheads.execute(statementInfo.getRouteInfo(), call);
+    }
+
+    /**
+     * Executes a statement watched by the statement watchdog, the time spent waiting for the bulkheads does not
+     * count against its query timeout.
+     * A write that succeeded is recorded for read-your-writes consistency.
+     */
+    private <T> T executeWatched(StatementInfo statementInfo, Bulkheads.StatementCall<T> call) throws SQLException {
+        QueryTimeouts queryTimeouts = dataSource.getQueryTimeouts();
+        StatementWatchdog.Watch watch = queryTimeouts != null ? queryTimeouts.watch(statementInfo.getStatement(), statementInfo.getRouteInfo()) : StatementWatchdog.Watch.NONE;
+        T result;
+        try {
+            result = call.execute();
+        } finally {
+            watch.done();
+        }
+        ProxyConnection.recordWrite(statementInfo);
+        return result;
+    }
+
+    @FunctionalInterface
+    private interface PhysicalExecution<T> {
+
+        T execute(Statement statement, String nativeSql) throws SQLException;
+    }
+
     private void closeStatement(StatementInfo statementInfo) throws SQLException {
 
         Statement statement = statementInfo.getStatement();
@@ -0,0 +1,272 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.jdbc;
+
+import io.github.sqlx.RoutingContext;
+import io.github.sqlx.integration.springboot.RouteAttribute;
+import io.github.sqlx.jdbc.datasource.SqlXDataSource;
+import io.github.sqlx.rule.RouteInfo;
+import io.github.sqlx.sql.AnnotationSqlAttribute;
+import io.github.sqlx.sql.SqlAttribute;
+import io.github.sqlx.sql.parser.ScatterSqlHintConverter;
+import io.github.sqlx.sql.parser.SqlHintConverter;
+import io.github.sqlx.util.NamedThreadFactory;
+import io.github.sqlx.util.SqlUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes a read-only query on several nodes in parallel and merges the results into one {@link MergedResultSet}.
+ * <p>
+ * A query is scattered when it carries the {@code scatter=true} SQL hint or runs in a
+ * {@link io.github.sqlx.annotation.SqlRouting#scatter()} method, outside of a transaction.
+ * The statement prepared on the routed node runs on the calling thread, the other nodes are queried
+ * through their own {@link ProxyConnection}s, so every node is routed, measured and recorded as usual.
+ * <p>
+ * Every node applies the LIMIT, TOP or FETCH FIRST clause of the query to its own rows, the row count is applied
+ * once more to the merged rows, so the query returns at most the rows it asked for and, merged by its ORDER BY items,
+ * the first rows across all nodes. A query whose rows are skipped by an offset or limited by a parameter is not scattered,
+ * as the rows skipped on every node are not the rows skipped across all nodes.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Slf4j
+public class ScatterGatherExecutor {
+
+    private static final SqlHintConverter<Boolean> SQL_HINT_CONVERTER = new ScatterSqlHintConverter();
+
+    private static final int MAX_THREADS = 64;
+
+    /**
+     * Runs the queries of the other nodes, the calling thread runs them itself when all threads are busy.
+     */
+    private static final ThreadPoolExecutor THREAD_POOL = new ThreadPoolExecutor(0, MAX_THREADS, 60L, TimeUnit.SECONDS,
+            new SynchronousQueue<>(), new NamedThreadFactory("sqlx-scatter-gather", true), new ThreadPoolExecutor.CallerRunsPolicy());
+
+    private ScatterGatherExecutor() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Resolves the nodes a query is scattered to.
+     *
+     * @param dataSource the SQLX data source
+     * @param routeInfo  the route of the query
+     * @return the nodes, empty if the query is not scattered
+     */
+    public static List<String> resolveNodes(SqlXDataSource dataSource, RouteInfo routeInfo) {
+        if (routeInfo == null || routeInfo.getSqlAttribute() == null || !isScatterRequested(routeInfo.getSqlAttribute())) {
+            return Collections.emptyList();
+        }
+        SqlAttribute sqlAttribute = routeInfo.getSqlAttribute();
+        if (Boolean.TRUE.equals(routeInfo.getIsTransactionActive()) || sqlAttribute.isWrite() || !sqlAttribute.isRead()) {
+            log.debug("Scatter is ignored for statements in a transaction and write statements SQL:[{}]", routeInfo.getSql());
+            return Collections.emptyList();
+        }
+        if (sqlAttribute.getRowLimit() == SqlAttribute.ROW_LIMIT_UNKNOWN) {
+            log.debug("Scatter is ignored for queries with an offset or a parameterized row limit SQL:[{}]", routeInfo.getSql());
+            return Collections.emptyList();
+        }
+        return dataSource.getScatterNodes(routeInfo);
+    }
+
+    private static boolean isScatterRequested(SqlAttribute sqlAttribute) {
+        if (SqlUtils.isAnnotationSql(sqlAttribute)) {
+            Boolean scatter = SQL_HINT_CONVERTER.convert(((AnnotationSqlAttribute) sqlAttribute).getSqlHint());
+            if (scatter != null) {
+                return scatter;
+            }
+        }
+        RouteAttribute ra = RoutingContext.getRoutingAttribute();
+        return ra != null && Boolean.TRUE.equals(ra.getScatter());
+    }
+
+    /**
+     * Executes the query on every node and merges the results.
+     *
+     * @param dataSource    the SQLX data source
+     * @param statementInfo the statement of the routed node
+     * @param owner         the statement returned by {@link ResultSet#getStatement()}
+     * @param values        the parameter values bound on the other nodes, {@code null} for a plain statement
+     * @param localQuery    executes the query on the routed node
+     * @return the merged result set
+     * @throws SQLException if the query fails on any node, the result sets already opened are closed
+     */
+    public static ResultSet executeQuery(SqlXDataSource dataSource, StatementInfo statementInfo, Statement owner,
+                                         ParameterValues values, LocalQuery localQuery) throws SQLException {
+        List<String> nodes = statementInfo.getScatterNodes();
+        RouteInfo routeInfo = statementInfo.getRouteInfo();
+        String localNode = routeInfo.getHitNodeAttr() != null ? routeInfo.getHitNodeAttr().getName() : null;
+        Map<Object, Object> context = RoutingContext.snapshot();
+        Statement template = statementInfo.getStatement();
+        int fetchSize = template.getFetchSize();
+        int maxRows = template.getMaxRows();
+        int queryTimeout = template.getQueryTimeout();
+
+        List<Future<NodeResult>> futures = new ArrayList<>(nodes.size());
+        for (String node : nodes) {
+            if (Objects.equals(node, localNode)) {
+                futures.add(null);
+                continue;
+            }
+            futures.add(THREAD_POOL.submit(() -> queryNode(dataSource, node, statementInfo.getNativeSql(), values, fetchSize, maxRows, queryTimeout, context)));
+        }
+
+        List<ResultSet> resultSets = new ArrayList<>(nodes.size());
+        List<AutoCloseable> resources = new ArrayList<>();
+        SQLException e = null;
+        for (Future<NodeResult> future : futures) {
+            try {
+                if (future == null) {
+                    resultSets.add(localQuery.execute());
+                    continue;
+                }
+                NodeResult result = future.get();
+                resultSets.add(result.resultSet);
+                resources.add(result.statement);
+                resources.add(result.connection);
+            } catch (SQLException ex) {
+                e = addException(e, ex);
+            } catch (ExecutionException ex) {
+                e = addException(e, ex.getCause());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                e = addException(e, ex);
+            }
+        }
+        if (e == null && resultSets.isEmpty()) {
+            return localQuery.execute();
+        }
+        if (e != null) {
+            resources.addAll(0, resultSets);
+            closeQuietly(resources);
+            throw e;
+        }
+        String databaseType = routeInfo.getHitNodeAttr() != null ? routeInfo.getHitNodeAttr().getDatabaseType() : null;
+        SqlAttribute sqlAttribute = routeInfo.getSqlAttribute();
+        try {
+            return new MergedResultSet(resultSets, sqlAttribute.getOrderByItems(), databaseType,
+                    rowLimit(maxRows, sqlAttribute.getRowLimit()), owner, resources);
+        } catch (SQLException | RuntimeException ex) {
+            resources.addAll(0, resultSets);
+            closeQuietly(resources);
+            throw ex;
+        }
+    }
+
+    /**
+     * @return the smaller of the max rows of the statement and the row limit of the query, 0 if neither limits the rows
+     */
+    private static int rowLimit(int maxRows, long rowLimit) {
+        if (rowLimit <= 0 || (maxRows > 0 && maxRows <= rowLimit)) {
+            return maxRows;
+        }
+        return (int) Math.min(rowLimit, Integer.MAX_VALUE);
+    }
+
+    private static NodeResult queryNode(SqlXDataSource dataSource, String node, String nativeSql, ParameterValues values,
+                                        int fetchSize, int maxRows, int queryTimeout, Map<Object, Object> context) throws SQLException {
+        Map<Object, Object> previous = RoutingContext.snapshot();
+        Connection connection = null;
+        Statement statement = null;
+        try {
+            RoutingContext.restore(context);
+            RoutingContext.force(new RouteAttribute(null, Collections.singletonList(node), false, true, null, null));
+            connection = dataSource.getConnection();
+            statement = values == null ? connection.createStatement() : connection.prepareStatement(nativeSql);
+            statement.setFetchSize(fetchSize);
+            statement.setMaxRows(maxRows);
+            statement.setQueryTimeout(queryTimeout);
+            ResultSet resultSet;
+            if (values == null) {
+                resultSet = statement.executeQuery(nativeSql);
+            } else {
+                PreparedStatement ps = (PreparedStatement) statement;
+                for (int i = 0; i < values.size(); i++) {
+                    if (!values.isSet(i)) {
+                        continue;
+                    }
+                    Object value = values.getValue(i);
+                    if (value == null) {
+                        ps.setNull(i + 1, values.getSqlType(i));
+                    } else {
+                        ps.setObject(i + 1, value);
+                    }
+                }
+                resultSet = ps.executeQuery();
+            }
+            return new NodeResult(connection, statement, resultSet);
+        } catch (SQLException e) {
+            closeQuietly(Arrays.asList(statement, connection));
+            throw e;
+        } finally {
+            RoutingContext.restore(previous);
+        }
+    }
+
+    private static SQLException addException(SQLException e, Throwable ex) {
+        if (e == null) {
+            return ex instanceof SQLException ? (SQLException) ex : new SQLException(ex);
+        }
+        e.addSuppressed(ex);
+        return e;
+    }
+
+    private static void closeQuietly(List<? extends AutoCloseable> closeables) {
+        for (AutoCloseable closeable : closeables) {
+            if (closeable == null) {
+                continue;
+            }
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Failed to close {}", closeable, e);
+            }
+        }
+    }
+
+    private static class NodeResult {
+
+        private final Connection connection;
+
+        private final Statement statement;
+
+        private final ResultSet resultSet;
+
+        NodeResult(Connection connection, Statement statement, ResultSet resultSet) {
+            this.connection = connection;
+            this.statement = statement;
+            this.resultSet = resultSet;
+        }
+    }
+}
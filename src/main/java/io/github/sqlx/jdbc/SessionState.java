@@ -0,0 +1,246 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.jdbc;
+
+import io.github.sqlx.jdbc.datasource.DataSourceWrapper;
+import io.github.sqlx.jdbc.datasource.RoutedDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.joor.Reflect;
+import org.joor.ReflectException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+/**
+ * The session properties of a physical connection as far as they are known, used to skip driver calls
+ * that would not change anything.
+ * <p>
+ * The state of a connection is seeded from the defaults of its pool when the connection is acquired,
+ * HikariCP and Commons DBCP2 hand out connections in their configured default state.
+ * Properties of other pools are unknown until they are set once.
+ * The states are weakly keyed by the pooled connection, so a connection that is never closed does not leak.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Slf4j
+final class SessionState {
+
+    private static final Map<Connection, SessionState> STATES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final Map<DataSource, SessionState> POOL_DEFAULTS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final SessionState UNKNOWN = new SessionState();
+
+    private Boolean autoCommit;
+
+    private Boolean readOnly;
+
+    private Integer isolation;
+
+    private Integer holdability;
+
+    private String catalog;
+
+    private String schema;
+
+    private boolean catalogKnown;
+
+    private boolean schemaKnown;
+
+    private DatabaseMetaData metaData;
+
+    private SessionState() {
+    }
+
+    private SessionState(SessionState defaults) {
+        this.autoCommit = defaults.autoCommit;
+        this.readOnly = defaults.readOnly;
+        this.isolation = defaults.isolation;
+        this.holdability = defaults.holdability;
+        this.catalog = defaults.catalog;
+        this.schema = defaults.schema;
+        this.catalogKnown = defaults.catalogKnown;
+        this.schemaKnown = defaults.schemaKnown;
+    }
+
+    /**
+     * Starts tracking a connection just acquired from a data source, any state of an earlier checkout is dropped.
+     *
+     * @param connection the acquired connection
+     * @param dataSource the data source the connection was acquired from
+     * @return the state of the connection
+     */
+    static SessionState acquired(Connection connection, DataSource dataSource) {
+        SessionState state = new SessionState(poolDefaults(dataSource));
+        STATES.put(connection, state);
+        return state;
+    }
+
+    /**
+     * @param connection a physical connection
+     * @return the state of the connection, created with unknown properties if the connection is not tracked
+     */
+    static SessionState of(Connection connection) {
+        return STATES.computeIfAbsent(connection, c -> new SessionState());
+    }
+
+    /**
+     * Stops tracking a connection that was closed, its pool may reset the session properties.
+     *
+     * @param connection the closed connection
+     */
+    static void released(Connection connection) {
+        STATES.remove(connection);
+    }
+
+    synchronized void setAutoCommit(Connection connection, boolean autoCommit) throws SQLException {
+        if (!Objects.equals(this.autoCommit, autoCommit)) {
+            connection.setAutoCommit(autoCommit);
+            this.autoCommit = autoCommit;
+        }
+    }
+
+    /**
+     * @return true if the connection is known to be in auto-commit mode
+     */
+    synchronized boolean isAutoCommit() {
+        return Boolean.TRUE.equals(autoCommit);
+    }
+
+    synchronized void setReadOnly(Connection connection, boolean readOnly) throws SQLException {
+        if (!Objects.equals(this.readOnly, readOnly)) {
+            connection.setReadOnly(readOnly);
+            this.readOnly = readOnly;
+        }
+    }
+
+    synchronized void setTransactionIsolation(Connection connection, int isolation) throws SQLException {
+        if (!Objects.equals(this.isolation, isolation)) {
+            connection.setTransactionIsolation(isolation);
+            this.isolation = isolation;
+        }
+    }
+
+    synchronized void setHoldability(Connection connection, int holdability) throws SQLException {
+        if (!Objects.equals(this.holdability, holdability)) {
+            connection.setHoldability(holdability);
+            this.holdability = holdability;
+        }
+    }
+
+    synchronized void setCatalog(Connection connection, String catalog) throws SQLException {
+        if (!catalogKnown || !Objects.equals(this.catalog, catalog)) {
+            connection.setCatalog(catalog);
+            this.catalog = catalog;
+            this.catalogKnown = true;
+        }
+    }
+
+    synchronized void setSchema(Connection connection, String schema) throws SQLException {
+        if (!schemaKnown || !Objects.equals(this.schema, schema)) {
+            connection.setSchema(schema);
+            this.schema = schema;
+            this.schemaKnown = true;
+        }
+    }
+
+    synchronized String getCatalog(Connection connection) throws SQLException {
+        if (!catalogKnown) {
+            catalog = connection.getCatalog();
+            catalogKnown = true;
+        }
+        return catalog;
+    }
+
+    synchronized DatabaseMetaData getMetaData(Connection connection) throws SQLException {
+        if (metaData == null) {
+            metaData = connection.getMetaData();
+        }
+        return metaData;
+    }
+
+    /**
+     * Forgets the catalog and schema, a statement that is not a plain query or DML may have switched them.
+     */
+    synchronized void invalidateCatalog() {
+        catalogKnown = false;
+        schemaKnown = false;
+    }
+
+    private static SessionState poolDefaults(DataSource dataSource) {
+        DataSource pool = dataSource;
+        if (pool instanceof RoutedDataSource) {
+            pool = ((RoutedDataSource) pool).getDelegate();
+        }
+        if (pool instanceof DataSourceWrapper) {
+            pool = ((DataSourceWrapper) pool).getDelegate();
+        }
+        if (pool == null) {
+            return UNKNOWN;
+        }
+        return POOL_DEFAULTS.computeIfAbsent(pool, SessionState::readPoolDefaults);
+    }
+
+    private static SessionState readPoolDefaults(DataSource pool) {
+        String type = pool.getClass().getName();
+        SessionState defaults = new SessionState();
+        try {
+            Reflect reflect = Reflect.on(pool);
+            if (type.startsWith("com.zaxxer.hikari.")) {
+                defaults.autoCommit = reflect.call("isAutoCommit").get();
+                defaults.readOnly = reflect.call("isReadOnly").get();
+                String catalog = reflect.call("getCatalog").get();
+                if (catalog != null) {
+                    defaults.catalog = catalog;
+                    defaults.catalogKnown = true;
+                }
+                String schema = reflect.call("getSchema").get();
+                if (schema != null) {
+                    defaults.schema = schema;
+                    defaults.schemaKnown = true;
+                }
+            } else if (type.startsWith("org.apache.commons.dbcp2.")) {
+                defaults.autoCommit = reflect.call("getDefaultAutoCommit").get();
+                defaults.readOnly = reflect.call("getDefaultReadOnly").get();
+                int isolation = reflect.call("getDefaultTransactionIsolation").get();
+                if (isolation >= 0) {
+                    defaults.isolation = isolation;
+                }
+                String catalog = reflect.call("getDefaultCatalog").get();
+                if (catalog != null) {
+                    defaults.catalog = catalog;
+                    defaults.catalogKnown = true;
+                }
+                String schema = reflect.call("getDefaultSchema").get();
+                if (schema != null) {
+                    defaults.schema = schema;
+                    defaults.schemaKnown = true;
+                }
+            }
+        } catch (ReflectException e) {
+            log.debug("Unable to read the session defaults of pool {}", type, e);
+            return UNKNOWN;
+        }
+        return defaults;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.jdbc;
+
+import io.github.sqlx.sql.PlaceholderIndex;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Renders a SQL statement with its captured parameter values.
+ * <p>
+ * Rendering is bounded: every value is truncated to {@code maxValueLength} characters and the whole
+ * statement to {@code maxSqlLength} characters. The text is assembled in a per-thread buffer that is
+ * reused across calls, so rendering allocates little more than the resulting string.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Getter
+public class SqlWithValuesRenderer {
+
+    public static final int DEFAULT_MAX_VALUE_LENGTH = 256;
+
+    public static final int DEFAULT_MAX_SQL_LENGTH = 8192;
+
+    public static final SqlWithValuesRenderer DEFAULT = new SqlWithValuesRenderer(DEFAULT_MAX_VALUE_LENGTH, DEFAULT_MAX_SQL_LENGTH);
+
+    private static final int INITIAL_BUFFER_CAPACITY = 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER_CAPACITY));
+
+    private final int maxValueLength;
+
+    private final int maxSqlLength;
+
+    public SqlWithValuesRenderer(int maxValueLength, int maxSqlLength) {
+        if (maxValueLength < 0 || maxSqlLength <= 0) {
+            throw new IllegalArgumentException("maxValueLength must not be negative and maxSqlLength must be positive");
+        }
+        this.maxValueLength = maxValueLength;
+        this.maxSqlLength = maxSqlLength;
+    }
+
+    /**
+     * Replaces the placeholders of the SQL with the literals of the captured values.
+     * Placeholders without a captured value are kept as {@code ?}.
+     *
+     * @param sql       the native SQL
+     * @param index     the placeholder index of the SQL
+     * @param values    the captured values
+     * @param formatter the literal formatter of the target database
+     * @return the SQL with values
+     */
+    public String render(String sql, PlaceholderIndex index, ParameterValues values, LiteralFormatter formatter) {
+        StringBuilder out = acquireBuffer();
+        int start = 0;
+        for (int i = 0; i < index.size() && out.length() < maxSqlLength; i++) {
+            int offset = index.offset(i);
+            appendSql(sql, start, offset, out);
+            appendValue(values, i, formatter, out);
+            start = offset + 1;
+        }
+        if (out.length() < maxSqlLength) {
+            appendSql(sql, start, sql.length(), out);
+        }
+        return release(out);
+    }
+
+    /**
+     * Appends the captured values after the SQL as {@code name:value} pairs,
+     * used when named parameters prevent replacing the placeholders.
+     *
+     * @param sql         the native SQL
+     * @param values      the values captured by position, may be {@code null}
+     * @param namedValues the values captured by name
+     * @param formatter   the literal formatter of the target database
+     * @return the SQL followed by its values
+     */
+    public String renderNamed(String sql, ParameterValues values, Map<String, Object> namedValues, LiteralFormatter formatter) {
+        StringBuilder out = acquireBuffer();
+        appendSql(sql, 0, sql.length(), out);
+        out.append(' ');
+        int count = 0;
+        if (values != null) {
+            for (int i = 0; i < values.size() && out.length() < maxSqlLength; i++) {
+                if (values.isSet(i)) {
+                    appendSeparator(count++, out).append(i).append(':');
+                    appendValue(values, i, formatter, out);
+                }
+            }
+        }
+        for (Map.Entry<String, Object> entry : namedValues.entrySet()) {
+            if (out.length() >= maxSqlLength) {
+                break;
+            }
+            appendSeparator(count++, out).append(entry.getKey()).append(':');
+            formatter.format(entry.getValue(), maxValueLength, out);
+        }
+        return release(out);
+    }
+
+    /**
+     * Appends a part of the SQL, at most one character more than the remaining budget so truncation is detected.
+     */
+    private void appendSql(String sql, int start, int end, StringBuilder out) {
+        int remaining = maxSqlLength - out.length() + 1;
+        if (remaining > 0) {
+            out.append(sql, start, Math.min(end, start + remaining));
+        }
+    }
+
+    private void appendValue(ParameterValues values, int i, LiteralFormatter formatter, StringBuilder out) {
+        if (values.isSet(i)) {
+            formatter.format(values.getValue(i), maxValueLength, out);
+        } else {
+            out.append('?');
+        }
+    }
+
+    private static StringBuilder appendSeparator(int count, StringBuilder out) {
+        return count > 0 ? out.append(", ") : out;
+    }
+
+    private static StringBuilder acquireBuffer() {
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+        return out;
+    }
+
+    private String release(StringBuilder out) {
+        if (out.length() > maxSqlLength) {
+            out.setLength(maxSqlLength);
+            out.append("...");
+        }
+        String result = out.toString();
+        out.setLength(0);
+        if (out.capacity() > Math.max(INITIAL_BUFFER_CAPACITY, maxSqlLength) * 4) {
+            // do not let one oversized statement pin a large buffer to the thread
+            BUFFER.set(new StringBuilder(INITIAL_BUFFER_CAPACITY));
+        }
+        return result;
+    }
+}
@@ -18,11 +18,14 @@ package io.github.sqlx.jdbc;
 
 
 import io.github.sqlx.rule.RouteInfo;
-import io.github.sqlx.util.UUIDUtils;
+import io.github.sqlx.util.TimeOrderedId;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
 
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
@@ -35,7 +38,11 @@ import java.util.Objects;
 @Data
 public class StatementInfo implements Measurable {
 
-    private final String statementId;
+    /**
+     * Kept binary, the text is only encoded when the id is read.
+     */
+    @Getter(AccessLevel.NONE)
+    private final TimeOrderedId statementId;
 
     private RouteInfo routeInfo;
 
@@ -81,6 +88,16 @@ public class StatementInfo implements Measurable {
 
     private List<Exception> exceptions = new LinkedList<>();
 
+    /**
+     * The nodes a scattered query is sent to, empty if the statement is not scattered.
+     */
+    private List<String> scatterNodes = Collections.emptyList();
+
+    /**
+     * Whether the results of the statement are read through the result cache.
+     */
+    private boolean resultCacheable;
+
     public void addException(Exception ex) {
         if (Objects.nonNull(ex)) {
             exceptions.add(ex);
@@ -88,7 +105,11 @@ public class StatementInfo implements Measurable {
     }
 
     public StatementInfo() {
-        this.statementId = UUIDUtils.getSimpleUUID();
+        this.statementId = TimeOrderedId.next();
+    }
+
+    public String getStatementId() {
+        return statementId.toString();
     }
 
     public void incrementTimeElapsed(long timeElapsedNanos) {
@@ -0,0 +1,79 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.jdbc.bulkhead;
+
+/**
+ * An AIMD concurrency limit driven by the latency of the statements.
+ * <p>
+ * The fastest recent statement is taken as the latency of the node without queueing. A statement slower than
+ * {@code latencyTolerance} times that latency means the node is queueing work, the limit is multiplied by
+ * {@code backoffRatio}. Otherwise the limit grows by about one each time {@code limit} statements complete while
+ * the limit is in use, up to the configured limit. The baseline drifts towards the observed latency, so a node
+ * that became slower for good gets a new baseline instead of being held at the minimum limit.
+ * <p>
+ * Updated under the lock of the {@link Bulkhead}, the limit may be read without it.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class AdaptiveLimit {
+
+    private static final int BASELINE_DRIFT_SHIFT = 8;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final double latencyTolerance;
+
+    private final double backoffRatio;
+
+    private volatile double limit;
+
+    private long baselineNanos = Long.MAX_VALUE;
+
+    AdaptiveLimit(int minLimit, int maxLimit, double latencyTolerance, double backoffRatio) {
+        this.minLimit = Math.min(minLimit, maxLimit);
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+        this.backoffRatio = backoffRatio;
+        this.limit = maxLimit;
+    }
+
+    int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * @param latencyNanos the latency of a completed statement
+     * @param inFlight     the statements in flight when it completed, including itself
+     */
+    void onSample(long latencyNanos, int inFlight) {
+        if (latencyNanos <= 0) {
+            return;
+        }
+        if (latencyNanos < baselineNanos) {
+            baselineNanos = latencyNanos;
+        } else {
+            baselineNanos += (latencyNanos - baselineNanos) >> BASELINE_DRIFT_SHIFT;
+        }
+        if (latencyNanos > baselineNanos * latencyTolerance) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1.0D / limit);
+        }
+    }
+}
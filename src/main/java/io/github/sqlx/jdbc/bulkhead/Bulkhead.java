@@ -0,0 +1,165 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.jdbc.bulkhead;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounds the concurrent connection acquisitions and statements of one node or cluster.
+ * <p>
+ * A permit is taken for the time a connection is acquired from the pool of the node, and for the time a statement executes.
+ * When all permits are taken a caller is rejected at once, or waits in a bounded queue for at most the configured time.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public class Bulkhead {
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final int maxLimit;
+
+    private final long maxWaitNanos;
+
+    private final int maxQueueSize;
+
+    private final long rejectionPenaltyMillis;
+
+    /**
+     * {@code null} if the limit is not adaptive.
+     */
+    private final AdaptiveLimit adaptiveLimit;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition released = lock.newCondition();
+
+    private volatile int inFlight;
+
+    private volatile int queued;
+
+    private final LongAdder rejections = new LongAdder();
+
+    private volatile long lastRejectionMillis;
+
+    Bulkhead(String name, int maxLimit, long maxWaitMillis, int maxQueueSize, long rejectionPenaltyMillis, AdaptiveLimit adaptiveLimit) {
+        this.name = name;
+        this.maxLimit = maxLimit;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.maxQueueSize = maxQueueSize;
+        this.rejectionPenaltyMillis = rejectionPenaltyMillis;
+        this.adaptiveLimit = adaptiveLimit;
+    }
+
+    /**
+     * Takes a permit, waiting in the queue if all permits are taken and the queue is not full.
+     *
+     * @return true if the permit was taken, false if the caller is rejected
+     * @throws InterruptedException if the thread is interrupted while it waits
+     */
+    boolean acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            if (inFlight < getLimit()) {
+                inFlight++;
+                return true;
+            }
+            if (maxWaitNanos <= 0 || queued >= maxQueueSize) {
+                reject();
+                return false;
+            }
+            queued++;
+            try {
+                long nanos = maxWaitNanos;
+                while (inFlight >= getLimit()) {
+                    if (nanos <= 0) {
+                        reject();
+                        return false;
+                    }
+                    nanos = released.awaitNanos(nanos);
+                }
+                inFlight++;
+                return true;
+            } finally {
+                queued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a permit.
+     *
+     * @param latencyNanos the latency of the statement the permit was taken for, negative if it is not a latency sample
+     */
+    void release(long latencyNanos) {
+        lock.lock();
+        try {
+            if (adaptiveLimit != null && latencyNanos >= 0) {
+                adaptiveLimit.onSample(latencyNanos, inFlight);
+            }
+            inFlight--;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reject() {
+        rejections.increment();
+        lastRejectionMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * @return the current limit, lower than {@link #getMaxLimit()} while an adaptive limit is backing off
+     */
+    public int getLimit() {
+        return adaptiveLimit != null ? adaptiveLimit.getLimit() : maxLimit;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public int getQueued() {
+        return queued;
+    }
+
+    public long getRejections() {
+        return rejections.sum();
+    }
+
+    /**
+     * A bulkhead is saturated when all of its permits are taken, or when it rejected a caller within the rejection penalty.
+     *
+     * @return true if new callers would likely be rejected or queued
+     */
+    public boolean isSaturated() {
+        if (inFlight >= getLimit()) {
+            return true;
+        }
+        long last = lastRejectionMillis;
+        return last != 0 && System.currentTimeMillis() - last < rejectionPenaltyMillis;
+    }
+}
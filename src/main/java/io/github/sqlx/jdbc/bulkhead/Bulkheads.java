@@ -0,0 +1,229 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.jdbc.bulkhead;
+
+import io.github.sqlx.NodeAttribute;
+import io.github.sqlx.config.BulkheadConfiguration;
+import io.github.sqlx.config.ClusterConfiguration;
+import io.github.sqlx.config.DataSourceConfiguration;
+import io.github.sqlx.config.SqlXConfiguration;
+import io.github.sqlx.exception.BulkheadFullException;
+import io.github.sqlx.loadbalance.NodeAdmission;
+import io.github.sqlx.rule.RouteInfo;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The bulkheads of the nodes and clusters, see {@link BulkheadConfiguration}.
+ * <p>
+ * A routed statement takes a permit of its cluster, then of its node. The load balancers are told about full
+ * and rejecting nodes through {@link NodeAdmission}, so the statements that follow shift to the other nodes.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Slf4j
+public class Bulkheads implements NodeAdmission {
+
+    private final BulkheadConfiguration configuration;
+
+    private final Map<String, Bulkhead> nodes = new ConcurrentHashMap<>();
+
+    private final Map<String, Bulkhead> clusters = new ConcurrentHashMap<>();
+
+    public Bulkheads(SqlXConfiguration sqlXConfiguration) {
+        this.configuration = sqlXConfiguration.getBulkhead();
+        if (!isEnabled()) {
+            return;
+        }
+        for (DataSourceConfiguration dsConf : sqlXConfiguration.getDataSources()) {
+            Integer limit = Objects.nonNull(dsConf.getMaxConcurrency()) ? dsConf.getMaxConcurrency() : configuration.getNodeMaxConcurrency();
+            if (Objects.nonNull(limit)) {
+                nodes.put(dsConf.getName(), create(dsConf.getName(), limit, Boolean.TRUE.equals(configuration.getAdaptive())));
+            }
+        }
+        for (ClusterConfiguration cc : sqlXConfiguration.getClusters()) {
+            Integer limit = Objects.nonNull(cc.getMaxConcurrency()) ? cc.getMaxConcurrency() : configuration.getClusterMaxConcurrency();
+            if (Objects.nonNull(limit)) {
+                clusters.put(cc.getName(), create(cc.getName(), limit, false));
+            }
+        }
+    }
+
+    private Bulkhead create(String name, int limit, boolean adaptive) {
+        AdaptiveLimit adaptiveLimit = adaptive ? new AdaptiveLimit(configuration.getAdaptiveMinLimit(), limit,
+                configuration.getAdaptiveLatencyTolerance(), configuration.getAdaptiveBackoffRatio()) : null;
+        return new Bulkhead(name, limit, configuration.getMaxWaitMillis(), configuration.getMaxQueueSize(),
+                configuration.getRejectionPenaltyMillis(), adaptiveLimit);
+    }
+
+    public boolean isEnabled() {
+        return configuration != null && Boolean.TRUE.equals(configuration.getEnabled());
+    }
+
+    /**
+     * Takes the permits of the cluster and the node of a route.
+     *
+     * @param routeInfo the route
+     * @return the permit, to be released once the connection is acquired or the statement completed
+     * @throws BulkheadFullException if the bulkhead of the cluster or the node is full
+     * @throws SQLException          if the thread is interrupted while it waits for a permit
+     */
+    public Permit acquire(RouteInfo routeInfo) throws SQLException {
+        if (routeInfo == null || (clusters.isEmpty() && nodes.isEmpty())) {
+            return Permit.NONE;
+        }
+        Bulkhead cluster = routeInfo.getCluster() != null ? clusters.get(routeInfo.getCluster().getName()) : null;
+        Bulkhead node = node(routeInfo.getHitNodeAttr());
+        if (cluster == null && node == null) {
+            return Permit.NONE;
+        }
+        if (cluster != null) {
+            acquire(cluster, "cluster");
+        }
+        if (node != null) {
+            try {
+                acquire(node, "node");
+            } catch (SQLException e) {
+                if (cluster != null) {
+                    cluster.release(-1L);
+                }
+                throw e;
+            }
+        }
+        return new Permit(cluster, node);
+    }
+
+    /**
+     * Executes a statement while holding the permits of its route. Only successful statements are latency samples,
+     * a fast failure says nothing about the load of the node.
+     *
+     * @param routeInfo the route of the statement
+     * @param call      executes the statement on the physical statement
+     * @param <T>       the result type
+     * @return the result of the statement
+     * @throws SQLException if the statement fails or a bulkhead is full
+     */
+    public <T> T execute(RouteInfo routeInfo, StatementCall<T> call) throws SQLException {
+        Permit permit = acquire(routeInfo);
+        try {
+            T result = call.execute();
+            permit.release(true);
+            return result;
+        } finally {
+            permit.release(false);
+        }
+    }
+
+    private static void acquire(Bulkhead bulkhead, String kind) throws SQLException {
+        boolean acquired;
+        try {
+            acquired = bulkhead.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(String.format("Interrupted while waiting for the bulkhead of the %s [%s]", kind, bulkhead.getName()), e);
+        }
+        if (!acquired) {
+            log.debug("The bulkhead of the {} [{}] is full, in flight {} limit {} queued {}", kind, bulkhead.getName(),
+                    bulkhead.getInFlight(), bulkhead.getLimit(), bulkhead.getQueued());
+            throw new BulkheadFullException(String.format("The bulkhead of the %s [%s] is full, %d statements in flight",
+                    kind, bulkhead.getName(), bulkhead.getInFlight()));
+        }
+    }
+
+    private Bulkhead node(NodeAttribute nodeAttr) {
+        if (nodeAttr == null) {
+            return null;
+        }
+        Bulkhead bulkhead = nodes.get(nodeAttr.getName());
+        if (bulkhead == null && isEnabled() && Objects.nonNull(configuration.getNodeMaxConcurrency())) {
+            // a node added at runtime gets the default limit
+            bulkhead = nodes.computeIfAbsent(nodeAttr.getName(),
+                    name -> create(name, configuration.getNodeMaxConcurrency(), Boolean.TRUE.equals(configuration.getAdaptive())));
+        }
+        return bulkhead;
+    }
+
+    @Override
+    public boolean isSaturated(NodeAttribute node) {
+        Bulkhead bulkhead = node != null ? nodes.get(node.getName()) : null;
+        return bulkhead != null && bulkhead.isSaturated();
+    }
+
+    public Collection<Bulkhead> getNodes() {
+        return Collections.unmodifiableCollection(nodes.values());
+    }
+
+    public Collection<Bulkhead> getClusters() {
+        return Collections.unmodifiableCollection(clusters.values());
+    }
+
+    /**
+     * Executes a statement on the physical statement of the routed node.
+     *
+     * @param <T> the result type
+     */
+    @FunctionalInterface
+    public interface StatementCall<T> {
+
+        T execute() throws SQLException;
+    }
+
+    /**
+     * The permits taken for a connection acquisition or a statement, released once.
+     */
+    public static final class Permit {
+
+        public static final Permit NONE = new Permit(null, null);
+
+        private final Bulkhead cluster;
+
+        private final Bulkhead node;
+
+        private final long startNanos;
+
+        private boolean released;
+
+        private Permit(Bulkhead cluster, Bulkhead node) {
+            this.cluster = cluster;
+            this.node = node;
+            this.startNanos = System.nanoTime();
+        }
+
+        /**
+         * @param latencySample whether the time the permit was held is fed to the adaptive limit of the node
+         */
+        public void release(boolean latencySample) {
+            if (released || this == NONE) {
+                return;
+            }
+            released = true;
+            long latencyNanos = latencySample ? System.nanoTime() - startNanos : -1L;
+            if (node != null) {
+                node.release(latencyNanos);
+            }
+            if (cluster != null) {
+                cluster.release(-1L);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.jdbc.cache;
+
+import io.github.sqlx.jdbc.ParameterValues;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Identifies a cached result by the native SQL, the bound parameter values and the group of nodes the query is routed to.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public final class CacheKey {
+
+    private static final Object[] NO_PARAMETERS = new Object[0];
+
+    private final String nativeSql;
+
+    private final String nodeGroup;
+
+    private final Object[] parameters;
+
+    private final int hash;
+
+    private CacheKey(String nativeSql, String nodeGroup, Object[] parameters) {
+        this.nativeSql = nativeSql;
+        this.nodeGroup = nodeGroup;
+        this.parameters = parameters;
+        this.hash = 31 * (31 * nativeSql.hashCode() + Objects.hashCode(nodeGroup)) + Arrays.deepHashCode(parameters);
+    }
+
+    /**
+     * @param nativeSql the native SQL
+     * @param nodeGroup the cluster or node the query is routed to
+     * @param values    the bound parameter values, {@code null} for a plain statement
+     * @return the key, {@code null} if a parameter value cannot be part of a key, such as a stream
+     */
+    public static CacheKey of(String nativeSql, String nodeGroup, ParameterValues values) {
+        if (nativeSql == null) {
+            return null;
+        }
+        if (values == null || values.isEmpty()) {
+            return new CacheKey(nativeSql, nodeGroup, NO_PARAMETERS);
+        }
+        Object[] parameters = new Object[values.size()];
+        for (int i = 0; i < parameters.length; i++) {
+            Object copy = ColumnarRows.immutableCopy(values.getValue(i));
+            if (copy == ColumnarRows.UNCACHEABLE) {
+                return null;
+            }
+            parameters[i] = copy;
+        }
+        return new CacheKey(nativeSql, nodeGroup, parameters);
+    }
+
+    /**
+     * @return the estimated memory of the key
+     */
+    long estimateBytes() {
+        return 64L + 2L * nativeSql.length() + 32L * parameters.length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CacheKey)) return false;
+        CacheKey that = (CacheKey) o;
+        return hash == that.hash
+                && nativeSql.equals(that.nativeSql)
+                && Objects.equals(nodeGroup, that.nodeGroup)
+                && Arrays.deepEquals(parameters, that.parameters);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return nodeGroup + ":" + nativeSql + Arrays.deepToString(parameters);
+    }
+}
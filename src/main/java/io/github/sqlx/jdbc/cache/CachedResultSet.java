@@ -0,0 +1,1365 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.jdbc.cache;
+
+import io.github.sqlx.exception.UnsupportedJdbcMethodException;
+import io.github.sqlx.jdbc.WrapperAdapter;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.Map;
+
+/**
+ * A read only, scrollable result set over {@link ColumnarRows}.
+ * <p>
+ * Every instance has its own cursor, so the rows of a cached result can be read by several result sets at once.
+ * The values are converted the way JDBC drivers usually do. Values read with a {@link Calendar} are assumed
+ * to have been read by the driver in the default time zone and are moved to the time zone of the calendar.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public class CachedResultSet extends WrapperAdapter implements ResultSet {
+
+    private final ColumnarRows rows;
+
+    private final Statement statement;
+
+    /**
+     * The 0-based current row, -1 before the first row and {@code rowCount} after the last row.
+     */
+    private int row = -1;
+
+    private boolean wasNull;
+
+    private boolean closed;
+
+    private int fetchDirection = ResultSet.FETCH_FORWARD;
+
+    private int fetchSize;
+
+    /**
+     * @param rows      the cached rows
+     * @param statement the statement that produced this result set
+     */
+    public CachedResultSet(ColumnarRows rows, Statement statement) {
+        this.rows = rows;
+        this.statement = statement;
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        checkOpen();
+        if (row < rows.getRowCount()) {
+            row++;
+        }
+        return isOnRow();
+    }
+
+    @Override
+    public boolean previous() throws SQLException {
+        checkOpen();
+        if (row >= 0) {
+            row--;
+        }
+        return isOnRow();
+    }
+
+    @Override
+    public boolean absolute(int row) throws SQLException {
+        checkOpen();
+        if (row > 0) {
+            this.row = Math.min(row - 1, rows.getRowCount());
+        } else if (row < 0) {
+            this.row = Math.max(rows.getRowCount() + row, -1);
+        } else {
+            this.row = -1;
+        }
+        return isOnRow();
+    }
+
+    @Override
+    public boolean relative(int rows) throws SQLException {
+        checkOpen();
+        long target = (long) this.row + rows;
+        this.row = (int) Math.max(-1, Math.min(target, this.rows.getRowCount()));
+        return isOnRow();
+    }
+
+    @Override
+    public boolean first() throws SQLException {
+        return absolute(1);
+    }
+
+    @Override
+    public boolean last() throws SQLException {
+        return absolute(-1);
+    }
+
+    @Override
+    public void beforeFirst() throws SQLException {
+        checkOpen();
+        row = -1;
+    }
+
+    @Override
+    public void afterLast() throws SQLException {
+        checkOpen();
+        row = rows.getRowCount();
+    }
+
+    @Override
+    public boolean isBeforeFirst() throws SQLException {
+        checkOpen();
+        return rows.getRowCount() > 0 && row == -1;
+    }
+
+    @Override
+    public boolean isAfterLast() throws SQLException {
+        checkOpen();
+        return rows.getRowCount() > 0 && row == rows.getRowCount();
+    }
+
+    @Override
+    public boolean isFirst() throws SQLException {
+        checkOpen();
+        return rows.getRowCount() > 0 && row == 0;
+    }
+
+    @Override
+    public boolean isLast() throws SQLException {
+        checkOpen();
+        return rows.getRowCount() > 0 && row == rows.getRowCount() - 1;
+    }
+
+    @Override
+    public int getRow() throws SQLException {
+        checkOpen();
+        return isOnRow() ? row + 1 : 0;
+    }
+
+    private boolean isOnRow() {
+        return row >= 0 && row < rows.getRowCount();
+    }
+
+    private void checkOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException("The result set is closed");
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        closed = true;
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return closed;
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+        return wasNull;
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        checkOpen();
+        return rows.getMetaData();
+    }
+
+    @Override
+    public int findColumn(String columnLabel) throws SQLException {
+        checkOpen();
+        return rows.getMetaData().findColumn(columnLabel);
+    }
+
+    @Override
+    public Statement getStatement() throws SQLException {
+        return statement;
+    }
+
+    @Override
+    public int getType() throws SQLException {
+        return ResultSet.TYPE_SCROLL_INSENSITIVE;
+    }
+
+    @Override
+    public int getConcurrency() throws SQLException {
+        return ResultSet.CONCUR_READ_ONLY;
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        return ResultSet.HOLD_CURSORS_OVER_COMMIT;
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        return fetchDirection;
+    }
+
+    @Override
+    public void setFetchDirection(int direction) throws SQLException {
+        if (direction != ResultSet.FETCH_FORWARD && direction != ResultSet.FETCH_REVERSE && direction != ResultSet.FETCH_UNKNOWN) {
+            throw new SQLException("Invalid fetch direction " + direction);
+        }
+        this.fetchDirection = direction;
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        return fetchSize;
+    }
+
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+        if (rows < 0) {
+            throw new SQLException("Invalid fetch size " + rows);
+        }
+        this.fetchSize = rows;
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        return null;
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        // a cached result set has no warnings
+    }
+
+    @Override
+    public String getCursorName() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method getCursorName() on a cached result set");
+    }
+
+    @Override
+    public boolean rowUpdated() throws SQLException {
+        return false;
+    }
+
+    @Override
+    public boolean rowInserted() throws SQLException {
+        return false;
+    }
+
+    @Override
+    public boolean rowDeleted() throws SQLException {
+        return false;
+    }
+
+    @Override
+    public Object getObject(int columnIndex) throws SQLException {
+        return value(columnIndex);
+    }
+
+    @Override
+    public Object getObject(int columnIndex, Map<String, Class<?>> map) throws SQLException {
+        return value(columnIndex);
+    }
+
+    @Override
+    public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+        if (type == null) {
+            throw new SQLException("type must not be null");
+        }
+        Object value = value(columnIndex);
+        if (value == null) {
+            return null;
+        }
+        if (type.isInstance(value)) {
+            return type.cast(value);
+        }
+        return type.cast(convert(value, type));
+    }
+
+    @Override
+    public String getString(int columnIndex) throws SQLException {
+        Object value = value(columnIndex);
+        return value == null ? null : toString(value);
+    }
+
+    @Override
+    public String getNString(int columnIndex) throws SQLException {
+        return getString(columnIndex);
+    }
+
+    @Override
+    public boolean getBoolean(int columnIndex) throws SQLException {
+        int column = column(columnIndex);
+        if (rows.isLongColumn(column)) {
+            return longValue(column) != 0;
+        }
+        Object value = value(columnIndex);
+        return value != null && toBoolean(value);
+    }
+
+    @Override
+    public byte getByte(int columnIndex) throws SQLException {
+        return (byte) longValue(column(columnIndex));
+    }
+
+    @Override
+    public short getShort(int columnIndex) throws SQLException {
+        return (short) longValue(column(columnIndex));
+    }
+
+    @Override
+    public int getInt(int columnIndex) throws SQLException {
+        return (int) longValue(column(columnIndex));
+    }
+
+    @Override
+    public long getLong(int columnIndex) throws SQLException {
+        return longValue(column(columnIndex));
+    }
+
+    @Override
+    public float getFloat(int columnIndex) throws SQLException {
+        return (float) doubleValue(column(columnIndex));
+    }
+
+    @Override
+    public double getDouble(int columnIndex) throws SQLException {
+        return doubleValue(column(columnIndex));
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+        Object value = value(columnIndex);
+        return value == null ? null : toBigDecimal(value);
+    }
+
+    @Override
+    @Deprecated
+    public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
+        BigDecimal value = getBigDecimal(columnIndex);
+        return value == null ? null : value.setScale(scale, RoundingMode.HALF_UP);
+    }
+
+    @Override
+    public byte[] getBytes(int columnIndex) throws SQLException {
+        Object value = value(columnIndex);
+        if (value == null || value instanceof byte[]) {
+            return (byte[]) value;
+        }
+        if (value instanceof String) {
+            return ((String) value).getBytes(StandardCharsets.UTF_8);
+        }
+        throw conversionError(value, byte[].class);
+    }
+
+    @Override
+    public Date getDate(int columnIndex) throws SQLException {
+        Object value = value(columnIndex);
+        return value == null ? null : toDate(value);
+    }
+
+    @Override
+    public Date getDate(int columnIndex, Calendar cal) throws SQLException {
+        Date date = getDate(columnIndex);
+        if (date == null || cal == null) {
+            return date;
+        }
+        return new Date(date.toLocalDate().atStartOfDay(zone(cal)).toInstant().toEpochMilli());
+    }
+
+    @Override
+    public Time getTime(int columnIndex) throws SQLException {
+        Object value = value(columnIndex);
+        return value == null ? null : toTime(value);
+    }
+
+    @Override
+    public Time getTime(int columnIndex, Calendar cal) throws SQLException {
+        Time time = getTime(columnIndex);
+        if (time == null || cal == null) {
+            return time;
+        }
+        return new Time(LocalDate.of(1970, 1, 1).atTime(time.toLocalTime()).atZone(zone(cal)).toInstant().toEpochMilli());
+    }
+
+    @Override
+    public Timestamp getTimestamp(int columnIndex) throws SQLException {
+        Object value = value(columnIndex);
+        return value == null ? null : toTimestamp(value);
+    }
+
+    @Override
+    public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
+        Timestamp timestamp = getTimestamp(columnIndex);
+        if (timestamp == null || cal == null) {
+            return timestamp;
+        }
+        return Timestamp.from(timestamp.toLocalDateTime().atZone(zone(cal)).toInstant());
+    }
+
+    @Override
+    public InputStream getAsciiStream(int columnIndex) throws SQLException {
+        String value = getString(columnIndex);
+        return value == null ? null : new ByteArrayInputStream(value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    @Deprecated
+    public InputStream getUnicodeStream(int columnIndex) throws SQLException {
+        String value = getString(columnIndex);
+        return value == null ? null : new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_16BE));
+    }
+
+    @Override
+    public InputStream getBinaryStream(int columnIndex) throws SQLException {
+        byte[] value = getBytes(columnIndex);
+        return value == null ? null : new ByteArrayInputStream(value);
+    }
+
+    @Override
+    public Reader getCharacterStream(int columnIndex) throws SQLException {
+        String value = getString(columnIndex);
+        return value == null ? null : new StringReader(value);
+    }
+
+    @Override
+    public Reader getNCharacterStream(int columnIndex) throws SQLException {
+        return getCharacterStream(columnIndex);
+    }
+
+    @Override
+    public URL getURL(int columnIndex) throws SQLException {
+        String value = getString(columnIndex);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new URL(value);
+        } catch (MalformedURLException e) {
+            throw new SQLException("Invalid URL [" + value + "]", e);
+        }
+    }
+
+    @Override
+    public Ref getRef(int columnIndex) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method getRef(int columnIndex) on a cached result set");
+    }
+
+    @Override
+    public Blob getBlob(int columnIndex) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method getBlob(int columnIndex) on a cached result set");
+    }
+
+    @Override
+    public Clob getClob(int columnIndex) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method getClob(int columnIndex) on a cached result set");
+    }
+
+    @Override
+    public Array getArray(int columnIndex) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method getArray(int columnIndex) on a cached result set");
+    }
+
+    @Override
+    public RowId getRowId(int columnIndex) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method getRowId(int columnIndex) on a cached result set");
+    }
+
+    @Override
+    public NClob getNClob(int columnIndex) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method getNClob(int columnIndex) on a cached result set");
+    }
+
+    @Override
+    public SQLXML getSQLXML(int columnIndex) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method getSQLXML(int columnIndex) on a cached result set");
+    }
+
+    private int column(int columnIndex) throws SQLException {
+        checkOpen();
+        if (!isOnRow()) {
+            throw new SQLException("The result set is not positioned on a row");
+        }
+        if (columnIndex < 1 || columnIndex > rows.getColumnCount()) {
+            throw new SQLException("Column index " + columnIndex + " out of range [1, " + rows.getColumnCount() + "]");
+        }
+        return columnIndex - 1;
+    }
+
+    private Object value(int columnIndex) throws SQLException {
+        Object value = rows.getObject(row, column(columnIndex));
+        wasNull = value == null;
+        return value;
+    }
+
+    private long longValue(int column) throws SQLException {
+        wasNull = rows.isNull(row, column);
+        if (wasNull) {
+            return 0;
+        }
+        if (rows.isLongColumn(column)) {
+            return rows.getLong(row, column);
+        }
+        Object value = rows.getObject(row, column);
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        }
+        if (value instanceof String) {
+            try {
+                return new BigDecimal(((String) value).trim()).longValue();
+            } catch (NumberFormatException e) {
+                throw conversionError(value, long.class);
+            }
+        }
+        throw conversionError(value, long.class);
+    }
+
+    private double doubleValue(int column) throws SQLException {
+        wasNull = rows.isNull(row, column);
+        if (wasNull) {
+            return 0;
+        }
+        if (rows.isDoubleColumn(column)) {
+            return rows.getDouble(row, column);
+        }
+        if (rows.isLongColumn(column)) {
+            return rows.getLong(row, column);
+        }
+        Object value = rows.getObject(row, column);
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        if (value instanceof String) {
+            try {
+                return Double.parseDouble(((String) value).trim());
+            } catch (NumberFormatException e) {
+                throw conversionError(value, double.class);
+            }
+        }
+        throw conversionError(value, double.class);
+    }
+
+    private Object convert(Object value, Class<?> type) throws SQLException {
+        if (type == String.class) {
+            return toString(value);
+        } else if (type == Boolean.class) {
+            return toBoolean(value);
+        } else if (type == Integer.class || type == Long.class || type == Short.class || type == Byte.class) {
+            long longValue = toBigDecimal(value).longValue();
+            if (type == Integer.class) {
+                return (int) longValue;
+            } else if (type == Short.class) {
+                return (short) longValue;
+            } else if (type == Byte.class) {
+                return (byte) longValue;
+            }
+            return longValue;
+        } else if (type == Double.class) {
+            return toBigDecimal(value).doubleValue();
+        } else if (type == Float.class) {
+            return toBigDecimal(value).floatValue();
+        } else if (type == BigDecimal.class) {
+            return toBigDecimal(value);
+        } else if (type == BigInteger.class) {
+            return toBigDecimal(value).toBigInteger();
+        } else if (type == Timestamp.class) {
+            return toTimestamp(value);
+        } else if (type == Date.class) {
+            return toDate(value);
+        } else if (type == Time.class) {
+            return toTime(value);
+        } else if (type == LocalDateTime.class) {
+            return toTimestamp(value).toLocalDateTime();
+        } else if (type == LocalDate.class) {
+            return toDate(value).toLocalDate();
+        } else if (type == LocalTime.class) {
+            return toTime(value).toLocalTime();
+        } else if (type == Instant.class) {
+            return toTimestamp(value).toInstant();
+        } else if (type == OffsetDateTime.class) {
+            return toTimestamp(value).toLocalDateTime().atZone(ZoneId.systemDefault()).toOffsetDateTime();
+        } else if (type == ZonedDateTime.class) {
+            return toTimestamp(value).toLocalDateTime().atZone(ZoneId.systemDefault());
+        }
+        throw conversionError(value, type);
+    }
+
+    private static String toString(Object value) {
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        return value.toString();
+    }
+
+    private static boolean toBoolean(Object value) throws SQLException {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue() != 0;
+        }
+        if (value instanceof String) {
+            String text = ((String) value).trim();
+            if ("true".equalsIgnoreCase(text) || "1".equals(text) || "y".equalsIgnoreCase(text) || "yes".equalsIgnoreCase(text)) {
+                return true;
+            }
+            if ("false".equalsIgnoreCase(text) || "0".equals(text) || "n".equalsIgnoreCase(text) || "no".equalsIgnoreCase(text)) {
+                return false;
+            }
+        }
+        throw conversionError(value, boolean.class);
+    }
+
+    private static BigDecimal toBigDecimal(Object value) throws SQLException {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        if (value instanceof Number) {
+            return new BigDecimal(value.toString());
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? BigDecimal.ONE : BigDecimal.ZERO;
+        }
+        if (value instanceof String) {
+            try {
+                return new BigDecimal(((String) value).trim());
+            } catch (NumberFormatException e) {
+                throw conversionError(value, BigDecimal.class);
+            }
+        }
+        throw conversionError(value, BigDecimal.class);
+    }
+
+    private static Timestamp toTimestamp(Object value) throws SQLException {
+        if (value instanceof Timestamp) {
+            return (Timestamp) value;
+        } else if (value instanceof java.util.Date) {
+            return new Timestamp(((java.util.Date) value).getTime());
+        } else if (value instanceof LocalDateTime) {
+            return Timestamp.valueOf((LocalDateTime) value);
+        } else if (value instanceof LocalDate) {
+            return Timestamp.valueOf(((LocalDate) value).atStartOfDay());
+        } else if (value instanceof OffsetDateTime) {
+            return Timestamp.from(((OffsetDateTime) value).toInstant());
+        } else if (value instanceof ZonedDateTime) {
+            return Timestamp.from(((ZonedDateTime) value).toInstant());
+        } else if (value instanceof Instant) {
+            return Timestamp.from((Instant) value);
+        } else if (value instanceof String) {
+            try {
+                return Timestamp.valueOf(((String) value).trim());
+            } catch (IllegalArgumentException e) {
+                throw conversionError(value, Timestamp.class);
+            }
+        }
+        throw conversionError(value, Timestamp.class);
+    }
+
+    private static Date toDate(Object value) throws SQLException {
+        if (value instanceof Date) {
+            return (Date) value;
+        } else if (value instanceof LocalDate) {
+            return Date.valueOf((LocalDate) value);
+        } else if (value instanceof String && ((String) value).trim().length() == 10) {
+            try {
+                return Date.valueOf(((String) value).trim());
+            } catch (IllegalArgumentException e) {
+                throw conversionError(value, Date.class);
+            }
+        }
+        return Date.valueOf(toTimestamp(value).toLocalDateTime().toLocalDate());
+    }
+
+    private static Time toTime(Object value) throws SQLException {
+        if (value instanceof Time) {
+            return (Time) value;
+        } else if (value instanceof LocalTime) {
+            return Time.valueOf((LocalTime) value);
+        } else if (value instanceof String && ((String) value).trim().length() == 8) {
+            try {
+                return Time.valueOf(((String) value).trim());
+            } catch (IllegalArgumentException e) {
+                throw conversionError(value, Time.class);
+            }
+        }
+        return Time.valueOf(toTimestamp(value).toLocalDateTime().toLocalTime());
+    }
+
+    private static ZoneId zone(Calendar cal) {
+        return cal.getTimeZone().toZoneId();
+    }
+
+    private static SQLException conversionError(Object value, Class<?> type) {
+        return new SQLException(String.format("Cannot convert a value of type [%s] to [%s]", value.getClass().getName(), type.getName()));
+    }
+
+    @Override
+    public String getString(String columnLabel) throws SQLException {
+        return getString(findColumn(columnLabel));
+    }
+
+    @Override
+    public boolean getBoolean(String columnLabel) throws SQLException {
+        return getBoolean(findColumn(columnLabel));
+    }
+
+    @Override
+    public byte getByte(String columnLabel) throws SQLException {
+        return getByte(findColumn(columnLabel));
+    }
+
+    @Override
+    public short getShort(String columnLabel) throws SQLException {
+        return getShort(findColumn(columnLabel));
+    }
+
+    @Override
+    public int getInt(String columnLabel) throws SQLException {
+        return getInt(findColumn(columnLabel));
+    }
+
+    @Override
+    public long getLong(String columnLabel) throws SQLException {
+        return getLong(findColumn(columnLabel));
+    }
+
+    @Override
+    public float getFloat(String columnLabel) throws SQLException {
+        return getFloat(findColumn(columnLabel));
+    }
+
+    @Override
+    public double getDouble(String columnLabel) throws SQLException {
+        return getDouble(findColumn(columnLabel));
+    }
+
+    @Override
+    @Deprecated
+    public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
+        return getBigDecimal(findColumn(columnLabel), scale);
+    }
+
+    @Override
+    public byte[] getBytes(String columnLabel) throws SQLException {
+        return getBytes(findColumn(columnLabel));
+    }
+
+    @Override
+    public Date getDate(String columnLabel) throws SQLException {
+        return getDate(findColumn(columnLabel));
+    }
+
+    @Override
+    public Time getTime(String columnLabel) throws SQLException {
+        return getTime(findColumn(columnLabel));
+    }
+
+    @Override
+    public Timestamp getTimestamp(String columnLabel) throws SQLException {
+        return getTimestamp(findColumn(columnLabel));
+    }
+
+    @Override
+    public InputStream getAsciiStream(String columnLabel) throws SQLException {
+        return getAsciiStream(findColumn(columnLabel));
+    }
+
+    @Override
+    @Deprecated
+    public InputStream getUnicodeStream(String columnLabel) throws SQLException {
+        return getUnicodeStream(findColumn(columnLabel));
+    }
+
+    @Override
+    public InputStream getBinaryStream(String columnLabel) throws SQLException {
+        return getBinaryStream(findColumn(columnLabel));
+    }
+
+    @Override
+    public Object getObject(String columnLabel) throws SQLException {
+        return getObject(findColumn(columnLabel));
+    }
+
+    @Override
+    public Reader getCharacterStream(String columnLabel) throws SQLException {
+        return getCharacterStream(findColumn(columnLabel));
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+        return getBigDecimal(findColumn(columnLabel));
+    }
+
+    @Override
+    public Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException {
+        return getObject(findColumn(columnLabel), map);
+    }
+
+    @Override
+    public Ref getRef(String columnLabel) throws SQLException {
+        return getRef(findColumn(columnLabel));
+    }
+
+    @Override
+    public Blob getBlob(String columnLabel) throws SQLException {
+        return getBlob(findColumn(columnLabel));
+    }
+
+    @Override
+    public Clob getClob(String columnLabel) throws SQLException {
+        return getClob(findColumn(columnLabel));
+    }
+
+    @Override
+    public Array getArray(String columnLabel) throws SQLException {
+        return getArray(findColumn(columnLabel));
+    }
+
+    @Override
+    public Date getDate(String columnLabel, Calendar cal) throws SQLException {
+        return getDate(findColumn(columnLabel), cal);
+    }
+
+    @Override
+    public Time getTime(String columnLabel, Calendar cal) throws SQLException {
+        return getTime(findColumn(columnLabel), cal);
+    }
+
+    @Override
+    public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
+        return getTimestamp(findColumn(columnLabel), cal);
+    }
+
+    @Override
+    public URL getURL(String columnLabel) throws SQLException {
+        return getURL(findColumn(columnLabel));
+    }
+
+    @Override
+    public RowId getRowId(String columnLabel) throws SQLException {
+        return getRowId(findColumn(columnLabel));
+    }
+
+    @Override
+    public NClob getNClob(String columnLabel) throws SQLException {
+        return getNClob(findColumn(columnLabel));
+    }
+
+    @Override
+    public SQLXML getSQLXML(String columnLabel) throws SQLException {
+        return getSQLXML(findColumn(columnLabel));
+    }
+
+    @Override
+    public String getNString(String columnLabel) throws SQLException {
+        return getNString(findColumn(columnLabel));
+    }
+
+    @Override
+    public Reader getNCharacterStream(String columnLabel) throws SQLException {
+        return getNCharacterStream(findColumn(columnLabel));
+    }
+
+    @Override
+    public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
+        return getObject(findColumn(columnLabel), type);
+    }
+
+    @Override
+    public void updateNull(int columnIndex) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNull(int columnIndex) on a cached result set");
+    }
+
+    @Override
+    public void updateBoolean(int columnIndex, boolean x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBoolean(int columnIndex, boolean x) on a cached result set");
+    }
+
+    @Override
+    public void updateByte(int columnIndex, byte x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateByte(int columnIndex, byte x) on a cached result set");
+    }
+
+    @Override
+    public void updateShort(int columnIndex, short x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateShort(int columnIndex, short x) on a cached result set");
+    }
+
+    @Override
+    public void updateInt(int columnIndex, int x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateInt(int columnIndex, int x) on a cached result set");
+    }
+
+    @Override
+    public void updateLong(int columnIndex, long x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateLong(int columnIndex, long x) on a cached result set");
+    }
+
+    @Override
+    public void updateFloat(int columnIndex, float x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateFloat(int columnIndex, float x) on a cached result set");
+    }
+
+    @Override
+    public void updateDouble(int columnIndex, double x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateDouble(int columnIndex, double x) on a cached result set");
+    }
+
+    @Override
+    public void updateBigDecimal(int columnIndex, BigDecimal x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBigDecimal(int columnIndex, BigDecimal x) on a cached result set");
+    }
+
+    @Override
+    public void updateString(int columnIndex, String x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateString(int columnIndex, String x) on a cached result set");
+    }
+
+    @Override
+    public void updateBytes(int columnIndex, byte[] x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBytes(int columnIndex, byte[] x) on a cached result set");
+    }
+
+    @Override
+    public void updateDate(int columnIndex, Date x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateDate(int columnIndex, Date x) on a cached result set");
+    }
+
+    @Override
+    public void updateTime(int columnIndex, Time x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateTime(int columnIndex, Time x) on a cached result set");
+    }
+
+    @Override
+    public void updateTimestamp(int columnIndex, Timestamp x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateTimestamp(int columnIndex, Timestamp x) on a cached result set");
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, InputStream x, int length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateAsciiStream(int columnIndex, InputStream x, int length) on a cached result set");
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, InputStream x, int length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBinaryStream(int columnIndex, InputStream x, int length) on a cached result set");
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, Reader x, int length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateCharacterStream(int columnIndex, Reader x, int length) on a cached result set");
+    }
+
+    @Override
+    public void updateObject(int columnIndex, Object x, int scaleOrLength) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateObject(int columnIndex, Object x, int scaleOrLength) on a cached result set");
+    }
+
+    @Override
+    public void updateObject(int columnIndex, Object x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateObject(int columnIndex, Object x) on a cached result set");
+    }
+
+    @Override
+    public void updateNull(String columnLabel) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNull(String columnLabel) on a cached result set");
+    }
+
+    @Override
+    public void updateBoolean(String columnLabel, boolean x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBoolean(String columnLabel, boolean x) on a cached result set");
+    }
+
+    @Override
+    public void updateByte(String columnLabel, byte x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateByte(String columnLabel, byte x) on a cached result set");
+    }
+
+    @Override
+    public void updateShort(String columnLabel, short x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateShort(String columnLabel, short x) on a cached result set");
+    }
+
+    @Override
+    public void updateInt(String columnLabel, int x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateInt(String columnLabel, int x) on a cached result set");
+    }
+
+    @Override
+    public void updateLong(String columnLabel, long x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateLong(String columnLabel, long x) on a cached result set");
+    }
+
+    @Override
+    public void updateFloat(String columnLabel, float x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateFloat(String columnLabel, float x) on a cached result set");
+    }
+
+    @Override
+    public void updateDouble(String columnLabel, double x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateDouble(String columnLabel, double x) on a cached result set");
+    }
+
+    @Override
+    public void updateBigDecimal(String columnLabel, BigDecimal x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBigDecimal(String columnLabel, BigDecimal x) on a cached result set");
+    }
+
+    @Override
+    public void updateString(String columnLabel, String x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateString(String columnLabel, String x) on a cached result set");
+    }
+
+    @Override
+    public void updateBytes(String columnLabel, byte[] x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBytes(String columnLabel, byte[] x) on a cached result set");
+    }
+
+    @Override
+    public void updateDate(String columnLabel, Date x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateDate(String columnLabel, Date x) on a cached result set");
+    }
+
+    @Override
+    public void updateTime(String columnLabel, Time x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateTime(String columnLabel, Time x) on a cached result set");
+    }
+
+    @Override
+    public void updateTimestamp(String columnLabel, Timestamp x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateTimestamp(String columnLabel, Timestamp x) on a cached result set");
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, InputStream x, int length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateAsciiStream(String columnLabel, InputStream x, int length) on a cached result set");
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, InputStream x, int length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBinaryStream(String columnLabel, InputStream x, int length) on a cached result set");
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, Reader reader, int length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateCharacterStream(String columnLabel, Reader reader, int length) on a cached result set");
+    }
+
+    @Override
+    public void updateObject(String columnLabel, Object x, int scaleOrLength) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateObject(String columnLabel, Object x, int scaleOrLength) on a cached result set");
+    }
+
+    @Override
+    public void updateObject(String columnLabel, Object x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateObject(String columnLabel, Object x) on a cached result set");
+    }
+
+    @Override
+    public void insertRow() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method insertRow() on a cached result set");
+    }
+
+    @Override
+    public void updateRow() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateRow() on a cached result set");
+    }
+
+    @Override
+    public void deleteRow() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method deleteRow() on a cached result set");
+    }
+
+    @Override
+    public void refreshRow() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method refreshRow() on a cached result set");
+    }
+
+    @Override
+    public void cancelRowUpdates() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method cancelRowUpdates() on a cached result set");
+    }
+
+    @Override
+    public void moveToInsertRow() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method moveToInsertRow() on a cached result set");
+    }
+
+    @Override
+    public void moveToCurrentRow() throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method moveToCurrentRow() on a cached result set");
+    }
+
+    @Override
+    public void updateRef(int columnIndex, Ref x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateRef(int columnIndex, Ref x) on a cached result set");
+    }
+
+    @Override
+    public void updateRef(String columnLabel, Ref x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateRef(String columnLabel, Ref x) on a cached result set");
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, Blob x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBlob(int columnIndex, Blob x) on a cached result set");
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, Blob x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBlob(String columnLabel, Blob x) on a cached result set");
+    }
+
+    @Override
+    public void updateClob(int columnIndex, Clob x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateClob(int columnIndex, Clob x) on a cached result set");
+    }
+
+    @Override
+    public void updateClob(String columnLabel, Clob x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateClob(String columnLabel, Clob x) on a cached result set");
+    }
+
+    @Override
+    public void updateArray(int columnIndex, Array x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateArray(int columnIndex, Array x) on a cached result set");
+    }
+
+    @Override
+    public void updateArray(String columnLabel, Array x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateArray(String columnLabel, Array x) on a cached result set");
+    }
+
+    @Override
+    public void updateRowId(int columnIndex, RowId x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateRowId(int columnIndex, RowId x) on a cached result set");
+    }
+
+    @Override
+    public void updateRowId(String columnLabel, RowId x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateRowId(String columnLabel, RowId x) on a cached result set");
+    }
+
+    @Override
+    public void updateNString(int columnIndex, String nString) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNString(int columnIndex, String nString) on a cached result set");
+    }
+
+    @Override
+    public void updateNString(String columnLabel, String nString) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNString(String columnLabel, String nString) on a cached result set");
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, NClob nClob) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNClob(int columnIndex, NClob nClob) on a cached result set");
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, NClob nClob) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNClob(String columnLabel, NClob nClob) on a cached result set");
+    }
+
+    @Override
+    public void updateSQLXML(int columnIndex, SQLXML xmlObject) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateSQLXML(int columnIndex, SQLXML xmlObject) on a cached result set");
+    }
+
+    @Override
+    public void updateSQLXML(String columnLabel, SQLXML xmlObject) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateSQLXML(String columnLabel, SQLXML xmlObject) on a cached result set");
+    }
+
+    @Override
+    public void updateNCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNCharacterStream(int columnIndex, Reader x, long length) on a cached result set");
+    }
+
+    @Override
+    public void updateNCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNCharacterStream(String columnLabel, Reader reader, long length) on a cached result set");
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, InputStream x, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateAsciiStream(int columnIndex, InputStream x, long length) on a cached result set");
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, InputStream x, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBinaryStream(int columnIndex, InputStream x, long length) on a cached result set");
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateCharacterStream(int columnIndex, Reader x, long length) on a cached result set");
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, InputStream x, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateAsciiStream(String columnLabel, InputStream x, long length) on a cached result set");
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, InputStream x, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBinaryStream(String columnLabel, InputStream x, long length) on a cached result set");
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateCharacterStream(String columnLabel, Reader reader, long length) on a cached result set");
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, InputStream inputStream, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBlob(int columnIndex, InputStream inputStream, long length) on a cached result set");
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, InputStream inputStream, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBlob(String columnLabel, InputStream inputStream, long length) on a cached result set");
+    }
+
+    @Override
+    public void updateClob(int columnIndex, Reader reader, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateClob(int columnIndex, Reader reader, long length) on a cached result set");
+    }
+
+    @Override
+    public void updateClob(String columnLabel, Reader reader, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateClob(String columnLabel, Reader reader, long length) on a cached result set");
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, Reader reader, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNClob(int columnIndex, Reader reader, long length) on a cached result set");
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, Reader reader, long length) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNClob(String columnLabel, Reader reader, long length) on a cached result set");
+    }
+
+    @Override
+    public void updateNCharacterStream(int columnIndex, Reader x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNCharacterStream(int columnIndex, Reader x) on a cached result set");
+    }
+
+    @Override
+    public void updateNCharacterStream(String columnLabel, Reader reader) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNCharacterStream(String columnLabel, Reader reader) on a cached result set");
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, InputStream x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateAsciiStream(int columnIndex, InputStream x) on a cached result set");
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, InputStream x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBinaryStream(int columnIndex, InputStream x) on a cached result set");
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, Reader x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateCharacterStream(int columnIndex, Reader x) on a cached result set");
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, InputStream x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateAsciiStream(String columnLabel, InputStream x) on a cached result set");
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, InputStream x) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBinaryStream(String columnLabel, InputStream x) on a cached result set");
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, Reader reader) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateCharacterStream(String columnLabel, Reader reader) on a cached result set");
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, InputStream inputStream) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBlob(int columnIndex, InputStream inputStream) on a cached result set");
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, InputStream inputStream) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateBlob(String columnLabel, InputStream inputStream) on a cached result set");
+    }
+
+    @Override
+    public void updateClob(int columnIndex, Reader reader) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateClob(int columnIndex, Reader reader) on a cached result set");
+    }
+
+    @Override
+    public void updateClob(String columnLabel, Reader reader) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateClob(String columnLabel, Reader reader) on a cached result set");
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, Reader reader) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNClob(int columnIndex, Reader reader) on a cached result set");
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, Reader reader) throws SQLException {
+        throw new UnsupportedJdbcMethodException("Unsupported jdbc method updateNClob(String columnLabel, Reader reader) on a cached result set");
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.jdbc.cache;
+
+import io.github.sqlx.jdbc.WrapperAdapter;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A copy of the metadata of a result set, kept together with the cached rows
+ * so the metadata remains readable after the statement is closed.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public class CachedResultSetMetaData extends WrapperAdapter implements ResultSetMetaData {
+
+    private final int columnCount;
+
+    private final String[] labels;
+
+    private final String[] names;
+
+    private final String[] schemaNames;
+
+    private final String[] tableNames;
+
+    private final String[] catalogNames;
+
+    private final int[] types;
+
+    private final String[] typeNames;
+
+    private final String[] classNames;
+
+    private final int[] precisions;
+
+    private final int[] scales;
+
+    private final int[] displaySizes;
+
+    private final int[] nullables;
+
+    private final boolean[] autoIncrements;
+
+    private final boolean[] caseSensitives;
+
+    private final boolean[] searchables;
+
+    private final boolean[] currencies;
+
+    private final boolean[] signeds;
+
+    /**
+     * The 1-based index of the first column of each label, and of each name not used as a label.
+     */
+    private final Map<String, Integer> indexes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    private CachedResultSetMetaData(ResultSetMetaData metaData) throws SQLException {
+        this.columnCount = metaData.getColumnCount();
+        this.labels = new String[columnCount];
+        this.names = new String[columnCount];
+        this.schemaNames = new String[columnCount];
+        this.tableNames = new String[columnCount];
+        this.catalogNames = new String[columnCount];
+        this.types = new int[columnCount];
+        this.typeNames = new String[columnCount];
+        this.classNames = new String[columnCount];
+        this.precisions = new int[columnCount];
+        this.scales = new int[columnCount];
+        this.displaySizes = new int[columnCount];
+        this.nullables = new int[columnCount];
+        this.autoIncrements = new boolean[columnCount];
+        this.caseSensitives = new boolean[columnCount];
+        this.searchables = new boolean[columnCount];
+        this.currencies = new boolean[columnCount];
+        this.signeds = new boolean[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            int column = i + 1;
+            labels[i] = metaData.getColumnLabel(column);
+            names[i] = metaData.getColumnName(column);
+            schemaNames[i] = metaData.getSchemaName(column);
+            tableNames[i] = metaData.getTableName(column);
+            catalogNames[i] = metaData.getCatalogName(column);
+            types[i] = metaData.getColumnType(column);
+            typeNames[i] = metaData.getColumnTypeName(column);
+            classNames[i] = metaData.getColumnClassName(column);
+            precisions[i] = metaData.getPrecision(column);
+            scales[i] = metaData.getScale(column);
+            displaySizes[i] = metaData.getColumnDisplaySize(column);
+            nullables[i] = metaData.isNullable(column);
+            autoIncrements[i] = metaData.isAutoIncrement(column);
+            caseSensitives[i] = metaData.isCaseSensitive(column);
+            searchables[i] = metaData.isSearchable(column);
+            currencies[i] = metaData.isCurrency(column);
+            signeds[i] = metaData.isSigned(column);
+            if (labels[i] != null) {
+                indexes.putIfAbsent(labels[i], column);
+            }
+        }
+        for (int i = 0; i < columnCount; i++) {
+            if (names[i] != null) {
+                indexes.putIfAbsent(names[i], i + 1);
+            }
+        }
+    }
+
+    static CachedResultSetMetaData of(ResultSetMetaData metaData) throws SQLException {
+        return new CachedResultSetMetaData(metaData);
+    }
+
+    /**
+     * @param columnLabel the label or name of a column
+     * @return the 1-based index of the column
+     * @throws SQLException if no column has the label
+     */
+    public int findColumn(String columnLabel) throws SQLException {
+        Integer index = columnLabel == null ? null : indexes.get(columnLabel);
+        if (index == null) {
+            throw new SQLException("Column [" + columnLabel + "] not found");
+        }
+        return index;
+    }
+
+    @Override
+    public int getColumnCount() throws SQLException {
+        return columnCount;
+    }
+
+    @Override
+    public boolean isAutoIncrement(int column) throws SQLException {
+        return autoIncrements[index(column)];
+    }
+
+    @Override
+    public boolean isCaseSensitive(int column) throws SQLException {
+        return caseSensitives[index(column)];
+    }
+
+    @Override
+    public boolean isSearchable(int column) throws SQLException {
+        return searchables[index(column)];
+    }
+
+    @Override
+    public boolean isCurrency(int column) throws SQLException {
+        return currencies[index(column)];
+    }
+
+    @Override
+    public int isNullable(int column) throws SQLException {
+        return nullables[index(column)];
+    }
+
+    @Override
+    public boolean isSigned(int column) throws SQLException {
+        return signeds[index(column)];
+    }
+
+    @Override
+    public int getColumnDisplaySize(int column) throws SQLException {
+        return displaySizes[index(column)];
+    }
+
+    @Override
+    public String getColumnLabel(int column) throws SQLException {
+        return labels[index(column)];
+    }
+
+    @Override
+    public String getColumnName(int column) throws SQLException {
+        return names[index(column)];
+    }
+
+    @Override
+    public String getSchemaName(int column) throws SQLException {
+        return schemaNames[index(column)];
+    }
+
+    @Override
+    public int getPrecision(int column) throws SQLException {
+        return precisions[index(column)];
+    }
+
+    @Override
+    public int getScale(int column) throws SQLException {
+        return scales[index(column)];
+    }
+
+    @Override
+    public String getTableName(int column) throws SQLException {
+        return tableNames[index(column)];
+    }
+
+    @Override
+    public String getCatalogName(int column) throws SQLException {
+        return catalogNames[index(column)];
+    }
+
+    @Override
+    public int getColumnType(int column) throws SQLException {
+        return types[index(column)];
+    }
+
+    @Override
+    public String getColumnTypeName(int column) throws SQLException {
+        return typeNames[index(column)];
+    }
+
+    @Override
+    public boolean isReadOnly(int column) throws SQLException {
+        index(column);
+        return true;
+    }
+
+    @Override
+    public boolean isWritable(int column) throws SQLException {
+        index(column);
+        return false;
+    }
+
+    @Override
+    public boolean isDefinitelyWritable(int column) throws SQLException {
+        index(column);
+        return false;
+    }
+
+    @Override
+    public String getColumnClassName(int column) throws SQLException {
+        return classNames[index(column)];
+    }
+
+    private int index(int column) throws SQLException {
+        if (column < 1 || column > columnCount) {
+            throw new SQLException("Column index " + column + " out of range [1, " + columnCount + "]");
+        }
+        return column - 1;
+    }
+}
@@ -0,0 +1,504 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.jdbc.cache;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The rows of a query result kept column by column.
+ * <p>
+ * Integral and boolean values are stored in {@code long[]}, floating point values in {@code double[]} and
+ * strings as {@code int[]} codes of a per-column dictionary, so repeated values of reference data are stored once.
+ * Other values are kept as objects. NULLs are tracked in a bitmap. Mutable values are copied in and out,
+ * the rows are never modified after they are built and can be read by several threads.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public final class ColumnarRows {
+
+    /**
+     * Marks a value that cannot be kept, see {@link #immutableCopy(Object)}.
+     */
+    static final Object UNCACHEABLE = new Object();
+
+    private static final int OBJECT_OVERHEAD = 16;
+
+    private static final int STRING_OVERHEAD = 40;
+
+    private final CachedResultSetMetaData metaData;
+
+    private final Column[] columns;
+
+    private final int rowCount;
+
+    private final long estimatedBytes;
+
+    private ColumnarRows(CachedResultSetMetaData metaData, Column[] columns, int rowCount, long estimatedBytes) {
+        this.metaData = metaData;
+        this.columns = columns;
+        this.rowCount = rowCount;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    /**
+     * Creates a builder of the rows of a result set.
+     *
+     * @param metaData the metadata of the result set
+     * @param maxBytes the estimated size above which the rows are no longer storable
+     * @return the builder, {@code null} if a column has a type whose values cannot be cached, such as LOBs
+     * @throws SQLException if the metadata cannot be read
+     */
+    public static Builder builder(ResultSetMetaData metaData, long maxBytes) throws SQLException {
+        int count = metaData.getColumnCount();
+        for (int i = 1; i <= count; i++) {
+            if (!isCacheableType(metaData.getColumnType(i))) {
+                return null;
+            }
+        }
+        return new Builder(CachedResultSetMetaData.of(metaData), count, maxBytes);
+    }
+
+    public CachedResultSetMetaData getMetaData() {
+        return metaData;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * @param row    the 0-based row
+     * @param column the 0-based column
+     * @return the value, a copy if the value is mutable
+     */
+    public Object getObject(int row, int column) {
+        return columns[column].get(row);
+    }
+
+    public boolean isNull(int row, int column) {
+        return columns[column].nulls.get(row);
+    }
+
+    /**
+     * @return true if the column stores integral or boolean values, which {@link #getLong(int, int)} reads without boxing
+     */
+    boolean isLongColumn(int column) {
+        return columns[column] instanceof LongColumn;
+    }
+
+    long getLong(int row, int column) {
+        return ((LongColumn) columns[column]).values[row];
+    }
+
+    /**
+     * @return true if the column stores floating point values, which {@link #getDouble(int, int)} reads without boxing
+     */
+    boolean isDoubleColumn(int column) {
+        return columns[column] instanceof DoubleColumn;
+    }
+
+    double getDouble(int row, int column) {
+        return ((DoubleColumn) columns[column]).values[row];
+    }
+
+    /**
+     * Copies a value so it cannot be modified after it is cached.
+     *
+     * @param value the value read from the result set or bound to a parameter
+     * @return the value itself if it is immutable, a copy of dates and byte arrays,
+     * or {@link #UNCACHEABLE} if the value cannot be copied, such as streams and LOBs
+     */
+    static Object immutableCopy(Object value) {
+        if (value == null || value instanceof String || value instanceof Boolean || value instanceof Character
+                || value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof Double || value instanceof Float || value instanceof BigDecimal || value instanceof BigInteger
+                || value instanceof UUID || value instanceof Enum) {
+            return value;
+        }
+        if (value instanceof java.util.Date) {
+            return ((java.util.Date) value).clone();
+        }
+        if (value instanceof byte[]) {
+            return ((byte[]) value).clone();
+        }
+        if (value instanceof TemporalAccessor && value.getClass().getName().startsWith("java.time.")) {
+            return value;
+        }
+        return UNCACHEABLE;
+    }
+
+    private static boolean isCacheableType(int type) {
+        switch (type) {
+            case Types.BLOB:
+            case Types.CLOB:
+            case Types.NCLOB:
+            case Types.ARRAY:
+            case Types.STRUCT:
+            case Types.REF:
+            case Types.REF_CURSOR:
+            case Types.SQLXML:
+            case Types.JAVA_OBJECT:
+            case Types.DATALINK:
+            case Types.ROWID:
+            case Types.OTHER:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private static long estimateBytes(Object value) {
+        if (value instanceof String) {
+            return STRING_OVERHEAD + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_OVERHEAD + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return 64;
+        }
+        return 32;
+    }
+
+    /**
+     * Collects the rows of a result set.
+     */
+    public static final class Builder {
+
+        private final CachedResultSetMetaData metaData;
+
+        private final ColumnBuilder[] columns;
+
+        private final long maxBytes;
+
+        private int rowCount;
+
+        private long estimatedBytes;
+
+        private boolean storable = true;
+
+        private Builder(CachedResultSetMetaData metaData, int columnCount, long maxBytes) {
+            this.metaData = metaData;
+            this.maxBytes = maxBytes;
+            this.columns = new ColumnBuilder[columnCount];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = new ColumnBuilder();
+            }
+        }
+
+        /**
+         * Appends the current row of the result set.
+         * The row is always appended, the rows become unstorable once they exceed the size limit
+         * or a value cannot be copied.
+         *
+         * @param resultSet the result set positioned on a row
+         * @throws SQLException if a value cannot be read
+         */
+        public void add(ResultSet resultSet) throws SQLException {
+            for (int i = 0; i < columns.length; i++) {
+                Object value = resultSet.getObject(i + 1);
+                Object copy = immutableCopy(value);
+                if (copy == UNCACHEABLE) {
+                    storable = false;
+                    copy = value;
+                }
+                estimatedBytes += columns[i].add(rowCount, copy);
+            }
+            rowCount++;
+            if (estimatedBytes > maxBytes) {
+                storable = false;
+            }
+        }
+
+        /**
+         * @return true if the rows can be cached
+         */
+        public boolean isStorable() {
+            return storable;
+        }
+
+        public ColumnarRows build() {
+            Column[] built = new Column[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                built[i] = columns[i].build(rowCount);
+            }
+            return new ColumnarRows(metaData, built, rowCount, estimatedBytes + OBJECT_OVERHEAD * (columns.length + 1L));
+        }
+    }
+
+    private abstract static class Column {
+
+        final BitSet nulls;
+
+        Column(BitSet nulls) {
+            this.nulls = nulls;
+        }
+
+        abstract Object get(int row);
+    }
+
+    private static final class LongColumn extends Column {
+
+        private final long[] values;
+
+        private final Class<?> type;
+
+        LongColumn(BitSet nulls, long[] values, Class<?> type) {
+            super(nulls);
+            this.values = values;
+            this.type = type;
+        }
+
+        @Override
+        Object get(int row) {
+            if (nulls.get(row)) {
+                return null;
+            }
+            long value = values[row];
+            if (type == Integer.class) {
+                return (int) value;
+            } else if (type == Short.class) {
+                return (short) value;
+            } else if (type == Byte.class) {
+                return (byte) value;
+            } else if (type == Boolean.class) {
+                return value != 0;
+            }
+            return value;
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+
+        private final double[] values;
+
+        private final boolean isFloat;
+
+        DoubleColumn(BitSet nulls, double[] values, boolean isFloat) {
+            super(nulls);
+            this.values = values;
+            this.isFloat = isFloat;
+        }
+
+        @Override
+        Object get(int row) {
+            if (nulls.get(row)) {
+                return null;
+            }
+            return isFloat ? (Object) (float) values[row] : (Object) values[row];
+        }
+    }
+
+    private static final class StringColumn extends Column {
+
+        private final int[] codes;
+
+        private final String[] dictionary;
+
+        StringColumn(BitSet nulls, int[] codes, String[] dictionary) {
+            super(nulls);
+            this.codes = codes;
+            this.dictionary = dictionary;
+        }
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : dictionary[codes[row]];
+        }
+    }
+
+    private static final class ObjectColumn extends Column {
+
+        private final Object[] values;
+
+        ObjectColumn(BitSet nulls, Object[] values) {
+            super(nulls);
+            this.values = values;
+        }
+
+        @Override
+        Object get(int row) {
+            Object value = values[row];
+            Object copy = immutableCopy(value);
+            return copy == UNCACHEABLE ? value : copy;
+        }
+    }
+
+    private enum Kind {
+        NONE, LONG, DOUBLE, STRING, OBJECT
+    }
+
+    /**
+     * Chooses the storage of a column by the class of its first non null value
+     * and falls back to objects when a value of another class is added.
+     */
+    private static final class ColumnBuilder {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final BitSet nulls = new BitSet();
+
+        private Kind kind = Kind.NONE;
+
+        private Class<?> type;
+
+        private long[] longs;
+
+        private double[] doubles;
+
+        private int[] codes;
+
+        private Map<String, Integer> dictionary;
+
+        private Object[] objects;
+
+        long add(int row, Object value) {
+            if (value == null) {
+                nulls.set(row);
+                if (kind == Kind.NONE) {
+                    return 0;
+                }
+                ensureCapacity(row);
+                return kind == Kind.STRING ? Integer.BYTES : Long.BYTES;
+            }
+            if (kind == Kind.NONE) {
+                start(value.getClass(), row);
+            } else if (kind != Kind.OBJECT && value.getClass() != type) {
+                toObjects(row);
+            }
+            ensureCapacity(row);
+            switch (kind) {
+                case LONG:
+                    longs[row] = value instanceof Boolean ? ((Boolean) value ? 1 : 0) : ((Number) value).longValue();
+                    return Long.BYTES;
+                case DOUBLE:
+                    doubles[row] = ((Number) value).doubleValue();
+                    return Double.BYTES;
+                case STRING:
+                    Integer code = dictionary.get(value);
+                    if (code != null) {
+                        codes[row] = code;
+                        return Integer.BYTES;
+                    }
+                    codes[row] = dictionary.size();
+                    dictionary.put((String) value, dictionary.size());
+                    return Integer.BYTES + estimateBytes(value);
+                default:
+                    objects[row] = value;
+                    return OBJECT_OVERHEAD + estimateBytes(value);
+            }
+        }
+
+        private void start(Class<?> type, int row) {
+            this.type = type;
+            if (type == Long.class || type == Integer.class || type == Short.class || type == Byte.class || type == Boolean.class) {
+                kind = Kind.LONG;
+                longs = new long[Math.max(INITIAL_CAPACITY, row + 1)];
+            } else if (type == Double.class || type == Float.class) {
+                kind = Kind.DOUBLE;
+                doubles = new double[Math.max(INITIAL_CAPACITY, row + 1)];
+            } else if (type == String.class) {
+                kind = Kind.STRING;
+                codes = new int[Math.max(INITIAL_CAPACITY, row + 1)];
+                dictionary = new HashMap<>();
+            } else {
+                kind = Kind.OBJECT;
+                objects = new Object[Math.max(INITIAL_CAPACITY, row + 1)];
+            }
+        }
+
+        private void toObjects(int row) {
+            Object[] values = new Object[Math.max(INITIAL_CAPACITY, row + 1)];
+            Column column = build(row);
+            for (int i = 0; i < row; i++) {
+                values[i] = column.get(i);
+            }
+            objects = values;
+            longs = null;
+            doubles = null;
+            codes = null;
+            dictionary = null;
+            kind = Kind.OBJECT;
+        }
+
+        private void ensureCapacity(int row) {
+            switch (kind) {
+                case LONG:
+                    if (row >= longs.length) {
+                        longs = Arrays.copyOf(longs, longs.length * 2);
+                    }
+                    break;
+                case DOUBLE:
+                    if (row >= doubles.length) {
+                        doubles = Arrays.copyOf(doubles, doubles.length * 2);
+                    }
+                    break;
+                case STRING:
+                    if (row >= codes.length) {
+                        codes = Arrays.copyOf(codes, codes.length * 2);
+                    }
+                    break;
+                case OBJECT:
+                    if (row >= objects.length) {
+                        objects = Arrays.copyOf(objects, objects.length * 2);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        Column build(int rowCount) {
+            switch (kind) {
+                case LONG:
+                    return new LongColumn(nulls, Arrays.copyOf(longs, rowCount), type);
+                case DOUBLE:
+                    return new DoubleColumn(nulls, Arrays.copyOf(doubles, rowCount), type == Float.class);
+                case STRING:
+                    String[] values = new String[dictionary.size()];
+                    for (Map.Entry<String, Integer> entry : dictionary.entrySet()) {
+                        values[entry.getValue()] = entry.getKey();
+                    }
+                    return new StringColumn(nulls, Arrays.copyOf(codes, rowCount), values);
+                case OBJECT:
+                    return new ObjectColumn(nulls, Arrays.copyOf(objects, rowCount));
+                default:
+                    // only NULLs
+                    return new ObjectColumn(nulls, new Object[rowCount]);
+            }
+        }
+    }
+}
@@ -0,0 +1,515 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.jdbc.cache;
+
+import io.github.sqlx.RoutingContext;
+import io.github.sqlx.config.ResultCacheConfiguration;
+import io.github.sqlx.integration.springboot.RouteAttribute;
+import io.github.sqlx.jdbc.LocalQuery;
+import io.github.sqlx.jdbc.MergedResultSet;
+import io.github.sqlx.jdbc.ParameterValues;
+import io.github.sqlx.jdbc.StatementInfo;
+import io.github.sqlx.jdbc.transaction.Transaction;
+import io.github.sqlx.rule.RouteInfo;
+import io.github.sqlx.sql.AnnotationSqlAttribute;
+import io.github.sqlx.sql.SqlAttribute;
+import io.github.sqlx.sql.SqlType;
+import io.github.sqlx.sql.Table;
+import io.github.sqlx.sql.parser.CacheSqlHintConverter;
+import io.github.sqlx.sql.parser.NodeNameSqlHintConverter;
+import io.github.sqlx.sql.parser.SqlHintConverter;
+import io.github.sqlx.util.CollectionUtils;
+import io.github.sqlx.util.SqlUtils;
+import io.github.sqlx.util.StringUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Read-through cache of query results.
+ * <p>
+ * A cacheable query is looked up by its {@link CacheKey}; on a miss it is executed, its rows are copied into
+ * {@link ColumnarRows} and returned through a {@link CachedResultSet}. Results are invalidated by table: a write
+ * routed through {@link io.github.sqlx.jdbc.ProxyConnection} drops every result read from one of its write tables.
+ * Every table has a version bumped by invalidations, a result is only stored if none of its tables changed while
+ * it was being read, so a result read concurrently with a write is never cached.
+ * <p>
+ * The estimated memory of all results is bounded by {@link ResultCacheConfiguration#getMaxMemoryBytes()},
+ * results are evicted in second chance (clock) order when the budget is exceeded.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Slf4j
+public class ResultCache {
+
+    private static final SqlHintConverter<Boolean> CACHE_HINT_CONVERTER = new CacheSqlHintConverter();
+
+    private static final SqlHintConverter<String> NODE_NAME_HINT_CONVERTER = new NodeNameSqlHintConverter();
+
+    private static final String[] SESSION_STATEMENT_PREFIXES = {"set ", "show ", "use ", "explain ", "desc ", "describe "};
+
+    private final long maxMemoryBytes;
+
+    private final long maxEntryBytes;
+
+    private final long expireAfterWriteNanos;
+
+    private final Set<String> clusters;
+
+    private final Set<String> tables;
+
+    private final ConcurrentHashMap<CacheKey, Entry> entries = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<String, Set<CacheKey>> keysByTable = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<String, AtomicLong> tableVersions = new ConcurrentHashMap<>();
+
+    /**
+     * Bumped when the written tables of a statement are unknown, invalidating every table.
+     */
+    private final AtomicLong globalVersion = new AtomicLong();
+
+    private final ConcurrentLinkedQueue<Entry> clock = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger removedInClock = new AtomicInteger();
+
+    private final AtomicLong usedBytes = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * The transaction of the current thread, {@code null} if transactions are not tracked.
+     */
+    private volatile Transaction transaction;
+
+    /**
+     * @param configuration the cache configuration
+     * @param clusters      the names of the clusters whose queries are cached
+     */
+    public ResultCache(ResultCacheConfiguration configuration, Collection<String> clusters) {
+        this.maxMemoryBytes = configuration.getMaxMemoryBytes();
+        this.maxEntryBytes = configuration.getMaxEntryBytes();
+        this.expireAfterWriteNanos = TimeUnit.MILLISECONDS.toNanos(configuration.getExpireAfterWriteMillis());
+        this.clusters = clusters == null ? Collections.emptySet() : new HashSet<>(clusters);
+        Set<String> names = new HashSet<>();
+        if (configuration.getTables() != null) {
+            for (String table : configuration.getTables()) {
+                names.add(normalize(table));
+            }
+        }
+        this.tables = names;
+    }
+
+    /**
+     * @param transaction the transaction of the current thread, queries are not cached while it is active
+     */
+    public void setTransaction(Transaction transaction) {
+        this.transaction = transaction;
+    }
+
+    /**
+     * @return true if the current thread is in a transaction, whose queries are never cached
+     */
+    public boolean isTransactionActive() {
+        Transaction current = transaction;
+        return current != null && current.isActive();
+    }
+
+    /**
+     * Decides whether the results of a routed statement are cached.
+     * Only queries outside transactions are cached. The {@code cache} hint takes precedence,
+     * otherwise the cluster of the query or all of its tables must be enabled.
+     *
+     * @param routeInfo the route of the statement
+     * @return true if the results of the statement are cached
+     */
+    public boolean isCacheable(RouteInfo routeInfo) {
+        SqlAttribute sqlAttribute = routeInfo.getSqlAttribute();
+        if (sqlAttribute == null || !sqlAttribute.isRead() || !SqlType.SELECT.is(sqlAttribute.getSqlType())) {
+            return false;
+        }
+        if (Boolean.TRUE.equals(routeInfo.getIsTransactionActive()) || isTransactionActive()) {
+            return false;
+        }
+        Boolean hint = SqlUtils.isAnnotationSql(sqlAttribute) ? CACHE_HINT_CONVERTER.convert(((AnnotationSqlAttribute) sqlAttribute).getSqlHint()) : null;
+        if (hint != null) {
+            return hint;
+        }
+        if (CollectionUtils.isEmpty(sqlAttribute.getTables())) {
+            return false;
+        }
+        if (routeInfo.getCluster() != null && clusters.contains(routeInfo.getCluster().getName())) {
+            return true;
+        }
+        if (tables.isEmpty()) {
+            return false;
+        }
+        for (Table table : sqlAttribute.getTables()) {
+            if (!tables.contains(normalize(table.getTable())) && !tables.contains(normalize(table.getFullTableName()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the cached result of a query, or executes the query and caches its result.
+     * A result larger than the entry limit, or holding values that cannot be copied, is not cached:
+     * the rows read so far are returned followed by the remaining rows of the database result set.
+     *
+     * @param statementInfo the cacheable statement
+     * @param owner         the statement returned by {@link ResultSet#getStatement()}
+     * @param values        the bound parameter values, {@code null} for a plain statement
+     * @param localQuery    executes the query on the routed node
+     * @return the result set
+     * @throws SQLException if the query fails
+     */
+    public ResultSet executeQuery(StatementInfo statementInfo, Statement owner, ParameterValues values, LocalQuery localQuery) throws SQLException {
+        RouteInfo routeInfo = statementInfo.getRouteInfo();
+        CacheKey key = CacheKey.of(statementInfo.getNativeSql(), nodeGroup(routeInfo), values);
+        if (key == null) {
+            return localQuery.execute();
+        }
+        ColumnarRows cached = lookup(key);
+        if (cached != null) {
+            hits.increment();
+            return new CachedResultSet(cached, owner);
+        }
+        misses.increment();
+        String[] readTables = tableNames(routeInfo.getSqlAttribute().getTables()).toArray(new String[0]);
+        long[] versions = versions(readTables);
+        ResultSet resultSet = localQuery.execute();
+        return readThrough(key, readTables, versions, resultSet, owner);
+    }
+
+    private ResultSet readThrough(CacheKey key, String[] readTables, long[] versions, ResultSet resultSet, Statement owner) throws SQLException {
+        ColumnarRows.Builder builder;
+        boolean exhausted = false;
+        try {
+            builder = ColumnarRows.builder(resultSet.getMetaData(), maxEntryBytes);
+            if (builder == null) {
+                return resultSet;
+            }
+            while (builder.isStorable()) {
+                if (!resultSet.next()) {
+                    exhausted = true;
+                    break;
+                }
+                builder.add(resultSet);
+            }
+        } catch (SQLException e) {
+            try {
+                resultSet.close();
+            } catch (SQLException ex) {
+                e.addSuppressed(ex);
+            }
+            throw e;
+        }
+        ColumnarRows rows = builder.build();
+        if (!exhausted) {
+            // the rows read so far are replayed, the remaining rows are streamed from the database
+            return new MergedResultSet(Arrays.asList(new CachedResultSet(rows, owner), resultSet), Collections.emptyList(), owner, Collections.emptyList());
+        }
+        resultSet.close();
+        put(key, readTables, versions, rows);
+        return new CachedResultSet(rows, owner);
+    }
+
+    /**
+     * Invalidates the results read from the tables written by a statement.
+     * Statements whose written tables are unknown invalidate every result, except session statements such as {@code SET}.
+     *
+     * @param sqlAttribute the parsed statement
+     */
+    public void invalidate(SqlAttribute sqlAttribute) {
+        if (sqlAttribute == null || !sqlAttribute.isWrite()) {
+            return;
+        }
+        Set<Table> written = SqlType.OTHER.is(sqlAttribute.getSqlType()) ? sqlAttribute.getTables() : sqlAttribute.getWriteTables();
+        if (CollectionUtils.isNotEmpty(written)) {
+            invalidate(tableNames(written));
+        } else if (!isSessionStatement(sqlAttribute.getNativeSql())) {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Invalidates the results read from any of the given tables.
+     *
+     * @param tableNames the names of the tables, see {@link #tableNames(Collection)}
+     */
+    public void invalidate(Collection<String> tableNames) {
+        for (String table : tableNames) {
+            // bump the version first, a result registered after the removal sees the new version and drops itself
+            tableVersions.computeIfAbsent(table, t -> new AtomicLong()).incrementAndGet();
+            Set<CacheKey> keys = keysByTable.get(table);
+            if (keys == null) {
+                continue;
+            }
+            for (CacheKey key : keys) {
+                Entry entry = entries.get(key);
+                if (entry != null && remove(entry)) {
+                    invalidations.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Invalidates every result.
+     */
+    public void invalidateAll() {
+        globalVersion.incrementAndGet();
+        for (Entry entry : entries.values()) {
+            if (remove(entry)) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public long getInvalidationCount() {
+        return invalidations.sum();
+    }
+
+    public int getEntryCount() {
+        return entries.size();
+    }
+
+    public long getUsedBytes() {
+        return usedBytes.get();
+    }
+
+    /**
+     * @param tables the parsed tables
+     * @return the lower case unquoted names of the tables, used to index the results
+     */
+    public static Set<String> tableNames(Collection<Table> tables) {
+        if (tables == null || tables.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (Table table : tables) {
+            String name = normalize(StringUtils.isNotBlank(table.getTable()) ? table.getTable() : table.getFullTableName());
+            if (name != null) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Results of replicas of the same cluster are interchangeable, unless the query is forced to a node.
+     */
+    private static String nodeGroup(RouteInfo routeInfo) {
+        String node = routeInfo.getHitNodeAttr() != null ? routeInfo.getHitNodeAttr().getName() : null;
+        if (routeInfo.getCluster() == null) {
+            return "node:" + node;
+        }
+        RouteAttribute ra = RoutingContext.getRoutingAttribute();
+        boolean forced = ra != null && CollectionUtils.isNotEmpty(ra.getNodes());
+        SqlAttribute sqlAttribute = routeInfo.getSqlAttribute();
+        if (!forced && SqlUtils.isAnnotationSql(sqlAttribute)) {
+            forced = NODE_NAME_HINT_CONVERTER.convert(((AnnotationSqlAttribute) sqlAttribute).getSqlHint()) != null;
+        }
+        return forced ? "node:" + node : "cluster:" + routeInfo.getCluster().getName();
+    }
+
+    private ColumnarRows lookup(CacheKey key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (expireAfterWriteNanos > 0 && System.nanoTime() - entry.createdNanos > expireAfterWriteNanos) {
+            remove(entry);
+            return null;
+        }
+        entry.referenced = true;
+        return entry.rows;
+    }
+
+    private long[] versions(String[] readTables) {
+        long[] versions = new long[readTables.length + 1];
+        versions[0] = globalVersion.get();
+        for (int i = 0; i < readTables.length; i++) {
+            AtomicLong version = tableVersions.get(readTables[i]);
+            versions[i + 1] = version == null ? 0 : version.get();
+        }
+        return versions;
+    }
+
+    private void put(CacheKey key, String[] readTables, long[] versions, ColumnarRows rows) {
+        long bytes = key.estimateBytes() + rows.getEstimatedBytes();
+        if (bytes > maxEntryBytes || !Arrays.equals(versions, versions(readTables))) {
+            return;
+        }
+        Entry entry = new Entry(key, rows, readTables, bytes);
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            release(previous);
+        }
+        usedBytes.addAndGet(bytes);
+        for (String table : readTables) {
+            keysByTable.computeIfAbsent(table, t -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+        clock.offer(entry);
+        if (!Arrays.equals(versions, versions(readTables))) {
+            // a table was invalidated while the result was registered
+            remove(entry);
+            return;
+        }
+        evict();
+    }
+
+    private void evict() {
+        int scanned = 0;
+        int limit = entries.size() * 2 + 1;
+        while (usedBytes.get() > maxMemoryBytes && scanned++ < limit) {
+            Entry entry = clock.poll();
+            if (entry == null) {
+                return;
+            }
+            if (entry.removed) {
+                removedInClock.decrementAndGet();
+                continue;
+            }
+            if (entry.referenced) {
+                entry.referenced = false;
+                clock.offer(entry);
+                continue;
+            }
+            if (remove(entry)) {
+                removedInClock.decrementAndGet();
+                evictions.increment();
+            }
+        }
+    }
+
+    private boolean remove(Entry entry) {
+        if (!entries.remove(entry.key, entry)) {
+            return false;
+        }
+        release(entry);
+        return true;
+    }
+
+    private void release(Entry entry) {
+        synchronized (entry) {
+            if (entry.removed) {
+                return;
+            }
+            entry.removed = true;
+            // the entry may wait in the clock queue for a while, the result sets already returned keep their rows
+            entry.rows = null;
+        }
+        usedBytes.addAndGet(-entry.bytes);
+        for (String table : entry.tables) {
+            Set<CacheKey> keys = keysByTable.get(table);
+            if (keys != null && !entries.containsKey(entry.key)) {
+                keys.remove(entry.key);
+            }
+        }
+        if (removedInClock.incrementAndGet() > entries.size() + 1024) {
+            // drop the removed entries that were never reached by the eviction
+            clock.removeIf(e -> e.removed);
+            removedInClock.set(0);
+        }
+    }
+
+    private static boolean isSessionStatement(String sql) {
+        if (sql == null) {
+            return false;
+        }
+        String prefix = sql.trim().toLowerCase(Locale.ROOT);
+        for (String sessionPrefix : SESSION_STATEMENT_PREFIXES) {
+            if (prefix.startsWith(sessionPrefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String normalize(String name) {
+        if (name == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c != '`' && c != '"' && c != '[' && c != ']') {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString().trim();
+    }
+
+    private static final class Entry {
+
+        private final CacheKey key;
+
+        private volatile ColumnarRows rows;
+
+        private final String[] tables;
+
+        private final long bytes;
+
+        private final long createdNanos = System.nanoTime();
+
+        private volatile boolean referenced;
+
+        private volatile boolean removed;
+
+        Entry(CacheKey key, ColumnarRows rows, String[] tables, long bytes) {
+            this.key = key;
+            this.rows = rows;
+            this.tables = tables;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -19,6 +19,9 @@ package io.github.sqlx.jdbc.datasource;
 import io.github.sqlx.exception.NoSuchDataSourceException;
 import io.github.sqlx.jdbc.ProxyConnection;
 import io.github.sqlx.jdbc.WrapperAdapter;
+import io.github.sqlx.jdbc.bulkhead.Bulkheads;
+import io.github.sqlx.jdbc.timeout.QueryTimeouts;
+import io.github.sqlx.jdbc.cache.ResultCache;
 import io.github.sqlx.listener.EventListener;
 
 import javax.sql.DataSource;
@@ -45,6 +48,14 @@ public abstract class AbstractSqlXDataSource extends WrapperAdapter implements S
 
     private int loginTimeout = 0;
 
+    private ResultCache resultCache;
+
+    private Bulkheads bulkheads;
+
+    private PoolFallback poolFallback;
+
+    private QueryTimeouts queryTimeouts;
+
     protected AbstractSqlXDataSource(DatasourceManager datasourceManager , EventListener eventListener) {
         this.datasourceManager = datasourceManager;
         this.eventListener = eventListener;
@@ -66,6 +77,42 @@ public abstract class AbstractSqlXDataSource extends WrapperAdapter implements S
         return dataSources;
     }
 
+    @Override
+    public ResultCache getResultCache() {
+        return resultCache;
+    }
+
+    public void setResultCache(ResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    @Override
+    public Bulkheads getBulkheads() {
+        return bulkheads;
+    }
+
+    public void setBulkheads(Bulkheads bulkheads) {
+        this.bulkheads = bulkheads;
+    }
+
+    @Override
+    public PoolFallback getPoolFallback() {
+        return poolFallback;
+    }
+
+    public void setPoolFallback(PoolFallback poolFallback) {
+        this.poolFallback = poolFallback;
+    }
+
+    @Override
+    public QueryTimeouts getQueryTimeouts() {
+        return queryTimeouts;
+    }
+
+    public void setQueryTimeouts(QueryTimeouts queryTimeouts) {
+        this.queryTimeouts = queryTimeouts;
+    }
+
     @Override
     public Connection getConnection() throws SQLException {
         return new ProxyConnection(this , eventListener);
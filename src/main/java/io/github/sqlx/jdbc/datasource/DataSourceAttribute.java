@@ -47,6 +47,15 @@ public class DataSourceAttribute implements NodeAttribute {
 
     private final String destroyMethod;
 
+    private String replicationLagSql;
+
+    /**
+     * Not serialized, the lag of a node that does not replicate is infinite.
+     */
+    private transient volatile Double replicationLag;
+
+    private transient volatile Long replicationLagSampledAt;
+
     public DataSourceAttribute(String url, NodeState nodeState, String name, Double weight , String heartbeatSql , long heartbeatInterval , String destroyMethod) {
         this.url = url;
         this.databaseType = JdbcUtils.getDbType(url);
@@ -122,6 +131,31 @@ public class DataSourceAttribute implements NodeAttribute {
         this.heartbeatInterval = heartbeatInterval;
     }
 
+    @Override
+    public String getReplicationLagSql() {
+        return replicationLagSql;
+    }
+
+    public void setReplicationLagSql(String replicationLagSql) {
+        this.replicationLagSql = replicationLagSql;
+    }
+
+    @Override
+    public Double getReplicationLag() {
+        return replicationLag;
+    }
+
+    @Override
+    public void setReplicationLag(Double replicationLag) {
+        this.replicationLagSampledAt = replicationLag != null ? System.currentTimeMillis() : null;
+        this.replicationLag = replicationLag;
+    }
+
+    @Override
+    public Long getReplicationLagSampledAt() {
+        return replicationLagSampledAt;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
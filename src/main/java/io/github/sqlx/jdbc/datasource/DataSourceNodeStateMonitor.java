@@ -25,6 +25,8 @@ import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -74,6 +76,7 @@ public class DataSourceNodeStateMonitor {
             try {
                 connection = dataSourceWrapper.getConnection();
                 DatabaseMetaData metaData = connection.getMetaData();
+                dataSourceWrapper.captureMetaDataSnapshot(metaData);
                 String url = metaData.getURL();
                 if (log.isDebugEnabled()) {
                     log.debug("{} datasource execute heartbeat Sql [{}] URL [{}]" , dataSourceWrapper.getNodeAttribute().getName() , heartbeatSql , url);
@@ -84,6 +87,7 @@ public class DataSourceNodeStateMonitor {
                 if (rna.getNodeState() == NodeState.DOWN || rna.getNodeState() == NodeState.UNKNOWN) {
                     dataSourceWrapper.getNodeAttribute().setNodeState(NodeState.UP);
                 }
+                probeReplicationLag(connection, rna);
             } catch (Exception e) {
                 dataSourceWrapper.getNodeAttribute().setNodeState(NodeState.DOWN);
                 log.error("DataSource {} Health Monitor Error" , dataSourceWrapper.getName() , e);
@@ -104,5 +108,43 @@ public class DataSourceNodeStateMonitor {
                 }
             }
         }
+
+        /**
+         * Samples the replication lag of the node with its 'replicationLagSql'.
+         * The lag is read from the 'Seconds_Behind_Source' or 'Seconds_Behind_Master' column when the statement returns one,
+         * otherwise from the first column. A NULL lag means the replication is stopped and is taken as infinite.
+         */
+        private void probeReplicationLag(Connection connection, NodeAttribute rna) {
+            String replicationLagSql = rna.getReplicationLagSql();
+            if (StringUtils.isBlank(replicationLagSql)) {
+                return;
+            }
+            try (PreparedStatement ps = connection.prepareStatement(replicationLagSql);
+                 ResultSet rs = ps.executeQuery()) {
+                double lag = 0.0D;
+                if (rs.next()) {
+                    int column = lagColumn(rs.getMetaData());
+                    double value = rs.getDouble(column);
+                    lag = rs.wasNull() ? Double.POSITIVE_INFINITY : value;
+                }
+                rna.setReplicationLag(lag);
+                if (log.isDebugEnabled()) {
+                    log.debug("{} datasource replication lag [{}]" , rna.getName() , lag);
+                }
+            } catch (Exception e) {
+                rna.setReplicationLag(null);
+                log.warn("DataSource {} Replication Lag Probe Error" , dataSourceWrapper.getName() , e);
+            }
+        }
+
+        private int lagColumn(ResultSetMetaData metaData) throws SQLException {
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                String label = metaData.getColumnLabel(i);
+                if ("Seconds_Behind_Source".equalsIgnoreCase(label) || "Seconds_Behind_Master".equalsIgnoreCase(label)) {
+                    return i;
+                }
+            }
+            return 1;
+        }
     }
 }
@@ -0,0 +1,59 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.jdbc.datasource;
+
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * How long a node took to start when the application started.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Data
+public class DataSourceStartupTiming implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String name;
+
+    /**
+     * The time spent building the data source, including its init method and init SQL script.
+     */
+    private long initializeMillis;
+
+    /**
+     * The time spent warming up the pool, 0 without warm-up.
+     */
+    private long warmUpMillis;
+
+    /**
+     * The connections opened during the warm-up.
+     */
+    private int warmedUpConnections;
+
+    /**
+     * Whether the heartbeat SQL succeeded during the warm-up, {@code null} without warm-up.
+     */
+    private Boolean heartbeatSucceeded;
+
+    /**
+     * The reason the warm-up failed.
+     */
+    private String warmUpError;
+}
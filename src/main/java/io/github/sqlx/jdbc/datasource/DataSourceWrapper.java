@@ -17,6 +17,7 @@
 package io.github.sqlx.jdbc.datasource;
 
 import io.github.sqlx.NodeAttribute;
+import io.github.sqlx.jdbc.DatabaseMetaDataSnapshot;
 import io.github.sqlx.util.StringUtils;
 import lombok.Getter;
 import lombok.Setter;
@@ -26,6 +27,7 @@ import org.joor.Reflect;
 import javax.sql.DataSource;
 import java.io.PrintWriter;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.util.concurrent.Future;
@@ -49,6 +51,7 @@ public class DataSourceWrapper implements DataSource {
     /**
      * The actual data source being wrapped.
      */
+    @Getter
     private final DataSource delegate;
 
     /**
@@ -67,6 +70,11 @@ public class DataSourceWrapper implements DataSource {
     @Getter
     private Future<?> stateMonitorFuture;
 
+    /**
+     * The constant metadata of the node, captured by the first heartbeat or the first metadata request.
+     */
+    private volatile DatabaseMetaDataSnapshot metaDataSnapshot;
+
     /**
      * Constructs a DataSourceWrapper instance.
      *
@@ -131,6 +139,40 @@ public class DataSourceWrapper implements DataSource {
         return delegate.getParentLogger();
     }
 
+    /**
+     * Returns the constant metadata of the node, capturing it with a connection of this data source if necessary.
+     *
+     * @return the snapshot, or {@code null} if no connection could be acquired
+     */
+    public DatabaseMetaDataSnapshot getMetaDataSnapshot() {
+        DatabaseMetaDataSnapshot snapshot = this.metaDataSnapshot;
+        if (snapshot != null) {
+            return snapshot;
+        }
+        synchronized (this) {
+            if (this.metaDataSnapshot == null) {
+                try (Connection connection = delegate.getConnection()) {
+                    captureMetaDataSnapshot(connection.getMetaData());
+                } catch (Exception e) {
+                    log.warn("DataSource {} failed to capture the database metadata", name, e);
+                }
+            }
+            return this.metaDataSnapshot;
+        }
+    }
+
+    /**
+     * Captures the constant metadata of the node unless it was already captured.
+     *
+     * @param metaData the metadata of a connection of this data source
+     */
+    public void captureMetaDataSnapshot(DatabaseMetaData metaData) {
+        if (this.metaDataSnapshot == null && metaData != null) {
+            this.metaDataSnapshot = DatabaseMetaDataSnapshot.capture(metaData);
+            log.info("DataSource {} database metadata captured", name);
+        }
+    }
+
     /**
      * Destroys the wrapped data source if necessary, and cancels the state monitoring task.
      */
@@ -44,6 +44,8 @@ public class DatasourceManager {
 
     private final Map<String , DataSourceWrapper> dataSources = new ConcurrentHashMap<>();
 
+    private final Map<String , DataSourceStartupTiming> startupTimings = new ConcurrentHashMap<>();
+
     private final SqlXConfiguration configuration;
 
     public DatasourceManager(SqlXConfiguration configuration) {
@@ -62,12 +64,26 @@ public class DatasourceManager {
         }
     }
 
+    public void addStartupTimings(List<DataSourceStartupTiming> timings) {
+        if (timings != null) {
+            timings.forEach(timing -> startupTimings.put(timing.getName() , timing));
+        }
+    }
+
+    /**
+     * @return the startup timing of every node started with the application
+     */
+    public List<DataSourceStartupTiming> getStartupTimings() {
+        return Collections.unmodifiableList(new ArrayList<>(startupTimings.values()));
+    }
+
     public synchronized void removeDataSource(String name) {
         if (!containsDataSource(name)) {
             throw new ManagementException("No such datasource: " + name);
         }
         boolean removed = configuration.removeDataSourceConfiguration(name);
         if (removed) {
+            startupTimings.remove(name);
             DataSourceWrapper dataSourceWrapper = dataSources.remove(name);
             if (dataSourceWrapper != null) {
                 dataSourceWrapper.destroy();
@@ -29,6 +29,7 @@ import io.github.sqlx.util.StringUtils;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.sql.DataSource;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -81,6 +82,15 @@ public class DefaultSqlXDataSource extends AbstractSqlXDataSource {
      */
     @Override
     public RoutedDataSource getDataSource(String sql) {
+        return route(new RoutingKey().setSql(sql));
+    }
+
+    @Override
+    public RoutedDataSource getFallbackDataSource(String sql, String saturatedNode) {
+        return route(new RoutingKey().setSql(sql).setFallbackFrom(saturatedNode));
+    }
+
+    private RoutedDataSource route(RoutingKey key) {
         Optional<Cluster> clusterOptional = lookingForCluster();
         Cluster cluster = null;
         RouteRule rule;
@@ -92,7 +102,7 @@ public class DefaultSqlXDataSource extends AbstractSqlXDataSource {
             rule = routeRule;
             log.debug("Using default route rule");
         }
-        RouteInfo routeInfo = rule.route(new RoutingKey().setSql(sql).setCluster(cluster));
+        RouteInfo routeInfo = rule.route(key.setCluster(cluster));
         DataSource dataSource = getDataSourceWithName(routeInfo.getHitNodeAttr().getName());
         return new RoutedDataSource(dataSource, routeInfo);
     }
@@ -125,6 +135,36 @@ public class DefaultSqlXDataSource extends AbstractSqlXDataSource {
         return new RoutedDataSource(dataSource, routeInfo);
     }
 
+    /**
+     * Resolves the nodes of a scatter-gather query.
+     * The readable nodes of the cluster are used, restricted to the nodes of the routing attribute if any;
+     * without a cluster, the available nodes of the routing attribute are used.
+     *
+     * @param routeInfo the route of the query
+     * @return the names of the nodes
+     */
+    @Override
+    public List<String> getScatterNodes(RouteInfo routeInfo) {
+        RouteAttribute ra = RoutingContext.getRoutingAttribute();
+        List<String> forcedNodes = ra != null ? ra.getNodes() : null;
+        Cluster cluster = routeInfo.getCluster();
+        if (Objects.nonNull(cluster)) {
+            return clusterManager.getAvailableReadableNodes(cluster.getName()).stream()
+                    .filter(node -> CollectionUtils.isEmpty(forcedNodes) || forcedNodes.contains(node))
+                    .collect(Collectors.toList());
+        }
+        if (CollectionUtils.isEmpty(forcedNodes)) {
+            return Collections.emptyList();
+        }
+        return forcedNodes.stream()
+                .distinct()
+                .filter(node -> {
+                    DataSourceWrapper dataSource = datasourceManager.getDataSource(node);
+                    return dataSource != null && (dataSource.getNodeAttribute().getNodeState() == null || dataSource.getNodeAttribute().getNodeState().isAvailable());
+                })
+                .collect(Collectors.toList());
+    }
+
     /**
      * Determines which cluster to use for routing based on the current routing context.
      * If a specific cluster is specified in the routing attributes, that cluster is used;
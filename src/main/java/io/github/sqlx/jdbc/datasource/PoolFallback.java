@@ -0,0 +1,312 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.jdbc.datasource;
+
+import io.github.sqlx.NodeAttribute;
+import io.github.sqlx.config.PoolFallbackConfiguration;
+import io.github.sqlx.config.SqlXConfiguration;
+import io.github.sqlx.loadbalance.NodeAdmission;
+import io.github.sqlx.rule.RouteInfo;
+import io.github.sqlx.sql.SqlAttribute;
+import io.github.sqlx.util.NamedThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * The fallback of read statements from the nodes whose connection pool is exhausted, see {@link PoolFallbackConfiguration}.
+ * <p>
+ * JDBC has no timeout for a single connection acquisition, so a connection of a pool without idle connections is
+ * acquired on a helper thread and the statement waits for it at most the budget. A connection that arrives later
+ * is closed, back to its pool. The exhausted node is then avoided by the load balancers through {@link NodeAdmission}.
+ * The pools of HikariCP and DBCP2 report their idle connections, their nodes are avoided before the budget is spent
+ * and a connection of a pool with idle connections is acquired on the calling thread.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Slf4j
+public class PoolFallback implements NodeAdmission {
+
+    private static final int MAX_THREADS = 64;
+
+    /**
+     * Acquires the connections of the pools without idle connections, the calling thread acquires them itself,
+     * without budget, when all threads are busy.
+     */
+    private static final ThreadPoolExecutor THREAD_POOL = new ThreadPoolExecutor(0, MAX_THREADS, 60L, TimeUnit.SECONDS,
+            new SynchronousQueue<>(), new NamedThreadFactory("sqlx-pool-fallback", true), new ThreadPoolExecutor.CallerRunsPolicy());
+
+    private static final Map<Class<?>, PoolProbe> PROBES = new ConcurrentHashMap<>();
+
+    private final PoolFallbackConfiguration configuration;
+
+    private final DatasourceManager datasourceManager;
+
+    private final Map<String, Long> saturatedUntil = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<String> excluded = new ThreadLocal<>();
+
+    public PoolFallback(SqlXConfiguration sqlXConfiguration, DatasourceManager datasourceManager) {
+        this.configuration = sqlXConfiguration.getPoolFallback();
+        this.datasourceManager = datasourceManager;
+    }
+
+    public boolean isEnabled() {
+        return configuration != null && Boolean.TRUE.equals(configuration.getEnabled());
+    }
+
+    /**
+     * Only the read statements of a cluster outside of a transaction fall back, once.
+     *
+     * @param routeInfo the route of the statement
+     * @return whether the statement may fall back to another node
+     */
+    public boolean isEligible(RouteInfo routeInfo) {
+        if (!isEnabled() || routeInfo == null || routeInfo.getCluster() == null || routeInfo.getHitNodeAttr() == null
+                || routeInfo.getFallbackFrom() != null || Boolean.TRUE.equals(routeInfo.getIsTransactionActive())) {
+            return false;
+        }
+        SqlAttribute sqlAttribute = routeInfo.getSqlAttribute();
+        return sqlAttribute != null && sqlAttribute.isRead() && !sqlAttribute.isWrite();
+    }
+
+    /**
+     * Acquires a connection of a node within the budget.
+     *
+     * @param node       the node
+     * @param dataSource the data source of the node
+     * @param supplier   acquires the connection from the data source
+     * @return the connection, {@code null} if the budget is exceeded
+     * @throws SQLException if the connection cannot be acquired or the thread is interrupted
+     */
+    public Connection acquire(String node, DataSource dataSource, ConnectionSupplier supplier) throws SQLException {
+        if (Boolean.TRUE.equals(hasCapacity(dataSource))) {
+            return supplier.get();
+        }
+        CompletableFuture<Connection> future = new CompletableFuture<>();
+        THREAD_POOL.execute(() -> {
+            try {
+                Connection connection = supplier.get();
+                if (!future.complete(connection)) {
+                    closeQuietly(node, connection);
+                }
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        try {
+            return future.get(configuration.getAcquireBudgetMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (future.complete(null)) {
+                log.debug("No connection of node [{}] within {} ms", node, configuration.getAcquireBudgetMillis());
+                return null;
+            }
+            return result(future);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (!future.complete(null)) {
+                closeQuietly(node, future.getNow(null));
+            }
+            throw new SQLException(String.format("Interrupted while waiting for a connection of node [%s]", node), e);
+        } catch (ExecutionException e) {
+            throw toSqlException(e.getCause());
+        }
+    }
+
+    private static Connection result(CompletableFuture<Connection> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw toSqlException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(e);
+        }
+    }
+
+    private static SQLException toSqlException(Throwable e) {
+        if (e instanceof SQLException) {
+            return (SQLException) e;
+        }
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new SQLException(e);
+    }
+
+    private static void closeQuietly(String node, Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.warn("Failed to close a late connection of node [{}]", node, e);
+        }
+    }
+
+    /**
+     * Avoids a node whose pool exceeded the budget for the saturation penalty.
+     *
+     * @param node the node
+     */
+    public void markSaturated(String node) {
+        if (node != null && configuration.getSaturationPenaltyMillis() > 0) {
+            saturatedUntil.put(node, System.currentTimeMillis() + configuration.getSaturationPenaltyMillis());
+        }
+    }
+
+    /**
+     * Routes a statement again on the calling thread with a node excluded.
+     *
+     * @param node    the excluded node
+     * @param routing routes the statement
+     * @param <T>     the routing result
+     * @return the routing result
+     */
+    public <T> T excluding(String node, Supplier<T> routing) {
+        String previous = excluded.get();
+        excluded.set(node);
+        try {
+            return routing.get();
+        } finally {
+            if (previous == null) {
+                excluded.remove();
+            } else {
+                excluded.set(previous);
+            }
+        }
+    }
+
+    @Override
+    public boolean isExcluded(NodeAttribute node) {
+        return node != null && Objects.equals(node.getName(), excluded.get());
+    }
+
+    @Override
+    public boolean isSaturated(NodeAttribute node) {
+        if (!isEnabled() || node == null) {
+            return false;
+        }
+        Long until = saturatedUntil.get(node.getName());
+        if (until != null) {
+            if (until > System.currentTimeMillis()) {
+                return true;
+            }
+            saturatedUntil.remove(node.getName(), until);
+        }
+        DataSourceWrapper dataSource = datasourceManager.getDataSource(node.getName());
+        return dataSource != null && Boolean.FALSE.equals(hasCapacity(dataSource));
+    }
+
+    /**
+     * Whether a connection of a pool can be handed out without waiting.
+     *
+     * @param dataSource the data source, a routed or wrapped data source is unwrapped to its pool
+     * @return {@code true} if the pool has an idle connection or may open one, {@code false} if it is exhausted,
+     * {@code null} if the pool does not report its connections
+     */
+    static Boolean hasCapacity(DataSource dataSource) {
+        DataSource pool = dataSource;
+        if (pool instanceof RoutedDataSource) {
+            pool = ((RoutedDataSource) pool).getDelegate();
+        }
+        if (pool instanceof DataSourceWrapper) {
+            pool = ((DataSourceWrapper) pool).getDelegate();
+        }
+        if (pool == null) {
+            return null;
+        }
+        PoolProbe probe = PROBES.computeIfAbsent(pool.getClass(), PoolFallback::probe);
+        try {
+            return probe.hasCapacity(pool);
+        } catch (InvocationTargetException | IllegalAccessException | RuntimeException e) {
+            log.debug("Unable to read the connections of pool {}", pool.getClass().getName(), e);
+            return null;
+        }
+    }
+
+    private static PoolProbe probe(Class<?> type) {
+        try {
+            if (type.getName().startsWith("com.zaxxer.hikari.")) {
+                Method mxBean = type.getMethod("getHikariPoolMXBean");
+                Method idle = mxBean.getReturnType().getMethod("getIdleConnections");
+                Method total = mxBean.getReturnType().getMethod("getTotalConnections");
+                Method waiting = mxBean.getReturnType().getMethod("getThreadsAwaitingConnection");
+                Method max = type.getMethod("getMaximumPoolSize");
+                return pool -> {
+                    Object bean = mxBean.invoke(pool);
+                    if (bean == null) {
+                        // the pool is started by its first connection
+                        return null;
+                    }
+                    if ((int) idle.invoke(bean) > 0) {
+                        return true;
+                    }
+                    return (int) total.invoke(bean) < (int) max.invoke(pool) && (int) waiting.invoke(bean) == 0;
+                };
+            }
+            if (type.getName().startsWith("org.apache.commons.dbcp2.")) {
+                Method idle = type.getMethod("getNumIdle");
+                Method active = type.getMethod("getNumActive");
+                Method max = type.getMethod("getMaxTotal");
+                return pool -> {
+                    if ((int) idle.invoke(pool) > 0) {
+                        return true;
+                    }
+                    int maxTotal = (int) max.invoke(pool);
+                    return maxTotal < 0 || (int) active.invoke(pool) < maxTotal;
+                };
+            }
+        } catch (NoSuchMethodException e) {
+            log.debug("Pool {} does not report its connections", type.getName(), e);
+        }
+        return pool -> null;
+    }
+
+    /**
+     * Acquires a connection from a data source.
+     */
+    @FunctionalInterface
+    public interface ConnectionSupplier {
+
+        Connection get() throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface PoolProbe {
+
+        Boolean hasCapacity(Object pool) throws InvocationTargetException, IllegalAccessException;
+    }
+}
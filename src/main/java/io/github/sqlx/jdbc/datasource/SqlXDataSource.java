@@ -16,7 +16,14 @@
 
 package io.github.sqlx.jdbc.datasource;
 
+import io.github.sqlx.jdbc.bulkhead.Bulkheads;
+import io.github.sqlx.jdbc.timeout.QueryTimeouts;
+import io.github.sqlx.jdbc.cache.ResultCache;
+import io.github.sqlx.rule.RouteInfo;
+
 import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * The data source that provides the ability to route multiple data sources,
@@ -50,4 +57,62 @@ public interface SqlXDataSource extends DataSource {
      */
     RoutedDataSource getDataSourceForDatabaseMetaData();
 
+    /**
+     * Resolves the nodes a scatter-gather query is sent to, see {@link io.github.sqlx.annotation.SqlRouting#scatter()}.
+     *
+     * @param routeInfo the route of the query
+     * @return the names of the available readable nodes, empty if the query cannot be scattered
+     */
+    default List<String> getScatterNodes(RouteInfo routeInfo) {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns the read-through cache of query results.
+     *
+     * @return the result cache, {@code null} if results are not cached
+     */
+    default ResultCache getResultCache() {
+        return null;
+    }
+
+    /**
+     * Returns the bulkheads bounding the concurrent statements of the nodes and clusters.
+     *
+     * @return the bulkheads, {@code null} if the statements are not bounded
+     */
+    default Bulkheads getBulkheads() {
+        return null;
+    }
+
+    /**
+     * Returns the fallback of read statements from the nodes whose connection pool is exhausted.
+     *
+     * @return the pool fallback, {@code null} if read statements wait for the pool of their node
+     */
+    default PoolFallback getPoolFallback() {
+        return null;
+    }
+
+    /**
+     * Returns the default query timeouts of the statements and the watchdog cancelling the overdue ones.
+     *
+     * @return the query timeouts, {@code null} if the statements get no default timeout
+     */
+    default QueryTimeouts getQueryTimeouts() {
+        return null;
+    }
+
+    /**
+     * Routes a read statement again after the connection pool of its node was exhausted,
+     * the node is excluded by the {@link PoolFallback} while the statement is routed.
+     *
+     * @param sql           the SQL statement
+     * @param saturatedNode the node whose pool is exhausted
+     * @return the routed data source, the route records the node it falls back from
+     */
+    default RoutedDataSource getFallbackDataSource(String sql, String saturatedNode) {
+        return getDataSource(sql);
+    }
+
 }
@@ -0,0 +1,149 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.jdbc.timeout;
+
+import io.github.sqlx.config.ClusterConfiguration;
+import io.github.sqlx.config.DataSourceConfiguration;
+import io.github.sqlx.config.QueryTimeoutConfiguration;
+import io.github.sqlx.config.SqlXConfiguration;
+import io.github.sqlx.rule.RouteInfo;
+import io.github.sqlx.sql.SqlType;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The default query timeouts of the nodes, clusters and SQL types, see {@link QueryTimeoutConfiguration}.
+ * <p>
+ * The timeout is set on a physical statement when it is created, unless the application set its own.
+ * The {@link StatementWatchdog} watches the executions of every statement with a query timeout.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public class QueryTimeouts {
+
+    private final QueryTimeoutConfiguration configuration;
+
+    private final Map<String, Integer> nodes = new HashMap<>();
+
+    private final Map<String, Integer> clusters = new HashMap<>();
+
+    private final Map<SqlType, Integer> sqlTypes = new EnumMap<>(SqlType.class);
+
+    private final StatementWatchdog watchdog;
+
+    public QueryTimeouts(SqlXConfiguration sqlXConfiguration) {
+        this.configuration = sqlXConfiguration.getQueryTimeout();
+        if (!isEnabled()) {
+            this.watchdog = null;
+            return;
+        }
+        for (DataSourceConfiguration dsConf : sqlXConfiguration.getDataSources()) {
+            if (Objects.nonNull(dsConf.getQueryTimeoutSeconds())) {
+                nodes.put(dsConf.getName(), dsConf.getQueryTimeoutSeconds());
+            }
+        }
+        for (ClusterConfiguration cc : sqlXConfiguration.getClusters()) {
+            if (Objects.nonNull(cc.getQueryTimeoutSeconds())) {
+                clusters.put(cc.getName(), cc.getQueryTimeoutSeconds());
+            }
+        }
+        if (Objects.nonNull(configuration.getSqlTypeSeconds())) {
+            sqlTypes.putAll(configuration.getSqlTypeSeconds());
+        }
+        this.watchdog = Boolean.TRUE.equals(configuration.getWatchdogEnabled())
+                ? new StatementWatchdog(configuration.getWatchdogTickMillis(), configuration.getWatchdogGraceMillis()) : null;
+    }
+
+    public boolean isEnabled() {
+        return configuration != null && Boolean.TRUE.equals(configuration.getEnabled());
+    }
+
+    /**
+     * Resolves the default query timeout of a route, the timeout of the node overrides the timeout of the cluster,
+     * which overrides the timeout of the SQL type, which overrides the default timeout.
+     *
+     * @param routeInfo the route of the statement
+     * @return the query timeout in seconds, 0 if none applies
+     */
+    public int resolve(RouteInfo routeInfo) {
+        Integer seconds = null;
+        if (routeInfo != null) {
+            if (routeInfo.getHitNodeAttr() != null) {
+                seconds = nodes.get(routeInfo.getHitNodeAttr().getName());
+            }
+            if (seconds == null && routeInfo.getCluster() != null) {
+                seconds = clusters.get(routeInfo.getCluster().getName());
+            }
+            if (seconds == null && routeInfo.getSqlAttribute() != null && routeInfo.getSqlAttribute().getSqlType() != null) {
+                seconds = sqlTypes.get(routeInfo.getSqlAttribute().getSqlType());
+            }
+        }
+        if (seconds == null) {
+            seconds = configuration.getDefaultSeconds();
+        }
+        return seconds != null ? seconds : 0;
+    }
+
+    /**
+     * Sets the default query timeout of its route on a physical statement whose application set none.
+     *
+     * @param statement the physical statement
+     * @param routeInfo the route of the statement
+     * @throws SQLException if the timeout cannot be set
+     */
+    public void applyDefault(Statement statement, RouteInfo routeInfo) throws SQLException {
+        int seconds = resolve(routeInfo);
+        if (seconds > 0) {
+            statement.setQueryTimeout(seconds);
+        }
+    }
+
+    /**
+     * Watches a statement about to execute, see {@link StatementWatchdog#watch(Statement, String)}.
+     *
+     * @param statement the physical statement
+     * @param routeInfo the route of the statement
+     * @return the watch, {@link StatementWatchdog.Watch#NONE} if the statements are not watched
+     * @throws SQLException if the query timeout of the statement cannot be read
+     */
+    public StatementWatchdog.Watch watch(Statement statement, RouteInfo routeInfo) throws SQLException {
+        if (watchdog == null) {
+            return StatementWatchdog.Watch.NONE;
+        }
+        String node = routeInfo != null && routeInfo.getHitNodeAttr() != null ? routeInfo.getHitNodeAttr().getName() : null;
+        return watchdog.watch(statement, node);
+    }
+
+    /**
+     * @return the statements cancelled by the watchdog by node
+     */
+    public Map<String, Long> getCancellations() {
+        return watchdog != null ? watchdog.getCancellations() : Collections.emptyMap();
+    }
+
+    public void stop() {
+        if (watchdog != null) {
+            watchdog.stop();
+        }
+    }
+}
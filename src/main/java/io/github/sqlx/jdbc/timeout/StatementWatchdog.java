@@ -0,0 +1,235 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.jdbc.timeout;
+
+import io.github.sqlx.util.NamedThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Cancels the statements still running after their query timeout, for the drivers that do not enforce it.
+ * <p>
+ * The watched statements are kept in a hashed timer wheel turned by one thread, a statement is added to the bucket
+ * of its deadline and checked once per turn of the wheel, so watching and completing a statement is constant time.
+ * {@link Statement#cancel()} is called on another thread, some drivers open a connection to cancel a statement.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Slf4j
+public class StatementWatchdog {
+
+    private static final int WHEEL_SIZE = 512;
+
+    private static final int MAX_CANCEL_THREADS = 4;
+
+    private static final ThreadPoolExecutor CANCEL_POOL = new ThreadPoolExecutor(0, MAX_CANCEL_THREADS, 60L, TimeUnit.SECONDS,
+            new SynchronousQueue<>(), new NamedThreadFactory("sqlx-statement-cancel", true), new ThreadPoolExecutor.CallerRunsPolicy());
+
+    private final long tickNanos;
+
+    private final long graceNanos;
+
+    private final Queue<Watch>[] wheel;
+
+    private final long startNanos = System.nanoTime();
+
+    private final Thread worker;
+
+    private final Map<String, LongAdder> cancellations = new ConcurrentHashMap<>();
+
+    private volatile long tick;
+
+    private volatile boolean running = true;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public StatementWatchdog(long tickMillis, long graceMillis) {
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.graceNanos = TimeUnit.MILLISECONDS.toNanos(graceMillis);
+        this.wheel = new Queue[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.worker = new NamedThreadFactory("sqlx-statement-watchdog", true).newThread(this::run);
+        this.worker.start();
+    }
+
+    /**
+     * Watches a statement about to execute until {@link Watch#done()} is called.
+     *
+     * @param statement the physical statement
+     * @param node      the node the statement executes on
+     * @return the watch, {@link Watch#NONE} if the statement has no query timeout
+     * @throws SQLException if the query timeout of the statement cannot be read
+     */
+    public Watch watch(Statement statement, String node) throws SQLException {
+        int seconds = statement.getQueryTimeout();
+        if (seconds <= 0 || !running) {
+            return Watch.NONE;
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds) + graceNanos;
+        Watch watch = new Watch(statement, node, deadline);
+        long ticks = Math.max((deadline - startNanos + tickNanos - 1) / tickNanos, tick + 1);
+        wheel[(int) (ticks & (WHEEL_SIZE - 1))].add(watch);
+        return watch;
+    }
+
+    private void run() {
+        while (running) {
+            long next = startNanos + (tick + 1) * tickNanos;
+            long sleep = next - System.nanoTime();
+            if (sleep > 0) {
+                LockSupport.parkNanos(this, sleep);
+                continue;
+            }
+            tick = tick + 1;
+            expire(wheel[(int) (tick & (WHEEL_SIZE - 1))], System.nanoTime());
+        }
+    }
+
+    private void expire(Queue<Watch> bucket, long now) {
+        for (Iterator<Watch> it = bucket.iterator(); it.hasNext(); ) {
+            Watch watch = it.next();
+            if (watch.state.get() != Watch.WATCHING) {
+                it.remove();
+            } else if (watch.deadline - now <= 0) {
+                it.remove();
+                if (watch.expire()) {
+                    CANCEL_POOL.execute(() -> cancel(watch));
+                }
+            }
+        }
+    }
+
+    private void cancel(Watch watch) {
+        try {
+            if (!watch.cancel()) {
+                return;
+            }
+            cancellations.computeIfAbsent(String.valueOf(watch.node), k -> new LongAdder()).increment();
+            log.warn("Cancelled a statement of node [{}] still running after its query timeout", watch.node);
+        } catch (SQLException e) {
+            log.warn("Failed to cancel an overdue statement of node [{}]", watch.node, e);
+        }
+    }
+
+    /**
+     * @return the statements cancelled by the watchdog by node
+     */
+    public Map<String, Long> getCancellations() {
+        Map<String, Long> counts = new TreeMap<>();
+        cancellations.forEach((node, count) -> counts.put(node, count.sum()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    public long getCancellationCount() {
+        return cancellations.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    /**
+     * A watched statement.
+     */
+    public static final class Watch {
+
+        public static final Watch NONE = new Watch(null, null, 0L);
+
+        private static final int WATCHING = 0;
+
+        private static final int DONE = 1;
+
+        private static final int EXPIRED = 2;
+
+        private static final int CANCELLED = 3;
+
+        private final Statement statement;
+
+        private final String node;
+
+        private final long deadline;
+
+        private final AtomicInteger state = new AtomicInteger(WATCHING);
+
+        Watch(Statement statement, String node, long deadline) {
+            this.statement = statement;
+            this.node = node;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Stops watching the statement once it completed.
+         * <p>
+         * Waits for a cancellation in progress, and a statement completed before its pending cancellation ran is
+         * not cancelled, so the next execution of the statement can never be cancelled in its place.
+         */
+        public synchronized void done() {
+            int current = state.get();
+            if (current == WATCHING || current == EXPIRED) {
+                state.set(DONE);
+            }
+        }
+
+        /**
+         * @return whether the watchdog cancelled the statement
+         */
+        public boolean isExpired() {
+            return state.get() == CANCELLED;
+        }
+
+        /**
+         * Marks the statement overdue, it is cancelled later unless it completes first.
+         *
+         * @return whether the statement was still watched
+         */
+        boolean expire() {
+            return state.compareAndSet(WATCHING, EXPIRED);
+        }
+
+        /**
+         * Cancels the overdue statement if it has not completed in the meantime.
+         *
+         * @return whether the statement was cancelled
+         * @throws SQLException if the driver fails to cancel the statement
+         */
+        synchronized boolean cancel() throws SQLException {
+            if (state.get() != EXPIRED) {
+                return false;
+            }
+            state.set(CANCELLED);
+            statement.cancel();
+            return true;
+        }
+    }
+}
@@ -15,20 +15,41 @@
  */
 package io.github.sqlx.jdbc.transaction;
 
-import io.github.sqlx.util.UUIDUtils;
+import io.github.sqlx.util.TimeOrderedId;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 
 /**
+ * Generates transaction ids of the form {@code yyyyMMddHHmmssSSS@id}, the formatted time is reused by a thread
+ * for the transactions that begin in the same millisecond.
+ *
  * @author He Xing Mo
  * @since 1.0
  */
 public class TimestampUUIDTransactionIdGenerator implements TransactionIdGenerator {
 
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS").withZone(ZoneId.systemDefault());
+
+    private static final ThreadLocal<FormattedTime> LAST_TIME = ThreadLocal.withInitial(FormattedTime::new);
+
     @Override
     public String getTransactionId() {
-        SimpleDateFormat format = new SimpleDateFormat("yyyyMMddHHmmssSSS");
-        return format.format(new Date()) + "@" + UUIDUtils.getSimpleUUID();
+        TimeOrderedId id = TimeOrderedId.next();
+        FormattedTime time = LAST_TIME.get();
+        long millis = id.getTimestamp();
+        if (time.text == null || time.millis != millis) {
+            time.millis = millis;
+            time.text = FORMATTER.format(Instant.ofEpochMilli(millis)) + "@";
+        }
+        return time.text + id;
+    }
+
+    private static final class FormattedTime {
+
+        private long millis;
+
+        private String text;
     }
 }
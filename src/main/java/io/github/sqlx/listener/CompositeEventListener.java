@@ -21,6 +21,7 @@ import io.github.sqlx.jdbc.ResultSetInfo;
 import io.github.sqlx.jdbc.StatementInfo;
 import io.github.sqlx.rule.RouteInfo;
 
+import java.lang.reflect.Method;
 import java.sql.SQLException;
 import java.sql.Savepoint;
 import java.util.Collections;
@@ -34,12 +35,31 @@ public class CompositeEventListener implements EventListener {
 
     private final List<EventListener> eventListeners;
 
+    /**
+     * Whether any listener takes the parameter values of prepared statements, the values are not passed on otherwise,
+     * so the primitive values are not boxed for the listeners that ignore them.
+     */
+    private volatile boolean parameterValuesListened;
+
     public CompositeEventListener(List<EventListener> eventListeners) {
         this.eventListeners = eventListeners;
+        this.parameterValuesListened = eventListeners.stream().anyMatch(CompositeEventListener::listensToParameterValues);
     }
 
     public void addListener(EventListener listener) {
         eventListeners.add(listener);
+        if (listensToParameterValues(listener)) {
+            parameterValuesListened = true;
+        }
+    }
+
+    private static boolean listensToParameterValues(EventListener listener) {
+        for (Method method : listener.getClass().getMethods()) {
+            if ("onAfterPreparedStatementSet".equals(method.getName()) && method.getDeclaringClass() != EventListener.class) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public List<EventListener> getEventListeners() {
@@ -293,6 +313,79 @@ public class CompositeEventListener implements EventListener {
 
     @Override
     public void onAfterPreparedStatementSet(PreparedStatementInfo statementInformation, int parameterIndex, Object value, SQLException e) {
+        if (!parameterValuesListened) {
+            return;
+        }
+        for (EventListener eventListener : eventListeners) {
+            eventListener.onAfterPreparedStatementSet(statementInformation , parameterIndex , value , e);
+        }
+    }
+
+    @Override
+    public void onAfterPreparedStatementSet(PreparedStatementInfo statementInformation, int parameterIndex, boolean value, SQLException e) {
+        if (!parameterValuesListened) {
+            return;
+        }
+        for (EventListener eventListener : eventListeners) {
+            eventListener.onAfterPreparedStatementSet(statementInformation , parameterIndex , value , e);
+        }
+    }
+
+    @Override
+    public void onAfterPreparedStatementSet(PreparedStatementInfo statementInformation, int parameterIndex, byte value, SQLException e) {
+        if (!parameterValuesListened) {
+            return;
+        }
+        for (EventListener eventListener : eventListeners) {
+            eventListener.onAfterPreparedStatementSet(statementInformation , parameterIndex , value , e);
+        }
+    }
+
+    @Override
+    public void onAfterPreparedStatementSet(PreparedStatementInfo statementInformation, int parameterIndex, short value, SQLException e) {
+        if (!parameterValuesListened) {
+            return;
+        }
+        for (EventListener eventListener : eventListeners) {
+            eventListener.onAfterPreparedStatementSet(statementInformation , parameterIndex , value , e);
+        }
+    }
+
+    @Override
+    public void onAfterPreparedStatementSet(PreparedStatementInfo statementInformation, int parameterIndex, int value, SQLException e) {
+        if (!parameterValuesListened) {
+            return;
+        }
+        for (EventListener eventListener : eventListeners) {
+            eventListener.onAfterPreparedStatementSet(statementInformation , parameterIndex , value , e);
+        }
+    }
+
+    @Override
+    public void onAfterPreparedStatementSet(PreparedStatementInfo statementInformation, int parameterIndex, long value, SQLException e) {
+        if (!parameterValuesListened) {
+            return;
+        }
+        for (EventListener eventListener : eventListeners) {
+            eventListener.onAfterPreparedStatementSet(statementInformation , parameterIndex , value , e);
+        }
+    }
+
+    @Override
+    public void onAfterPreparedStatementSet(PreparedStatementInfo statementInformation, int parameterIndex, float value, SQLException e) {
+        if (!parameterValuesListened) {
+            return;
+        }
+        for (EventListener eventListener : eventListeners) {
+            eventListener.onAfterPreparedStatementSet(statementInformation , parameterIndex , value , e);
+        }
+    }
+
+    @Override
+    public void onAfterPreparedStatementSet(PreparedStatementInfo statementInformation, int parameterIndex, double value, SQLException e) {
+        if (!parameterValuesListened) {
+            return;
+        }
         for (EventListener eventListener : eventListeners) {
             eventListener.onAfterPreparedStatementSet(statementInformation , parameterIndex , value , e);
         }
@@ -16,6 +16,7 @@
 package io.github.sqlx.listener;
 
 import io.github.sqlx.jdbc.CallableStatementInfo;
+import io.github.sqlx.jdbc.ParameterCapturePolicy;
 import io.github.sqlx.jdbc.PreparedStatementInfo;
 import io.github.sqlx.jdbc.ResultSetInfo;
 import io.github.sqlx.jdbc.StatementInfo;
@@ -28,6 +29,16 @@ import java.sql.SQLException;
  */
 public class DefaultEventListener implements EventListener {
 
+    private final ParameterCapturePolicy parameterCapturePolicy;
+
+    public DefaultEventListener() {
+        this(ParameterCapturePolicy.ALL);
+    }
+
+    public DefaultEventListener(ParameterCapturePolicy parameterCapturePolicy) {
+        this.parameterCapturePolicy = parameterCapturePolicy;
+    }
+
     @Override
     public void onAfterExecuteQuery(StatementInfo statementInfo, SQLException e) {
         statementInfo.incrementTimeElapsed(statementInfo.getTimeElapsedExecuteNs());
@@ -46,8 +57,17 @@ public class DefaultEventListener implements EventListener {
     }
 
     @Override
-    public void onAfterPreparedStatementSet(PreparedStatementInfo preparedStatementInfo, int parameterIndex, Object value, SQLException e) {
-        preparedStatementInfo.setParameterValue(parameterIndex, value);
+    public void onBeforePrepareStatement(PreparedStatementInfo preparedStatementInfo) {
+        if (parameterCapturePolicy.shouldCapture()) {
+            preparedStatementInfo.enableParameterCapture(parameterCapturePolicy);
+        }
+    }
+
+    @Override
+    public void onBeforeCallableStatement(CallableStatementInfo statementInfo) {
+        if (parameterCapturePolicy.shouldCapture()) {
+            statementInfo.enableParameterCapture(parameterCapturePolicy);
+        }
     }
 
     @Override
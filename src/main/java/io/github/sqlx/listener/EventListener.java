@@ -191,6 +191,38 @@ public interface EventListener {
     default void onAfterPreparedStatementSet(PreparedStatementInfo statementInformation, int parameterIndex, Object value, SQLException e) {
     }
 
+    /*
+     * The primitive values of the setters of a prepared statement, boxed for the listeners that only take the value as an object.
+     */
+
+    default void onAfterPreparedStatementSet(PreparedStatementInfo statementInformation, int parameterIndex, boolean value, SQLException e) {
+        onAfterPreparedStatementSet(statementInformation, parameterIndex, (Object) value, e);
+    }
+
+    default void onAfterPreparedStatementSet(PreparedStatementInfo statementInformation, int parameterIndex, byte value, SQLException e) {
+        onAfterPreparedStatementSet(statementInformation, parameterIndex, (Object) value, e);
+    }
+
+    default void onAfterPreparedStatementSet(PreparedStatementInfo statementInformation, int parameterIndex, short value, SQLException e) {
+        onAfterPreparedStatementSet(statementInformation, parameterIndex, (Object) value, e);
+    }
+
+    default void onAfterPreparedStatementSet(PreparedStatementInfo statementInformation, int parameterIndex, int value, SQLException e) {
+        onAfterPreparedStatementSet(statementInformation, parameterIndex, (Object) value, e);
+    }
+
+    default void onAfterPreparedStatementSet(PreparedStatementInfo statementInformation, int parameterIndex, long value, SQLException e) {
+        onAfterPreparedStatementSet(statementInformation, parameterIndex, (Object) value, e);
+    }
+
+    default void onAfterPreparedStatementSet(PreparedStatementInfo statementInformation, int parameterIndex, float value, SQLException e) {
+        onAfterPreparedStatementSet(statementInformation, parameterIndex, (Object) value, e);
+    }
+
+    default void onAfterPreparedStatementSet(PreparedStatementInfo statementInformation, int parameterIndex, double value, SQLException e) {
+        onAfterPreparedStatementSet(statementInformation, parameterIndex, (Object) value, e);
+    }
+
     default void onBeforeStatementClose(PreparedStatementInfo preparedStatementInfo) {
 
     }
@@ -1202,11 +1202,6 @@ public class LoggingEventListener implements EventListener {
 
     }
 
-    @Override
-    public void onAfterPreparedStatementSet(PreparedStatementInfo statementInformation, int parameterIndex, Object value, SQLException e) {
-
-    }
-
     @Override
     public void onBeforeStatementClose(PreparedStatementInfo statementInfo) {
         if (log.isDebugEnabled()) {
@@ -0,0 +1,188 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.listener;
+
+import io.github.sqlx.jdbc.ConnectionInfo;
+import io.github.sqlx.jdbc.PreparedStatementInfo;
+import io.github.sqlx.jdbc.StatementInfo;
+import io.github.sqlx.metrics.meter.ClusterMeters;
+import io.github.sqlx.metrics.meter.NodeMeters;
+import io.github.sqlx.metrics.meter.SqlXMeters;
+import io.github.sqlx.rule.RouteInfo;
+
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * Updates the in-memory {@link SqlXMeters} of routings, connection acquisitions and statement executions.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public class MeterEventListener implements EventListener {
+
+    private final SqlXMeters meters;
+
+    public MeterEventListener(SqlXMeters meters) {
+        this.meters = meters;
+    }
+
+    @Override
+    public void onBeforeRouting(RouteInfo routeInfo) {
+        meters.cluster(clusterName(routeInfo)).getRoutingsInFlight().increment();
+    }
+
+    @Override
+    public void onAfterRouting(RouteInfo routeInfo, Exception e) {
+        ClusterMeters cluster = meters.cluster(clusterName(routeInfo));
+        cluster.getRoutingsInFlight().decrement();
+        cluster.getRoutings().increment();
+        if (Objects.nonNull(e)) {
+            cluster.getRoutingErrors().increment();
+        }
+        if (Objects.nonNull(routeInfo.getFallbackFrom())) {
+            cluster.getRoutingFallbacks().increment();
+        }
+        cluster.getRoutingLatency().record(routeInfo.getTimeElapsedNanos());
+    }
+
+    @Override
+    public void onBeforeGetConnection(ConnectionInfo connectionInfo) {
+        meters.node(nodeName(connectionInfo.getCurrentRouteInfo())).getConnectionAcquisitionsInFlight().increment();
+    }
+
+    @Override
+    public void onAfterGetConnection(ConnectionInfo connectionInfo, SQLException e) {
+        NodeMeters node = meters.node(nodeName(connectionInfo.getCurrentRouteInfo()));
+        node.getConnectionAcquisitionsInFlight().decrement();
+        node.getConnectionAcquisitions().increment();
+        if (Objects.nonNull(e)) {
+            node.getConnectionAcquisitionErrors().increment();
+        }
+        node.getConnectionAcquisitionLatency().record(connectionInfo.getTimeElapsedToGetConnectionNs());
+    }
+
+    @Override
+    public void onBeforeExecuteQuery(StatementInfo statementInfo) {
+        beforeExecute(statementInfo);
+    }
+
+    @Override
+    public void onAfterExecuteQuery(StatementInfo statementInfo, SQLException e) {
+        afterExecute(statementInfo, e);
+    }
+
+    @Override
+    public void onBeforeExecute(StatementInfo statementInfo) {
+        beforeExecute(statementInfo);
+    }
+
+    @Override
+    public void onAfterExecute(StatementInfo statementInfo, SQLException e) {
+        afterExecute(statementInfo, e);
+    }
+
+    @Override
+    public void onBeforeExecuteUpdate(StatementInfo statementInfo) {
+        beforeExecute(statementInfo);
+    }
+
+    @Override
+    public void onAfterExecuteUpdate(StatementInfo statementInfo, SQLException e) {
+        afterExecute(statementInfo, e);
+    }
+
+    @Override
+    public void onBeforeExecuteQuery(PreparedStatementInfo preparedStatementInfo) {
+        beforeExecute(preparedStatementInfo);
+    }
+
+    @Override
+    public void onAfterExecuteQuery(PreparedStatementInfo preparedStatementInfo, SQLException e) {
+        afterExecute(preparedStatementInfo, e);
+    }
+
+    @Override
+    public void onBeforeExecuteUpdate(PreparedStatementInfo preparedStatementInfo) {
+        beforeExecute(preparedStatementInfo);
+    }
+
+    @Override
+    public void onAfterExecuteUpdate(PreparedStatementInfo preparedStatementInfo, SQLException e) {
+        afterExecute(preparedStatementInfo, e);
+    }
+
+    @Override
+    public void onBeforeExecute(PreparedStatementInfo preparedStatementInfo) {
+        beforeExecute(preparedStatementInfo);
+    }
+
+    @Override
+    public void onAfterExecute(PreparedStatementInfo preparedStatementInfo, SQLException e) {
+        afterExecute(preparedStatementInfo, e);
+    }
+
+    @Override
+    public void onBeforeExecuteBatch(PreparedStatementInfo preparedStatementInfo, long beforeTimeNs) {
+        beforeExecute(preparedStatementInfo);
+    }
+
+    @Override
+    public void onAfterExecuteBatch(PreparedStatementInfo preparedStatementInfo, long afterTimeNs, long timeElapsedNanos, long[] counts, SQLException e) {
+        recordExecute(preparedStatementInfo, timeElapsedNanos, e);
+    }
+
+    private void beforeExecute(StatementInfo statementInfo) {
+        meters.node(nodeName(statementInfo.getRouteInfo())).getStatementsInFlight().increment();
+    }
+
+    /**
+     * The statement is null when it could not be routed, no before event was published then.
+     */
+    private void afterExecute(StatementInfo statementInfo, SQLException e) {
+        if (Objects.nonNull(statementInfo)) {
+            recordExecute(statementInfo, statementInfo.getTimeElapsedExecuteNs(), e);
+        }
+    }
+
+    private void recordExecute(StatementInfo statementInfo, long timeElapsedNanos, SQLException e) {
+        RouteInfo routeInfo = statementInfo.getRouteInfo();
+        NodeMeters node = meters.node(nodeName(routeInfo));
+        node.getStatementsInFlight().decrement();
+        node.getStatements().increment();
+        node.getStatementLatency().record(timeElapsedNanos);
+        ClusterMeters cluster = meters.cluster(clusterName(routeInfo));
+        cluster.getStatements().increment();
+        if (Objects.nonNull(e)) {
+            node.getStatementErrors().increment();
+            cluster.getStatementErrors().increment();
+        }
+    }
+
+    private static String nodeName(RouteInfo routeInfo) {
+        if (Objects.isNull(routeInfo) || Objects.isNull(routeInfo.getHitNodeAttr())) {
+            return SqlXMeters.UNKNOWN;
+        }
+        return routeInfo.getHitNodeAttr().getName();
+    }
+
+    private static String clusterName(RouteInfo routeInfo) {
+        if (Objects.isNull(routeInfo) || Objects.isNull(routeInfo.getCluster())) {
+            return SqlXMeters.UNKNOWN;
+        }
+        return routeInfo.getCluster().getName();
+    }
+}
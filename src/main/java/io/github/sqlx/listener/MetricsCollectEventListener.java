@@ -15,7 +15,6 @@
  */
 package io.github.sqlx.listener;
 
-import io.github.sqlx.config.MetricsCollectScope;
 import io.github.sqlx.config.MetricsConfiguration;
 import io.github.sqlx.jdbc.ConnectionInfo;
 import io.github.sqlx.jdbc.PreparedStatementInfo;
@@ -26,6 +25,7 @@ import io.github.sqlx.rule.RouteInfo;
 import io.github.sqlx.util.CollectionUtils;
 import io.github.sqlx.util.JsonUtils;
 import io.github.sqlx.util.MetricsUtils;
+import io.github.sqlx.metrics.MetricsCollectPolicy;
 import io.github.sqlx.metrics.MetricsCollector;
 import io.github.sqlx.metrics.NodeSqlExecuteNumMetrics;
 import io.github.sqlx.metrics.RoutingMetrics;
@@ -40,6 +40,9 @@ import java.util.List;
 import java.util.Objects;
 
 /**
+ * Records the metrics of routings, statements and transactions.
+ * The {@link MetricsCollectPolicy} is checked first, the metrics documents are only built for the events that are recorded.
+ *
  * @author He Xing Mo
  * @since 1.0
  */
@@ -50,19 +53,18 @@ public class MetricsCollectEventListener implements EventListener {
 
     private final MetricsConfiguration metricsConfiguration;
 
+    private final MetricsCollectPolicy collectPolicy;
+
     public MetricsCollectEventListener(MetricsConfiguration metricsConfiguration , MetricsCollector metricsCollector) {
         this.metricsConfiguration = metricsConfiguration;
         this.metricsCollector = metricsCollector;
+        this.collectPolicy = MetricsCollectPolicy.of(metricsConfiguration);
     }
 
     @Override
     public void onAfterRouting(RouteInfo routeInfo, Exception e) {
-        if (Boolean.TRUE.equals(metricsConfiguration.getEnableRoutingMetrics())) {
-            if (Objects.equals(metricsConfiguration.getCollectScope() , MetricsCollectScope.ALL)) {
-                collectRoutingMetrics(routeInfo , e);
-            } else if (Objects.nonNull(e)) {
-                collectRoutingMetrics(routeInfo , e);
-            }
+        if (Boolean.TRUE.equals(metricsConfiguration.getEnableRoutingMetrics()) && collectPolicy.shouldCollect(routeInfo , e)) {
+            collectRoutingMetrics(routeInfo , e);
         }
     }
 
@@ -173,24 +175,8 @@ public class MetricsCollectEventListener implements EventListener {
     }
 
     private void collectTransactionMetrics(TransactionStatus transactionStatus, ConnectionInfo connectionInfo, SQLException e) {
-        if (Boolean.TRUE.equals(metricsConfiguration.getEnableTransactionMetrics())) {
-            MetricsCollectScope collectScope = metricsConfiguration.getCollectScope();
-            Long slowTransactionMillis = metricsConfiguration.getSlowTransactionMillis();
-            if (Objects.equals(metricsConfiguration.getCollectScope() , MetricsCollectScope.ALL)) {
-                TransactionMetrics metrics = MetricsUtils.convertToTransactionMetrics(transactionStatus ,connectionInfo, e);
-                doCollectTransactionMetrics(metrics);
-                return;
-            }
-            TransactionMetrics metrics = MetricsUtils.convertToTransactionMetrics(transactionStatus ,connectionInfo, e);
-            long totalTimeElapsedMillis = metrics.getTotalTimeElapsedMillis();
-            if (Objects.equals(collectScope , MetricsCollectScope.SLOW) && totalTimeElapsedMillis > slowTransactionMillis) {
-                doCollectTransactionMetrics(metrics);
-                return;
-            }
-            if (Objects.nonNull(e)) {
-                doCollectTransactionMetrics(metrics);
-            }
-
+        if (Boolean.TRUE.equals(metricsConfiguration.getEnableTransactionMetrics()) && collectPolicy.shouldCollect(transactionStatus , connectionInfo , e)) {
+            doCollectTransactionMetrics(MetricsUtils.convertToTransactionMetrics(transactionStatus ,connectionInfo, e));
         }
    }
 
@@ -213,23 +199,8 @@ public class MetricsCollectEventListener implements EventListener {
             }
             return;
         }
-        if (Boolean.TRUE.equals(metricsConfiguration.getEnableSqlMetrics())) {
-            MetricsCollectScope collectScope = metricsConfiguration.getCollectScope();
-            Long slowSqlMillis = metricsConfiguration.getSlowSqlMillis();
-            if (Objects.equals(metricsConfiguration.getCollectScope() , MetricsCollectScope.ALL)) {
-                SqlMetrics metrics = MetricsUtils.convertToSqlMetrics(statementInfo, e);
-                doCollectSqlMetrics(metrics);
-                return;
-            }
-            SqlMetrics metrics = MetricsUtils.convertToSqlMetrics(statementInfo, e);
-            long executeTimeElapsedMillis = metrics.getExecuteTimeElapsedMillis();
-            if (Objects.equals(collectScope , MetricsCollectScope.SLOW) && executeTimeElapsedMillis > slowSqlMillis) {
-                doCollectSqlMetrics(metrics);
-                return;
-            }
-            if (Objects.nonNull(e)) {
-                doCollectSqlMetrics(metrics);
-            }
+        if (Boolean.TRUE.equals(metricsConfiguration.getEnableSqlMetrics()) && collectPolicy.shouldCollect(statementInfo , e)) {
+            doCollectSqlMetrics(MetricsUtils.convertToSqlMetrics(statementInfo, e));
         }
     }
 
@@ -0,0 +1,66 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.listener.audit;
+
+/**
+ * A slot of the {@link AuditRingBuffer}. The calling thread copies the values of an event into the slot,
+ * so that nothing is rendered or allocated for the event until the writer thread reads it.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+final class AuditEvent {
+
+    enum Type {
+        ROUTING, EXECUTE, COMMIT, ROLLBACK
+    }
+
+    Type type;
+
+    long timeMillis;
+
+    long elapsedNanos;
+
+    String id;
+
+    String routeId;
+
+    String transactionId;
+
+    String cluster;
+
+    String node;
+
+    String sql;
+
+    long rows = -1L;
+
+    String error;
+
+    void clear() {
+        type = null;
+        timeMillis = 0L;
+        elapsedNanos = 0L;
+        id = null;
+        routeId = null;
+        transactionId = null;
+        cluster = null;
+        node = null;
+        sql = null;
+        rows = -1L;
+        error = null;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.listener.audit;
+
+import io.github.sqlx.config.AuditFormat;
+
+import java.time.Instant;
+
+/**
+ * Renders {@link AuditEvent}s into lines of the configured {@link AuditFormat}.
+ * Used by the writer thread only, the builder is reused for every line.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+final class AuditEventFormatter {
+
+    private final AuditFormat format;
+
+    private final StringBuilder line = new StringBuilder(256);
+
+    AuditEventFormatter(AuditFormat format) {
+        this.format = format;
+    }
+
+    /**
+     * @param event       the event
+     * @param fingerprint the fingerprint of the SQL of the event, may be {@code null}
+     * @param suppressed  the number of events of the same fingerprint not written since the last written event
+     * @return the rendered line
+     */
+    String format(AuditEvent event, String fingerprint, long suppressed) {
+        line.setLength(0);
+        if (format == AuditFormat.JSON_LINES) {
+            line.append('{');
+        }
+        append("ts", Instant.ofEpochMilli(event.timeMillis).toString());
+        append("type", event.type.name());
+        append("elapsed_us", event.elapsedNanos / 1000L);
+        append("id", event.id);
+        append("route_id", event.routeId);
+        append("tx_id", event.transactionId);
+        append("cluster", event.cluster);
+        append("node", event.node);
+        append("fingerprint", fingerprint);
+        append("sql", event.sql);
+        if (event.rows >= 0) {
+            append("rows", event.rows);
+        }
+        append("error", event.error);
+        if (suppressed > 0) {
+            append("suppressed", suppressed);
+        }
+        if (format == AuditFormat.JSON_LINES) {
+            line.append('}');
+        }
+        return line.toString();
+    }
+
+    private void append(String key, long value) {
+        separate();
+        if (format == AuditFormat.JSON_LINES) {
+            line.append('"').append(key).append("\":").append(value);
+        } else {
+            line.append(key).append('=').append(value);
+        }
+    }
+
+    private void append(String key, String value) {
+        if (value == null) {
+            return;
+        }
+        separate();
+        if (format == AuditFormat.JSON_LINES) {
+            line.append('"').append(key).append("\":\"");
+            appendJsonEscaped(value);
+            line.append('"');
+        } else {
+            line.append(key).append('=');
+            appendLogfmtValue(value);
+        }
+    }
+
+    private void separate() {
+        int length = line.length();
+        if (length == 0 || (length == 1 && format == AuditFormat.JSON_LINES)) {
+            return;
+        }
+        line.append(format == AuditFormat.JSON_LINES ? ',' : ' ');
+    }
+
+    private void appendJsonEscaped(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    line.append("\\\"");
+                    break;
+                case '\\':
+                    line.append("\\\\");
+                    break;
+                case '\n':
+                    line.append("\\n");
+                    break;
+                case '\r':
+                    line.append("\\r");
+                    break;
+                case '\t':
+                    line.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+            }
+        }
+    }
+
+    private void appendLogfmtValue(String value) {
+        boolean quote = value.isEmpty();
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c <= ' ' || c == '=' || c == '"';
+        }
+        if (!quote) {
+            line.append(value);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c == '\n') {
+                line.append("\\n");
+            } else if (c == '\r') {
+                line.append("\\r");
+            } else if (c == '\t') {
+                line.append("\\t");
+            } else {
+                line.append(c);
+            }
+        }
+        line.append('"');
+    }
+}
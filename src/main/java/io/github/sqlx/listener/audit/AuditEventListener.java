@@ -0,0 +1,318 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.listener.audit;
+
+import io.github.sqlx.config.AuditConfiguration;
+import io.github.sqlx.jdbc.ConnectionInfo;
+import io.github.sqlx.jdbc.PreparedStatementInfo;
+import io.github.sqlx.jdbc.StatementInfo;
+import io.github.sqlx.listener.EventListener;
+import io.github.sqlx.rule.RouteInfo;
+import io.github.sqlx.sql.SqlFingerprint;
+import io.github.sqlx.util.NamedThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Writes an audit line for every routing, statement execution, commit and rollback.
+ * <p>
+ * Unlike {@link io.github.sqlx.listener.LoggingEventListener} nothing is formatted on the calling thread:
+ * the ids, timings, node and SQL of an event are copied into a slot of an {@link AuditRingBuffer},
+ * a background thread fingerprints the SQL, applies the per fingerprint rate limit and renders the line.
+ * Events are dropped and counted when the buffer is full, the calling thread never blocks.
+ * <p>
+ * Lines are written at INFO level to the {@code io.github.sqlx.audit} logger.
+ * The owner of the listener {@link #close() closes} it to stop the writer thread.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Slf4j
+public class AuditEventListener implements EventListener, AutoCloseable {
+
+    public static final String AUDIT_LOGGER_NAME = "io.github.sqlx.audit";
+
+    private static final int MAX_RATE_LIMITED_FINGERPRINTS = 4096;
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final long DROPPED_WARN_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final AuditRingBuffer ringBuffer;
+
+    private final AuditEventFormatter formatter;
+
+    private final int rateLimitPerFingerprint;
+
+    private final Consumer<String> sink;
+
+    /**
+     * The window second, written events and suppressed events of each fingerprint, used by the writer thread only.
+     */
+    private final Map<String, long[]> rateLimits = new HashMap<>();
+
+    private final Thread writer;
+
+    private volatile boolean running = true;
+
+    private long lastWarnedDroppedCount;
+
+    private long lastWarnMillis;
+
+    public AuditEventListener(AuditConfiguration configuration) {
+        this(configuration, LoggerFactory.getLogger(AUDIT_LOGGER_NAME));
+    }
+
+    private AuditEventListener(AuditConfiguration configuration, Logger auditLogger) {
+        this(configuration, auditLogger::info);
+    }
+
+    public AuditEventListener(AuditConfiguration configuration, Consumer<String> sink) {
+        this.ringBuffer = new AuditRingBuffer(configuration.getBufferSize());
+        this.formatter = new AuditEventFormatter(configuration.getFormat());
+        this.rateLimitPerFingerprint = configuration.getRateLimitPerFingerprint();
+        this.sink = sink;
+        this.writer = new NamedThreadFactory("sqlx-audit", true).newThread(this::writeLoop);
+        this.writer.start();
+    }
+
+    @Override
+    public void onAfterRouting(RouteInfo routeInfo, Exception e) {
+        long position = ringBuffer.claim();
+        if (position < 0) {
+            return;
+        }
+        AuditEvent event = ringBuffer.get(position);
+        event.type = AuditEvent.Type.ROUTING;
+        event.timeMillis = routeInfo.getAfterTimeMillis();
+        event.elapsedNanos = routeInfo.getTimeElapsedNanos();
+        event.id = routeInfo.getRouteId();
+        event.transactionId = routeInfo.getTransactionId();
+        event.cluster = routeInfo.getCluster() != null ? routeInfo.getCluster().getName() : null;
+        event.node = routeInfo.getHitNodeAttr() != null ? routeInfo.getHitNodeAttr().getName() : null;
+        event.sql = routeInfo.getSqlAttribute() != null ? routeInfo.getSqlAttribute().getNativeSql() : routeInfo.getSql();
+        event.error = e != null ? e.toString() : null;
+        ringBuffer.publish(position);
+    }
+
+    @Override
+    public void onAfterExecuteQuery(StatementInfo statementInfo, SQLException e) {
+        captureExecute(statementInfo, -1L, e);
+    }
+
+    @Override
+    public void onAfterExecute(StatementInfo statementInfo, SQLException e) {
+        captureExecute(statementInfo, statementInfo != null ? statementInfo.getUpdatedRows() : -1L, e);
+    }
+
+    @Override
+    public void onAfterExecuteUpdate(StatementInfo statementInfo, SQLException e) {
+        captureExecute(statementInfo, statementInfo != null ? statementInfo.getUpdatedRows() : -1L, e);
+    }
+
+    @Override
+    public void onAfterExecuteQuery(PreparedStatementInfo preparedStatementInfo, SQLException e) {
+        captureExecute(preparedStatementInfo, -1L, e);
+    }
+
+    @Override
+    public void onAfterExecute(PreparedStatementInfo preparedStatementInfo, SQLException e) {
+        captureExecute(preparedStatementInfo, preparedStatementInfo != null ? preparedStatementInfo.getUpdatedRows() : -1L, e);
+    }
+
+    @Override
+    public void onAfterExecuteUpdate(PreparedStatementInfo preparedStatementInfo, SQLException e) {
+        captureExecute(preparedStatementInfo, preparedStatementInfo != null ? preparedStatementInfo.getUpdatedRows() : -1L, e);
+    }
+
+    @Override
+    public void onAfterExecuteBatch(PreparedStatementInfo preparedStatementInfo, long afterTimeNs, long timeElapsedNanos, long[] counts, SQLException e) {
+        if (preparedStatementInfo == null) {
+            return;
+        }
+        long rows = 0L;
+        if (counts != null) {
+            for (long count : counts) {
+                rows += Math.max(count, 0L);
+            }
+        }
+        long position = ringBuffer.claim();
+        if (position < 0) {
+            return;
+        }
+        AuditEvent event = fillStatement(ringBuffer.get(position), preparedStatementInfo, rows, e);
+        event.timeMillis = System.currentTimeMillis();
+        event.elapsedNanos = timeElapsedNanos;
+        ringBuffer.publish(position);
+    }
+
+    @Override
+    public void onAfterCommit(ConnectionInfo connectionInfo, SQLException e) {
+        captureTransaction(AuditEvent.Type.COMMIT, connectionInfo, connectionInfo.getAfterTimeToCommitMillis(), connectionInfo.getTimeElapsedToCommitNs(), e);
+    }
+
+    @Override
+    public void onAfterRollback(ConnectionInfo connectionInfo, SQLException e) {
+        captureTransaction(AuditEvent.Type.ROLLBACK, connectionInfo, connectionInfo.getAfterTimeToRollbackMillis(), connectionInfo.getTimeElapsedToRollbackNs(), e);
+    }
+
+    /**
+     * @return the number of events dropped because the buffer was full
+     */
+    public long getDroppedCount() {
+        return ringBuffer.getDroppedCount();
+    }
+
+    /**
+     * Stops the writer thread after the published events are written.
+     */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void captureExecute(StatementInfo statementInfo, long rows, SQLException e) {
+        if (statementInfo == null) {
+            return;
+        }
+        long position = ringBuffer.claim();
+        if (position < 0) {
+            return;
+        }
+        AuditEvent event = fillStatement(ringBuffer.get(position), statementInfo, rows, e);
+        event.timeMillis = statementInfo.getAfterTimeToExecuteMillis();
+        event.elapsedNanos = statementInfo.getTimeElapsedExecuteNs();
+        ringBuffer.publish(position);
+    }
+
+    private AuditEvent fillStatement(AuditEvent event, StatementInfo statementInfo, long rows, SQLException e) {
+        RouteInfo routeInfo = statementInfo.getRouteInfo();
+        event.type = AuditEvent.Type.EXECUTE;
+        event.id = statementInfo.getStatementId();
+        if (routeInfo != null) {
+            event.routeId = routeInfo.getRouteId();
+            event.transactionId = routeInfo.getTransactionId();
+            event.cluster = routeInfo.getCluster() != null ? routeInfo.getCluster().getName() : null;
+            event.node = routeInfo.getHitNodeAttr() != null ? routeInfo.getHitNodeAttr().getName() : null;
+        }
+        event.sql = statementInfo.getNativeSql() != null ? statementInfo.getNativeSql() : statementInfo.getSql();
+        event.rows = rows;
+        event.error = e != null ? e.toString() : null;
+        return event;
+    }
+
+    private void captureTransaction(AuditEvent.Type type, ConnectionInfo connectionInfo, long timeMillis, long elapsedNanos, SQLException e) {
+        long position = ringBuffer.claim();
+        if (position < 0) {
+            return;
+        }
+        AuditEvent event = ringBuffer.get(position);
+        event.type = type;
+        event.timeMillis = timeMillis;
+        event.elapsedNanos = elapsedNanos;
+        event.transactionId = connectionInfo.getTransactionId();
+        event.error = e != null ? e.toString() : null;
+        ringBuffer.publish(position);
+    }
+
+    private void writeLoop() {
+        while (running) {
+            if (!drain()) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+        drain();
+    }
+
+    /**
+     * @return true if any event was written
+     */
+    private boolean drain() {
+        boolean written = false;
+        AuditEvent event;
+        while ((event = ringBuffer.peek()) != null) {
+            try {
+                write(event);
+            } catch (Exception e) {
+                log.warn("Failed to write audit event", e);
+            } finally {
+                ringBuffer.release();
+            }
+            written = true;
+        }
+        warnDropped();
+        return written;
+    }
+
+    private void write(AuditEvent event) {
+        String fingerprint = event.sql != null ? SqlFingerprint.of(event.sql) : null;
+        long suppressed = 0L;
+        if (rateLimitPerFingerprint > 0) {
+            long second = event.timeMillis / 1000L;
+            String key = fingerprint != null ? fingerprint : event.type.name();
+            long[] window = rateLimits.get(key);
+            if (window == null) {
+                if (rateLimits.size() >= MAX_RATE_LIMITED_FINGERPRINTS) {
+                    rateLimits.clear();
+                }
+                window = new long[3];
+                rateLimits.put(key, window);
+            }
+            if (window[0] != second) {
+                window[0] = second;
+                window[1] = 0L;
+            }
+            if (window[1] >= rateLimitPerFingerprint) {
+                window[2]++;
+                return;
+            }
+            window[1]++;
+            suppressed = window[2];
+            window[2] = 0L;
+        }
+        sink.accept(formatter.format(event, fingerprint, suppressed));
+    }
+
+    private void warnDropped() {
+        long dropped = ringBuffer.getDroppedCount();
+        if (dropped == lastWarnedDroppedCount) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (now - lastWarnMillis >= DROPPED_WARN_INTERVAL_MILLIS || !running) {
+            log.warn("{} audit events were dropped because the audit buffer is full", dropped - lastWarnedDroppedCount);
+            lastWarnedDroppedCount = dropped;
+            lastWarnMillis = now;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.listener.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded lock-free ring buffer of preallocated {@link AuditEvent}s with many producers and a single consumer.
+ * <p>
+ * Every slot carries a sequence: a producer claims a position with one CAS when the slot is free,
+ * fills the slot and publishes it, the consumer reads published slots in order and frees them.
+ * A producer never waits, the event is dropped when the buffer is full.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+final class AuditRingBuffer {
+
+    private final AuditEvent[] events;
+
+    private final AtomicLongArray sequences;
+
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong();
+
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Only read and written by the consumer.
+     */
+    private long head;
+
+    AuditRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two greater than 1");
+        }
+        this.events = new AuditEvent[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            events[i] = new AuditEvent();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Claims the next free slot.
+     *
+     * @return the position of the slot, or -1 if the buffer is full
+     */
+    long claim() {
+        for (; ; ) {
+            long position = tail.get();
+            long available = sequences.get(index(position)) - position;
+            if (available == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+            } else if (available < 0) {
+                dropped.increment();
+                return -1L;
+            }
+        }
+    }
+
+    AuditEvent get(long position) {
+        return events[index(position)];
+    }
+
+    /**
+     * Makes the filled slot visible to the consumer.
+     */
+    void publish(long position) {
+        sequences.lazySet(index(position), position + 1);
+    }
+
+    /**
+     * Returns the next published event without removing it, called by the consumer only.
+     *
+     * @return the event, or {@code null} if no event is published
+     */
+    AuditEvent peek() {
+        int index = index(head);
+        return sequences.get(index) == head + 1 ? events[index] : null;
+    }
+
+    /**
+     * Frees the slot returned by {@link #peek()}, called by the consumer only.
+     */
+    void release() {
+        int index = index(head);
+        events[index].clear();
+        sequences.lazySet(index, head + events.length);
+        head++;
+    }
+
+    long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    private int index(long position) {
+        return (int) position & mask;
+    }
+}
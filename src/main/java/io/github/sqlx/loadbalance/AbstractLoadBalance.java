@@ -19,9 +19,13 @@ package io.github.sqlx.loadbalance;
 import io.github.sqlx.NodeAttribute;
 import io.github.sqlx.util.CollectionUtils;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 /**
@@ -43,6 +47,10 @@ public abstract class AbstractLoadBalance implements LoadBalance {
      */
     private final Set<NodeAttribute> options = new HashSet<>();
 
+    private final List<NodeAdmission> nodeAdmissions = new CopyOnWriteArrayList<>();
+
+    private volatile Map<String, Double> effectiveWeights = Collections.emptyMap();
+
     protected AbstractLoadBalance() {
     }
 
@@ -90,9 +98,34 @@ public abstract class AbstractLoadBalance implements LoadBalance {
         return options;
     }
 
+    @Override
+    public void addNodeAdmission(NodeAdmission nodeAdmission) {
+        if (nodeAdmission != null) {
+            nodeAdmissions.add(nodeAdmission);
+        }
+    }
+
+    @Override
+    public void setEffectiveWeights(Map<String, Double> effectiveWeights) {
+        this.effectiveWeights = effectiveWeights == null ? Collections.emptyMap() : Collections.unmodifiableMap(new HashMap<>(effectiveWeights));
+    }
+
+    /**
+     * Returns the weight a node is chosen by, its effective weight bounded by its configured weight.
+     *
+     * @param node the node
+     * @return the weight of the node
+     */
+    protected double getWeight(NodeAttribute node) {
+        double weight = node.getWeight();
+        Double effectiveWeight = effectiveWeights.get(node.getName());
+        return effectiveWeight != null ? Math.min(effectiveWeight, weight) : weight;
+    }
+
     /**
      * Selects a node from the pool of available options using the implemented load balancing strategy.
      * This method filters out unavailable nodes and delegates the final selection to the abstract `choose` method.
+     * Nodes excluded by a {@link NodeAdmission} are left out as well, and so are saturated nodes unless every admitted node is saturated.
      *
      * @return the selected node, or null if no available nodes exist in the pool
      */
@@ -100,12 +133,22 @@ public abstract class AbstractLoadBalance implements LoadBalance {
     public NodeAttribute choose() {
         List<NodeAttribute> availableOptions = getOptions().stream()
                 .filter(nodeAttr -> nodeAttr.getNodeState().isAvailable())
+                .filter(nodeAttr -> nodeAdmissions.stream().noneMatch(admission -> admission.isExcluded(nodeAttr)))
                 .collect(Collectors.toList());
 
         if (availableOptions.isEmpty()) {
             return null;
         }
 
+        if (!nodeAdmissions.isEmpty() && availableOptions.size() > 1) {
+            List<NodeAttribute> admittedOptions = availableOptions.stream()
+                    .filter(nodeAttr -> nodeAdmissions.stream().noneMatch(admission -> admission.isSaturated(nodeAttr)))
+                    .collect(Collectors.toList());
+            if (!admittedOptions.isEmpty()) {
+                availableOptions = admittedOptions;
+            }
+        }
+
         if (availableOptions.size() == 1) {
             return availableOptions.get(0);
         }
@@ -18,6 +18,8 @@ package io.github.sqlx.loadbalance;
 
 import io.github.sqlx.NodeAttribute;
 
+import java.util.Map;
+
 /**
  * The LoadBalance interface defines the contract for implementing load balancing strategies.
  * It provides methods to manage a pool of nodes and select a node based on the implemented strategy.
@@ -54,5 +56,23 @@ public interface LoadBalance {
      */
     NodeAttribute choose();
 
+    /**
+     * Adds an admission the load balancer consults to avoid excluded and saturated nodes.
+     * Load balancers that do not support it ignore it.
+     *
+     * @param admission the admission of the nodes
+     */
+    default void addNodeAdmission(NodeAdmission admission) {
+    }
+
+    /**
+     * Replaces the effective weights of the nodes at once. The configured weight of a node bounds its effective weight,
+     * a node without an effective weight is chosen by its configured weight.
+     * Load balancers that do not weight the nodes ignore it.
+     *
+     * @param effectiveWeights the effective weights by node name
+     */
+    default void setEffectiveWeights(Map<String, Double> effectiveWeights) {
+    }
 
 }
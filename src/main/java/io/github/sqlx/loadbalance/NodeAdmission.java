@@ -0,0 +1,47 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.loadbalance;
+
+import io.github.sqlx.NodeAttribute;
+
+/**
+ * Tells the load balancers which available nodes should not be chosen right now.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public interface NodeAdmission {
+
+    /**
+     * An excluded node is never chosen, the load balancer chooses no node when every available node is excluded.
+     *
+     * @param node the node
+     * @return true if the node must not serve statements, for example a replica too far behind
+     */
+    default boolean isExcluded(NodeAttribute node) {
+        return false;
+    }
+
+    /**
+     * A saturated node is only chosen when every admitted node is saturated.
+     *
+     * @param node the node
+     * @return true if the node cannot take more statements and statements should go to other nodes
+     */
+    default boolean isSaturated(NodeAttribute node) {
+        return false;
+    }
+}
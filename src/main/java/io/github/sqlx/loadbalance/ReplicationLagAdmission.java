@@ -0,0 +1,85 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.loadbalance;
+
+import io.github.sqlx.NodeAttribute;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Excludes the replicas of a cluster whose replication lag exceeds the threshold of the cluster.
+ * <p>
+ * An excluded replica is admitted again only once its lag falls to the lower recovery threshold, so a replica
+ * whose lag hovers around the threshold does not flap in and out of the readable nodes.
+ * A replica whose lag is unknown is admitted.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Slf4j
+public class ReplicationLagAdmission implements NodeAdmission {
+
+    private final String cluster;
+
+    private final double maxLag;
+
+    private final double recoveryLag;
+
+    private final Set<String> excluded = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param cluster     the name of the cluster
+     * @param maxLag      the lag a replica is excluded beyond
+     * @param recoveryLag the lag an excluded replica is admitted again at, {@code null} for half of the max lag
+     */
+    public ReplicationLagAdmission(String cluster, double maxLag, Double recoveryLag) {
+        this.cluster = cluster;
+        this.maxLag = maxLag;
+        this.recoveryLag = recoveryLag != null ? recoveryLag : maxLag / 2;
+    }
+
+    @Override
+    public boolean isExcluded(NodeAttribute node) {
+        Double lag = node.getReplicationLag();
+        String name = node.getName();
+        if (excluded.contains(name)) {
+            if (lag == null || lag <= recoveryLag) {
+                if (excluded.remove(name)) {
+                    log.info("Replica {} of the cluster {} is admitted again, replication lag {}", name, cluster, lag);
+                }
+                return false;
+            }
+            return true;
+        }
+        if (lag != null && lag > maxLag) {
+            if (excluded.add(name)) {
+                log.warn("Replica {} of the cluster {} is excluded from reads, replication lag {} exceeds {}", name, cluster, lag, maxLag);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return the names of the replicas currently excluded
+     */
+    public Set<String> getExcluded() {
+        return Collections.unmodifiableSet(excluded);
+    }
+}
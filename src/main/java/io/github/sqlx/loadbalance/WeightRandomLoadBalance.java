@@ -43,14 +43,19 @@ public class WeightRandomLoadBalance extends AbstractLoadBalance {
 
     @Override
     protected NodeAttribute choose(List<NodeAttribute> availableOptions) {
-        double totalWeight = availableOptions.stream().mapToDouble(NodeAttribute::getWeight).sum();
+        double[] weights = new double[availableOptions.size()];
+        double totalWeight = 0;
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = getWeight(availableOptions.get(i));
+            totalWeight += weights[i];
+        }
         double randomWeight = random.nextDouble() * totalWeight;
 
         double cumulativeWeight = 0;
-        for (NodeAttribute node : availableOptions) {
-            cumulativeWeight += node.getWeight();
+        for (int i = 0; i < weights.length; i++) {
+            cumulativeWeight += weights[i];
             if (cumulativeWeight >= randomWeight) {
-                return node;
+                return availableOptions.get(i);
             }
         }
 
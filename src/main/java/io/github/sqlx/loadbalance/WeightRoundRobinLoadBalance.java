@@ -13,32 +13,30 @@
  *    See the License for the specific language governing permissions and
  *    limitations under the License.
  */
-
 package io.github.sqlx.loadbalance;
 
 import io.github.sqlx.NodeAttribute;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
- * Round-robin load balancing.
+ * Smooth weighted round-robin load balancing.
+ * <p>
+ * Every choice adds its weight to the current weight of each available node, chooses the node with the highest
+ * current weight and takes the total weight off it. The nodes are chosen in proportion to their weights, fractional
+ * weights included, and the choices of a node are spread over the round instead of following each other.
  *
  * @author He Xing Mo
  * @since 1.0
  */
 public class WeightRoundRobinLoadBalance extends AbstractLoadBalance {
 
-    private Integer currentIndex;
-    private Double currentWeight;
-    private Double maxWeight;
-    private Double gcdWeight;
+    private final Map<String, Double> currentWeights = new HashMap<>();
 
     public WeightRoundRobinLoadBalance() {
-        this.currentIndex = -1;
-        this.currentWeight = 0d;
-        this.maxWeight = 0d;
-        this.gcdWeight = 0d;
     }
 
     public WeightRoundRobinLoadBalance(Set<NodeAttribute> options) {
@@ -46,39 +44,27 @@ public class WeightRoundRobinLoadBalance extends AbstractLoadBalance {
     }
 
     @Override
-    protected NodeAttribute choose(List<NodeAttribute> availableOptions) {
+    protected synchronized NodeAttribute choose(List<NodeAttribute> availableOptions) {
+        double totalWeight = 0;
+        NodeAttribute chosen = null;
+        double chosenWeight = 0;
         for (NodeAttribute target : availableOptions) {
-            double weight = target.getWeight();
-            maxWeight = Math.max(maxWeight, weight);
-            gcdWeight = gcd(gcdWeight, weight);
-        }
-
-        NodeAttribute chosen;
-        while (true) {
-            currentIndex = (currentIndex + 1) % availableOptions.size();
-            if (currentIndex == 0) {
-                currentWeight = currentWeight - gcdWeight;
-                if (currentWeight <= 0) {
-                    currentWeight = maxWeight;
-                    if (currentWeight == 0) {
-                        return null;
-                    }
-                }
+            double weight = getWeight(target);
+            if (weight <= 0) {
+                continue;
             }
-            NodeAttribute target = availableOptions.get(currentIndex);
-            if (target.getWeight() >= currentWeight) {
+            totalWeight += weight;
+            double currentWeight = currentWeights.getOrDefault(target.getName(), 0D) + weight;
+            currentWeights.put(target.getName(), currentWeight);
+            if (chosen == null || currentWeight > chosenWeight) {
                 chosen = target;
-                break;
+                chosenWeight = currentWeight;
             }
         }
-        return chosen;
-    }
-
-    private static double gcd(double a, double b) {
-        if (b == 0) {
-            return a;
-        } else {
-            return gcd(b, a % b);
+        if (chosen == null) {
+            return null;
         }
+        currentWeights.put(chosen.getName(), chosenWeight - totalWeight);
+        return chosen;
     }
 }
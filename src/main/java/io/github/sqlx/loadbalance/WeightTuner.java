@@ -0,0 +1,256 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.loadbalance;
+
+import io.github.sqlx.NodeAttribute;
+import io.github.sqlx.config.ClusterConfiguration;
+import io.github.sqlx.config.SqlXConfiguration;
+import io.github.sqlx.config.WeightTuningConfiguration;
+import io.github.sqlx.metrics.meter.LatencyHistogram;
+import io.github.sqlx.metrics.meter.NodeMeters;
+import io.github.sqlx.metrics.meter.SqlXMeters;
+import io.github.sqlx.util.NamedThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically tunes the effective weights of the readable nodes of every cluster from the statements observed
+ * on them since the last tuning.
+ * <p>
+ * The node with the lowest latency percentile keeps its configured weight, the other nodes get their configured weight
+ * scaled by how much slower they are and by their success rate, bounded by {@link WeightTuningConfiguration#getMinWeightRatio()}
+ * of their configured weight. The weights move towards the computed weights by {@link WeightTuningConfiguration#getSmoothing()}
+ * and are applied to the read load balancer of the cluster at once. A node that executed fewer than
+ * {@link WeightTuningConfiguration#getMinSamples()} statements keeps its weight.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Slf4j
+public class WeightTuner {
+
+    private static final double[] BOUNDS_SECONDS = LatencyHistogram.getBoundsSeconds();
+
+    private final WeightTuningConfiguration configuration;
+
+    private final SqlXConfiguration sqlXConfiguration;
+
+    private final SqlXMeters meters;
+
+    private final Map<String, LoadBalance> loadBalances = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<String, Double>> effectiveWeights = new ConcurrentHashMap<>();
+
+    private final Map<String, Observation> lastObservations = new HashMap<>();
+
+    private volatile List<WeightTuningDecision> decisions = Collections.emptyList();
+
+    private long lastTuningNanos = System.nanoTime();
+
+    private ScheduledThreadPoolExecutor executor;
+
+    /**
+     * @param sqlXConfiguration the SQLX configuration
+     * @param meters            the meters of the nodes, updated by a {@link io.github.sqlx.listener.MeterEventListener} of their owner
+     */
+    public WeightTuner(SqlXConfiguration sqlXConfiguration, SqlXMeters meters) {
+        this.sqlXConfiguration = sqlXConfiguration;
+        this.configuration = sqlXConfiguration.getWeightTuning();
+        this.meters = meters;
+    }
+
+    public boolean isEnabled() {
+        return configuration != null && Boolean.TRUE.equals(configuration.getEnabled());
+    }
+
+    /**
+     * Tunes the weights the read load balancer of the cluster chooses its readable nodes by.
+     *
+     * @param cluster     the name of the cluster
+     * @param loadBalance the read load balancer of the cluster
+     */
+    public void register(String cluster, LoadBalance loadBalance) {
+        loadBalances.put(cluster, loadBalance);
+    }
+
+    /**
+     * Starts tuning at the configured interval.
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        long intervalMillis = configuration.getIntervalMillis();
+        executor = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("sqlx-weight-tuning", true));
+        executor.scheduleWithFixedDelay(this::tuneQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Weight tuning started, interval [{}] ms", intervalMillis);
+    }
+
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private void tuneQuietly() {
+        try {
+            tune();
+        } catch (Exception e) {
+            log.error("Weight tuning error", e);
+        }
+    }
+
+    /**
+     * Tunes the weights of every registered cluster from the statements observed since the last tuning.
+     */
+    public synchronized void tune() {
+        long now = System.nanoTime();
+        double windowSeconds = Math.max((now - lastTuningNanos) / 1e9, 1e-3);
+        lastTuningNanos = now;
+        long timestamp = System.currentTimeMillis();
+        List<WeightTuningDecision> tuned = new ArrayList<>();
+        for (Map.Entry<String, LoadBalance> entry : loadBalances.entrySet()) {
+            ClusterConfiguration cluster = sqlXConfiguration.getCluster(entry.getKey());
+            if (cluster == null) {
+                continue;
+            }
+            Map<String, Double> weights = tune(entry.getKey(), cluster.getReadableRoutingNodeAttributes(), windowSeconds, timestamp, tuned);
+            effectiveWeights.put(entry.getKey(), weights);
+            entry.getValue().setEffectiveWeights(weights);
+        }
+        decisions = Collections.unmodifiableList(tuned);
+    }
+
+    private Map<String, Double> tune(String cluster, Iterable<NodeAttribute> nodes, double windowSeconds, long timestamp, List<WeightTuningDecision> tuned) {
+        Map<String, Double> previous = effectiveWeights.getOrDefault(cluster, Collections.emptyMap());
+        List<WeightTuningDecision> decisions = new ArrayList<>();
+        double minLatency = Double.MAX_VALUE;
+        for (NodeAttribute node : nodes) {
+            Observation observation = observe(node.getName());
+            Observation last = lastObservations.put(node.getName(), observation);
+            long statements = last == null ? observation.statements : observation.statements - last.statements;
+            long errors = last == null ? observation.errors : observation.errors - last.errors;
+
+            WeightTuningDecision decision = new WeightTuningDecision();
+            decision.setCluster(cluster);
+            decision.setNode(node.getName());
+            decision.setConfiguredWeight(node.getWeight());
+            decision.setThroughput(statements / windowSeconds);
+            decision.setErrorRate(statements > 0 ? (double) Math.min(errors, statements) / statements : 0.0D);
+            decision.setTimestamp(timestamp);
+            if (!node.getNodeState().isAvailable()) {
+                decision.setReason("node unavailable");
+            } else if (statements < configuration.getMinSamples()) {
+                decision.setReason("insufficient samples");
+            } else {
+                double latency = percentile(observation.latency, last == null ? null : last.latency, configuration.getLatencyPercentile());
+                decision.setLatencyMillis(latency * 1000);
+                minLatency = Math.min(minLatency, latency);
+            }
+            decisions.add(decision);
+        }
+
+        Map<String, Double> weights = new HashMap<>();
+        for (WeightTuningDecision decision : decisions) {
+            double configured = decision.getConfiguredWeight();
+            double min = configured * configuration.getMinWeightRatio();
+            double current = Math.min(previous.getOrDefault(decision.getNode(), configured), configured);
+            double weight = current;
+            if (decision.getLatencyMillis() != null) {
+                double latency = decision.getLatencyMillis() / 1000;
+                double score = (latency > 0 ? minLatency / latency : 1.0D) * (1.0D - decision.getErrorRate());
+                double target = configured * score;
+                weight = current + (target - current) * configuration.getSmoothing();
+                decision.setReason(String.format("latency %.1fx of the fastest node, error rate %.3f", latency > 0 ? latency / minLatency : 1.0D, decision.getErrorRate()));
+            }
+            weight = Math.round(Math.max(min, Math.min(configured, weight)) * 100) / 100.0D;
+            decision.setEffectiveWeight(weight);
+            weights.put(decision.getNode(), weight);
+            if (weight != current && log.isDebugEnabled()) {
+                log.debug("Weight of node {} in cluster {} tuned from {} to {}, {}", decision.getNode(), cluster, current, weight, decision.getReason());
+            }
+        }
+        tuned.addAll(decisions);
+        return weights;
+    }
+
+    private Observation observe(String node) {
+        NodeMeters nodeMeters = meters.node(node);
+        return new Observation(nodeMeters.getStatements().sum(), nodeMeters.getStatementErrors().sum(),
+                nodeMeters.getStatementLatency().snapshot().getCumulativeCounts());
+    }
+
+    /**
+     * Interpolates the percentile of the latencies recorded between two cumulative bucket counts.
+     */
+    static double percentile(long[] counts, long[] lastCounts, double percentile) {
+        int buckets = counts.length;
+        long total = counts[buckets - 1] - (lastCounts == null ? 0 : lastCounts[buckets - 1]);
+        if (total <= 0) {
+            return 0.0D;
+        }
+        double rank = percentile * total;
+        long below = 0;
+        for (int i = 0; i < buckets; i++) {
+            long cumulative = counts[i] - (lastCounts == null ? 0 : lastCounts[i]);
+            if (cumulative >= rank && cumulative > below) {
+                double lower = i == 0 ? 0.0D : BOUNDS_SECONDS[i - 1];
+                double upper = i < BOUNDS_SECONDS.length ? BOUNDS_SECONDS[i] : BOUNDS_SECONDS[BOUNDS_SECONDS.length - 1];
+                return lower + (upper - lower) * (rank - below) / (cumulative - below);
+            }
+            below = cumulative;
+        }
+        return BOUNDS_SECONDS[BOUNDS_SECONDS.length - 1];
+    }
+
+    /**
+     * @return the decisions of the last tuning
+     */
+    public List<WeightTuningDecision> getDecisions() {
+        return decisions;
+    }
+
+    /**
+     * @return the meters the weights are tuned from
+     */
+    public SqlXMeters getMeters() {
+        return meters;
+    }
+
+    private static class Observation {
+
+        private final long statements;
+
+        private final long errors;
+
+        private final long[] latency;
+
+        Observation(long statements, long errors, long[] latency) {
+            this.statements = statements;
+            this.errors = errors;
+            this.latency = latency;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.loadbalance;
+
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * The effective weight the {@link WeightTuner} chose for a readable node and the observations it was chosen from.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Data
+public class WeightTuningDecision implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String cluster;
+
+    private String node;
+
+    private double configuredWeight;
+
+    private double effectiveWeight;
+
+    /**
+     * The statements executed on the node per second over the window.
+     */
+    private double throughput;
+
+    private double errorRate;
+
+    /**
+     * The latency percentile of the node over the window in milliseconds, {@code null} without enough statements.
+     */
+    private Double latencyMillis;
+
+    /**
+     * Why the effective weight was kept or changed.
+     */
+    private String reason;
+
+    private long timestamp;
+}
@@ -0,0 +1,239 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.metrics;
+
+import io.github.sqlx.util.NamedThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Accumulates table access counts in memory and writes them to the underlying repository in batches.
+ * <p>
+ * Saving a {@link TableAccessMetrics} only adds its counts to the {@link LongAdder}s of the table, without any lock.
+ * The counts added since the last flush are written to the underlying repository with one
+ * {@link TableAccessMetricsRepository#saveAll(java.util.Collection)} call at a fixed interval, and before every query
+ * so queries see the same numbers as if every statement was written immediately.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Slf4j
+public class BufferedTableAccessMetricsRepository implements TableAccessMetricsRepository {
+
+    public static final long DEFAULT_FLUSH_MILLIS = 1000L;
+
+    private final TableAccessMetricsRepository delegate;
+
+    private final ConcurrentHashMap<String, TableCounters> counters = new ConcurrentHashMap<>();
+
+    private ScheduledThreadPoolExecutor executor;
+
+    public BufferedTableAccessMetricsRepository(TableAccessMetricsRepository delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+    }
+
+    /**
+     * Starts flushing the accumulated counts at a fixed interval.
+     *
+     * @param flushMillis the flush interval in milliseconds
+     */
+    public synchronized void start(long flushMillis) {
+        if (executor != null) {
+            return;
+        }
+        executor = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("table-access-metrics-flush", true));
+        executor.scheduleWithFixedDelay(this::flushQuietly, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops flushing at a fixed interval and writes the counts accumulated since the last flush.
+     * A flush in progress completes first, it is not interrupted while it writes to the underlying repository.
+     */
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+        flushQuietly();
+    }
+
+    @Override
+    public void save(TableAccessMetrics target) {
+        if (Objects.isNull(target.getFullTableName())) {
+            return;
+        }
+        counters.computeIfAbsent(target.getFullTableName(), name -> new TableCounters(target)).add(target);
+    }
+
+    /**
+     * Writes the counts accumulated since the last flush to the underlying repository.
+     */
+    public synchronized void flush() {
+        List<TableAccessMetrics> deltas = new ArrayList<>();
+        List<long[]> snapshots = new ArrayList<>();
+        List<TableCounters> flushed = new ArrayList<>();
+        for (TableCounters tc : counters.values()) {
+            long[] snapshot = tc.snapshot();
+            TableAccessMetrics delta = tc.delta(snapshot);
+            if (delta != null) {
+                deltas.add(delta);
+                snapshots.add(snapshot);
+                flushed.add(tc);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+        delegate.saveAll(deltas);
+        // only advanced once written, a failed flush is retried with the next one
+        for (int i = 0; i < flushed.size(); i++) {
+            flushed.get(i).flushed = snapshots.get(i);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Flush TableAccess Metrics Error", e);
+        }
+    }
+
+    @Override
+    public String getFilePath() {
+        return delegate.getFilePath();
+    }
+
+    @Override
+    public void update(TableAccessMetrics target) {
+        flush();
+        delegate.update(target);
+    }
+
+    @Override
+    public void delete(Class<TableAccessMetrics> type, Object id) {
+        delegate.delete(type, id);
+    }
+
+    @Override
+    public Page<TableAccessMetrics> selectPage(MetricsQueryCriteria criteria) {
+        flush();
+        return delegate.selectPage(criteria);
+    }
+
+    @Override
+    public Page<TableAccessMetrics> selectPage(MetricsQueryCriteria criteria, Consumer<? super TableAccessMetrics> consumer) {
+        flush();
+        return delegate.selectPage(criteria, consumer);
+    }
+
+    @Override
+    public List<TableAccessMetrics> selectList(MetricsQueryCriteria criteria) {
+        flush();
+        return delegate.selectList(criteria);
+    }
+
+    @Override
+    public int deleteByCreatedTimeLessThan(long timestamp) {
+        return delegate.deleteByCreatedTimeLessThan(timestamp);
+    }
+
+    /**
+     * The counts of one table since startup. The flushed part is only read and written by {@link #flush()}.
+     */
+    private static final class TableCounters {
+
+        private static final int QUERY = 0;
+
+        private static final int INSERT = 1;
+
+        private static final int UPDATE = 2;
+
+        private static final int DELETE = 3;
+
+        private final String fullTableName;
+
+        private final String database;
+
+        private final String table;
+
+        private final LongAdder[] adders = {new LongAdder(), new LongAdder(), new LongAdder(), new LongAdder()};
+
+        private final LongAccumulator updatedTime = new LongAccumulator(Math::max, 0L);
+
+        private long[] flushed = new long[4];
+
+        TableCounters(TableAccessMetrics metrics) {
+            this.fullTableName = metrics.getFullTableName();
+            this.database = metrics.getDatabase();
+            this.table = metrics.getTable();
+        }
+
+        void add(TableAccessMetrics metrics) {
+            add(QUERY, metrics.getQueryCount());
+            add(INSERT, metrics.getInsertCount());
+            add(UPDATE, metrics.getUpdateCount());
+            add(DELETE, metrics.getDeleteCount());
+            updatedTime.accumulate(Objects.isNull(metrics.getUpdatedTime()) ? System.currentTimeMillis() : metrics.getUpdatedTime());
+        }
+
+        private void add(int counter, Long count) {
+            if (Objects.nonNull(count) && count != 0) {
+                adders[counter].add(count);
+            }
+        }
+
+        long[] snapshot() {
+            long[] snapshot = new long[adders.length];
+            for (int i = 0; i < adders.length; i++) {
+                snapshot[i] = adders[i].sum();
+            }
+            return snapshot;
+        }
+
+        TableAccessMetrics delta(long[] snapshot) {
+            long query = snapshot[QUERY] - flushed[QUERY];
+            long insert = snapshot[INSERT] - flushed[INSERT];
+            long update = snapshot[UPDATE] - flushed[UPDATE];
+            long delete = snapshot[DELETE] - flushed[DELETE];
+            if (query == 0 && insert == 0 && update == 0 && delete == 0) {
+                return null;
+            }
+            long write = insert + update + delete;
+            return new TableAccessMetrics()
+                    .setFullTableName(fullTableName)
+                    .setDatabase(database)
+                    .setTable(table)
+                    .setQueryCount(query)
+                    .setInsertCount(insert)
+                    .setUpdateCount(update)
+                    .setDeleteCount(delete)
+                    .setReadCount(query)
+                    .setWriteCount(write)
+                    .setTotalCount(query + write)
+                    .setUpdatedTime(updatedTime.get());
+        }
+    }
+}
@@ -33,5 +33,15 @@ public class DatasourceDashboardMetrics {
 
     private NodeState nodeState;
 
+    /**
+     * The last replication lag sampled, {@code null} if it is unknown or the replication is stopped.
+     */
+    private Double replicationLag;
+
+    /**
+     * Whether the replication of the node is stopped, {@code null} if the lag is not probed.
+     */
+    private Boolean replicationStopped;
+
     private List<NodeSqlExecuteNumMetrics> metrics;
 }
@@ -0,0 +1,187 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.metrics;
+
+import io.github.sqlx.config.MetricsCollectScope;
+import io.github.sqlx.config.MetricsConfiguration;
+import io.github.sqlx.jdbc.ConnectionInfo;
+import io.github.sqlx.jdbc.StatementInfo;
+import io.github.sqlx.jdbc.transaction.TransactionStatus;
+import io.github.sqlx.rule.RouteInfo;
+import io.github.sqlx.sql.SqlFingerprint;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides whether a statement, transaction or routing is recorded, before its metrics document is built.
+ * <p>
+ * The decision only reads the elapsed time and the error of the event. Failed events are always recorded,
+ * so are slow ones when a threshold is configured. With the {@link MetricsCollectScope#SLOW} scope nothing else is recorded,
+ * with the {@link MetricsCollectScope#ALL} scope the other events are sampled and rate limited per SQL fingerprint.
+ * Sampling hashes the record id, so all the events of one statement or transaction get the same decision.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public class MetricsCollectPolicy {
+
+    /**
+     * Maximum number of fingerprints that are rate limited at once, the windows are reset when it is exceeded.
+     */
+    private static final int MAX_WINDOWS = 4096;
+
+    private final MetricsCollectScope scope;
+
+    private final Long slowSqlMillis;
+
+    private final Long slowTransactionMillis;
+
+    private final double sampleRate;
+
+    private final int rateLimit;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public MetricsCollectPolicy(MetricsCollectScope scope, Long slowSqlMillis, Long slowTransactionMillis, double sampleRate, int rateLimit) {
+        this.scope = Objects.requireNonNull(scope, "scope must not be null");
+        this.slowSqlMillis = slowSqlMillis;
+        this.slowTransactionMillis = slowTransactionMillis;
+        this.sampleRate = sampleRate;
+        this.rateLimit = rateLimit;
+    }
+
+    public static MetricsCollectPolicy of(MetricsConfiguration configuration) {
+        MetricsCollectScope scope = Objects.isNull(configuration.getCollectScope()) ? MetricsCollectScope.SLOW : configuration.getCollectScope();
+        double sampleRate = Objects.isNull(configuration.getCollectSampleRate()) ? 1D : configuration.getCollectSampleRate();
+        int rateLimit = Objects.isNull(configuration.getCollectRateLimitPerFingerprint()) ? 0 : configuration.getCollectRateLimitPerFingerprint();
+        return new MetricsCollectPolicy(scope, configuration.getSlowSqlMillis(), configuration.getSlowTransactionMillis(), sampleRate, rateLimit);
+    }
+
+    /**
+     * @param statementInfo the executed statement
+     * @param e             the error of the statement, may be null
+     * @return true if the SQL metrics of the statement should be recorded
+     */
+    public boolean shouldCollect(StatementInfo statementInfo, Exception e) {
+        if (Objects.nonNull(e) || isSlow(statementInfo.getTimeElapsedExecuteNs(), slowSqlMillis)) {
+            return true;
+        }
+        return isSampled(statementInfo.getStatementId()) && tryAcquire(SqlFingerprint.of(statementInfo.getSql()));
+    }
+
+    /**
+     * @param transactionStatus the status of the transaction
+     * @param connectionInfo    the connection of the transaction
+     * @param e                 the error of the transaction, may be null
+     * @return true if the transaction metrics should be recorded, transactions are rate limited per transaction name
+     */
+    public boolean shouldCollect(TransactionStatus transactionStatus, ConnectionInfo connectionInfo, Exception e) {
+        if (Objects.nonNull(e)) {
+            return true;
+        }
+        long timeElapsedNs = connectionInfo.getSqlExecuteTimeElapsedNs();
+        if (transactionStatus == TransactionStatus.COMMITTED) {
+            timeElapsedNs += connectionInfo.getTimeElapsedToCommitNs();
+        } else if (transactionStatus == TransactionStatus.ROLLBACKED) {
+            timeElapsedNs += connectionInfo.getTimeElapsedToRollbackNs();
+        }
+        if (isSlow(timeElapsedNs, slowTransactionMillis)) {
+            return true;
+        }
+        return isSampled(connectionInfo.getTransactionId()) && tryAcquire(String.valueOf(connectionInfo.getTransactionName()));
+    }
+
+    /**
+     * @param routeInfo the route of a statement
+     * @param e         the routing error, may be null
+     * @return true if the routing metrics should be recorded
+     */
+    public boolean shouldCollect(RouteInfo routeInfo, Exception e) {
+        if (Objects.nonNull(e)) {
+            return true;
+        }
+        return isSampled(routeInfo.getRouteId()) && tryAcquire(SqlFingerprint.of(routeInfo.getSql()));
+    }
+
+    /**
+     * Compares the elapsed whole milliseconds with the threshold.
+     */
+    private static boolean isSlow(long timeElapsedNs, Long thresholdMillis) {
+        return Objects.nonNull(thresholdMillis) && TimeUnit.NANOSECONDS.toMillis(timeElapsedNs) > thresholdMillis;
+    }
+
+    private boolean isSampled(String id) {
+        if (scope != MetricsCollectScope.ALL || sampleRate <= 0) {
+            return false;
+        }
+        if (sampleRate >= 1) {
+            return true;
+        }
+        double value = id == null ? ThreadLocalRandom.current().nextDouble() : (mix(id.hashCode()) >>> 11) * 0x1.0p-53;
+        return value < sampleRate;
+    }
+
+    /**
+     * Spreads the hash over 64 bits, ids created in sequence only differ in their last characters.
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    private boolean tryAcquire(String fingerprint) {
+        if (rateLimit <= 0) {
+            return true;
+        }
+        Window window = windows.get(fingerprint);
+        if (window == null) {
+            if (windows.size() >= MAX_WINDOWS) {
+                windows.clear();
+            }
+            window = windows.computeIfAbsent(fingerprint, k -> new Window());
+        }
+        return window.tryAcquire(System.currentTimeMillis() / 1000, rateLimit);
+    }
+
+    /**
+     * Counts the records of one fingerprint in the current second.
+     */
+    private static class Window {
+
+        private long second;
+
+        private int count;
+
+        synchronized boolean tryAcquire(long now, int limit) {
+            if (now != second) {
+                second = now;
+                count = 0;
+            }
+            if (count >= limit) {
+                return false;
+            }
+            count++;
+            return true;
+        }
+    }
+}
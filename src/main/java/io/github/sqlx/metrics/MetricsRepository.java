@@ -16,6 +16,7 @@
 package io.github.sqlx.metrics;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Repository interface for managing metrics data.
@@ -63,6 +64,21 @@ public interface MetricsRepository<T> {
      */
     Page<T> selectPage(MetricsQueryCriteria criteria);
 
+    /**
+     * Selects a page of metrics entities based on the given criteria, the entities are passed to the consumer
+     * one at a time as they are read instead of being collected into the content of the page.
+     *
+     * @param criteria the query criteria for selecting metrics entities
+     * @param consumer receives the entities of the page in order
+     * @return the page without content
+     */
+    default Page<T> selectPage(MetricsQueryCriteria criteria, Consumer<? super T> consumer) {
+        Page<T> page = selectPage(criteria);
+        page.getContent().forEach(consumer);
+        page.setContent(null);
+        return page;
+    }
+
     /**
      * Selects a list of metrics entities based on the given criteria.
      *
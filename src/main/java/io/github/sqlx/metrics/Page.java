@@ -35,14 +35,28 @@ public class Page<T> {
 
     private Long totalCount;
 
+    /**
+     * The keyset cursor of the next page, {@code null} if this is the last page or the rows are not sorted by created time.
+     *
+     * @see PagingCriteria#getAfterCreatedTime()
+     */
+    private Long nextCreatedTime;
+
+    /**
+     * @see PagingCriteria#getAfterCreatedTimeOffset()
+     */
+    private Integer nextCreatedTimeOffset;
+
     private List<T> content;
 
-    public static <T> Page<T> of(List<T> content ,long totalCount , PagingCriteria pagingCriteria) {
+    public static <T> Page<T> of(List<T> content , Long totalCount , PagingCriteria pagingCriteria) {
         Page<T> page = new Page<>();
         page.setPageNo(pagingCriteria.getPageNo());
         page.setPageSize(pagingCriteria.getPageSize());
-        page.setTotalCount(totalCount);
-        page.setTotalPage(totalCount / pagingCriteria.getPageSize() + ((totalCount % pagingCriteria.getPageSize() == 0) ? 0 : 1));
+        if (totalCount != null) {
+            page.setTotalCount(totalCount);
+            page.setTotalPage(totalCount / pagingCriteria.getPageSize() + ((totalCount % pagingCriteria.getPageSize() == 0) ? 0 : 1));
+        }
         page.setContent(content);
         return page;
     }
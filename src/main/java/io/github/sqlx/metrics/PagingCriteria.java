@@ -15,25 +15,60 @@
  */
 package io.github.sqlx.metrics;
 
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 /**
+ * Paging criteria of a metrics query.
+ * <p>
+ * Pages are addressed by {@link #pageNo}, or by the keyset cursor {@link #afterCreatedTime} and {@link #afterCreatedTimeOffset}
+ * returned with the previous page in {@link Page#getNextCreatedTime()} and {@link Page#getNextCreatedTimeOffset()},
+ * which does not skip over the rows of the previous pages and does not drift when new rows are recorded.
+ *
  * @author He Xing Mo
  * @since 1.0
  */
 
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class PagingCriteria {
 
     private Integer pageNo;
 
     private Integer pageSize;
 
+    /**
+     * The created time of the last row of the previous page, the page starts at the rows created at this time.
+     */
+    private Long afterCreatedTime;
+
+    /**
+     * The number of rows created at {@link #afterCreatedTime} that were returned with the previous pages.
+     */
+    private Integer afterCreatedTimeOffset;
+
+    /**
+     * Whether the total count of the matched rows is returned, {@code true} if not set.
+     */
+    private Boolean includeTotalCount;
+
+    public PagingCriteria(Integer pageNo, Integer pageSize) {
+        this.pageNo = pageNo;
+        this.pageSize = pageSize;
+    }
+
+    public boolean isKeyset() {
+        return afterCreatedTime != null;
+    }
+
+    public boolean isTotalCountIncluded() {
+        return includeTotalCount == null || includeTotalCount;
+    }
+
     public int getOffset() {
+        if (isKeyset()) {
+            return afterCreatedTimeOffset == null ? 0 : afterCreatedTimeOffset;
+        }
         int effectivePageNo = (pageNo <= 0) ? 1 : pageNo;
         return (effectivePageNo - 1) * pageSize;
     }
@@ -32,12 +32,11 @@ import java.util.List;
 @Data
 @Accessors(chain = true)
 @Indices({
-        @Index(value = "sql" ,type = IndexType.Fulltext),
+        @Index(value = "sqlFingerprint" ,type = IndexType.NonUnique),
         @Index(value = "clusterName" ,type = IndexType.NonUnique),
         @Index(value = "hitNodeAttr.name" ,type = IndexType.NonUnique),
         @Index(value = "transactionId" ,type = IndexType.NonUnique),
         @Index(value = "transactionName" ,type = IndexType.NonUnique),
-        @Index(value = "timeElapsedMillis" ,type = IndexType.NonUnique),
         @Index(value = "succeeded" ,type = IndexType.NonUnique),
         @Index(value = "createdTime" ,type = IndexType.NonUnique),
 })
@@ -50,6 +49,8 @@ public class RoutingMetrics {
 
     private String nativeSql;
 
+    private String sqlFingerprint;
+
     private String clusterName;
 
     private List<RoutingGroupTypeName> possibleRoutingGroups;
@@ -62,6 +63,8 @@ public class RoutingMetrics {
 
     private NodeInfo hitNodeAttr;
 
+    private String fallbackFrom;
+
     private Boolean isTransactionActive;
 
     private String transactionId;
@@ -32,13 +32,12 @@ import java.util.Set;
 @Data
 @Accessors(chain = true)
 @Indices({
-        @Index(value = "sql" ,type = IndexType.Fulltext),
+        @Index(value = "sqlFingerprint" ,type = IndexType.NonUnique),
         @Index(value = "sqlType" ,type = IndexType.NonUnique),
         @Index(value = "clusterName" ,type = IndexType.NonUnique),
         @Index(value = "node.name" ,type = IndexType.NonUnique),
         @Index(value = "transactionId" ,type = IndexType.NonUnique),
         @Index(value = "transactionName" ,type = IndexType.NonUnique),
-        @Index(value = "executeTimeElapsedMillis" ,type = IndexType.NonUnique),
         @Index(value = "succeeded" ,type = IndexType.NonUnique),
         @Index(value = "createdTime" ,type = IndexType.NonUnique),
 })
@@ -51,6 +50,8 @@ public class SqlMetrics {
 
     private String nativeSql;
 
+    private String sqlFingerprint;
+
     private String sqlType;
 
     private Boolean isWrite;
@@ -30,13 +30,6 @@ import org.dizitart.no2.objects.Indices;
 @Indices({
         @Index(value = "database" ,type = IndexType.NonUnique),
         @Index(value = "table" ,type = IndexType.NonUnique),
-        @Index(value = "queryCount" ,type = IndexType.NonUnique),
-        @Index(value = "insertCount" ,type = IndexType.NonUnique),
-        @Index(value = "updateCount" ,type = IndexType.NonUnique),
-        @Index(value = "deleteCount" ,type = IndexType.NonUnique),
-        @Index(value = "readCount" ,type = IndexType.NonUnique),
-        @Index(value = "writeCount" ,type = IndexType.NonUnique),
-        @Index(value = "totalCount" ,type = IndexType.NonUnique),
         @Index(value = "updatedTime" ,type = IndexType.NonUnique),
 })
 @Data
@@ -15,9 +15,22 @@
  */
 package io.github.sqlx.metrics;
 
+import java.util.Collection;
+
 /**
  * @author He Xing Mo
  * @since 1.0
  */
 public interface TableAccessMetricsRepository extends MetricsRepository<TableAccessMetrics> {
+
+    /**
+     * Adds the counts of every metrics to the metrics of its table.
+     *
+     * @param targets the counts to add, at most one per table
+     */
+    default void saveAll(Collection<TableAccessMetrics> targets) {
+        for (TableAccessMetrics target : targets) {
+            save(target);
+        }
+    }
 }
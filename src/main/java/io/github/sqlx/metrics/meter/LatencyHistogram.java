@@ -0,0 +1,109 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.metrics.meter;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A latency histogram with fixed buckets, recorded without locks.
+ * <p>
+ * Each bucket counts the durations up to its upper bound, the last bucket holds the durations above the largest bound.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public class LatencyHistogram {
+
+    /**
+     * Upper bounds of the buckets in seconds.
+     */
+    private static final double[] BOUNDS_SECONDS = {0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+
+    private static final long[] BOUNDS_NANOS = new long[BOUNDS_SECONDS.length];
+
+    static {
+        for (int i = 0; i < BOUNDS_SECONDS.length; i++) {
+            BOUNDS_NANOS[i] = (long) (BOUNDS_SECONDS[i] * TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_NANOS.length + 1];
+
+    private final LongAdder sumNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @return the upper bounds of the buckets in seconds, without the last unbounded bucket
+     */
+    public static double[] getBoundsSeconds() {
+        return BOUNDS_SECONDS.clone();
+    }
+
+    /**
+     * @param nanos the duration in nanoseconds, negative durations are recorded as zero
+     */
+    public void record(long nanos) {
+        long duration = Math.max(nanos, 0L);
+        int index = Arrays.binarySearch(BOUNDS_NANOS, duration);
+        buckets[index < 0 ? -index - 1 : index].increment();
+        sumNanos.add(duration);
+    }
+
+    /**
+     * Reads the histogram. The buckets are read one by one while recording goes on,
+     * so a snapshot taken under load may mix durations recorded a moment apart.
+     *
+     * @return the cumulative bucket counts, the count and the sum
+     */
+    public Snapshot snapshot() {
+        long[] cumulativeCounts = new long[buckets.length];
+        long count = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            count += buckets[i].sum();
+            cumulativeCounts[i] = count;
+        }
+        return new Snapshot(cumulativeCounts, (double) sumNanos.sum() / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Getter
+    public static class Snapshot {
+
+        /**
+         * Count of the durations up to each bound, the last entry is the count of all durations.
+         */
+        private final long[] cumulativeCounts;
+
+        private final double sumSeconds;
+
+        Snapshot(long[] cumulativeCounts, double sumSeconds) {
+            this.cumulativeCounts = cumulativeCounts;
+            this.sumSeconds = sumSeconds;
+        }
+
+        public long getCount() {
+            return cumulativeCounts[cumulativeCounts.length - 1];
+        }
+    }
+}
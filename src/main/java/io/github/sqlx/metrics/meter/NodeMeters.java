@@ -0,0 +1,52 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.metrics.meter;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters, in-flight gauges and latency histograms of one node.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Getter
+public class NodeMeters {
+
+    private final String node;
+
+    private final LongAdder connectionAcquisitions = new LongAdder();
+
+    private final LongAdder connectionAcquisitionErrors = new LongAdder();
+
+    private final LongAdder connectionAcquisitionsInFlight = new LongAdder();
+
+    private final LatencyHistogram connectionAcquisitionLatency = new LatencyHistogram();
+
+    private final LongAdder statements = new LongAdder();
+
+    private final LongAdder statementErrors = new LongAdder();
+
+    private final LongAdder statementsInFlight = new LongAdder();
+
+    private final LatencyHistogram statementLatency = new LatencyHistogram();
+
+    public NodeMeters(String node) {
+        this.node = node;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.metrics.meter;
+
+import io.github.sqlx.NodeAttribute;
+import io.github.sqlx.jdbc.bulkhead.Bulkhead;
+import io.github.sqlx.jdbc.bulkhead.Bulkheads;
+import io.github.sqlx.jdbc.timeout.QueryTimeouts;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.function.Function;
+
+/**
+ * Writes {@link SqlXMeters} in the Prometheus text exposition format (version 0.0.4).
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public final class PrometheusExposition {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final double[] BOUNDS_SECONDS = LatencyHistogram.getBoundsSeconds();
+
+    private PrometheusExposition() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static String write(SqlXMeters meters) {
+        StringBuilder sb = new StringBuilder(4096);
+        Collection<ClusterMeters> clusters = meters.getClusters();
+        Collection<NodeMeters> nodes = meters.getNodes();
+
+        counter(sb, "sqlx_routing_total", "Routed statements.", "cluster", clusters, ClusterMeters::getCluster, m -> m.getRoutings().sum());
+        counter(sb, "sqlx_routing_errors_total", "Statements that failed to be routed.", "cluster", clusters, ClusterMeters::getCluster, m -> m.getRoutingErrors().sum());
+        counter(sb, "sqlx_routing_fallbacks_total", "Read statements routed again after the pool of their node was exhausted.", "cluster", clusters, ClusterMeters::getCluster, m -> m.getRoutingFallbacks().sum());
+        gauge(sb, "sqlx_routing_in_flight", "Statements being routed.", "cluster", clusters, ClusterMeters::getCluster, m -> m.getRoutingsInFlight().sum());
+        histogram(sb, "sqlx_routing_duration_seconds", "Time spent routing statements.", "cluster", clusters, ClusterMeters::getCluster, ClusterMeters::getRoutingLatency);
+        counter(sb, "sqlx_cluster_statements_total", "Statements executed in the cluster.", "cluster", clusters, ClusterMeters::getCluster, m -> m.getStatements().sum());
+        counter(sb, "sqlx_cluster_statement_errors_total", "Statements that failed in the cluster.", "cluster", clusters, ClusterMeters::getCluster, m -> m.getStatementErrors().sum());
+
+        counter(sb, "sqlx_connection_acquire_total", "Connections acquired from the node.", "node", nodes, NodeMeters::getNode, m -> m.getConnectionAcquisitions().sum());
+        counter(sb, "sqlx_connection_acquire_errors_total", "Connections that could not be acquired from the node.", "node", nodes, NodeMeters::getNode, m -> m.getConnectionAcquisitionErrors().sum());
+        gauge(sb, "sqlx_connection_acquire_in_flight", "Threads waiting for a connection of the node.", "node", nodes, NodeMeters::getNode, m -> m.getConnectionAcquisitionsInFlight().sum());
+        histogram(sb, "sqlx_connection_acquire_duration_seconds", "Time spent acquiring connections of the node.", "node", nodes, NodeMeters::getNode, NodeMeters::getConnectionAcquisitionLatency);
+        counter(sb, "sqlx_statements_total", "Statements executed on the node.", "node", nodes, NodeMeters::getNode, m -> m.getStatements().sum());
+        counter(sb, "sqlx_statement_errors_total", "Statements that failed on the node.", "node", nodes, NodeMeters::getNode, m -> m.getStatementErrors().sum());
+        gauge(sb, "sqlx_statements_in_flight", "Statements executing on the node.", "node", nodes, NodeMeters::getNode, m -> m.getStatementsInFlight().sum());
+        histogram(sb, "sqlx_statement_duration_seconds", "Time spent executing statements on the node.", "node", nodes, NodeMeters::getNode, NodeMeters::getStatementLatency);
+
+        Bulkheads bulkheads = meters.getBulkheads();
+        if (bulkheads != null) {
+            bulkheads(sb, "node", bulkheads.getNodes());
+            bulkheads(sb, "cluster", bulkheads.getClusters());
+        }
+        QueryTimeouts queryTimeouts = meters.getQueryTimeouts();
+        if (queryTimeouts != null) {
+            counter(sb, "sqlx_statement_cancellations_total", "Statements of the node cancelled by the watchdog after their query timeout.",
+                    "node", queryTimeouts.getCancellations().entrySet(), Map.Entry::getKey, Map.Entry::getValue);
+        }
+        replicationLag(sb, meters.getNodeAttributes());
+        return sb.toString();
+    }
+
+    private static void replicationLag(StringBuilder sb, Collection<NodeAttribute> nodeAttributes) {
+        List<NodeAttribute> lagging = nodeAttributes.stream()
+                .filter(n -> n.getReplicationLag() != null)
+                .collect(Collectors.toList());
+        if (lagging.isEmpty()) {
+            return;
+        }
+        header(sb, "sqlx_node_replication_lag", "Last replication lag sampled on the node, +Inf when the replication is stopped.", "gauge");
+        for (NodeAttribute node : lagging) {
+            Double lag = node.getReplicationLag();
+            if (lag == null) {
+                continue;
+            }
+            sb.append("sqlx_node_replication_lag{");
+            label(sb, "node", node.getName());
+            sb.append("} ").append(lag.isInfinite() ? "+Inf" : Double.toString(lag)).append('\n');
+        }
+    }
+
+    private static void bulkheads(StringBuilder sb, String label, Collection<Bulkhead> bulkheads) {
+        if (bulkheads.isEmpty()) {
+            return;
+        }
+        String prefix = "sqlx_" + label + "_bulkhead_";
+        gauge(sb, prefix + "limit", "Concurrency limit of the " + label + ".", label, bulkheads, Bulkhead::getName, b -> (long) b.getLimit());
+        gauge(sb, prefix + "in_flight", "Connection acquisitions and statements holding a permit of the " + label + ".", label, bulkheads, Bulkhead::getName, b -> (long) b.getInFlight());
+        gauge(sb, prefix + "queued", "Statements waiting for a permit of the " + label + ".", label, bulkheads, Bulkhead::getName, b -> (long) b.getQueued());
+        counter(sb, prefix + "rejections_total", "Statements rejected by the bulkhead of the " + label + ".", label, bulkheads, Bulkhead::getName, Bulkhead::getRejections);
+    }
+
+    private static <T> void counter(StringBuilder sb, String name, String help, String label, Collection<T> meters,
+                                    Function<T, String> labelValue, Function<T, Long> value) {
+        sample(sb, name, help, "counter", label, meters, labelValue, value);
+    }
+
+    private static <T> void gauge(StringBuilder sb, String name, String help, String label, Collection<T> meters,
+                                  Function<T, String> labelValue, Function<T, Long> value) {
+        sample(sb, name, help, "gauge", label, meters, labelValue, value);
+    }
+
+    private static <T> void sample(StringBuilder sb, String name, String help, String type, String label, Collection<T> meters,
+                                   Function<T, String> labelValue, Function<T, Long> value) {
+        header(sb, name, help, type);
+        for (T meter : meters) {
+            sb.append(name).append('{');
+            label(sb, label, labelValue.apply(meter));
+            sb.append("} ").append(value.apply(meter)).append('\n');
+        }
+    }
+
+    private static <T> void histogram(StringBuilder sb, String name, String help, String label, Collection<T> meters,
+                                      Function<T, String> labelValue, Function<T, LatencyHistogram> histogram) {
+        header(sb, name, help, "histogram");
+        for (T meter : meters) {
+            String value = labelValue.apply(meter);
+            LatencyHistogram.Snapshot snapshot = histogram.apply(meter).snapshot();
+            long[] counts = snapshot.getCumulativeCounts();
+            for (int i = 0; i < counts.length; i++) {
+                sb.append(name).append("_bucket{");
+                label(sb, label, value);
+                sb.append(",le=\"").append(i < BOUNDS_SECONDS.length ? Double.toString(BOUNDS_SECONDS[i]) : "+Inf").append("\"} ")
+                        .append(counts[i]).append('\n');
+            }
+            sb.append(name).append("_sum{");
+            label(sb, label, value);
+            sb.append("} ").append(snapshot.getSumSeconds()).append('\n');
+            sb.append(name).append("_count{");
+            label(sb, label, value);
+            sb.append("} ").append(snapshot.getCount()).append('\n');
+        }
+    }
+
+    private static void header(StringBuilder sb, String name, String help, String type) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void label(StringBuilder sb, String name, String value) {
+        sb.append(name).append("=\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '"') {
+                sb.append('\\').append(c);
+            } else if (c == '\n') {
+                sb.append("\\n");
+            } else {
+                sb.append(c);
+            }
+        }
+        sb.append('"');
+    }
+}
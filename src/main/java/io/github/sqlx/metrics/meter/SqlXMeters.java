@@ -0,0 +1,104 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.metrics.meter;
+
+import io.github.sqlx.NodeAttribute;
+import io.github.sqlx.jdbc.bulkhead.Bulkheads;
+import io.github.sqlx.jdbc.timeout.QueryTimeouts;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The in-memory meters of the nodes and clusters, updated by {@link io.github.sqlx.listener.MeterEventListener}
+ * and read by the scrape endpoints without touching the metrics storage.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public class SqlXMeters {
+
+    /**
+     * Name used when a node or cluster is unknown, as in the metrics records.
+     */
+    public static final String UNKNOWN = "N/A";
+
+    private final Map<String, NodeMeters> nodes = new ConcurrentHashMap<>();
+
+    private final Map<String, ClusterMeters> clusters = new ConcurrentHashMap<>();
+
+    /**
+     * The bulkheads whose in-flight, queued and rejected statements are exposed, {@code null} if the bulkheads are disabled.
+     */
+    private volatile Bulkheads bulkheads;
+
+    /**
+     * The query timeouts whose watchdog cancellations are exposed, {@code null} if the default query timeouts are disabled.
+     */
+    private volatile QueryTimeouts queryTimeouts;
+
+    /**
+     * Supplies the nodes whose replication lag is exposed.
+     */
+    private volatile Supplier<Collection<NodeAttribute>> nodeAttributes = Collections::emptyList;
+
+    public NodeMeters node(String name) {
+        String key = name == null ? UNKNOWN : name;
+        NodeMeters meters = nodes.get(key);
+        return meters != null ? meters : nodes.computeIfAbsent(key, NodeMeters::new);
+    }
+
+    public ClusterMeters cluster(String name) {
+        String key = name == null ? UNKNOWN : name;
+        ClusterMeters meters = clusters.get(key);
+        return meters != null ? meters : clusters.computeIfAbsent(key, ClusterMeters::new);
+    }
+
+    public Collection<NodeMeters> getNodes() {
+        return Collections.unmodifiableCollection(nodes.values());
+    }
+
+    public Collection<ClusterMeters> getClusters() {
+        return Collections.unmodifiableCollection(clusters.values());
+    }
+
+    public Bulkheads getBulkheads() {
+        return bulkheads;
+    }
+
+    public void setBulkheads(Bulkheads bulkheads) {
+        this.bulkheads = bulkheads;
+    }
+
+    public QueryTimeouts getQueryTimeouts() {
+        return queryTimeouts;
+    }
+
+    public void setQueryTimeouts(QueryTimeouts queryTimeouts) {
+        this.queryTimeouts = queryTimeouts;
+    }
+
+    public Collection<NodeAttribute> getNodeAttributes() {
+        return nodeAttributes.get();
+    }
+
+    public void setNodeAttributes(Supplier<Collection<NodeAttribute>> nodeAttributes) {
+        this.nodeAttributes = nodeAttributes;
+    }
+}
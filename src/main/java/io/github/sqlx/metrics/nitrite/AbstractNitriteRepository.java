@@ -31,7 +31,10 @@ import org.dizitart.no2.objects.ObjectFilter;
 import org.dizitart.no2.objects.ObjectRepository;
 import org.dizitart.no2.objects.filters.ObjectFilters;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * @author He Xing Mo
@@ -39,7 +42,7 @@ import java.util.List;
  */
 public abstract class AbstractNitriteRepository<T> implements MetricsRepository<T> {
 
-    private final Nitrite nitrite;
+    protected final Nitrite nitrite;
 
     protected final ObjectRepository<T> repository;
 
@@ -74,8 +77,41 @@ public abstract class AbstractNitriteRepository<T> implements MetricsRepository<
 
     @Override
     public Page<T> selectPage(MetricsQueryCriteria criteria) {
+        List<T> content = new ArrayList<>();
+        Page<T> page = selectPage(criteria, content::add);
+        page.setContent(content);
+        return page;
+    }
+
+    /**
+     * Reads the entities of the page one at a time from the cursor. When the entities are sorted by created time
+     * and more entities match, the page carries the keyset cursor of the next page.
+     */
+    @Override
+    public Page<T> selectPage(MetricsQueryCriteria criteria, Consumer<? super T> consumer) {
+        PagingCriteria pagingCriteria = criteria.getPagingCriteria();
         Cursor<T> cursor = find(criteria);
-        return Page.of(cursor.toList() , cursor.totalCount() , criteria.getPagingCriteria());
+        Long lastCreatedTime = null;
+        int lastCreatedTimeCount = 0;
+        for (T target : cursor) {
+            consumer.accept(target);
+            Long createdTime = createdTimeOf(target);
+            if (createdTime != null && createdTime.equals(lastCreatedTime)) {
+                lastCreatedTimeCount++;
+            } else {
+                lastCreatedTime = createdTime;
+                lastCreatedTimeCount = 1;
+            }
+        }
+        Page<T> page = Page.of(null, pagingCriteria.isTotalCountIncluded() ? (long) cursor.totalCount() : null, pagingCriteria);
+        if (cursor.hasMore() && lastCreatedTime != null && isSortedByCreatedTime(criteria)) {
+            if (pagingCriteria.isKeyset() && lastCreatedTime.equals(pagingCriteria.getAfterCreatedTime())) {
+                lastCreatedTimeCount += pagingCriteria.getOffset();
+            }
+            page.setNextCreatedTime(lastCreatedTime);
+            page.setNextCreatedTimeOffset(lastCreatedTimeCount);
+        }
+        return page;
     }
 
     @Override
@@ -100,6 +136,16 @@ public abstract class AbstractNitriteRepository<T> implements MetricsRepository<
      */
     protected abstract ObjectFilter buildFilter(MetricsQueryCriteria criteria);
 
+    /**
+     * Returns the created time of the entity, used as the keyset of the pages sorted by created time.
+     *
+     * @param target the entity
+     * @return the created time, or {@code null} if the entity has no created time
+     */
+    protected Long createdTimeOf(T target) {
+        return null;
+    }
+
 
     protected FindOptions buildOptions(MetricsQueryCriteria criteria) {
         PagingCriteria pagingCriteria = criteria.getPagingCriteria();
@@ -115,6 +161,11 @@ public abstract class AbstractNitriteRepository<T> implements MetricsRepository<
     private Cursor<T> find(MetricsQueryCriteria criteria) {
         ObjectFilter filter = buildFilter(criteria);
         FindOptions options = buildOptions(criteria);
+        PagingCriteria pagingCriteria = criteria.getPagingCriteria();
+        if (pagingCriteria != null && pagingCriteria.isKeyset()) {
+            ObjectFilter keyset = buildKeysetFilter(criteria);
+            filter = filter == null ? keyset : ObjectFilters.and(filter, keyset);
+        }
         if (filter == null && options == null) {
             return repository.find();
         }
@@ -130,6 +181,26 @@ public abstract class AbstractNitriteRepository<T> implements MetricsRepository<
         return repository.find(filter, options);
     }
 
+    /**
+     * Builds the filter of the rows created at or after the keyset cursor in the sort order,
+     * the rows created at the cursor and already returned are skipped through the offset.
+     */
+    private ObjectFilter buildKeysetFilter(MetricsQueryCriteria criteria) {
+        if (!isSortedByCreatedTime(criteria)) {
+            throw new IllegalArgumentException("Paging by afterCreatedTime requires sorting by createdTime");
+        }
+        Long afterCreatedTime = criteria.getPagingCriteria().getAfterCreatedTime();
+        if (criteria.getSortOrderField().getSortOrder() == SortOrder.ASC) {
+            return ObjectFilters.gte("createdTime", afterCreatedTime);
+        }
+        return ObjectFilters.lte("createdTime", afterCreatedTime);
+    }
+
+    private static boolean isSortedByCreatedTime(MetricsQueryCriteria criteria) {
+        SortOrderField sortOrderField = criteria.getSortOrderField();
+        return sortOrderField != null && Objects.equals(sortOrderField.getFieldName(), "createdTime");
+    }
+
     private FindOptions buildSortOrderFindOptions(SortOrderField sortOrderField) {
         if (sortOrderField == null) {
             return null;
@@ -30,13 +30,43 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
+ * Searches the records by SQL through a {@link SqlFingerprintDictionary} instead of a full-text index on the raw SQL.
+ *
  * @author He Xing Mo
  * @since 1.0
  */
 public class NitriteRoutingMetricsRepository extends AbstractNitriteRepository<RoutingMetrics> implements RoutingMetricsRepository {
 
+    /**
+     * Indexes created by earlier versions, no query uses them.
+     */
+    private static final String[] DROPPED_INDEXES = {"sql", "timeElapsedMillis"};
+
+    private final SqlFingerprintDictionary dictionary;
+
     public NitriteRoutingMetricsRepository(String fileDirectory) {
         super(RoutingMetrics.class, fileDirectory);
+        for (String field : DROPPED_INDEXES) {
+            if (repository.hasIndex(field)) {
+                repository.dropIndex(field);
+            }
+        }
+        this.dictionary = new SqlFingerprintDictionary(nitrite, "sqlFingerprint");
+    }
+
+    @Override
+    public void save(RoutingMetrics target) {
+        target.setSqlFingerprint(dictionary.register(target.getSql()));
+        super.save(target);
+    }
+
+    @Override
+    public int deleteByCreatedTimeLessThan(long timestamp) {
+        int deleted = super.deleteByCreatedTimeLessThan(timestamp);
+        if (deleted > 0) {
+            dictionary.prune(repository);
+        }
+        return deleted;
     }
 
     @Override
@@ -47,11 +77,11 @@ public class NitriteRoutingMetricsRepository extends AbstractNitriteRepository<R
 
         String routingId = ((RoutingMetricsQueryCriteria) criteria).getRoutingId();
         if (StringUtils.isNotBlank(routingId)) {
-            filters.add(ObjectFilters.text("routingId", routingId));
+            filters.add(ObjectFilters.eq("routingId", routingId));
         }
 
         if (StringUtils.isNotBlank(criteria.getSql())) {
-            filters.add(ObjectFilters.text("sql", criteria.getSql()));
+            filters.add(dictionary.filter(criteria.getSql()));
         }
 
         if (StringUtils.isNotBlank(criteria.getClusterName())) {
@@ -67,7 +97,7 @@ public class NitriteRoutingMetricsRepository extends AbstractNitriteRepository<R
         }
 
         if (StringUtils.isNotBlank(criteria.getTransactionName())) {
-            filters.add(ObjectFilters.eq("transactionName", criteria.getTransactionId()));
+            filters.add(ObjectFilters.eq("transactionName", criteria.getTransactionName()));
         }
 
         if (criteria.getSucceeded() != null) {
@@ -83,6 +113,11 @@ public class NitriteRoutingMetricsRepository extends AbstractNitriteRepository<R
         return filters.isEmpty() ? null : ObjectFilters.and(filters.toArray(new ObjectFilter[0]));
     }
 
+    @Override
+    protected Long createdTimeOf(RoutingMetrics target) {
+        return target.getCreatedTime();
+    }
+
     @Override
     protected FindOptions buildOptions(MetricsQueryCriteria criteria) {
         if (criteria.getSortOrderField() == null || StringUtils.isBlank(criteria.getSortOrderField().getFieldName()) || criteria.getSortOrderField().getSortOrder() == null) {
@@ -31,13 +31,43 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
+ * Searches the records by SQL through a {@link SqlFingerprintDictionary} instead of a full-text index on the raw SQL.
+ *
  * @author He Xing Mo
  * @since 1.0
  */
 public class NitriteSqlMetricsRepository extends AbstractNitriteRepository<SqlMetrics> implements SqlMetricsRepository {
 
+    /**
+     * Indexes created by earlier versions, no query uses them.
+     */
+    private static final String[] DROPPED_INDEXES = {"sql", "executeTimeElapsedMillis"};
+
+    private final SqlFingerprintDictionary dictionary;
+
     public NitriteSqlMetricsRepository(String fileDirectory) {
         super(SqlMetrics.class, fileDirectory);
+        for (String field : DROPPED_INDEXES) {
+            if (repository.hasIndex(field)) {
+                repository.dropIndex(field);
+            }
+        }
+        this.dictionary = new SqlFingerprintDictionary(nitrite, "sqlFingerprint");
+    }
+
+    @Override
+    public void save(SqlMetrics target) {
+        target.setSqlFingerprint(dictionary.register(target.getSql()));
+        super.save(target);
+    }
+
+    @Override
+    public int deleteByCreatedTimeLessThan(long timestamp) {
+        int deleted = super.deleteByCreatedTimeLessThan(timestamp);
+        if (deleted > 0) {
+            dictionary.prune(repository);
+        }
+        return deleted;
     }
 
     @Override
@@ -51,7 +81,7 @@ public class NitriteSqlMetricsRepository extends AbstractNitriteRepository<SqlMe
         }
 
         if (StringUtils.isNotBlank(criteria.getSql())) {
-            filters.add(ObjectFilters.text("sql", criteria.getSql()));
+            filters.add(dictionary.filter(criteria.getSql()));
         }
 
         if (StringUtils.isNotBlank(criteria.getClusterName())) {
@@ -67,7 +97,7 @@ public class NitriteSqlMetricsRepository extends AbstractNitriteRepository<SqlMe
         }
 
         if (StringUtils.isNotBlank(criteria.getTransactionName())) {
-            filters.add(ObjectFilters.eq("transactionName", criteria.getTransactionId()));
+            filters.add(ObjectFilters.eq("transactionName", criteria.getTransactionName()));
         }
 
         if (StringUtils.isNotBlank(sqc.getSqlType())) {
@@ -107,6 +137,11 @@ public class NitriteSqlMetricsRepository extends AbstractNitriteRepository<SqlMe
         return filters.isEmpty() ? null : ObjectFilters.and(filters.toArray(new ObjectFilter[0]));
     }
 
+    @Override
+    protected Long createdTimeOf(SqlMetrics target) {
+        return target.getCreatedTime();
+    }
+
     @Override
     protected FindOptions buildOptions(MetricsQueryCriteria criteria) {
         if (criteria.getSortOrderField() == null || StringUtils.isBlank(criteria.getSortOrderField().getFieldName()) || criteria.getSortOrderField().getSortOrder() == null) {
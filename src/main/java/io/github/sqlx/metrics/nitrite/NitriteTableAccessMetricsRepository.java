@@ -16,6 +16,10 @@
 package io.github.sqlx.metrics.nitrite;
 
 import io.github.sqlx.metrics.MetricsQueryCriteria;
+import io.github.sqlx.metrics.Page;
+import io.github.sqlx.metrics.PagingCriteria;
+import io.github.sqlx.metrics.SortOrder;
+import io.github.sqlx.metrics.SortOrderField;
 import io.github.sqlx.metrics.TableAccessMetrics;
 import io.github.sqlx.metrics.TableAccessMetricsRepository;
 import io.github.sqlx.metrics.TableMetricsQueryCriteria;
@@ -25,45 +29,160 @@ import org.dizitart.no2.objects.ObjectFilter;
 import org.dizitart.no2.objects.filters.ObjectFilters;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
+ * Stores one document per table holding its access counts.
+ * <p>
+ * The counts are not indexed, a query sorted by a count selects the top entries of the requested page
+ * with a bounded heap over the filtered documents.
+ *
  * @author He Xing Mo
  * @since 1.0
  */
 public class NitriteTableAccessMetricsRepository extends AbstractNitriteRepository<TableAccessMetrics> implements TableAccessMetricsRepository {
 
+    /**
+     * Indexes created by earlier versions, every update rewrote them.
+     */
+    private static final String[] DROPPED_INDEXES = {"queryCount", "insertCount", "updateCount", "deleteCount", "readCount", "writeCount", "totalCount"};
+
+    private static final Map<String, Function<TableAccessMetrics, Comparable<?>>> SORT_FIELDS = new HashMap<>();
+
+    static {
+        SORT_FIELDS.put("fullTableName", TableAccessMetrics::getFullTableName);
+        SORT_FIELDS.put("database", TableAccessMetrics::getDatabase);
+        SORT_FIELDS.put("table", TableAccessMetrics::getTable);
+        SORT_FIELDS.put("queryCount", TableAccessMetrics::getQueryCount);
+        SORT_FIELDS.put("insertCount", TableAccessMetrics::getInsertCount);
+        SORT_FIELDS.put("updateCount", TableAccessMetrics::getUpdateCount);
+        SORT_FIELDS.put("deleteCount", TableAccessMetrics::getDeleteCount);
+        SORT_FIELDS.put("readCount", TableAccessMetrics::getReadCount);
+        SORT_FIELDS.put("writeCount", TableAccessMetrics::getWriteCount);
+        SORT_FIELDS.put("totalCount", TableAccessMetrics::getTotalCount);
+        SORT_FIELDS.put("updatedTime", TableAccessMetrics::getUpdatedTime);
+    }
+
     public NitriteTableAccessMetricsRepository(String fileDirectory) {
         super(TableAccessMetrics.class, fileDirectory);
+        for (String field : DROPPED_INDEXES) {
+            if (repository.hasIndex(field)) {
+                repository.dropIndex(field);
+            }
+        }
     }
 
     @Override
-    public synchronized void save(TableAccessMetrics target) {
+    public void save(TableAccessMetrics target) {
+        saveAll(Collections.singletonList(target));
+    }
+
+    @Override
+    public synchronized void saveAll(Collection<TableAccessMetrics> targets) {
         long timeMillis = System.currentTimeMillis();
-        Cursor<TableAccessMetrics> cursor = repository.find(ObjectFilters.eq("fullTableName", target.getFullTableName()));
-        TableAccessMetrics metrics = cursor.firstOrDefault();
-        if (Objects.isNull(metrics)) {
-            target.setUpdatedTime(timeMillis);
-            repository.insert(target);
-        } else {
-            long queryCount = metrics.getQueryCount() + target.getQueryCount();
-            long insertCount = metrics.getInsertCount() + target.getInsertCount();
-            long updateCount = metrics.getUpdateCount() + target.getUpdateCount();
-            long deleteCount = metrics.getDeleteCount() + target.getDeleteCount();
-            long readCount = metrics.getReadCount() + target.getReadCount();
-            long writeCount = metrics.getWriteCount() + target.getWriteCount();
-            long totalCount = metrics.getTotalCount() + target.getTotalCount();
-            metrics.setQueryCount(queryCount)
-                    .setInsertCount(insertCount)
-                    .setUpdateCount(updateCount)
-                    .setDeleteCount(deleteCount)
-                    .setReadCount(readCount)
-                    .setWriteCount(writeCount)
-                    .setTotalCount(totalCount)
-                    .setUpdatedTime(timeMillis);
-            repository.update(metrics);
+        List<TableAccessMetrics> inserts = new ArrayList<>();
+        for (TableAccessMetrics target : targets) {
+            Cursor<TableAccessMetrics> cursor = repository.find(ObjectFilters.eq("fullTableName", target.getFullTableName()));
+            TableAccessMetrics metrics = cursor.firstOrDefault();
+            long updatedTime = Objects.isNull(target.getUpdatedTime()) ? timeMillis : target.getUpdatedTime();
+            if (Objects.isNull(metrics)) {
+                target.setUpdatedTime(updatedTime);
+                inserts.add(target);
+            } else {
+                metrics.setQueryCount(metrics.getQueryCount() + target.getQueryCount())
+                        .setInsertCount(metrics.getInsertCount() + target.getInsertCount())
+                        .setUpdateCount(metrics.getUpdateCount() + target.getUpdateCount())
+                        .setDeleteCount(metrics.getDeleteCount() + target.getDeleteCount())
+                        .setReadCount(metrics.getReadCount() + target.getReadCount())
+                        .setWriteCount(metrics.getWriteCount() + target.getWriteCount())
+                        .setTotalCount(metrics.getTotalCount() + target.getTotalCount())
+                        .setUpdatedTime(Math.max(updatedTime, metrics.getUpdatedTime()));
+                repository.update(metrics);
+            }
+        }
+        if (!inserts.isEmpty()) {
+            TableAccessMetrics first = inserts.get(0);
+            repository.insert(first, inserts.subList(1, inserts.size()).toArray(new TableAccessMetrics[0]));
+        }
+    }
+
+    @Override
+    public Page<TableAccessMetrics> selectPage(MetricsQueryCriteria criteria, Consumer<? super TableAccessMetrics> consumer) {
+        Comparator<TableAccessMetrics> comparator = comparator(criteria.getSortOrderField());
+        if (comparator == null || criteria.getPagingCriteria() == null) {
+            return super.selectPage(criteria, consumer);
+        }
+        PagingCriteria pagingCriteria = criteria.getPagingCriteria();
+        if (pagingCriteria.isKeyset()) {
+            throw new IllegalArgumentException("Paging by afterCreatedTime is not supported by table access metrics");
+        }
+        List<TableAccessMetrics> all = selectFiltered(criteria);
+        topK(all, comparator, pagingCriteria).forEach(consumer);
+        return Page.of(null, pagingCriteria.isTotalCountIncluded() ? (long) all.size() : null, pagingCriteria);
+    }
+
+    @Override
+    public List<TableAccessMetrics> selectList(MetricsQueryCriteria criteria) {
+        Comparator<TableAccessMetrics> comparator = comparator(criteria.getSortOrderField());
+        if (comparator == null) {
+            return super.selectList(criteria);
+        }
+        List<TableAccessMetrics> all = selectFiltered(criteria);
+        if (criteria.getPagingCriteria() != null) {
+            return topK(all, comparator, criteria.getPagingCriteria());
+        }
+        all.sort(comparator);
+        return all;
+    }
+
+    private List<TableAccessMetrics> selectFiltered(MetricsQueryCriteria criteria) {
+        ObjectFilter filter = buildFilter(criteria);
+        return filter == null ? repository.find().toList() : repository.find(filter).toList();
+    }
+
+    /**
+     * Selects the entries of the page, keeping at most {@code offset + pageSize} entries in the heap.
+     */
+    private static List<TableAccessMetrics> topK(List<TableAccessMetrics> all, Comparator<TableAccessMetrics> comparator, PagingCriteria pagingCriteria) {
+        int offset = pagingCriteria.getOffset();
+        int k = offset + pagingCriteria.getPageSize();
+        if (offset >= all.size() || pagingCriteria.getPageSize() <= 0) {
+            return new ArrayList<>();
+        }
+        PriorityQueue<TableAccessMetrics> heap = new PriorityQueue<>(Math.min(k, all.size()) + 1, comparator.reversed());
+        for (TableAccessMetrics metrics : all) {
+            if (heap.size() < k) {
+                heap.offer(metrics);
+            } else if (comparator.compare(metrics, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(metrics);
+            }
+        }
+        List<TableAccessMetrics> top = new ArrayList<>(heap);
+        top.sort(comparator);
+        return new ArrayList<>(top.subList(offset, top.size()));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<TableAccessMetrics> comparator(SortOrderField sortOrderField) {
+        if (sortOrderField == null || sortOrderField.getFieldName() == null) {
+            return null;
+        }
+        Function<TableAccessMetrics, Comparable<?>> field = SORT_FIELDS.get(sortOrderField.getFieldName());
+        if (field == null) {
+            return null;
         }
+        Comparator<Comparable> order = sortOrderField.getSortOrder() == SortOrder.ASC ? Comparator.naturalOrder() : Comparator.reverseOrder();
+        return Comparator.comparing(m -> (Comparable) field.apply(m), Comparator.nullsLast(order));
     }
 
     @Override
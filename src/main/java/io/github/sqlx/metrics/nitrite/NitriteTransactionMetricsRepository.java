@@ -104,6 +104,11 @@ public class NitriteTransactionMetricsRepository extends AbstractNitriteReposito
         return filters.isEmpty() ? null : ObjectFilters.and(filters.toArray(new ObjectFilter[0]));
     }
 
+    @Override
+    protected Long createdTimeOf(TransactionMetrics target) {
+        return target.getCreatedTime();
+    }
+
     @Override
     protected FindOptions buildOptions(MetricsQueryCriteria criteria) {
         if (criteria.getSortOrderField() == null || StringUtils.isBlank(criteria.getSortOrderField().getFieldName()) || criteria.getSortOrderField().getSortOrder() == null) {
@@ -20,7 +20,7 @@ import io.github.sqlx.metrics.DatasourceDashboardMetricsQueryCriteria;
 import io.github.sqlx.metrics.MetricsQueryCriteria;
 import io.github.sqlx.metrics.NodeSqlExecuteNumMetrics;
 import io.github.sqlx.util.CollectionUtils;
-import io.github.sqlx.util.UUIDUtils;
+import io.github.sqlx.util.TimeOrderedId;
 import org.dizitart.no2.objects.Cursor;
 import org.dizitart.no2.objects.ObjectFilter;
 import org.dizitart.no2.objects.filters.ObjectFilters;
@@ -52,7 +52,7 @@ public class NodeSqlExecuteNumMetricsRepository extends AbstractNitriteRepositor
         Cursor<NodeSqlExecuteNumMetrics> cursor = repository.find(filter);
         NodeSqlExecuteNumMetrics metrics = cursor.firstOrDefault();
         if (Objects.isNull(metrics)) {
-            target.setId(UUIDUtils.getSimpleUUID());
+            target.setId(TimeOrderedId.nextString());
             repository.insert(target);
         } else {
             metrics.setInsertCount(metrics.getInsertCount() + target.getInsertCount())
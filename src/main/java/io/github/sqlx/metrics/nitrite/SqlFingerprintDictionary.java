@@ -0,0 +1,165 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.metrics.nitrite;
+
+import io.github.sqlx.sql.SqlFingerprint;
+import io.github.sqlx.util.StringUtils;
+import org.dizitart.no2.Document;
+import org.dizitart.no2.IndexOptions;
+import org.dizitart.no2.IndexType;
+import org.dizitart.no2.Nitrite;
+import org.dizitart.no2.NitriteCollection;
+import org.dizitart.no2.NitriteId;
+import org.dizitart.no2.filters.Filters;
+import org.dizitart.no2.objects.ObjectFilter;
+import org.dizitart.no2.objects.ObjectRepository;
+import org.dizitart.no2.objects.filters.BaseObjectFilter;
+import org.dizitart.no2.objects.filters.ObjectFilters;
+import org.dizitart.no2.store.NitriteMap;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The distinct SQL fingerprints of a metrics repository, used to search the records by SQL.
+ * <p>
+ * Each record stores the fingerprint of its SQL in a non-unique indexed field, so the index maps every fingerprint
+ * to the ids of its records. A search matches the text against this dictionary, which holds one entry per SQL shape,
+ * and then selects the records of the matched fingerprints through the index.
+ * The dictionary is kept in memory and persisted in its own collection next to the records.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public class SqlFingerprintDictionary {
+
+    private static final String FINGERPRINT = "fingerprint";
+
+    private final NitriteCollection collection;
+
+    private final String field;
+
+    /**
+     * Fingerprint to its tokens.
+     */
+    private final Map<String, Set<String>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * @param nitrite the database of the records
+     * @param field   the field of the records holding the fingerprint
+     */
+    public SqlFingerprintDictionary(Nitrite nitrite, String field) {
+        this.field = field;
+        this.collection = nitrite.getCollection(field + "Dictionary");
+        if (!collection.hasIndex(FINGERPRINT)) {
+            collection.createIndex(FINGERPRINT, IndexOptions.indexOptions(IndexType.Unique));
+        }
+        for (Document document : collection.find()) {
+            String fingerprint = document.get(FINGERPRINT, String.class);
+            entries.put(fingerprint, SqlFingerprint.tokens(fingerprint));
+        }
+    }
+
+    /**
+     * Computes the fingerprint of the SQL and adds it to the dictionary if it is new.
+     *
+     * @param sql the SQL of a record
+     * @return the fingerprint
+     */
+    public String register(String sql) {
+        String fingerprint = SqlFingerprint.of(sql);
+        if (!entries.containsKey(fingerprint)) {
+            synchronized (this) {
+                if (!entries.containsKey(fingerprint)) {
+                    collection.insert(Document.createDocument(FINGERPRINT, fingerprint));
+                    entries.put(fingerprint, SqlFingerprint.tokens(fingerprint));
+                }
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Finds the fingerprints matching the text. A fingerprint matches if it contains the fingerprint of the text,
+     * or if it contains every identifier and keyword of the text, in any order.
+     *
+     * @param text the text to search
+     * @return the matching fingerprints
+     */
+    public List<String> search(String text) {
+        String pattern = SqlFingerprint.of(text);
+        Set<String> tokens = SqlFingerprint.tokens(text);
+        List<String> matches = new ArrayList<>();
+        for (Map.Entry<String, Set<String>> entry : entries.entrySet()) {
+            if ((StringUtils.isNotBlank(pattern) && entry.getKey().contains(pattern))
+                    || (!tokens.isEmpty() && entry.getValue().containsAll(tokens))) {
+                matches.add(entry.getKey());
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Builds the filter selecting the records whose SQL matches the text.
+     *
+     * @param text the text to search
+     * @return the filter
+     */
+    public ObjectFilter filter(String text) {
+        List<String> fingerprints = search(text);
+        if (fingerprints.isEmpty()) {
+            return new NoMatchFilter();
+        }
+        return ObjectFilters.in(field, fingerprints.toArray());
+    }
+
+    /**
+     * Removes the fingerprints that no record of the repository refers to anymore.
+     *
+     * @param repository the repository of the records
+     * @return the number of removed fingerprints
+     */
+    public synchronized int prune(ObjectRepository<?> repository) {
+        int removed = 0;
+        for (String fingerprint : entries.keySet()) {
+            if (repository.find(ObjectFilters.eq(field, fingerprint)).size() == 0) {
+                collection.remove(Filters.eq(FINGERPRINT, fingerprint));
+                entries.remove(fingerprint);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Matches no record, an {@code in} filter without values is rejected by Nitrite.
+     */
+    private static class NoMatchFilter extends BaseObjectFilter {
+
+        @Override
+        public Set<NitriteId> apply(NitriteMap<NitriteId, Document> documentMap) {
+            return new HashSet<>();
+        }
+    }
+}
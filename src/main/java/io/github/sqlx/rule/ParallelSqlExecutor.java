@@ -0,0 +1,315 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.rule;
+
+import io.github.sqlx.RoutingContext;
+import io.github.sqlx.integration.springboot.RouteAttribute;
+import io.github.sqlx.util.NamedThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes several {@link SqlTask}s in parallel, each routed to its own nodes.
+ * <p>
+ * Every task borrows its own connection from the given data source, so statements go through the usual
+ * {@code ProxyConnection} instrumentation and are recorded in the metrics like any other statement.
+ * The routing context of the submitting thread is propagated to each task, then the task nodes are forced
+ * in the same way as {@link SqlExecutor#execute(SqlFunction, String...)}. Tasks do not take part in the
+ * transaction of the submitting thread.
+ * <p>
+ * At most {@code maxConcurrency} tasks run at the same time, whatever the executor, so an unbounded
+ * virtual thread executor does not exhaust the connection pools.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Slf4j
+public class ParallelSqlExecutor implements AutoCloseable {
+
+    /**
+     * The order in which results are returned.
+     */
+    public enum ResultOrder {
+
+        /**
+         * Results are returned as soon as their task finishes.
+         */
+        COMPLETION,
+
+        /**
+         * Results are returned in the order of the submitted tasks.
+         */
+        SUBMISSION
+    }
+
+    private final DataSource dataSource;
+
+    private final ExecutorService executor;
+
+    private final Semaphore permits;
+
+    private final boolean shutdownExecutor;
+
+    /**
+     * Creates an executor running the tasks on virtual threads when the JVM supports them,
+     * otherwise on a fixed pool of {@code maxConcurrency} threads.
+     *
+     * @param dataSource     the SQLX data source
+     * @param maxConcurrency the maximum number of tasks running at the same time
+     */
+    public ParallelSqlExecutor(DataSource dataSource, int maxConcurrency) {
+        this(dataSource, newDefaultExecutor(maxConcurrency), maxConcurrency, true);
+    }
+
+    /**
+     * Creates an executor running the tasks on the given executor, which is not shut down by {@link #close()}.
+     *
+     * @param dataSource     the SQLX data source
+     * @param executor       the executor running the tasks
+     * @param maxConcurrency the maximum number of tasks running at the same time
+     */
+    public ParallelSqlExecutor(DataSource dataSource, ExecutorService executor, int maxConcurrency) {
+        this(dataSource, executor, maxConcurrency, false);
+    }
+
+    private ParallelSqlExecutor(DataSource dataSource, ExecutorService executor, int maxConcurrency, boolean shutdownExecutor) {
+        if (dataSource == null) {
+            throw new IllegalArgumentException("dataSource must not be null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must not be null");
+        }
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be greater than 0");
+        }
+        this.dataSource = dataSource;
+        this.executor = executor;
+        this.permits = new Semaphore(maxConcurrency);
+        this.shutdownExecutor = shutdownExecutor;
+    }
+
+    /**
+     * Submits the tasks and returns their results as they become available.
+     * Failed tasks are returned with their error, they do not interrupt the other tasks.
+     *
+     * @param tasks the tasks to execute
+     * @param order the order of the results
+     * @param <T>   the type of the results
+     * @return an iterator over the results, {@link Iterator#next()} blocks until the next result is available
+     */
+    public <T> Iterator<SqlTaskResult<T>> submit(List<SqlTask<T>> tasks, ResultOrder order) {
+        if (tasks == null) {
+            throw new IllegalArgumentException("tasks must not be null");
+        }
+        Map<Object, Object> context = RoutingContext.snapshot();
+        BlockingQueue<SqlTaskResult<T>> completed = new LinkedBlockingQueue<>();
+        List<CompletableFuture<SqlTaskResult<T>>> futures = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            int index = i;
+            SqlTask<T> task = tasks.get(i);
+            CompletableFuture<SqlTaskResult<T>> future = CompletableFuture.supplyAsync(() -> run(index, task, context), executor);
+            future.whenComplete((result, e) -> completed.add(result != null ? result : new SqlTaskResult<>(index, task, null, e, 0L)));
+            futures.add(future);
+        }
+        return order == ResultOrder.SUBMISSION ? new SubmissionOrderIterator<>(futures) : new CompletionOrderIterator<>(completed, tasks.size());
+    }
+
+    /**
+     * Executes the tasks and waits for all of them.
+     *
+     * @param tasks   the tasks to execute
+     * @param ordered true to merge the results in the order of the submitted tasks, false for completion order
+     * @param <T>     the type of the results
+     * @return the results of all tasks
+     */
+    public <T> List<SqlTaskResult<T>> executeAll(List<SqlTask<T>> tasks, boolean ordered) {
+        List<SqlTaskResult<T>> results = new ArrayList<>(tasks.size());
+        submit(tasks, ordered ? ResultOrder.SUBMISSION : ResultOrder.COMPLETION).forEachRemaining(results::add);
+        return results;
+    }
+
+    /**
+     * Executes the tasks and returns the values of the results in the order of the submitted tasks.
+     *
+     * @param tasks the tasks to execute
+     * @param <T>   the type of the results
+     * @return the values of the results
+     * @throws SQLException the error of the first failed task, the errors of the other failed tasks are suppressed
+     */
+    public <T> List<T> executeAllOrThrow(List<SqlTask<T>> tasks) throws SQLException {
+        List<SqlTaskResult<T>> results = executeAll(tasks, true);
+        SQLException error = null;
+        List<T> values = new ArrayList<>(results.size());
+        for (SqlTaskResult<T> result : results) {
+            if (result.isSuccess()) {
+                values.add(result.getValue());
+                continue;
+            }
+            if (error == null) {
+                error = result.getError() instanceof SQLException ? (SQLException) result.getError() : new SQLException(result.getError());
+            } else {
+                error.addSuppressed(result.getError());
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+        return values;
+    }
+
+    private <T> SqlTaskResult<T> run(int index, SqlTask<T> task, Map<Object, Object> context) {
+        long start = System.nanoTime();
+        Map<Object, Object> previous = RoutingContext.snapshot();
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new SqlTaskResult<>(index, task, null, e, System.nanoTime() - start);
+        }
+        try {
+            RoutingContext.restore(context);
+            RoutingContext.force(new RouteAttribute(null, task.getNodes(), false, true, null, null));
+            T value = execute(task);
+            return new SqlTaskResult<>(index, task, value, null, System.nanoTime() - start);
+        } catch (Exception e) {
+            log.warn("SQL task {} on nodes {} failed", index, task.getNodes(), e);
+            return new SqlTaskResult<>(index, task, null, e, System.nanoTime() - start);
+        } finally {
+            RoutingContext.restore(previous);
+            permits.release();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T execute(SqlTask<T> task) throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(task.getSql())) {
+            List<Object> params = task.getParams();
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            if (!task.isQuery()) {
+                return (T) Integer.valueOf(ps.executeUpdate());
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                return task.getHandler().handle(rs);
+            }
+        }
+    }
+
+    /**
+     * Shuts down the executor if it was created by this instance.
+     */
+    @Override
+    public void close() {
+        if (shutdownExecutor) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Uses {@code Executors.newThreadPerTaskExecutor} with a virtual thread factory on JDK 21+,
+     * looked up reflectively since SQLX is compiled for Java 8.
+     */
+    private static ExecutorService newDefaultExecutor(int maxConcurrency) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "sqlx-parallel-", 1L);
+            Object factory = builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(maxConcurrency, new NamedThreadFactory("sqlx-parallel", true));
+        }
+    }
+
+    private static class CompletionOrderIterator<T> implements Iterator<SqlTaskResult<T>> {
+
+        private final BlockingQueue<SqlTaskResult<T>> completed;
+
+        private int remaining;
+
+        CompletionOrderIterator(BlockingQueue<SqlTaskResult<T>> completed, int size) {
+            this.completed = completed;
+            this.remaining = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public SqlTaskResult<T> next() {
+            if (remaining <= 0) {
+                throw new NoSuchElementException();
+            }
+            try {
+                SqlTaskResult<T> result = completed.take();
+                remaining--;
+                return result;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for SQL task results", e);
+            }
+        }
+    }
+
+    private static class SubmissionOrderIterator<T> implements Iterator<SqlTaskResult<T>> {
+
+        private final Iterator<CompletableFuture<SqlTaskResult<T>>> futures;
+
+        SubmissionOrderIterator(List<CompletableFuture<SqlTaskResult<T>>> futures) {
+            this.futures = futures.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return futures.hasNext();
+        }
+
+        @Override
+        public SqlTaskResult<T> next() {
+            return futures.next().join();
+        }
+    }
+}
@@ -27,16 +27,23 @@ import java.util.Objects;
  * Write statements will be routed to the write data source,
  * and read statements will be routed to the read data source,
  * except when in a transaction.
+ * With {@link ReadYourWrites} the reads that follow a committed write of the same session are kept on the writable nodes
+ * until the replicas have caught up, the writes are recorded by the {@link io.github.sqlx.jdbc.ProxyConnection} that executed them.
  *
  * @author He Xing Mo
  * @since 1.0
  */
 @Slf4j
 public class ReadWriteSplittingRouteRule extends AbstractRouteRule {
-
+    private final ReadYourWrites readYourWrites;
 
     public ReadWriteSplittingRouteRule(Integer priority, LoadBalance readLoadBalance, LoadBalance writeLoadBalance) {
+        this(priority, readLoadBalance, writeLoadBalance, null);
+    }
+
+    public ReadWriteSplittingRouteRule(Integer priority, LoadBalance readLoadBalance, LoadBalance writeLoadBalance, ReadYourWrites readYourWrites) {
         super(priority, readLoadBalance, writeLoadBalance);
+        this.readYourWrites = readYourWrites;
     }
 
     @Override
@@ -51,7 +58,16 @@ public class ReadWriteSplittingRouteRule extends AbstractRouteRule {
         NodeAttribute nodeAttribute = chooseReadNode();
         if (Objects.isNull(nodeAttribute)) {
             log.warn("No available readable nodes attempted to obtain writable nodes SQL:[{}]" , sqlAttribute.getSql());
-            nodeAttribute = chooseWriteNode();
+            return chooseWriteNode();
+        }
+        if (Objects.nonNull(readYourWrites) && readYourWrites.requiresWritableNode(nodeAttribute)) {
+            NodeAttribute writableNode = chooseWriteNode();
+            if (Objects.nonNull(writableNode)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Read routed to writable node {} within the read-your-writes window SQL:[{}]" , writableNode.getName() , sqlAttribute.getSql());
+                }
+                return writableNode;
+            }
         }
         return nodeAttribute;
     }
@@ -0,0 +1,66 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.rule;
+
+import io.github.sqlx.NodeAttribute;
+import io.github.sqlx.SessionConsistency;
+
+/**
+ * Read-your-writes consistency of a cluster.
+ * <p>
+ * For a window after a session writes to the cluster, its reads are routed to a writable node unless the chosen
+ * replica is known to have caught up, that is it reported no replication lag in a sample taken after the write.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public class ReadYourWrites {
+
+    private final String cluster;
+
+    private final long windowMillis;
+
+    /**
+     * @param cluster      the name of the cluster
+     * @param windowMillis the time in milliseconds after a write during which the reads are kept consistent
+     */
+    public ReadYourWrites(String cluster, long windowMillis) {
+        this.cluster = cluster;
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * @param readNode the readable node chosen for a read of the current session
+     * @return whether the read must be routed to a writable node instead
+     */
+    public boolean requiresWritableNode(NodeAttribute readNode) {
+        Long lastWrite = SessionConsistency.getLastWrite(cluster);
+        if (lastWrite == null || System.currentTimeMillis() - lastWrite >= windowMillis) {
+            return false;
+        }
+        Long sampledAt = readNode.getReplicationLagSampledAt();
+        Double lag = readNode.getReplicationLag();
+        return sampledAt == null || lag == null || sampledAt <= lastWrite || lag > 0;
+    }
+
+    public String getCluster() {
+        return cluster;
+    }
+
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.rule;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps the result set of a {@link SqlTask} to a result of type T.
+ *
+ * @param <T> the type of the result
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface ResultSetHandler<T> {
+
+    /**
+     * Maps the result set, the result set is closed by the caller.
+     *
+     * @param rs the result set of the query
+     * @return the result
+     * @throws SQLException if reading the result set fails
+     */
+    T handle(ResultSet rs) throws SQLException;
+}
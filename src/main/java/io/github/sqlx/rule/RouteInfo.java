@@ -19,8 +19,10 @@ import io.github.sqlx.NodeAttribute;
 import io.github.sqlx.cluster.Cluster;
 import io.github.sqlx.rule.group.RouteGroup;
 import io.github.sqlx.sql.SqlAttribute;
-import io.github.sqlx.util.UUIDUtils;
+import io.github.sqlx.util.TimeOrderedId;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
 
 import java.util.List;
 
@@ -31,7 +33,11 @@ import java.util.List;
 @Data
 public class RouteInfo {
 
-    private final String routeId;
+    /**
+     * Kept binary, the text is only encoded when the id is read.
+     */
+    @Getter(AccessLevel.NONE)
+    private final TimeOrderedId routeId;
 
     private String sql;
 
@@ -47,6 +53,11 @@ public class RouteInfo {
 
     private NodeAttribute hitNodeAttr;
 
+    /**
+     * The node whose exhausted connection pool the statement fell back from, {@code null} for a first routing.
+     */
+    private String fallbackFrom;
+
     private Boolean isTransactionActive;
 
     private String transactionName;
@@ -62,7 +73,11 @@ public class RouteInfo {
     private long afterTimeMillis;
 
     public RouteInfo() {
-        this.routeId = UUIDUtils.getSimpleUUID();
+        this.routeId = TimeOrderedId.next();
+    }
+
+    public String getRouteId() {
+        return routeId.toString();
     }
 
     public long getTimeElapsedNanos() {
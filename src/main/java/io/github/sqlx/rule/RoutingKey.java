@@ -35,4 +35,9 @@ public class RoutingKey {
     private SqlAttribute statement;
 
     private Cluster cluster;
+
+    /**
+     * The node whose exhausted connection pool the statement falls back from, {@code null} for a first routing.
+     */
+    private String fallbackFrom;
 }
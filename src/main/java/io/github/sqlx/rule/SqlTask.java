@@ -0,0 +1,119 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.rule;
+
+import io.github.sqlx.util.ArrayUtils;
+import io.github.sqlx.util.StringUtils;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A SQL statement with its parameters, routed to the given nodes and executed by {@link ParallelSqlExecutor}.
+ * Queries are mapped with a {@link ResultSetHandler}, updates return their update count.
+ *
+ * @param <T> the type of the result
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Getter
+public class SqlTask<T> {
+
+    private final List<String> nodes;
+
+    private final String sql;
+
+    private final List<Object> params;
+
+    /**
+     * The handler of the result set, {@code null} for updates.
+     */
+    private final ResultSetHandler<T> handler;
+
+    private SqlTask(List<String> nodes, String sql, List<Object> params, ResultSetHandler<T> handler) {
+        if (StringUtils.isBlank(sql)) {
+            throw new IllegalArgumentException("sql must not be blank");
+        }
+        if (nodes == null || nodes.isEmpty()) {
+            throw new IllegalArgumentException("nodes must not be empty");
+        }
+        this.nodes = Collections.unmodifiableList(new ArrayList<>(nodes));
+        this.sql = sql;
+        this.params = params == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(params));
+        this.handler = handler;
+    }
+
+    /**
+     * Creates a query task.
+     *
+     * @param sql     the query
+     * @param params  the parameters of the query, may be {@code null}
+     * @param handler the handler of the result set
+     * @param nodes   the nodes to route the query to, one of them is selected by the load balancer
+     * @param <T>     the type of the result
+     * @return the task
+     */
+    public static <T> SqlTask<T> query(String sql, List<Object> params, ResultSetHandler<T> handler, String... nodes) {
+        if (handler == null) {
+            throw new IllegalArgumentException("handler must not be null");
+        }
+        return new SqlTask<>(toList(nodes), sql, params, handler);
+    }
+
+    /**
+     * Creates an update task, the result is the update count.
+     *
+     * @param sql    the update statement
+     * @param params the parameters of the statement, may be {@code null}
+     * @param nodes  the nodes to route the statement to
+     * @return the task
+     */
+    public static SqlTask<Integer> update(String sql, List<Object> params, String... nodes) {
+        return new SqlTask<>(toList(nodes), sql, params, null);
+    }
+
+    /**
+     * Creates one query task per node, used to run the same query against several shards or replicas.
+     *
+     * @param sql     the query
+     * @param params  the parameters of the query, may be {@code null}
+     * @param handler the handler of the result set
+     * @param nodes   the nodes to run the query on
+     * @param <T>     the type of the result
+     * @return the tasks, in the order of the nodes
+     */
+    public static <T> List<SqlTask<T>> queryEachNode(String sql, List<Object> params, ResultSetHandler<T> handler, String... nodes) {
+        List<SqlTask<T>> tasks = new ArrayList<>();
+        for (String node : toList(nodes)) {
+            tasks.add(query(sql, params, handler, node));
+        }
+        return tasks;
+    }
+
+    public boolean isQuery() {
+        return handler != null;
+    }
+
+    private static List<String> toList(String... nodes) {
+        if (ArrayUtils.isEmpty(nodes)) {
+            throw new IllegalArgumentException("nodes must not be empty");
+        }
+        return Arrays.asList(nodes);
+    }
+}
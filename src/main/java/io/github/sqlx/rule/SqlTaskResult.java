@@ -0,0 +1,57 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.rule;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The outcome of a {@link SqlTask} executed by {@link ParallelSqlExecutor}.
+ *
+ * @param <T> the type of the result
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Getter
+@ToString
+public class SqlTaskResult<T> {
+
+    /**
+     * The position of the task in the submitted list.
+     */
+    private final int index;
+
+    @ToString.Exclude
+    private final SqlTask<T> task;
+
+    private final T value;
+
+    private final Throwable error;
+
+    private final long elapsedNanos;
+
+    SqlTaskResult(int index, SqlTask<T> task, T value, Throwable error, long elapsedNanos) {
+        this.index = index;
+        this.task = task;
+        this.value = value;
+        this.error = error;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -7,6 +7,7 @@ import io.github.sqlx.rule.DataSourceNameSqlHintRouteRule;
 import io.github.sqlx.rule.ForceRouteRule;
 import io.github.sqlx.rule.NullSqlAttributeRouteRule;
 import io.github.sqlx.rule.ReadWriteSplittingRouteRule;
+import io.github.sqlx.rule.ReadYourWrites;
 import io.github.sqlx.rule.RouteWritableRule;
 import io.github.sqlx.rule.TransactionRouteRule;
 import io.github.sqlx.sql.parser.SqlParser;
@@ -27,6 +28,8 @@ public class ClusterRouteGroupBuilder {
 
     private LoadBalance writeLoadBalance;
 
+    private ReadYourWrites readYourWrites;
+
     public static ClusterRouteGroupBuilder builder() {
         return new ClusterRouteGroupBuilder();
     }
@@ -56,12 +59,17 @@ public class ClusterRouteGroupBuilder {
         return this;
     }
 
+    public ClusterRouteGroupBuilder readYourWrites(ReadYourWrites readYourWrites) {
+        this.readYourWrites = readYourWrites;
+        return this;
+    }
+
     public DefaultRouteGroup build() {
         DefaultRouteGroup routingGroup = new DefaultRouteGroup(sqlParser);
         routingGroup.install(new TransactionRouteRule(0 ,configuration , transaction));
         routingGroup.install(new DataSourceNameSqlHintRouteRule(10 , configuration));
         routingGroup.install(new ForceRouteRule(20 , configuration));
-        routingGroup.install(new ReadWriteSplittingRouteRule(30 ,  readLoadBalance , writeLoadBalance));
+        routingGroup.install(new ReadWriteSplittingRouteRule(30 ,  readLoadBalance , writeLoadBalance , readYourWrites));
         routingGroup.install(new NullSqlAttributeRouteRule(40 ,  readLoadBalance , writeLoadBalance));
         routingGroup.install(new RouteWritableRule(50 ,  readLoadBalance , writeLoadBalance));
         return routingGroup;
@@ -55,6 +55,7 @@ public class CompositeRouteGroup implements RouteGroup<RouteGroup<?>> {
         RouteInfo routeInfo = new RouteInfo();
         routeInfo.setSql(key.getSql());
         routeInfo.setCluster(key.getCluster());
+        routeInfo.setFallbackFrom(key.getFallbackFrom());
         routeInfo.setRoutingGroups(routingGroups);
         routeInfo.setBeforeNanoTime(System.nanoTime());
         routeInfo.setBeforeTimeMillis(System.currentTimeMillis());
@@ -19,7 +19,9 @@ package io.github.sqlx.sql;
 import io.github.sqlx.sql.parser.SqlHint;
 import io.github.sqlx.util.StringUtils;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -162,4 +164,14 @@ public class AnnotationSqlAttribute implements SqlAttribute {
     public Set<Table> getWriteTables() {
         return delegate != null ? delegate.getWriteTables() : new HashSet<>();
     }
+
+    @Override
+    public List<OrderByItem> getOrderByItems() {
+        return delegate != null ? delegate.getOrderByItems() : Collections.emptyList();
+    }
+
+    @Override
+    public long getRowLimit() {
+        return delegate != null ? delegate.getRowLimit() : 0;
+    }
 }
@@ -16,10 +16,16 @@
 
 package io.github.sqlx.sql;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Setter;
+import lombok.ToString;
 import lombok.experimental.Accessors;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -75,6 +81,15 @@ public class DefaultSqlAttribute implements SqlAttribute {
 
     private Set<Table> writeTables;
 
+    private List<OrderByItem> orderByItems = Collections.emptyList();
+
+    private long rowLimit;
+
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private PlaceholderIndex placeholderIndex;
+
 
     public boolean isWrite() {
         return isWrite;
@@ -112,6 +127,12 @@ public class DefaultSqlAttribute implements SqlAttribute {
         return nativeSql;
     }
 
+    public DefaultSqlAttribute setNativeSql(String nativeSql) {
+        this.nativeSql = nativeSql;
+        this.placeholderIndex = null;
+        return this;
+    }
+
     @Override
     public SqlType getSqlType() {
         return sqlType;
@@ -202,6 +223,14 @@ public class DefaultSqlAttribute implements SqlAttribute {
         return writeTables;
     }
 
+    @Override
+    public PlaceholderIndex getPlaceholderIndex() {
+        if (placeholderIndex == null) {
+            placeholderIndex = PlaceholderIndex.of(nativeSql);
+        }
+        return placeholderIndex;
+    }
+
     private void setDefaultDatabase(Set<Table> tables , String database) {
         if (tables != null) {
             Set<Table> newTables = new HashSet<>();
@@ -0,0 +1,54 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.sql;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * An item of the top level {@code ORDER BY} clause of a query.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class OrderByItem {
+
+    /**
+     * The column name or alias, without table qualifier, {@code null} if the item is a position.
+     */
+    private final String column;
+
+    /**
+     * The 1-based position in the select list, 0 if the item is a column.
+     */
+    private final int position;
+
+    private final boolean asc;
+
+    /**
+     * Whether NULLs sort first, {@code null} if the item has no explicit {@code NULLS FIRST} or {@code NULLS LAST}
+     * and the default null ordering of the database applies.
+     */
+    private final Boolean nullsFirst;
+
+    public OrderByItem(String column, int position, boolean asc) {
+        this(column, position, asc, null);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.sql;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Offsets of the {@code ?} parameter placeholders of a SQL statement.
+ * <p>
+ * Placeholders inside string literals, quoted identifiers and comments are ignored. A backslash escapes the next
+ * character of a string literal only in the dialects that allow it, such as MySQL.
+ * Indexes are immutable and cached per SQL, so a statement that is executed many times is scanned only once.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public final class PlaceholderIndex {
+
+    private static final int MAX_CACHE_SIZE = 2048;
+
+    private static final Map<String, PlaceholderIndex> CACHE = new ConcurrentHashMap<>();
+
+    private static final Map<String, PlaceholderIndex> BACKSLASH_ESCAPES_CACHE = new ConcurrentHashMap<>();
+
+    private static final PlaceholderIndex EMPTY = new PlaceholderIndex(new int[0]);
+
+    private final int[] offsets;
+
+    private PlaceholderIndex(int[] offsets) {
+        this.offsets = offsets;
+    }
+
+    /**
+     * Returns the placeholder index of the given SQL of a dialect without backslash escapes.
+     *
+     * @param sql the SQL statement
+     * @return the placeholder index, never {@code null}
+     * @see #of(String, boolean)
+     */
+    public static PlaceholderIndex of(String sql) {
+        return of(sql, false);
+    }
+
+    /**
+     * Returns the placeholder index of the given SQL, scanning it on first use.
+     * The cache is cleared once full, so the SQL executed since then is cached again.
+     *
+     * @param sql              the SQL statement
+     * @param backslashEscapes whether a backslash escapes the next character of a string literal
+     * @return the placeholder index, never {@code null}
+     */
+    public static PlaceholderIndex of(String sql, boolean backslashEscapes) {
+        if (sql == null || sql.indexOf('?') < 0) {
+            return EMPTY;
+        }
+        Map<String, PlaceholderIndex> cache = backslashEscapes ? BACKSLASH_ESCAPES_CACHE : CACHE;
+        PlaceholderIndex index = cache.get(sql);
+        if (index == null) {
+            index = scan(sql, backslashEscapes);
+            if (cache.size() >= MAX_CACHE_SIZE) {
+                cache.clear();
+            }
+            cache.putIfAbsent(sql, index);
+        }
+        return index;
+    }
+
+    /**
+     * @return the number of placeholders
+     */
+    public int size() {
+        return offsets.length;
+    }
+
+    /**
+     * @param i the placeholder number (starts with 0)
+     * @return the character offset of the placeholder in the SQL
+     */
+    public int offset(int i) {
+        return offsets[i];
+    }
+
+    static PlaceholderIndex scan(String sql, boolean backslashEscapes) {
+        int[] offsets = new int[8];
+        int count = 0;
+        int length = sql.length();
+        int pos = 0;
+        while (pos < length) {
+            char c = sql.charAt(pos);
+            switch (c) {
+                case '\'':
+                case '"':
+                case '`':
+                    pos = skipQuoted(sql, pos, c, backslashEscapes);
+                    break;
+                case '-':
+                    if (pos + 1 < length && sql.charAt(pos + 1) == '-') {
+                        pos = skipLineComment(sql, pos + 2);
+                    } else {
+                        pos++;
+                    }
+                    break;
+                case '/':
+                    if (pos + 1 < length && sql.charAt(pos + 1) == '*') {
+                        int end = sql.indexOf("*/", pos + 2);
+                        pos = end < 0 ? length : end + 2;
+                    } else {
+                        pos++;
+                    }
+                    break;
+                case '?':
+                    if (count == offsets.length) {
+                        offsets = Arrays.copyOf(offsets, count << 1);
+                    }
+                    offsets[count++] = pos++;
+                    break;
+                default:
+                    pos++;
+            }
+        }
+        return count == 0 ? EMPTY : new PlaceholderIndex(Arrays.copyOf(offsets, count));
+    }
+
+    /**
+     * Skips a quoted literal or identifier, a backslash escapes the next character of a string literal.
+     *
+     * @return the position after the closing quote
+     * @see #skipQuoted(String, int, char, boolean)
+     */
+    static int skipQuoted(String sql, int start, char quote) {
+        return skipQuoted(sql, start, quote, true);
+    }
+
+    /**
+     * Skips a quoted literal or identifier. A doubled quote character is treated as an escaped quote,
+     * inside string literals a backslash escapes the next character as well if the dialect allows it.
+     *
+     * @return the position after the closing quote
+     */
+    static int skipQuoted(String sql, int start, char quote, boolean backslashEscapes) {
+        int length = sql.length();
+        int pos = start + 1;
+        while (pos < length) {
+            char c = sql.charAt(pos);
+            if (c == '\\' && quote == '\'' && backslashEscapes) {
+                pos += 2;
+            } else if (c == quote) {
+                if (pos + 1 < length && sql.charAt(pos + 1) == quote) {
+                    pos += 2;
+                } else {
+                    return pos + 1;
+                }
+            } else {
+                pos++;
+            }
+        }
+        return length;
+    }
+
+    static int skipLineComment(String sql, int start) {
+        int end = sql.indexOf('\n', start);
+        return end < 0 ? sql.length() : end + 1;
+    }
+}
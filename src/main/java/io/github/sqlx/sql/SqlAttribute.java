@@ -16,6 +16,8 @@
 
 package io.github.sqlx.sql;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -24,6 +26,12 @@ import java.util.Set;
  */
 public interface SqlAttribute {
 
+    /**
+     * The row limit of a query whose row count is not known before it runs.
+     */
+    long ROW_LIMIT_UNKNOWN = -1;
+
+
     /**
      *
      * @return the SQL statement
@@ -182,4 +190,32 @@ public interface SqlAttribute {
      */
     Set<Table> getWriteTables();
 
+    /**
+     * Get the offsets of the parameter placeholders in the native SQL.
+     *
+     * @return PlaceholderIndex The placeholder index of the native SQL
+     */
+    default PlaceholderIndex getPlaceholderIndex() {
+        return PlaceholderIndex.of(getNativeSql());
+    }
+
+    /**
+     * Get the items of the top level ORDER BY clause of a query.
+     *
+     * @return List<OrderByItem> The ORDER BY items, empty if the SQL is not an ordered query
+     */
+    default List<OrderByItem> getOrderByItems() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Get the row count of the top level LIMIT, TOP or FETCH FIRST clause of a query.
+     *
+     * @return long The row count, 0 if the rows are not limited, {@link #ROW_LIMIT_UNKNOWN} if the row count is a parameter
+     *              or rows are skipped by an offset
+     */
+    default long getRowLimit() {
+        return 0;
+    }
+
 }
@@ -0,0 +1,190 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.sql;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes a SQL statement into its fingerprint, the shape shared by every execution of the statement.
+ * <p>
+ * Comments are removed, string and numeric literals are replaced with {@code ?},
+ * identifiers and keywords are lower-cased and unquoted, whitespace is collapsed,
+ * and value lists such as {@code IN (1, 2, 3)} or multi-row {@code VALUES} are collapsed to {@code (?+)}.
+ * Fingerprints are cached per SQL, like {@link PlaceholderIndex}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public final class SqlFingerprint {
+
+    private static final int MAX_CACHE_SIZE = 2048;
+
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private static final Pattern VALUE_LIST = Pattern.compile("\\(\\?(?:,\\?)*\\)");
+
+    private static final Pattern VALUE_LISTS = Pattern.compile("\\(\\?\\+\\)(?:,\\(\\?\\+\\))+");
+
+    private SqlFingerprint() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Returns the fingerprint of the given SQL, computing it on first use.
+     * Once the cache is full, new SQL is normalized without being cached.
+     *
+     * @param sql the SQL statement
+     * @return the fingerprint, empty if the SQL is {@code null} or blank
+     */
+    public static String of(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String fingerprint = CACHE.get(sql);
+        if (fingerprint == null) {
+            fingerprint = normalize(sql);
+            if (CACHE.size() < MAX_CACHE_SIZE) {
+                CACHE.putIfAbsent(sql, fingerprint);
+            }
+        }
+        return fingerprint;
+    }
+
+    static String normalize(String sql) {
+        int length = sql.length();
+        StringBuilder sb = new StringBuilder(length);
+        boolean space = false;
+        int pos = 0;
+        while (pos < length) {
+            char c = sql.charAt(pos);
+            if (c == '\'') {
+                pos = PlaceholderIndex.skipQuoted(sql, pos, c);
+                space = append(sb, space, '?');
+            } else if (c == '"' || c == '`') {
+                int end = PlaceholderIndex.skipQuoted(sql, pos, c);
+                space = append(sb, space, sql.substring(pos + 1, Math.max(pos + 1, end - 1)));
+                pos = end;
+            } else if (c == '-' && pos + 1 < length && sql.charAt(pos + 1) == '-') {
+                pos = PlaceholderIndex.skipLineComment(sql, pos + 2);
+                space = true;
+            } else if (c == '/' && pos + 1 < length && sql.charAt(pos + 1) == '*') {
+                int end = sql.indexOf("*/", pos + 2);
+                pos = end < 0 ? length : end + 2;
+                space = true;
+            } else if (Character.isWhitespace(c)) {
+                pos++;
+                space = true;
+            } else if (Character.isDigit(c)) {
+                pos = skipNumber(sql, pos);
+                space = append(sb, space, '?');
+            } else if (isWordChar(c)) {
+                int end = pos + 1;
+                while (end < length && isWordChar(sql.charAt(end))) {
+                    end++;
+                }
+                space = append(sb, space, sql.substring(pos, end));
+                pos = end;
+            } else {
+                pos++;
+                space = append(sb, space, c);
+            }
+        }
+        int end = sb.length();
+        while (end > 0 && sb.charAt(end - 1) == ';') {
+            end--;
+        }
+        sb.setLength(end);
+        String fingerprint = VALUE_LIST.matcher(sb).replaceAll("(?+)");
+        return VALUE_LISTS.matcher(fingerprint).replaceAll("(?+)");
+    }
+
+    /**
+     * Splits a fingerprint or a search text into its identifier and keyword tokens, numbers are left out.
+     *
+     * @param text the text to split
+     * @return the distinct tokens in order of appearance
+     */
+    public static Set<String> tokens(String text) {
+        if (text == null || text.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        int length = text.length();
+        int pos = 0;
+        while (pos < length) {
+            if (!isWordChar(text.charAt(pos))) {
+                pos++;
+                continue;
+            }
+            int end = pos + 1;
+            while (end < length && isWordChar(text.charAt(end))) {
+                end++;
+            }
+            if (!Character.isDigit(text.charAt(pos))) {
+                tokens.add(text.substring(pos, end).toLowerCase());
+            }
+            pos = end;
+        }
+        return tokens;
+    }
+
+    private static boolean append(StringBuilder sb, boolean space, String word) {
+        if (space && sb.length() > 0 && !isOpening(sb.charAt(sb.length() - 1))) {
+            sb.append(' ');
+        }
+        for (int i = 0; i < word.length(); i++) {
+            sb.append(Character.toLowerCase(word.charAt(i)));
+        }
+        return false;
+    }
+
+    private static boolean append(StringBuilder sb, boolean space, char c) {
+        if (c == ',' || c == ')' || c == ';') {
+            sb.append(c);
+            return false;
+        }
+        return append(sb, space, String.valueOf(c));
+    }
+
+    private static boolean isOpening(char c) {
+        return c == '(' || c == ',' || c == '.';
+    }
+
+    private static int skipNumber(String sql, int start) {
+        int length = sql.length();
+        int pos = start;
+        while (pos < length) {
+            char c = sql.charAt(pos);
+            if (isWordChar(c) || c == '.') {
+                pos++;
+            } else if ((c == '+' || c == '-') && (sql.charAt(pos - 1) == 'e' || sql.charAt(pos - 1) == 'E')) {
+                pos++;
+            } else {
+                break;
+            }
+        }
+        return pos;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.sqlx.sql.parser;
+
+/**
+ * Extracts the {@code cache} hint, {@code cache=true} caches the results of a query
+ * and {@code cache=false} bypasses the result cache.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public class CacheSqlHintConverter implements SqlHintConverter<Boolean> {
+
+    private static final String KEY = "cache";
+
+
+    @Override
+    public Boolean convert(SqlHint hint) {
+
+        if (hint == null || hint.getHints() == null || hint.getHints().isEmpty() || !hint.getHints().containsKey(KEY)) {
+            return null;
+        }
+        return Boolean.parseBoolean(hint.getHints().get(KEY));
+    }
+}
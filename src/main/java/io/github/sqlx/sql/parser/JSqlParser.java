@@ -18,6 +18,7 @@ package io.github.sqlx.sql.parser;
 
 import io.github.sqlx.exception.SqlParseException;
 import io.github.sqlx.sql.DefaultSqlAttribute;
+import io.github.sqlx.sql.OrderByItem;
 import io.github.sqlx.sql.SqlAttribute;
 import io.github.sqlx.sql.SqlAttributeBuilder;
 import io.github.sqlx.sql.SqlType;
@@ -26,7 +27,9 @@ import lombok.extern.slf4j.Slf4j;
 import net.sf.jsqlparser.JSQLParserException;
 import net.sf.jsqlparser.Model;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.LongValue;
 import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.schema.Column;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.ExplainStatement;
 import net.sf.jsqlparser.statement.ShowColumnsStatement;
@@ -34,19 +37,25 @@ import net.sf.jsqlparser.statement.ShowStatement;
 import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.delete.Delete;
 import net.sf.jsqlparser.statement.insert.Insert;
+import net.sf.jsqlparser.statement.select.Fetch;
 import net.sf.jsqlparser.statement.select.FromItem;
 import net.sf.jsqlparser.statement.select.Join;
+import net.sf.jsqlparser.statement.select.Limit;
+import net.sf.jsqlparser.statement.select.OrderByElement;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 import net.sf.jsqlparser.statement.select.Select;
 import net.sf.jsqlparser.statement.select.SelectBody;
+import net.sf.jsqlparser.statement.select.SetOperationList;
 import net.sf.jsqlparser.statement.select.SubJoin;
 import net.sf.jsqlparser.statement.select.SubSelect;
+import net.sf.jsqlparser.statement.select.Top;
 import net.sf.jsqlparser.statement.show.ShowIndexStatement;
 import net.sf.jsqlparser.statement.show.ShowTablesStatement;
 import net.sf.jsqlparser.statement.update.Update;
 import net.sf.jsqlparser.statement.update.UpdateSet;
 import net.sf.jsqlparser.util.TablesNamesFinder;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -181,7 +190,94 @@ public class JSqlParser implements SqlParser {
                     .setSimpleUpdateTables(updateTables).setUpdateTables(updateTableSet)
                     .setSimpleDeleteTables(deleteTables).setDeleteTables(deleteTableSet)
                     .setReadTables(readTableSet).setWriteTables(writeTableSet)
-                    .setWrite(isWrite(obj)).setRead(isRead(obj)).setSqlType(statementType);
+                    .setWrite(isWrite(obj)).setRead(isRead(obj)).setSqlType(statementType)
+                    .setOrderByItems(getOrderByItems(obj)).setRowLimit(getRowLimit(obj));
+        }
+
+        /**
+         * Reads the row count of the top level LIMIT, TOP or FETCH FIRST clause of a select,
+         * used to limit the merged results of several nodes.
+         */
+        private long getRowLimit(Statement obj) {
+            if (!(obj instanceof Select)) {
+                return 0;
+            }
+            SelectBody body = ((Select) obj).getSelectBody();
+            if (body instanceof PlainSelect) {
+                return getRowLimit((PlainSelect) body);
+            }
+            if (body instanceof SetOperationList) {
+                SetOperationList list = (SetOperationList) body;
+                if (list.getLimit() != null || list.getOffset() != null || list.getFetch() != null) {
+                    return SqlAttribute.ROW_LIMIT_UNKNOWN;
+                }
+                // the parser attaches a trailing limit of a union to its last select
+                for (SelectBody select : list.getSelects()) {
+                    if (!(select instanceof PlainSelect) || getRowLimit((PlainSelect) select) != 0) {
+                        return SqlAttribute.ROW_LIMIT_UNKNOWN;
+                    }
+                }
+            }
+            return 0;
+        }
+
+        private long getRowLimit(PlainSelect select) {
+            long rowLimit = 0;
+            Limit limit = select.getLimit();
+            if (limit != null && !limit.isLimitAll() && !limit.isLimitNull()) {
+                if (limit.getOffset() != null || !(limit.getRowCount() instanceof LongValue)) {
+                    return SqlAttribute.ROW_LIMIT_UNKNOWN;
+                }
+                rowLimit = ((LongValue) limit.getRowCount()).getValue();
+            }
+            Top top = select.getTop();
+            if (top != null) {
+                if (top.isPercentage() || top.isWithTies() || !(top.getExpression() instanceof LongValue)) {
+                    return SqlAttribute.ROW_LIMIT_UNKNOWN;
+                }
+                rowLimit = ((LongValue) top.getExpression()).getValue();
+            }
+            Fetch fetch = select.getFetch();
+            if (fetch != null) {
+                if (fetch.getFetchJdbcParameter() != null) {
+                    return SqlAttribute.ROW_LIMIT_UNKNOWN;
+                }
+                rowLimit = fetch.getRowCount();
+            }
+            return select.getOffset() != null ? SqlAttribute.ROW_LIMIT_UNKNOWN : rowLimit;
+        }
+
+        /**
+         * Collects the top level ORDER BY items of a plain select, used to merge ordered results of several nodes.
+         */
+        private List<OrderByItem> getOrderByItems(Statement obj) {
+            if (!(obj instanceof Select) || !(((Select) obj).getSelectBody() instanceof PlainSelect)) {
+                return Collections.emptyList();
+            }
+            List<OrderByElement> elements = ((PlainSelect) ((Select) obj).getSelectBody()).getOrderByElements();
+            if (CollectionUtils.isEmpty(elements)) {
+                return Collections.emptyList();
+            }
+            List<OrderByItem> items = new ArrayList<>(elements.size());
+            for (OrderByElement element : elements) {
+                Expression expression = element.getExpression();
+                Boolean nullsFirst = element.getNullOrdering() == null ? null : element.getNullOrdering() == OrderByElement.NullOrdering.NULLS_FIRST;
+                if (expression instanceof LongValue) {
+                    items.add(new OrderByItem(null, (int) ((LongValue) expression).getValue(), element.isAsc(), nullsFirst));
+                } else if (expression instanceof Column) {
+                    items.add(new OrderByItem(unquote(((Column) expression).getColumnName()), 0, element.isAsc(), nullsFirst));
+                } else {
+                    items.add(new OrderByItem(expression.toString(), 0, element.isAsc(), nullsFirst));
+                }
+            }
+            return Collections.unmodifiableList(items);
+        }
+
+        private static String unquote(String name) {
+            if (name.length() > 1 && "\"`[".indexOf(name.charAt(0)) >= 0) {
+                return name.substring(1, name.length() - 1);
+            }
+            return name;
         }
 
         @Override
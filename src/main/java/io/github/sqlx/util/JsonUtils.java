@@ -16,6 +16,8 @@
 
 package io.github.sqlx.util;
 
+import io.github.sqlx.endpoint.http.Result;
+import io.github.sqlx.metrics.Page;
 import io.github.sqlx.metrics.SortOrder;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -24,9 +26,15 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Utility class for JSON operations.
@@ -93,6 +101,16 @@ public abstract class JsonUtils {
         return GSON.toJson(object);
     }
 
+    /**
+     * Writes an object as JSON to the writer without building the JSON string.
+     *
+     * @param object the object to be converted
+     * @param writer the writer the JSON is written to
+     */
+    public static void toJson(Object object, Writer writer) {
+        GSON.toJson(object, writer);
+    }
+
     public static String toJsonExcludeWithoutExpose(Object object) {
         return GSON_EXCLUDE_WITHOUT_EXPOSE.toJson(object);
     }
@@ -104,11 +122,92 @@ public abstract class JsonUtils {
      * @return a JSON string with masked password fields
      */
     public static String maskPasswordToJson(Object object) {
-        return maskPassword(GSON , toJson(object));
+        return GSON.toJson(maskPasswordTree(GSON, object));
+    }
+
+    /**
+     * Writes an object as JSON to the writer and masks any fields containing "password".
+     *
+     * @param object the object to be converted
+     * @param writer the writer the JSON is written to
+     */
+    public static void maskPasswordToJson(Object object, Writer writer) {
+        GSON.toJson(maskPasswordTree(GSON, object), writer);
     }
 
     public static String maskPasswordToJsonExcludeWithoutExpose(Object object) {
-        return maskPassword(GSON_EXCLUDE_WITHOUT_EXPOSE , toJsonExcludeWithoutExpose(object));
+        return GSON_EXCLUDE_WITHOUT_EXPOSE.toJson(maskPasswordTree(GSON_EXCLUDE_WITHOUT_EXPOSE, object));
+    }
+
+    public static void maskPasswordToJsonExcludeWithoutExpose(Object object, Writer writer) {
+        GSON_EXCLUDE_WITHOUT_EXPOSE.toJson(maskPasswordTree(GSON_EXCLUDE_WITHOUT_EXPOSE, object), writer);
+    }
+
+    /**
+     * Writes a successful {@link Result} of a page to the writer, streaming the content of the page as it is selected.
+     * If the selection fails before any content is written, a failed {@link Result} is written instead.
+     *
+     * @param writer the writer the JSON is written to
+     * @param select selects the page, passing each entity of the page to the given consumer
+     * @param <T>    the type of the entities
+     * @throws IOException if writing fails
+     */
+    public static <T> void writePage(Writer writer, Function<Consumer<T>, Page<T>> select) throws IOException {
+        JsonWriter jsonWriter = GSON.newJsonWriter(writer);
+        boolean[] started = {false};
+        Consumer<T> consumer = target -> {
+            try {
+                if (!started[0]) {
+                    beginPage(jsonWriter);
+                    started[0] = true;
+                }
+                GSON.toJson(target, target.getClass(), jsonWriter);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        Page<T> page;
+        try {
+            page = select.apply(consumer);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (RuntimeException e) {
+            if (started[0]) {
+                throw e;
+            }
+            log.error("select page error", e);
+            GSON.toJson(Result.fail(e.getMessage()), Result.class, jsonWriter);
+            jsonWriter.flush();
+            return;
+        }
+        if (!started[0]) {
+            beginPage(jsonWriter);
+        }
+        jsonWriter.endArray();
+        JsonObject properties = GSON.toJsonTree(page).getAsJsonObject();
+        for (Map.Entry<String, JsonElement> entry : properties.entrySet()) {
+            if (!"content".equals(entry.getKey())) {
+                jsonWriter.name(entry.getKey());
+                GSON.toJson(entry.getValue(), jsonWriter);
+            }
+        }
+        jsonWriter.endObject();
+        jsonWriter.name("succeed").value(true);
+        jsonWriter.endObject();
+        jsonWriter.flush();
+    }
+
+    private static void beginPage(JsonWriter jsonWriter) throws IOException {
+        jsonWriter.beginObject();
+        jsonWriter.name("msg").value("success");
+        jsonWriter.name("payload").beginObject();
+        jsonWriter.name("content").beginArray();
+    }
+
+    private static JsonElement maskPasswordTree(Gson gson, Object object) {
+        JsonElement jsonElement = gson.toJsonTree(object);
+        maskPasswordsRecursively(jsonElement);
+        return jsonElement;
     }
 
     /**
@@ -91,6 +91,7 @@ public abstract class MetricsUtils {
                 .setHitRule(hitRule)
                 .setSqlInfo(convertToSqlInfo(routeInfo.getSqlAttribute()))
                 .setHitNodeAttr(convertToRoutingHitNode(routeInfo.getHitNodeAttr()))
+                .setFallbackFrom(routeInfo.getFallbackFrom())
                 .setIsTransactionActive(routeInfo.getIsTransactionActive())
                 .setTransactionId(StringUtils.defaultIfBlank(routeInfo.getTransactionId() , "N/A"))
                 .setTransactionName(StringUtils.defaultIfBlank(routeInfo.getTransactionName() , "N/A"))
@@ -20,7 +20,10 @@ import org.springframework.web.server.WebSession;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 
 /**
@@ -49,6 +52,13 @@ public class SecurityUtils {
      */
     private static final List<String> STATIC_FILE_EXTENSIONS = Arrays.asList(".html", ".css", ".js");
 
+    /**
+     * Path of the metrics scrape endpoint, it authenticates scrapers with HTTP Basic credentials instead of a login session.
+     */
+    private static final String METRICS_SCRAPE_PATH = "/v1/metrics/prometheus";
+
+    private static final String BASIC_PREFIX = "Basic ";
+
     private SecurityUtils() {
         throw new UnsupportedOperationException("Utility class cannot be instantiated");
     }
@@ -92,4 +102,41 @@ public class SecurityUtils {
         return session != null && session.getAttribute(AUTH_SESSION_USER_KEY) != null;
     }
 
+    public static boolean containsUser(HttpSession session) {
+        return session != null && session.getAttribute(AUTH_SESSION_USER_KEY) != null;
+    }
+
+    /**
+     * Checks if the path is the metrics scrape endpoint, which is not redirected to the login page.
+     *
+     * @param path The path to check.
+     * @return true if the path is the metrics scrape endpoint.
+     */
+    public static boolean isMetricsScrapePath(String path) {
+        return METRICS_SCRAPE_PATH.equals(path);
+    }
+
+    /**
+     * Checks HTTP Basic credentials against the configured username and password.
+     *
+     * @param authorization The value of the Authorization header, may be null.
+     * @param username      The configured username.
+     * @param password      The configured password.
+     * @return true if the header carries the configured credentials.
+     */
+    public static boolean isBasicAuthorized(String authorization, String username, String password) {
+        if (authorization == null || username == null || password == null
+                || !authorization.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length())) {
+            return false;
+        }
+        byte[] credentials;
+        try {
+            credentials = Base64.getDecoder().decode(authorization.substring(BASIC_PREFIX.length()).trim());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        byte[] expected = (username + ":" + password).getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(credentials, expected);
+    }
+
 }
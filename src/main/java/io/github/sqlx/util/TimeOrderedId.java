@@ -0,0 +1,180 @@
+/*
+ *    Copyright 2023 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.github.sqlx.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A 128-bit identifier ordered by creation time, laid out like a ULID:
+ * 48 bits of epoch milliseconds followed by 80 bits that are random for the first identifier of a millisecond
+ * and incremented for the following ones created by the same thread, so the identifiers of a thread are strictly increasing.
+ * <p>
+ * The identifier is kept as two longs and encoded into 32 lowercase hex characters only when {@link #toString()} is called,
+ * the text sorts in the same order as the identifiers. Generating does not touch {@link java.security.SecureRandom}
+ * or any shared state.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public final class TimeOrderedId implements Comparable<TimeOrderedId> {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final int LENGTH = 32;
+
+    private static final long RANDOM_HIGH_MASK = 0xFFFFL;
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private final long mostSigBits;
+
+    private final long leastSigBits;
+
+    private String text;
+
+    public TimeOrderedId(long mostSigBits, long leastSigBits) {
+        this.mostSigBits = mostSigBits;
+        this.leastSigBits = leastSigBits;
+    }
+
+    /**
+     * Generates the next identifier of the current thread.
+     *
+     * @return the identifier
+     */
+    public static TimeOrderedId next() {
+        return STATE.get().next(System.currentTimeMillis());
+    }
+
+    /**
+     * Generates the next identifier of the current thread as text.
+     *
+     * @return the 32 hex characters of the identifier
+     */
+    public static String nextString() {
+        return next().toString();
+    }
+
+    /**
+     * Parses the text of an identifier.
+     *
+     * @param text the 32 hex characters of the identifier
+     * @return the identifier
+     * @throws IllegalArgumentException if the text is not an identifier
+     */
+    public static TimeOrderedId parse(String text) {
+        if (text == null || text.length() != LENGTH) {
+            throw new IllegalArgumentException("Invalid time ordered id: " + text);
+        }
+        return new TimeOrderedId(parseHex(text, 0), parseHex(text, LENGTH / 2));
+    }
+
+    public long getMostSigBits() {
+        return mostSigBits;
+    }
+
+    public long getLeastSigBits() {
+        return leastSigBits;
+    }
+
+    /**
+     * @return the epoch milliseconds the identifier was created at
+     */
+    public long getTimestamp() {
+        return mostSigBits >>> 16;
+    }
+
+    @Override
+    public int compareTo(TimeOrderedId other) {
+        int result = Long.compareUnsigned(mostSigBits, other.mostSigBits);
+        return result != 0 ? result : Long.compareUnsigned(leastSigBits, other.leastSigBits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TimeOrderedId)) {
+            return false;
+        }
+        TimeOrderedId other = (TimeOrderedId) o;
+        return mostSigBits == other.mostSigBits && leastSigBits == other.leastSigBits;
+    }
+
+    @Override
+    public int hashCode() {
+        long hilo = mostSigBits ^ leastSigBits;
+        return ((int) (hilo >> 32)) ^ (int) hilo;
+    }
+
+    @Override
+    public String toString() {
+        String result = text;
+        if (result == null) {
+            char[] chars = new char[LENGTH];
+            writeHex(chars, 0, mostSigBits);
+            writeHex(chars, LENGTH / 2, leastSigBits);
+            result = new String(chars);
+            text = result;
+        }
+        return result;
+    }
+
+    private static void writeHex(char[] chars, int offset, long value) {
+        for (int i = offset + 15; i >= offset; i--) {
+            chars[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    private static long parseHex(String text, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + LENGTH / 2; i++) {
+            int digit = Character.digit(text.charAt(i), 16);
+            if (digit < 0) {
+                throw new IllegalArgumentException("Invalid time ordered id: " + text);
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    /**
+     * The last identifier generated by a thread.
+     */
+    private static final class State {
+
+        private long millis = -1L;
+
+        private long randomHigh;
+
+        private long randomLow;
+
+        TimeOrderedId next(long now) {
+            if (now > millis) {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                millis = now;
+                randomHigh = random.nextLong() & RANDOM_HIGH_MASK;
+                randomLow = random.nextLong();
+            } else if (++randomLow == 0 && (randomHigh = (randomHigh + 1) & RANDOM_HIGH_MASK) == 0) {
+                // the 80 bits overflowed within one millisecond, borrow the next millisecond
+                millis++;
+            }
+            return new TimeOrderedId((millis << 16) | randomHigh, randomLow);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package io.github.sqlx.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.sqlx.integration.springboot.SqlXEnableAutoConfiguration;
+import io.github.sqlx.jdbc.datasource.DatasourceManager;
+import io.github.sqlx.jdbc.datasource.SqlXDataSource;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An in-memory H2 cluster of one writable node {@code write_0} and one readable node {@code read_0},
+ * started through the SQLX auto-configuration so that the benchmarks measure the data source applications get.
+ * The raw data sources are the Hikari pools SQLX routes to, so both sides use the same pools.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public class BenchmarkCluster implements AutoCloseable {
+
+    public static final int ROWS = 1000;
+
+    public static final int POOL_SIZE = 64;
+
+    private final ConfigurableApplicationContext context;
+
+    private final SqlXDataSource sqlXDataSource;
+
+    private final HikariDataSource rawWriteDataSource;
+
+    private final HikariDataSource rawReadDataSource;
+
+    public BenchmarkCluster() throws SQLException {
+        this.context = new SpringApplicationBuilder(BenchmarkConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run(arguments());
+        this.sqlXDataSource = context.getBean(SqlXDataSource.class);
+        DatasourceManager datasourceManager = context.getBean(DatasourceManager.class);
+        this.rawWriteDataSource = datasourceManager.getDataSource("write_0").unwrap(HikariDataSource.class);
+        this.rawReadDataSource = datasourceManager.getDataSource("read_0").unwrap(HikariDataSource.class);
+        createTables(rawWriteDataSource);
+        createTables(rawReadDataSource);
+    }
+
+    public DataSource getSqlXDataSource() {
+        return sqlXDataSource;
+    }
+
+    public DataSource getRawWriteDataSource() {
+        return rawWriteDataSource;
+    }
+
+    public DataSource getRawReadDataSource() {
+        return rawReadDataSource;
+    }
+
+    /**
+     * Removes the rows inserted by the benchmarks from both nodes.
+     */
+    public void truncateInserted() throws SQLException {
+        for (DataSource dataSource : new DataSource[]{rawWriteDataSource, rawReadDataSource}) {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("TRUNCATE TABLE t_bench_insert");
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    private static String[] arguments() {
+        List<String> args = new ArrayList<>();
+        args.add("--spring.config.name=sqlx-benchmark");
+        args.add("--logging.level.root=warn");
+        args.add("--sqlx.enabled=true");
+        args.add("--sqlx.metrics.enabled=false");
+        args.add("--sqlx.metrics.username=benchmark");
+        args.add("--sqlx.metrics.password=benchmark");
+        args.add("--sqlx.metrics.file-directory=target/jmh/metrics");
+        args.add("--sqlx.metrics.collect-scope=all");
+        args.add("--sqlx.sql-parsing.sql-parsing-fail-behavior=warning");
+        String[] nodes = {"write_0", "read_0"};
+        for (int i = 0; i < nodes.length; i++) {
+            String prefix = "--sqlx.data-sources[" + i + "].";
+            args.add(prefix + "name=" + nodes[i]);
+            args.add(prefix + "weight=1");
+            args.add(prefix + "defaulted=" + (i == 0));
+            args.add(prefix + "data-source-class=com.zaxxer.hikari.HikariDataSource");
+            args.add(prefix + "destroy-method=close");
+            args.add(prefix + "props.driverClassName=org.h2.Driver");
+            args.add(prefix + "props.jdbcUrl=jdbc:h2:mem:sqlx_bench_" + nodes[i] + ";DB_CLOSE_DELAY=-1");
+            args.add(prefix + "props.username=sa");
+            args.add(prefix + "props.password=sa");
+            args.add(prefix + "props.minimumIdle=" + POOL_SIZE);
+            args.add(prefix + "props.maximumPoolSize=" + POOL_SIZE);
+        }
+        args.add("--sqlx.clusters[0].name=cluster_0");
+        args.add("--sqlx.clusters[0].defaulted=true");
+        args.add("--sqlx.clusters[0].writable-nodes[0]=write_0");
+        args.add("--sqlx.clusters[0].readable-nodes[0]=read_0");
+        args.add("--sqlx.pointcuts[0].expression=execution(* io.github.sqlx.benchmark.BenchmarkCluster.close())");
+        args.add("--sqlx.pointcuts[0].cluster=cluster_0");
+        return args.toArray(new String[0]);
+    }
+
+    private static void createTables(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE IF NOT EXISTS t_bench (id BIGINT PRIMARY KEY, name VARCHAR(32), amount INT)");
+                statement.execute("CREATE TABLE IF NOT EXISTS t_bench_insert (id BIGINT, name VARCHAR(32), amount INT)");
+                statement.execute("TRUNCATE TABLE t_bench");
+            }
+            try (PreparedStatement ps = connection.prepareStatement("INSERT INTO t_bench VALUES (?, ?, ?)")) {
+                for (int i = 1; i <= ROWS; i++) {
+                    ps.setLong(1, i);
+                    ps.setString(2, "name_" + i);
+                    ps.setInt(3, i % 100);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        }
+    }
+
+    @Configuration
+    @Import(SqlXEnableAutoConfiguration.class)
+    static class BenchmarkConfiguration {
+    }
+}
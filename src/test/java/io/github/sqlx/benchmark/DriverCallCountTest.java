@@ -0,0 +1,163 @@
+package io.github.sqlx.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.sqlx.NodeAttribute;
+import io.github.sqlx.jdbc.ProxyConnection;
+import io.github.sqlx.jdbc.datasource.DataSourceWrapper;
+import io.github.sqlx.jdbc.datasource.RoutedDataSource;
+import io.github.sqlx.jdbc.datasource.SqlXDataSource;
+import io.github.sqlx.listener.EventListener;
+import io.github.sqlx.rule.RouteInfo;
+import io.github.sqlx.sql.parser.JSqlParser;
+import lombok.extern.slf4j.Slf4j;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Counts the calls that reach the JDBC driver below a HikariCP pool for acquiring a connection through
+ * {@link ProxyConnection} and running one query, every counted call may be a network round trip on
+ * MySQL or PostgreSQL.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Slf4j
+class DriverCallCountTest {
+
+    private final Map<String, AtomicInteger> driverCalls = new ConcurrentHashMap<>();
+
+    private HikariDataSource pool;
+
+    private SqlXDataSource sqlXDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:driver_call_count;DB_CLOSE_DELAY=-1");
+        pool = new HikariDataSource();
+        pool.setDataSource(counting(DataSource.class, h2));
+        pool.setMinimumIdle(1);
+        pool.setMaximumPoolSize(1);
+
+        NodeAttribute nodeAttribute = mock(NodeAttribute.class);
+        when(nodeAttribute.getName()).thenReturn("write_0");
+        DataSourceWrapper wrapper = new DataSourceWrapper("write_0", pool, nodeAttribute, true);
+        sqlXDataSource = mock(SqlXDataSource.class);
+        when(sqlXDataSource.getDataSource(anyString())).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            RouteInfo routeInfo = new RouteInfo();
+            routeInfo.setSql(sql);
+            routeInfo.setSqlAttribute(new JSqlParser().parse(sql));
+            routeInfo.setHitNodeAttr(nodeAttribute);
+            routeInfo.setIsTransactionActive(false);
+            return new RoutedDataSource(wrapper, routeInfo);
+        });
+
+        // warm up the pool, the calls made to open the physical connection are not counted
+        try (Connection connection = pool.getConnection()) {
+            connection.isValid(1);
+        }
+        driverCalls.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void testAcquireAndQueryDoNotResetSessionState() throws SQLException {
+        queryOnce();
+        log.info("Driver calls for an acquire and one query: {}", new TreeMap<>(driverCalls));
+
+        assertThat(calls("setAutoCommit")).isZero();
+        assertThat(calls("setReadOnly")).isZero();
+        assertThat(calls("getMetaData")).isZero();
+        assertThat(calls("getCatalog")).isEqualTo(1);
+        assertThat(calls("prepareStatement")).isEqualTo(1);
+    }
+
+    @Test
+    void testCatalogIsReadOncePerCheckout() throws SQLException {
+        try (ProxyConnection connection = new ProxyConnection(sqlXDataSource, mock(EventListener.class))) {
+            for (int i = 0; i < 3; i++) {
+                try (PreparedStatement ps = connection.prepareStatement("select 1");
+                     ResultSet rs = ps.executeQuery()) {
+                    assertThat(rs.next()).isTrue();
+                }
+            }
+            connection.setAutoCommit(true);
+            connection.setReadOnly(false);
+        }
+
+        assertThat(calls("getCatalog")).isEqualTo(1);
+        assertThat(calls("setAutoCommit")).isZero();
+        assertThat(calls("setReadOnly")).isZero();
+    }
+
+    @Test
+    void testChangedSessionStateIsApplied() throws SQLException {
+        try (ProxyConnection connection = new ProxyConnection(sqlXDataSource, mock(EventListener.class))) {
+            connection.setReadOnly(true);
+            try (PreparedStatement ps = connection.prepareStatement("select 1");
+                 ResultSet rs = ps.executeQuery()) {
+                assertThat(rs.next()).isTrue();
+            }
+            connection.setReadOnly(true);
+        }
+
+        // once on acquisition, once when HikariCP resets the dirty connection
+        assertThat(calls("setReadOnly")).isEqualTo(2);
+    }
+
+    private void queryOnce() throws SQLException {
+        try (ProxyConnection connection = new ProxyConnection(sqlXDataSource, mock(EventListener.class));
+             PreparedStatement ps = connection.prepareStatement("select 1");
+             ResultSet rs = ps.executeQuery()) {
+            assertThat(rs.next()).isTrue();
+        }
+    }
+
+    private int calls(String method) {
+        AtomicInteger count = driverCalls.get(method);
+        return count == null ? 0 : count.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T counting(Class<T> type, T target) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (type == DataSource.class && result instanceof Connection) {
+                return counting(Connection.class, (Connection) result);
+            }
+            if (type == Connection.class) {
+                driverCalls.computeIfAbsent(method.getName(), k -> new AtomicInteger()).incrementAndGet();
+            }
+            return result;
+        });
+    }
+}
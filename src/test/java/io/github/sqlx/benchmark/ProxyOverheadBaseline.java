@@ -0,0 +1,99 @@
+package io.github.sqlx.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.results.RunResult;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The proxy overhead of every benchmark, the average time through SQLX divided by the average time of the raw pool.
+ * <p>
+ * Ratios rather than times are stored and compared, so a baseline recorded on one machine
+ * still tells a regression of the proxy on another machine.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+public class ProxyOverheadBaseline {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private final Map<String, Double> ratios;
+
+    private ProxyOverheadBaseline(Map<String, Double> ratios) {
+        this.ratios = ratios;
+    }
+
+    public static ProxyOverheadBaseline of(Collection<RunResult> results) {
+        Map<String, Double> raw = new HashMap<>();
+        Map<String, Double> sqlx = new HashMap<>();
+        for (RunResult result : results) {
+            String benchmark = result.getParams().getBenchmark();
+            String name = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+            double score = result.getPrimaryResult().getScore();
+            if (ProxyOverheadBenchmark.RAW.equals(result.getParams().getParam("target"))) {
+                raw.put(name, score);
+            } else {
+                sqlx.put(name, score);
+            }
+        }
+        Map<String, Double> ratios = new TreeMap<>();
+        sqlx.forEach((name, score) -> {
+            Double rawScore = raw.get(name);
+            if (rawScore != null && rawScore > 0) {
+                ratios.put(name, score / rawScore);
+            }
+        });
+        return new ProxyOverheadBaseline(ratios);
+    }
+
+    public static ProxyOverheadBaseline read(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            Map<String, Double> ratios = GSON.fromJson(reader, new TypeToken<TreeMap<String, Double>>() {
+            }.getType());
+            return new ProxyOverheadBaseline(ratios);
+        }
+    }
+
+    public void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            GSON.toJson(ratios, writer);
+        }
+    }
+
+    public Map<String, Double> getRatios() {
+        return ratios;
+    }
+
+    /**
+     * @param baseline  the stored baseline
+     * @param tolerance the relative growth of a ratio that is still accepted, 0.25 accepts 25% more overhead
+     * @return a message for every benchmark whose overhead grew beyond the tolerance
+     */
+    public List<String> regressionsAgainst(ProxyOverheadBaseline baseline, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        ratios.forEach((name, ratio) -> {
+            Double expected = baseline.ratios.get(name);
+            if (expected != null && ratio > expected * (1 + tolerance)) {
+                regressions.add(String.format("%s: sqlx/raw %.3f, baseline %.3f", name, ratio, expected));
+            }
+        });
+        return regressions;
+    }
+}
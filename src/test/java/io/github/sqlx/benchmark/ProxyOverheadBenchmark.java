@@ -0,0 +1,199 @@
+package io.github.sqlx.benchmark;
+
+import io.github.sqlx.RoutingContext;
+import io.github.sqlx.integration.springboot.RouteAttribute;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the raw Hikari pools with the SQLX data source routing to the same pools.
+ * <p>
+ * Every benchmark runs once against {@code raw} and once against {@code sqlx},
+ * {@link ProxyOverheadBenchmarkTest} reports the ratio of the two as the proxy overhead.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProxyOverheadBenchmark {
+
+    public static final String RAW = "raw";
+
+    public static final String SQLX = "sqlx";
+
+    private static final String POINT_SELECT = "SELECT id, name, amount FROM t_bench WHERE id = ?";
+
+    private static final String RANGE_SELECT = "SELECT id, name, amount FROM t_bench WHERE id <= ?";
+
+    private static final String INSERT = "INSERT INTO t_bench_insert (id, name, amount) VALUES (?, ?, ?)";
+
+    private static final String UPDATE = "UPDATE t_bench SET amount = amount + 1 WHERE id = ?";
+
+    private static final RouteAttribute TRANSACTION_ROUTE = new RouteAttribute("cluster_0", null, false, true, null, null);
+
+    private static final int RANGE_ROWS = 100;
+
+    private static final int BATCH_SIZE = 50;
+
+    @Param({RAW, SQLX})
+    public String target;
+
+    private BenchmarkCluster cluster;
+
+    private DataSource readDataSource;
+
+    private DataSource writeDataSource;
+
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        cluster = new BenchmarkCluster();
+        boolean raw = RAW.equals(target);
+        readDataSource = raw ? cluster.getRawReadDataSource() : cluster.getSqlXDataSource();
+        writeDataSource = raw ? cluster.getRawWriteDataSource() : cluster.getSqlXDataSource();
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(writeDataSource));
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() throws SQLException {
+        cluster.truncateInserted();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cluster.close();
+    }
+
+    @Benchmark
+    public void getConnection(Blackhole bh) throws SQLException {
+        try (Connection connection = readDataSource.getConnection()) {
+            bh.consume(connection);
+        }
+    }
+
+    @Benchmark
+    public void iterateResultSet(Blackhole bh) throws SQLException {
+        try (Connection connection = readDataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(RANGE_SELECT)) {
+            ps.setLong(1, RANGE_ROWS);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    bh.consume(rs.getLong(1));
+                    bh.consume(rs.getString(2));
+                    bh.consume(rs.getInt(3));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public int[] batchInsert() throws SQLException {
+        try (Connection connection = writeDataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(INSERT)) {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                ps.setLong(1, i);
+                ps.setString(2, "name_" + i);
+                ps.setInt(3, i);
+                ps.addBatch();
+            }
+            return ps.executeBatch();
+        }
+    }
+
+    /**
+     * A read followed by a write in one transaction, SQLX routes both to the writable node.
+     * The routing attribute is what a {@code @SqlRouting(cluster = "cluster_0")} method would put into the context.
+     */
+    @Benchmark
+    public Integer transactionalReadWrite(Blackhole bh) {
+        RoutingContext.force(TRANSACTION_ROUTE);
+        try {
+            return transactionTemplate.execute(status -> readWrite(bh));
+        } finally {
+            RoutingContext.clear();
+        }
+    }
+
+    private Integer readWrite(Blackhole bh) {
+        Connection connection = DataSourceUtils.getConnection(writeDataSource);
+        try {
+            long id = pointSelect(connection, bh);
+            try (PreparedStatement ps = connection.prepareStatement(UPDATE)) {
+                ps.setLong(1, id);
+                return ps.executeUpdate();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, writeDataSource);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void pointSelect(Blackhole bh) throws SQLException {
+        pointSelect(readDataSource, bh);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void pointSelect8Threads(Blackhole bh) throws SQLException {
+        pointSelect(readDataSource, bh);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void pointSelect64Threads(Blackhole bh) throws SQLException {
+        pointSelect(readDataSource, bh);
+    }
+
+    private static void pointSelect(DataSource dataSource, Blackhole bh) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            pointSelect(connection, bh);
+        }
+    }
+
+    private static long pointSelect(Connection connection, Blackhole bh) throws SQLException {
+        long id = ThreadLocalRandom.current().nextInt(BenchmarkCluster.ROWS) + 1;
+        try (PreparedStatement ps = connection.prepareStatement(POINT_SELECT)) {
+            ps.setLong(1, id);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    bh.consume(rs.getString(2));
+                    bh.consume(rs.getInt(3));
+                }
+            }
+        }
+        return id;
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.sqlx.benchmark;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@link ProxyOverheadBenchmark} and compares the proxy overhead with the stored baseline.
+ * <p>
+ * Skipped by default, run it with
+ * {@code mvn test -Dtest=ProxyOverheadBenchmarkTest -Dsqlx.benchmark=true}.
+ * The JMH results are written to {@code target/jmh/proxy-overhead.json}, the overhead ratios are compared with
+ * {@code src/test/resources/benchmark/proxy-overhead-baseline.json} and the test fails when one grew by more than
+ * {@code sqlx.benchmark.tolerance} (0.25 by default). {@code -Dsqlx.benchmark.updateBaseline=true} replaces the baseline.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "sqlx.benchmark", matches = "true")
+class ProxyOverheadBenchmarkTest {
+
+    private static final Path RESULT = Paths.get("target", "jmh", "proxy-overhead.json");
+
+    private static final Path BASELINE = Paths.get("src", "test", "resources", "benchmark", "proxy-overhead-baseline.json");
+
+    @Test
+    void testProxyOverheadAgainstBaseline() throws Exception {
+        Files.createDirectories(RESULT.getParent());
+        Options options = new OptionsBuilder()
+                .include(ProxyOverheadBenchmark.class.getName() + "." + System.getProperty("sqlx.benchmark.include", ""))
+                .shouldFailOnError(true)
+                .resultFormat(ResultFormatType.JSON)
+                .result(RESULT.toString())
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        ProxyOverheadBaseline current = ProxyOverheadBaseline.of(results);
+        current.getRatios().forEach((name, ratio) -> log.info("{}: sqlx/raw {}", name, String.format("%.3f", ratio)));
+
+        Path baselinePath = Paths.get(System.getProperty("sqlx.benchmark.baseline", BASELINE.toString()));
+        if (Boolean.getBoolean("sqlx.benchmark.updateBaseline") || !Files.exists(baselinePath)) {
+            current.write(baselinePath);
+            log.info("Proxy overhead baseline written to {}", baselinePath.toAbsolutePath());
+            return;
+        }
+        double tolerance = Double.parseDouble(System.getProperty("sqlx.benchmark.tolerance", "0.25"));
+        List<String> regressions = current.regressionsAgainst(ProxyOverheadBaseline.read(baselinePath), tolerance);
+        assertThat(regressions).as("proxy overhead regressions against %s", baselinePath).isEmpty();
+    }
+}
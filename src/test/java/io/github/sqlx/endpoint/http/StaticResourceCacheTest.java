@@ -0,0 +1,67 @@
+package io.github.sqlx.endpoint.http;
+
+import io.github.sqlx.util.IOUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link StaticResourceCache} and the static resources of {@link V1HttpHandler}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class StaticResourceCacheTest {
+
+    private static final String RESOURCE_PATH = "META-INF/http/resources";
+
+    @Test
+    void testResourcesArePreloaded() throws IOException {
+        StaticResourceCache cache = new StaticResourceCache(RESOURCE_PATH);
+
+        assertThat(cache.size()).isGreaterThan(10);
+        StaticResourceCache.StaticResource resource = cache.get("/js/jquery-3.6.0.min.js");
+        assertThat(resource.getContentType()).isEqualTo("text/javascript;charset=UTF-8");
+        assertThat(resource.getBytes()).isEqualTo(IOUtils.readByteArrayFromResource(RESOURCE_PATH + "/js/jquery-3.6.0.min.js"));
+        assertThat(IOUtils.readByteArray(new GZIPInputStream(new ByteArrayInputStream(resource.getGzipBytes())))).isEqualTo(resource.getBytes());
+        assertThat(cache.get("/missing.js")).isNull();
+        assertThat(cache.get("/../META-INF/spring.factories")).isNull();
+    }
+
+    @Test
+    void testConditionalHeaders() {
+        StaticResourceCache.StaticResource resource = new StaticResourceCache(RESOURCE_PATH).get("/index.html");
+
+        assertThat(resource.isNotModified(resource.getEtag())).isTrue();
+        assertThat(resource.isNotModified("\"other\", W/" + resource.getGzipEtag())).isTrue();
+        assertThat(resource.isNotModified("\"other\"")).isFalse();
+        assertThat(resource.isNotModified(null)).isFalse();
+        assertThat(resource.isGzipAccepted("deflate, gzip;q=0.8")).isTrue();
+        assertThat(resource.isGzipAccepted("gzip;q=0")).isFalse();
+        assertThat(resource.isGzipAccepted("br")).isFalse();
+    }
+
+    @Test
+    void testHandleStaticResources() {
+        V1HttpHandler handler = new V1HttpHandler(RESOURCE_PATH, null, null, null, null, null, null, null, null);
+
+        HttpResponse first = handler.handleStaticResources(new HttpRequest().setPath("/css/common.css").setAcceptEncoding("gzip"));
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(first.getHeaders()).containsEntry("Content-Encoding", "gzip").containsKey("ETag");
+        assertThat(first.getHeaders().get("Cache-Control")).isEqualTo("private, max-age=3600");
+
+        HttpResponse second = handler.handleStaticResources(new HttpRequest().setPath("/css/common.css")
+                .setAcceptEncoding("gzip").setIfNoneMatch(first.getHeaders().get("ETag")));
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(second.getBodyBytes()).isNull();
+
+        HttpResponse missing = handler.handleStaticResources(new HttpRequest().setPath("/missing.html"));
+        assertThat(missing.getStatus()).isEqualTo(404);
+        assertThat(missing.getContentType()).isEqualTo("text/html;charset=UTF-8");
+        assertThat(missing.getBodyBytes()).isNotEmpty();
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.sqlx.integration.datasource;
+
+import io.github.sqlx.NodeState;
+import io.github.sqlx.config.DataSourceConfiguration;
+import io.github.sqlx.config.DataSourceStartupConfiguration;
+import io.github.sqlx.exception.SqlXRuntimeException;
+import io.github.sqlx.jdbc.datasource.DataSourceStartupTiming;
+import io.github.sqlx.jdbc.datasource.DataSourceWrapper;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link DataSourceStartup}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class DataSourceStartupTest {
+
+    private final Map<String, Thread> initializingThreads = new ConcurrentHashMap<>();
+
+    private final AtomicInteger concurrent = new AtomicInteger();
+
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+    @Test
+    void testDataSourcesAreBuiltInParallelWithBoundedThreads() {
+        DataSourceStartupConfiguration configuration = new DataSourceStartupConfiguration();
+        configuration.setParallelism(3);
+        DataSourceStartup startup = new DataSourceStartup(sleepingInitializer(200), configuration);
+
+        long start = System.nanoTime();
+        Map<String, DataSourceWrapper> dataSources = startup.start(dataSourceConfs(6));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(dataSources).containsOnlyKeys("node_0", "node_1", "node_2", "node_3", "node_4", "node_5");
+        assertThat(new ArrayList<>(dataSources.keySet())).containsExactly("node_0", "node_1", "node_2", "node_3", "node_4", "node_5");
+        assertThat(maxConcurrent.get()).isEqualTo(3);
+        assertThat(elapsedMillis).isLessThan(1200);
+        assertThat(initializingThreads.values()).allMatch(thread -> thread.getName().startsWith("sqlx-datasource-startup"));
+        assertThat(startup.getTimings()).extracting(DataSourceStartupTiming::getName).containsExactly("node_0", "node_1", "node_2", "node_3", "node_4", "node_5");
+        assertThat(startup.getTimings()).allMatch(timing -> timing.getInitializeMillis() >= 150 && timing.getHeartbeatSucceeded() == null);
+    }
+
+    @Test
+    void testTimeoutFailsStartup() {
+        DataSourceStartupConfiguration configuration = new DataSourceStartupConfiguration();
+        configuration.setTimeoutMillis(100L);
+        DataSourceStartup startup = new DataSourceStartup(sleepingInitializer(2000), configuration);
+
+        assertThatThrownBy(() -> startup.start(dataSourceConfs(2)))
+                .isInstanceOf(SqlXRuntimeException.class)
+                .hasMessageContaining("node_0")
+                .hasMessageContaining("node_1");
+    }
+
+    @Test
+    void testInitializationFailureFailsStartup() {
+        DataSourceStartup startup = new DataSourceStartup(conf -> {
+            throw new IllegalStateException("broken " + conf.getName());
+        }, new DataSourceStartupConfiguration());
+
+        assertThatThrownBy(() -> startup.start(dataSourceConfs(2))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testWarmUpOpensConnectionsAndMarksNodeUp() {
+        DataSourceStartupConfiguration configuration = new DataSourceStartupConfiguration();
+        configuration.setWarmUp(true);
+        configuration.setWarmUpMinConnections(2);
+        List<DataSourceConfiguration> dataSourceConfs = dataSourceConfs(2);
+        DataSourceStartup startup = new DataSourceStartup(conf -> {
+            JdbcDataSource h2 = new JdbcDataSource();
+            h2.setURL("jdbc:h2:mem:startup_" + conf.getName());
+            return h2;
+        }, configuration);
+
+        Map<String, DataSourceWrapper> dataSources = startup.start(dataSourceConfs);
+
+        for (DataSourceConfiguration dataSourceConf : dataSourceConfs) {
+            assertThat(dataSourceConf.getNodeAttribute().getNodeState()).isEqualTo(NodeState.UP);
+        }
+        assertThat(dataSources.get("node_0").getMetaDataSnapshot()).isNotNull();
+        assertThat(startup.getTimings()).allMatch(timing -> timing.getWarmedUpConnections() == 2 && Boolean.TRUE.equals(timing.getHeartbeatSucceeded()));
+    }
+
+    @Test
+    void testWarmUpFailureDoesNotFailStartup() {
+        DataSourceStartupConfiguration configuration = new DataSourceStartupConfiguration();
+        configuration.setWarmUp(true);
+        List<DataSourceConfiguration> dataSourceConfs = dataSourceConfs(1);
+        dataSourceConfs.get(0).setHeartbeatSql("SELECT * FROM no_such_table");
+        DataSourceStartup startup = new DataSourceStartup(conf -> {
+            JdbcDataSource h2 = new JdbcDataSource();
+            h2.setURL("jdbc:h2:mem:startup_failure");
+            return h2;
+        }, configuration);
+
+        startup.start(dataSourceConfs);
+
+        assertThat(dataSourceConfs.get(0).getNodeAttribute().getNodeState()).isEqualTo(NodeState.UNKNOWN);
+        DataSourceStartupTiming timing = startup.getTimings().get(0);
+        assertThat(timing.getHeartbeatSucceeded()).isFalse();
+        assertThat(timing.getWarmUpError()).isNotBlank();
+    }
+
+    private DataSourceInitializer sleepingInitializer(long millis) {
+        return conf -> {
+            initializingThreads.put(conf.getName(), Thread.currentThread());
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrent.decrementAndGet();
+            }
+            return new JdbcDataSource();
+        };
+    }
+
+    private static List<DataSourceConfiguration> dataSourceConfs(int count) {
+        List<DataSourceConfiguration> dataSourceConfs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            DataSourceConfiguration dataSourceConf = new DataSourceConfiguration();
+            dataSourceConf.setName("node_" + i);
+            dataSourceConf.setDataSourceClass(JdbcDataSource.class.getName());
+            dataSourceConf.addProperty("url", "jdbc:h2:mem:node_" + i);
+            dataSourceConfs.add(dataSourceConf);
+        }
+        return dataSourceConfs;
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.sqlx.integration.springboot;
+
+import io.github.sqlx.SessionConsistency;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link SessionConsistencyFilter}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class SessionConsistencyFilterTest {
+
+    private final SessionConsistencyFilter filter = new SessionConsistencyFilter();
+
+    @Test
+    void testOpensASessionForTheRequest() throws Exception {
+        List<SessionConsistency.Session> sessions = new ArrayList<>();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest(), response, new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                sessions.add(SessionConsistency.current());
+                SessionConsistency.recordWrite("cluster_0");
+            }
+        });
+
+        assertThat(sessions.get(0)).isNotNull();
+        assertThat(SessionConsistency.current()).isNull();
+        assertThat(response.getHeader(SessionConsistencyFilter.TOKEN_HEADER)).startsWith("cluster_0=");
+    }
+
+    @Test
+    void testResumesTheSessionOfTheToken() throws Exception {
+        List<Long> lastWrites = new ArrayList<>();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(SessionConsistencyFilter.TOKEN_HEADER, "cluster_0=42");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                lastWrites.add(SessionConsistency.getLastWrite("cluster_0"));
+            }
+        });
+
+        assertThat(lastWrites).containsExactly(42L);
+    }
+
+    @Test
+    void testIgnoresAMalformedToken() throws Exception {
+        List<SessionConsistency.Session> sessions = new ArrayList<>();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(SessionConsistencyFilter.TOKEN_HEADER, "cluster_0=x");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                sessions.add(SessionConsistency.current());
+            }
+        });
+
+        assertThat(sessions.get(0)).isNotNull();
+        assertThat(sessions.get(0).getToken()).isEmpty();
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.sqlx.integration.springboot;
+
+import io.github.sqlx.NodeAttribute;
+import io.github.sqlx.jdbc.transaction.UUIDTransactionIdGenerator;
+import io.github.sqlx.sql.SqlAttribute;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.VerboseMode;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Cost of the transaction lookups made while routing a long {@code @Transactional} batch:
+ * every statement asks for the current node, appends its SQL and reads the transaction id,
+ * as {@link io.github.sqlx.rule.TransactionRouteRule} and {@link io.github.sqlx.rule.group.CompositeRouteGroup} do.
+ * {@code synchronizationScan} repeats the same lookups by scanning the registered synchronizations for comparison.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+public class SpringTransactionBenchmarkTest {
+
+    private static final int STATEMENTS = 200;
+
+    /**
+     * Synchronizations registered by other resources of the transaction, such as a MyBatis session or a JDBC connection.
+     */
+    private static final int OTHER_SYNCHRONIZATIONS = 4;
+
+    private SpringTransaction transaction;
+
+    private TransactionTemplate transactionTemplate;
+
+    private NodeAttribute node;
+
+    private SqlAttribute sqlAttribute;
+
+    @Test
+    public void testBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(SpringTransactionBenchmarkTest.class.getSimpleName())
+                .mode(Mode.Throughput)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .forks(0)
+                .threads(1)
+                .syncIterations(true)
+                .shouldFailOnError(true)
+                .shouldDoGC(false)
+                .verbosity(VerboseMode.NORMAL)
+                .resultFormat(ResultFormatType.JSON)
+                .result("./target/SpringTransaction_Benchmark.json")
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        transaction = new SpringTransaction(new UUIDTransactionIdGenerator());
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:bench_spring_transaction;DB_CLOSE_DELAY=-1");
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        node = mock(NodeAttribute.class);
+        sqlAttribute = mock(SqlAttribute.class);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void routingState(Blackhole bh) {
+        transactionTemplate.executeWithoutResult(status -> {
+            registerOtherSynchronizations();
+            transaction.registerNode(node, sqlAttribute);
+            for (int i = 1; i < STATEMENTS; i++) {
+                bh.consume(transaction.isActive());
+                bh.consume(transaction.getCurrentNode());
+                transaction.addSql(sqlAttribute);
+                bh.consume(transaction.getName());
+                bh.consume(transaction.getTransactionId());
+            }
+        });
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void synchronizationScan(Blackhole bh) {
+        transactionTemplate.executeWithoutResult(status -> {
+            registerOtherSynchronizations();
+            TransactionRoutingState state = new TransactionRoutingState(node, "id");
+            TransactionSynchronizationManager.registerSynchronization(state);
+            for (int i = 1; i < STATEMENTS; i++) {
+                bh.consume(TransactionSynchronizationManager.isActualTransactionActive());
+                bh.consume(scan().getNodeAttr());
+                scan().addSqlAttr(sqlAttribute);
+                bh.consume(TransactionSynchronizationManager.getCurrentTransactionName());
+                bh.consume(scan().getTransactionId());
+            }
+        });
+    }
+
+    private static TransactionRoutingState scan() {
+        return (TransactionRoutingState) TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(TransactionRoutingState.class::isInstance)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static void registerOtherSynchronizations() {
+        for (int i = 0; i < OTHER_SYNCHRONIZATIONS; i++) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            });
+        }
+    }
+}
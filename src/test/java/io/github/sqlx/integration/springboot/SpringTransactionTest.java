@@ -0,0 +1,95 @@
+package io.github.sqlx.integration.springboot;
+
+import io.github.sqlx.NodeAttribute;
+import io.github.sqlx.jdbc.transaction.UUIDTransactionIdGenerator;
+import io.github.sqlx.sql.SqlAttribute;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link SpringTransaction} and {@link TransactionRoutingState}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class SpringTransactionTest {
+
+    private SpringTransaction transaction;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new SpringTransaction(new UUIDTransactionIdGenerator());
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:spring_transaction_test;DB_CLOSE_DELAY=-1");
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    void testRoutingStateIsBoundToTransaction() {
+        NodeAttribute node = mock(NodeAttribute.class);
+        SqlAttribute first = mock(SqlAttribute.class);
+        SqlAttribute second = mock(SqlAttribute.class);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(transaction.isActive()).isTrue();
+            assertThat(transaction.getCurrentNode()).isNull();
+            assertThat(transaction.getTransactionId()).isNull();
+
+            transaction.registerNode(node, first);
+            String transactionId = transaction.getTransactionId();
+            transaction.addSql(second);
+
+            assertThat(transaction.getCurrentNode()).isSameAs(node);
+            assertThat(transactionId).isNotBlank();
+            assertThat(transaction.getTransactionId()).isEqualTo(transactionId);
+            assertThat(TransactionRoutingState.current().getSqlAttrs()).containsExactly(first, second);
+        });
+
+        assertThat(TransactionSynchronizationManager.hasResource(TransactionRoutingState.RESOURCE_KEY)).isFalse();
+        assertThat(transaction.getCurrentNode()).isNull();
+    }
+
+    @Test
+    void testRoutingStateIsSuspendedWithTransaction() {
+        NodeAttribute outerNode = mock(NodeAttribute.class);
+        NodeAttribute innerNode = mock(NodeAttribute.class);
+        AtomicReference<String> innerTransactionId = new AtomicReference<>();
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            transaction.registerNode(outerNode, null);
+            String outerTransactionId = transaction.getTransactionId();
+
+            requiresNew.executeWithoutResult(inner -> {
+                assertThat(transaction.getCurrentNode()).isNull();
+                transaction.registerNode(innerNode, null);
+                innerTransactionId.set(transaction.getTransactionId());
+                assertThat(transaction.getCurrentNode()).isSameAs(innerNode);
+            });
+
+            assertThat(transaction.getCurrentNode()).isSameAs(outerNode);
+            assertThat(transaction.getTransactionId()).isEqualTo(outerTransactionId).isNotEqualTo(innerTransactionId.get());
+        });
+
+        assertThat(TransactionSynchronizationManager.hasResource(TransactionRoutingState.RESOURCE_KEY)).isFalse();
+    }
+
+    @Test
+    void testNoStateOutsideTransaction() {
+        assertThat(transaction.isActive()).isFalse();
+        assertThat(transaction.getCurrentNode()).isNull();
+        assertThat(transaction.getTransactionId()).isNull();
+    }
+}
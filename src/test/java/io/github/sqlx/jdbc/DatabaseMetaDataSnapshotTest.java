@@ -0,0 +1,114 @@
+package io.github.sqlx.jdbc;
+
+import io.github.sqlx.NodeAttribute;
+import io.github.sqlx.jdbc.datasource.DataSourceWrapper;
+import io.github.sqlx.jdbc.datasource.RoutedDataSource;
+import io.github.sqlx.jdbc.datasource.SqlXDataSource;
+import io.github.sqlx.listener.EventListener;
+import io.github.sqlx.rule.RouteInfo;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link DatabaseMetaDataSnapshot} and the metadata of {@link ProxyConnection}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class DatabaseMetaDataSnapshotTest {
+
+    private Connection connection;
+
+    private DataSource pool;
+
+    private DataSourceWrapper dataSourceWrapper;
+
+    private SqlXDataSource sqlXDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:metadata_snapshot_test;DB_CLOSE_DELAY=-1");
+        connection = h2.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE t_user (id INT, name VARCHAR(32))");
+        }
+        pool = spy(h2);
+        NodeAttribute nodeAttribute = mock(NodeAttribute.class);
+        when(nodeAttribute.getName()).thenReturn("write_0");
+        dataSourceWrapper = new DataSourceWrapper("write_0", pool, nodeAttribute, true);
+        sqlXDataSource = mock(SqlXDataSource.class);
+        when(sqlXDataSource.getDataSourceForDatabaseMetaData()).thenAnswer(invocation -> new RoutedDataSource(dataSourceWrapper, new RouteInfo()));
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE t_user");
+        }
+        connection.close();
+    }
+
+    @Test
+    void testSnapshotAnswersConstantMetadata() throws SQLException {
+        DatabaseMetaData live = connection.getMetaData();
+        DatabaseMetaData view = DatabaseMetaDataSnapshot.capture(live).view(() -> {
+            throw new SQLException("no live metadata expected");
+        });
+
+        assertThat(view.getDatabaseProductName()).isEqualTo(live.getDatabaseProductName());
+        assertThat(view.getIdentifierQuoteString()).isEqualTo(live.getIdentifierQuoteString());
+        assertThat(view.supportsBatchUpdates()).isEqualTo(live.supportsBatchUpdates());
+        assertThat(view.getDriverMajorVersion()).isEqualTo(live.getDriverMajorVersion());
+        assertThat(view.supportsResultSetType(ResultSet.TYPE_SCROLL_INSENSITIVE)).isEqualTo(live.supportsResultSetType(ResultSet.TYPE_SCROLL_INSENSITIVE));
+        assertThat(view.supportsTransactionIsolationLevel(Connection.TRANSACTION_SERIALIZABLE))
+                .isEqualTo(live.supportsTransactionIsolationLevel(Connection.TRANSACTION_SERIALIZABLE));
+        assertThat(view.toString()).isNotNull();
+    }
+
+    @Test
+    void testProxyConnectionAnswersFromSnapshotWithoutConnection() throws SQLException {
+        assertThat(dataSourceWrapper.getMetaDataSnapshot()).isNotNull();
+        verify(pool, times(1)).getConnection();
+
+        for (int i = 0; i < 3; i++) {
+            try (ProxyConnection proxyConnection = new ProxyConnection(sqlXDataSource, mock(EventListener.class))) {
+                DatabaseMetaData metaData = proxyConnection.getMetaData();
+                assertThat(metaData.getDatabaseProductName()).isEqualTo("H2");
+                assertThat(metaData.getIdentifierQuoteString()).isEqualTo("\"");
+                assertThat(metaData.supportsBatchUpdates()).isTrue();
+                assertThat(proxyConnection.getPhysicalConnection()).isNull();
+            }
+        }
+        verify(pool, times(1)).getConnection();
+    }
+
+    @Test
+    void testCatalogQueriesUseLiveConnection() throws SQLException {
+        try (ProxyConnection proxyConnection = new ProxyConnection(sqlXDataSource, mock(EventListener.class))) {
+            DatabaseMetaData metaData = proxyConnection.getMetaData();
+            try (ResultSet tables = metaData.getTables(null, null, "T_USER", null)) {
+                assertThat(tables.next()).isTrue();
+            }
+            assertThat(proxyConnection.getPhysicalConnection()).isNotNull();
+        }
+        // one to capture the snapshot, one for the catalog query
+        verify(pool, times(2)).getConnection();
+    }
+}
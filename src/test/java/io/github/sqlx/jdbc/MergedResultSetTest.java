@@ -0,0 +1,167 @@
+package io.github.sqlx.jdbc;
+
+import io.github.sqlx.sql.OrderByItem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link MergedResultSet}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class MergedResultSetTest {
+
+    private Connection connection;
+
+    private final List<Statement> statements = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:merged_result_set_test;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE t_node (node INT, id INT, name VARCHAR(32))");
+            statement.execute("INSERT INTO t_node VALUES (0, 1, 'a'), (0, 4, 'd'), (0, 7, NULL)");
+            statement.execute("INSERT INTO t_node VALUES (1, 2, 'b'), (1, 5, 'e')");
+            statement.execute("INSERT INTO t_node VALUES (2, 3, 'c'), (2, 6, 'f'), (2, 8, 'g')");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        for (Statement statement : statements) {
+            statement.close();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE t_node");
+        }
+        connection.close();
+    }
+
+    @Test
+    void testConcatenateWithoutOrderBy() throws SQLException {
+        MergedResultSet rs = new MergedResultSet(query("ORDER BY id"), Collections.emptyList(), null, Collections.emptyList());
+
+        assertThat(ids(rs)).containsExactly(1, 4, 7, 2, 5, 3, 6, 8);
+    }
+
+    @Test
+    void testMergeAscendingByColumn() throws SQLException {
+        List<OrderByItem> orderBy = Collections.singletonList(new OrderByItem("id", 0, true));
+        MergedResultSet rs = new MergedResultSet(query("ORDER BY id"), orderBy, null, Collections.emptyList());
+
+        assertThat(ids(rs)).containsExactly(1, 2, 3, 4, 5, 6, 7, 8);
+    }
+
+    @Test
+    void testMergeDescendingByPosition() throws SQLException {
+        List<OrderByItem> orderBy = Collections.singletonList(new OrderByItem(null, 1, false));
+        MergedResultSet rs = new MergedResultSet(query("ORDER BY id DESC"), orderBy, null, Collections.emptyList());
+
+        assertThat(ids(rs)).containsExactly(8, 7, 6, 5, 4, 3, 2, 1);
+    }
+
+    @Test
+    void testMergeNullsFirst() throws SQLException {
+        List<OrderByItem> orderBy = Collections.singletonList(new OrderByItem("NAME", 0, true));
+        MergedResultSet rs = new MergedResultSet(query("ORDER BY name NULLS FIRST"), orderBy, null, Collections.emptyList());
+
+        assertThat(rs.next()).isTrue();
+        assertThat(rs.getString("name")).isNull();
+        assertThat(rs.getInt(1)).isEqualTo(7);
+        assertThat(ids(rs)).containsExactly(1, 2, 3, 4, 5, 6, 8);
+    }
+
+    @Test
+    void testMergeNullsLastByDatabaseDefault() throws SQLException {
+        List<OrderByItem> orderBy = Collections.singletonList(new OrderByItem("name", 0, true));
+        MergedResultSet rs = new MergedResultSet(query("ORDER BY name NULLS LAST"), orderBy, "postgresql", 0, null, Collections.emptyList());
+
+        assertThat(ids(rs)).containsExactly(1, 2, 3, 4, 5, 6, 8, 7);
+    }
+
+    @Test
+    void testMergeExplicitNullsLastDescending() throws SQLException {
+        List<OrderByItem> orderBy = Collections.singletonList(new OrderByItem("name", 0, false, false));
+        MergedResultSet rs = new MergedResultSet(query("ORDER BY name DESC NULLS LAST"), orderBy, "mysql", 0, null, Collections.emptyList());
+
+        assertThat(ids(rs)).containsExactly(8, 6, 5, 4, 3, 2, 1, 7);
+    }
+
+    @Test
+    void testMergeIsLimitedToMaxRows() throws SQLException {
+        List<OrderByItem> orderBy = Collections.singletonList(new OrderByItem("id", 0, true));
+
+        assertThat(ids(new MergedResultSet(query("ORDER BY id"), orderBy, null, 3, null, Collections.emptyList()))).containsExactly(1, 2, 3);
+        assertThat(ids(new MergedResultSet(query("ORDER BY id"), Collections.emptyList(), null, 4, null, Collections.emptyList()))).containsExactly(1, 4, 7, 2);
+    }
+
+    @Test
+    void testOrderByColumnNotSelected() throws SQLException {
+        List<OrderByItem> orderBy = Collections.singletonList(new OrderByItem("node", 0, true));
+
+        assertThatThrownBy(() -> new MergedResultSet(query("ORDER BY id"), orderBy, null, Collections.emptyList()))
+                .isInstanceOf(SQLException.class)
+                .hasMessageContaining("node");
+    }
+
+    @Test
+    void testCompareValues() {
+        assertThat(MergedResultSet.compareValues(null, 1)).isNegative();
+        assertThat(MergedResultSet.compareValues(1, 2L)).isNegative();
+        assertThat(MergedResultSet.compareValues(new java.math.BigDecimal("2.5"), 2)).isPositive();
+        assertThat(MergedResultSet.compareValues("a", "a")).isZero();
+        assertThat(MergedResultSet.compareValues(Double.NaN, 1L)).isPositive();
+        assertThat(MergedResultSet.compareValues(Double.NEGATIVE_INFINITY, new java.math.BigDecimal("-1e400"))).isNegative();
+        assertThat(MergedResultSet.compareValues(1, Float.POSITIVE_INFINITY)).isNegative();
+    }
+
+    @Test
+    void testCloseClosesResultSetsAndResources() throws Exception {
+        List<ResultSet> resultSets = query("ORDER BY id");
+        AutoCloseable resource = mock(AutoCloseable.class);
+        MergedResultSet rs = new MergedResultSet(resultSets, Collections.emptyList(), null, Collections.singletonList(resource));
+
+        rs.close();
+
+        assertThat(rs.isClosed()).isTrue();
+        for (ResultSet resultSet : resultSets) {
+            assertThat(resultSet.isClosed()).isTrue();
+        }
+        verify(resource).close();
+    }
+
+    private List<ResultSet> query(String orderBy) throws SQLException {
+        List<ResultSet> resultSets = new ArrayList<>();
+        for (int node : Arrays.asList(0, 1, 2)) {
+            Statement statement = connection.createStatement();
+            statements.add(statement);
+            resultSets.add(statement.executeQuery("SELECT id, name FROM t_node WHERE node = " + node + " " + orderBy));
+        }
+        return resultSets;
+    }
+
+    private static List<Integer> ids(ResultSet rs) throws SQLException {
+        List<Integer> ids = new ArrayList<>();
+        while (rs.next()) {
+            ids.add(rs.getInt("id"));
+        }
+        return ids;
+    }
+}
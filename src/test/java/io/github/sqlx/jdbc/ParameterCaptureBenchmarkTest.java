@@ -0,0 +1,131 @@
+package io.github.sqlx.jdbc;
+
+import io.github.sqlx.config.ParameterCaptureMode;
+import io.github.sqlx.listener.CompositeEventListener;
+import io.github.sqlx.listener.DefaultEventListener;
+import io.github.sqlx.listener.EventListener;
+import io.github.sqlx.listener.LoggingEventListener;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.VerboseMode;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@code setLong}/{@code setString} + {@code addBatch} through {@link ProxyPreparedStatement}
+ * with parameter capture switched off and on.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+public class ParameterCaptureBenchmarkTest {
+
+    private static final int COLUMNS = 20;
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String SQL;
+
+    private static final String CREATE_TABLE;
+
+    static {
+        StringBuilder columns = new StringBuilder();
+        StringBuilder placeholders = new StringBuilder();
+        for (int i = 0; i < COLUMNS; i++) {
+            columns.append(i == 0 ? "" : ", ").append("c").append(i).append(i % 2 == 0 ? " BIGINT" : " VARCHAR(32)");
+            placeholders.append(i == 0 ? "?" : ", ?");
+        }
+        SQL = "INSERT INTO bench_capture VALUES (" + placeholders + ")";
+        CREATE_TABLE = "CREATE TABLE IF NOT EXISTS bench_capture (" + columns + ")";
+    }
+
+    @Param({"OFF", "SLOW_OR_FAILED", "ALL"})
+    public ParameterCaptureMode mode;
+
+    private Connection connection;
+
+    private ProxyPreparedStatement statement;
+
+    private int rows;
+
+    @Test
+    public void testBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(ParameterCaptureBenchmarkTest.class.getSimpleName())
+                .mode(Mode.Throughput)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .forks(0)
+                .threads(1)
+                .syncIterations(true)
+                .shouldFailOnError(true)
+                .shouldDoGC(false)
+                .verbosity(VerboseMode.NORMAL)
+                .resultFormat(ResultFormatType.JSON)
+                .result("./target/ParameterCapture_Benchmark.json")
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:bench_capture;DB_CLOSE_DELAY=-1");
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute(CREATE_TABLE);
+        }
+        PreparedStatement delegate = connection.prepareStatement(SQL);
+        ParameterCapturePolicy policy = new ParameterCapturePolicy(mode, 1.0D, 1000L);
+        EventListener eventListener = new CompositeEventListener(Arrays.asList(new DefaultEventListener(policy), new LoggingEventListener()));
+        PreparedStatementInfo info = new PreparedStatementInfo();
+        info.setSql(SQL);
+        info.setNativeSql(SQL);
+        info.setStatement(delegate);
+        eventListener.onBeforePrepareStatement(info);
+        statement = new ProxyPreparedStatement(null, info, eventListener);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        statement.clearBatch();
+        connection.close();
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void setLongAndStringThenAddBatch() throws SQLException {
+        for (int i = 1; i <= COLUMNS; i++) {
+            if (i % 2 == 1) {
+                statement.setLong(i, rows * 31L + i);
+            } else {
+                statement.setString(i, "value");
+            }
+        }
+        statement.addBatch();
+        if (++rows % BATCH_SIZE == 0) {
+            statement.clearBatch();
+        }
+    }
+}
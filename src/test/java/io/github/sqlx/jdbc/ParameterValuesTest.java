@@ -0,0 +1,97 @@
+package io.github.sqlx.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link ParameterValues}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class ParameterValuesTest {
+
+    @Test
+    void testTypedSlots() {
+        ParameterValues values = new ParameterValues(2);
+        values.setLong(0, 42L);
+        values.setDouble(1, 1.5D);
+        values.setObject(2, "abc");
+
+        assertThat(values.size()).isEqualTo(3);
+        assertThat(values.getValue(0)).isEqualTo(42L);
+        assertThat(values.getValue(1)).isEqualTo(1.5D);
+        assertThat(values.getValue(2)).isEqualTo("abc");
+    }
+
+    @Test
+    void testFloatIsReadBackAsFloat() {
+        ParameterValues values = new ParameterValues();
+        values.setFloat(0, 1.1f);
+
+        assertThat(values.getValue(0)).isEqualTo(1.1f);
+        assertThat(String.valueOf(values.getValue(0))).isEqualTo("1.1");
+    }
+
+    @Test
+    void testGrowOnDemand() {
+        ParameterValues values = new ParameterValues(1);
+        values.setLong(19, 7L);
+
+        assertThat(values.size()).isEqualTo(20);
+        assertThat(values.isSet(19)).isTrue();
+        assertThat(values.isSet(10)).isFalse();
+        assertThat(values.getValue(10)).isNull();
+    }
+
+    @Test
+    void testOverwriteWithDifferentType() {
+        ParameterValues values = new ParameterValues();
+        values.setObject(0, "abc");
+        values.setLong(0, 1L);
+
+        assertThat(values.getValue(0)).isEqualTo(1L);
+    }
+
+    @Test
+    void testNullKeepsItsSqlType() {
+        ParameterValues values = new ParameterValues();
+        values.setNull(0, Types.VARCHAR);
+        values.setObject(1, null);
+
+        assertThat(values.isSet(0)).isTrue();
+        assertThat(values.getValue(0)).isNull();
+        assertThat(values.getSqlType(0)).isEqualTo(Types.VARCHAR);
+        assertThat(values.getSqlType(1)).isEqualTo(Types.NULL);
+
+        values.setLong(0, 1L);
+        assertThat(values.getSqlType(0)).isEqualTo(Types.NULL);
+    }
+
+    @Test
+    void testClearInPlace() {
+        ParameterValues values = new ParameterValues();
+        values.setLong(0, 1L);
+        values.setObject(1, "abc");
+        values.clear();
+
+        assertThat(values.isEmpty()).isTrue();
+        assertThat(values.isSet(0)).isFalse();
+        assertThat(values.getValue(1)).isNull();
+
+        values.setObject(1, null);
+        assertThat(values.size()).isEqualTo(2);
+        assertThat(values.isSet(0)).isFalse();
+        assertThat(values.isSet(1)).isTrue();
+    }
+
+    @Test
+    void testNegativePosition() {
+        ParameterValues values = new ParameterValues();
+        assertThatThrownBy(() -> values.setLong(-1, 1L)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -1,6 +1,13 @@
 package io.github.sqlx.jdbc;
 
 
+import io.github.sqlx.NodeAttribute;
+import io.github.sqlx.SessionConsistency;
+import io.github.sqlx.cluster.Cluster;
+import io.github.sqlx.config.SqlXConfiguration;
+import io.github.sqlx.jdbc.cache.ResultCache;
+import io.github.sqlx.jdbc.datasource.DatasourceManager;
+import io.github.sqlx.jdbc.datasource.PoolFallback;
 import io.github.sqlx.jdbc.datasource.RoutedDataSource;
 import io.github.sqlx.jdbc.datasource.SqlXDataSource;
 import io.github.sqlx.listener.EventListener;
@@ -30,6 +37,8 @@ import java.sql.SQLXML;
 import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Struct;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -894,6 +903,240 @@ class ProxyConnectionTest {
         verify(physicalConnection, times(1)).releaseSavepoint(savepoint);
     }
 
+    @Test
+    void testGetConnection_OutsideTransaction_ShouldUseConnectionOfRoutedNode() throws Exception {
+        setPrivateField(proxyConnection, "physicalConnection", null);
+        Connection writeConnection = mock(Connection.class);
+        Connection readConnection = mock(Connection.class);
+        RoutedDataSource write = routedDataSource("write_0", writeConnection);
+        RoutedDataSource read = routedDataSource("read_0", readConnection);
+        when(sqlXDataSource.getDataSource(anyString())).thenReturn(write, read, write);
+        proxyConnection.setReadOnly(false);
+        proxyConnection.setSchema("app");
+
+        assertEquals(writeConnection, proxyConnection.getConnection("insert into t values (1)").getConnection());
+        assertEquals(readConnection, proxyConnection.getConnection("select * from t").getConnection());
+        assertEquals(writeConnection, proxyConnection.getConnection("update t set a = 1").getConnection());
+
+        verify(write, times(1)).getConnection();
+        verify(read, times(1)).getConnection();
+        verify(readConnection).setSchema("app");
+        verify(writeConnection).setSchema("app");
+
+        proxyConnection.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        verify(writeConnection).setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        verify(readConnection).setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+
+        proxyConnection.close();
+        verify(writeConnection, times(1)).close();
+        verify(readConnection, times(1)).close();
+        verify(eventListener, times(1)).onBeforeConnectionClose(any());
+        verify(eventListener, times(1)).onAfterConnectionClose(any(), isNull());
+    }
+
+    @Test
+    void testGetConnection_InsideTransaction_ShouldStayOnFirstConnection() throws Exception {
+        setPrivateField(proxyConnection, "physicalConnection", null);
+        Connection writeConnection = mock(Connection.class);
+        Connection readConnection = mock(Connection.class);
+        RoutedDataSource write = routedDataSource("write_0", writeConnection);
+        RoutedDataSource read = routedDataSource("read_0", readConnection);
+        when(sqlXDataSource.getDataSource(anyString())).thenReturn(write, read);
+        proxyConnection.setAutoCommit(false);
+
+        assertEquals(writeConnection, proxyConnection.getConnection("insert into t values (1)").getConnection());
+        assertEquals(writeConnection, proxyConnection.getConnection("select * from t").getConnection());
+        verify(read, never()).getConnection();
+
+        proxyConnection.commit();
+        verify(writeConnection, times(1)).commit();
+    }
+
+    @Test
+    void testClose_WhenOneConnectionFails_ShouldCloseTheOthers() throws Exception {
+        setPrivateField(proxyConnection, "physicalConnection", null);
+        Connection writeConnection = mock(Connection.class);
+        Connection readConnection = mock(Connection.class);
+        doThrow(new SQLException("close error")).when(writeConnection).close();
+        RoutedDataSource write = routedDataSource("write_0", writeConnection);
+        RoutedDataSource read = routedDataSource("read_0", readConnection);
+        when(sqlXDataSource.getDataSource(anyString())).thenReturn(write, read);
+        proxyConnection.getConnection("insert into t values (1)");
+        proxyConnection.getConnection("select * from t");
+
+        assertThrows(SQLException.class, () -> proxyConnection.close());
+        verify(readConnection, times(1)).close();
+    }
+
+    @Test
+    void testClose_ClosesConnectionsAcquiredWithinPoolFallbackBudget() throws Exception {
+        setPrivateField(proxyConnection, "physicalConnection", null);
+        SqlXConfiguration configuration = new SqlXConfiguration();
+        configuration.getPoolFallback().setEnabled(true);
+        when(sqlXDataSource.getPoolFallback()).thenReturn(new PoolFallback(configuration, mock(DatasourceManager.class)));
+        when(sqlAttribute.isRead()).thenReturn(true);
+        Connection connectionA = mock(Connection.class);
+        Connection connectionB = mock(Connection.class);
+        RoutedDataSource readA = routedDataSource("read_a", connectionA);
+        RoutedDataSource readB = routedDataSource("read_b", connectionB);
+        when(readA.getRouteInfo().getCluster()).thenReturn(new Cluster());
+        when(readB.getRouteInfo().getCluster()).thenReturn(new Cluster());
+        when(sqlXDataSource.getDataSource(anyString())).thenReturn(readA, readB, readA);
+
+        assertSame(connectionA, proxyConnection.getConnection("select * from a").getConnection());
+        assertSame(connectionB, proxyConnection.getConnection("select * from b").getConnection());
+        assertSame(connectionA, proxyConnection.getConnection("select * from a").getConnection());
+        proxyConnection.close();
+
+        verify(readA, times(1)).getConnection();
+        verify(connectionA, times(1)).close();
+        verify(connectionB, times(1)).close();
+    }
+
+    @Test
+    void testPreparedStatement_StopsReadingResultCacheOnceAutoCommitIsDisabled() throws Exception {
+        String sql = "SELECT * FROM table";
+        ResultCache resultCache = mock(ResultCache.class);
+        when(resultCache.isCacheable(any())).thenReturn(true);
+        when(sqlXDataSource.getResultCache()).thenReturn(resultCache);
+        when(sqlAttribute.getNativeSql()).thenReturn(sql);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(physicalConnection.prepareStatement(sql)).thenReturn(preparedStatement);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+
+        PreparedStatement ps = proxyConnection.prepareStatement(sql);
+        ps.executeQuery();
+        verify(resultCache, times(1)).executeQuery(any(), any(), any(), any());
+
+        proxyConnection.setAutoCommit(false);
+        ps.executeQuery();
+        verify(resultCache, times(1)).executeQuery(any(), any(), any(), any());
+        verify(preparedStatement, times(1)).executeQuery();
+
+        proxyConnection.setAutoCommit(true);
+        when(resultCache.isTransactionActive()).thenReturn(true);
+        ps.executeQuery();
+        verify(resultCache, times(1)).executeQuery(any(), any(), any(), any());
+        verify(preparedStatement, times(2)).executeQuery();
+    }
+
+    @Test
+    void testGetConnection_RoutesWithinTheSessionOfTheConnection() throws Exception {
+        List<SessionConsistency.Session> sessions = new ArrayList<>();
+        when(sqlXDataSource.getDataSource(anyString())).thenAnswer(invocation -> {
+            sessions.add(SessionConsistency.current());
+            return routedDataSource;
+        });
+        ProxyConnection other = new ProxyConnection(sqlXDataSource, eventListener);
+
+        proxyConnection.getConnection("select * from t");
+        proxyConnection.getConnection("select * from t");
+        other.getConnection("select * from t");
+
+        assertNotNull(sessions.get(0));
+        assertSame(sessions.get(0), sessions.get(1));
+        assertNotSame(sessions.get(0), sessions.get(2));
+        assertNull(SessionConsistency.current());
+
+        try (SessionConsistency.Session session = SessionConsistency.open()) {
+            proxyConnection.getConnection("select * from t");
+            assertSame(session, sessions.get(3));
+        }
+    }
+
+    @Test
+    void testSetAutoCommit_PinsTheTransactionToTheWriteConnection() throws Exception {
+        setPrivateField(proxyConnection, "physicalConnection", null);
+        SqlAttribute write = mock(SqlAttribute.class);
+        SqlAttribute read = mock(SqlAttribute.class);
+        when(read.isRead()).thenReturn(true);
+        Connection writeConnection = mock(Connection.class);
+        Connection readConnection = mock(Connection.class);
+        RoutedDataSource writeNode = routedDataSource("write_0", writeConnection, write);
+        RoutedDataSource readNode = routedDataSource("read_0", readConnection, read);
+        when(sqlXDataSource.getDataSource(anyString())).thenReturn(writeNode, readNode, writeNode);
+
+        proxyConnection.getConnection("insert into t values (1)");
+        assertSame(readConnection, proxyConnection.getConnection("select * from t").getConnection());
+        proxyConnection.setAutoCommit(false);
+        verify(readConnection, never()).setAutoCommit(false);
+
+        assertSame(writeConnection, proxyConnection.getConnection("insert into t values (2)").getConnection());
+        verify(writeConnection, times(1)).setAutoCommit(false);
+        when(sqlXDataSource.getDataSource(anyString())).thenReturn(readNode);
+        assertSame(writeConnection, proxyConnection.getConnection("select * from t").getConnection());
+
+        proxyConnection.commit();
+        verify(writeConnection, times(1)).commit();
+        verify(readConnection, never()).setAutoCommit(false);
+        verify(readConnection, never()).commit();
+    }
+
+    @Test
+    void testRecordWrite_RecordsTheWritesOfATransactionWhenItIsCommitted() throws Exception {
+        Cluster cluster = new Cluster();
+        cluster.setName("cluster_0");
+        when(routeInfo.getCluster()).thenReturn(cluster);
+        when(sqlAttribute.isWrite()).thenReturn(true);
+        StatementInfo statementInfo = new StatementInfo();
+        statementInfo.setConnectionInfo(proxyConnection.getConnectionInfo());
+        statementInfo.setRouteInfo(routeInfo);
+
+        try (SessionConsistency.Session session = SessionConsistency.open()) {
+            proxyConnection.setAutoCommit(false);
+            ProxyConnection.recordWrite(statementInfo);
+            proxyConnection.rollback();
+            proxyConnection.commit();
+            assertNull(session.getLastWrite("cluster_0"));
+
+            ProxyConnection.recordWrite(statementInfo);
+            assertNull(session.getLastWrite("cluster_0"));
+            proxyConnection.commit();
+            assertNotNull(session.getLastWrite("cluster_0"));
+        }
+    }
+
+    @Test
+    void testRecordWrite_RecordsAutoCommitWritesInTheSessionOfTheConnection() throws Exception {
+        List<Long> lastWrites = new ArrayList<>();
+        when(sqlXDataSource.getDataSource(anyString())).thenAnswer(invocation -> {
+            lastWrites.add(SessionConsistency.getLastWrite("cluster_0"));
+            return routedDataSource;
+        });
+        Cluster cluster = new Cluster();
+        cluster.setName("cluster_0");
+        when(routeInfo.getCluster()).thenReturn(cluster);
+        when(sqlAttribute.isWrite()).thenReturn(true);
+        StatementInfo statementInfo = new StatementInfo();
+        statementInfo.setConnectionInfo(proxyConnection.getConnectionInfo());
+        statementInfo.setRouteInfo(routeInfo);
+
+        proxyConnection.getConnection("insert into t values (1)");
+        ProxyConnection.recordWrite(statementInfo);
+        proxyConnection.getConnection("select * from t");
+
+        assertNull(lastWrites.get(0));
+        assertNotNull(lastWrites.get(1));
+        assertNull(SessionConsistency.current());
+    }
+
+    private RoutedDataSource routedDataSource(String node, Connection connection) throws SQLException {
+        return routedDataSource(node, connection, sqlAttribute);
+    }
+
+    private RoutedDataSource routedDataSource(String node, Connection connection, SqlAttribute attribute) throws SQLException {
+        NodeAttribute nodeAttribute = mock(NodeAttribute.class);
+        when(nodeAttribute.getName()).thenReturn(node);
+        RouteInfo nodeRouteInfo = mock(RouteInfo.class);
+        when(nodeRouteInfo.getHitNodeAttr()).thenReturn(nodeAttribute);
+        when(nodeRouteInfo.getSqlAttribute()).thenReturn(attribute);
+        RoutedDataSource dataSource = mock(RoutedDataSource.class);
+        when(dataSource.getRouteInfo()).thenReturn(nodeRouteInfo);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+
     private void setPrivateField(Object obj, String fieldName, Object value) throws NoSuchFieldException, IllegalAccessException {
         Field field = obj.getClass().getDeclaredField(fieldName);
         field.setAccessible(true);
@@ -0,0 +1,62 @@
+package io.github.sqlx.jdbc;
+
+import io.github.sqlx.jdbc.datasource.SqlXDataSource;
+import io.github.sqlx.listener.EventListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link ProxyPreparedStatement}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class ProxyPreparedStatementTest {
+
+    private final EventListener eventListener = mock(EventListener.class);
+
+    private PreparedStatementInfo preparedStatementInfo;
+
+    private ProxyPreparedStatement proxyPreparedStatement;
+
+    @BeforeEach
+    void setUp() {
+        preparedStatementInfo = new PreparedStatementInfo();
+        preparedStatementInfo.setNativeSql("SELECT * FROM t WHERE a = ? AND b = ? AND c = ?");
+        preparedStatementInfo.setStatement(mock(PreparedStatement.class));
+        proxyPreparedStatement = new ProxyPreparedStatement(mock(SqlXDataSource.class), preparedStatementInfo, eventListener);
+    }
+
+    @Test
+    void testListenerIsNotifiedWithoutParameterCapture() throws SQLException {
+        proxyPreparedStatement.setInt(1, 10);
+        proxyPreparedStatement.setString(2, "x");
+        proxyPreparedStatement.setNull(3, Types.VARCHAR);
+
+        verify(eventListener).onAfterPreparedStatementSet(preparedStatementInfo, 1, 10, null);
+        verify(eventListener).onAfterPreparedStatementSet(preparedStatementInfo, 2, "x", null);
+        verify(eventListener).onAfterPreparedStatementSet(preparedStatementInfo, 3, null, null);
+        assertThat(preparedStatementInfo.getParameterValues()).isNull();
+    }
+
+    @Test
+    void testFloatKeepsItsPrecision() throws SQLException {
+        preparedStatementInfo.enableParameterCapture(ParameterCapturePolicy.ALL);
+
+        proxyPreparedStatement.setFloat(1, 1.1f);
+        proxyPreparedStatement.setDouble(2, 1.1D);
+        proxyPreparedStatement.setNull(3, Types.VARCHAR);
+
+        verify(eventListener).onAfterPreparedStatementSet(preparedStatementInfo, 1, 1.1f, null);
+        assertThat(preparedStatementInfo.getParameterValues().getValue(0)).isEqualTo(1.1f);
+        assertThat(preparedStatementInfo.getSqlWithValues()).isEqualTo("SELECT * FROM t WHERE a = 1.1 AND b = 1.1 AND c = NULL");
+    }
+}
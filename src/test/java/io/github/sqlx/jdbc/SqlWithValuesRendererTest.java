@@ -0,0 +1,113 @@
+package io.github.sqlx.jdbc;
+
+import io.github.sqlx.sql.PlaceholderIndex;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SqlWithValuesRenderer} and {@link LiteralFormatters}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class SqlWithValuesRendererTest {
+
+    private static String render(SqlWithValuesRenderer renderer, String sql, LiteralFormatter formatter, Object... values) {
+        ParameterValues parameterValues = new ParameterValues();
+        for (int i = 0; i < values.length; i++) {
+            parameterValues.setObject(i, values[i]);
+        }
+        return renderer.render(sql, PlaceholderIndex.of(sql), parameterValues, formatter);
+    }
+
+    @Test
+    void testRender() {
+        String sql = "SELECT * FROM t WHERE a = ? AND b = ? AND c = '?' AND d = ?";
+        ParameterValues values = new ParameterValues();
+        values.setLong(0, 1L);
+        values.setObject(1, "it's");
+
+        String rendered = SqlWithValuesRenderer.DEFAULT.render(sql, PlaceholderIndex.of(sql), values, LiteralFormatters.ANSI);
+
+        assertThat(rendered).isEqualTo("SELECT * FROM t WHERE a = 1 AND b = 'it''s' AND c = '?' AND d = ?");
+    }
+
+    @Test
+    void testValueLengthCap() {
+        SqlWithValuesRenderer renderer = new SqlWithValuesRenderer(4, 1024);
+        char[] chars = new char[10_000];
+        Arrays.fill(chars, 'x');
+
+        String rendered = render(renderer, "INSERT INTO t VALUES (?, ?)", LiteralFormatters.ANSI, new String(chars), new byte[10_000]);
+
+        assertThat(rendered).isEqualTo("INSERT INTO t VALUES ('xxxx'...(10000 chars), X'0000'...(10000 bytes))");
+    }
+
+    @Test
+    void testTotalLengthCap() {
+        SqlWithValuesRenderer renderer = new SqlWithValuesRenderer(256, 20);
+
+        String rendered = render(renderer, "SELECT * FROM some_table WHERE a = ?", LiteralFormatters.ANSI, 1);
+
+        assertThat(rendered).isEqualTo("SELECT * FROM some_t...");
+    }
+
+    @Test
+    void testDialectLiterals() {
+        Timestamp timestamp = Timestamp.valueOf("2024-01-02 03:04:05.0");
+        byte[] bytes = {0x0A, (byte) 0xFF};
+        String sql = "SELECT ?, ?, ?, ?";
+
+        assertThat(render(SqlWithValuesRenderer.DEFAULT, sql, LiteralFormatters.ANSI, timestamp, LocalDate.of(2024, 1, 2), bytes, true))
+                .isEqualTo("SELECT TIMESTAMP '2024-01-02 03:04:05.0', DATE '2024-01-02', X'0AFF', TRUE");
+        assertThat(render(SqlWithValuesRenderer.DEFAULT, sql, LiteralFormatters.MYSQL, timestamp, "a\\b", bytes, true))
+                .isEqualTo("SELECT TIMESTAMP '2024-01-02 03:04:05.0', 'a\\\\b', 0x0AFF, TRUE");
+        assertThat(render(SqlWithValuesRenderer.DEFAULT, sql, LiteralFormatters.POSTGRESQL, timestamp, "a\\b", bytes, true))
+                .isEqualTo("SELECT TIMESTAMP '2024-01-02 03:04:05.0', 'a\\b', '\\x0AFF'::bytea, TRUE");
+        assertThat(render(SqlWithValuesRenderer.DEFAULT, sql, LiteralFormatters.ORACLE, timestamp, LocalDate.of(2024, 1, 2), bytes, true))
+                .isEqualTo("SELECT TIMESTAMP '2024-01-02 03:04:05.0', DATE '2024-01-02', HEXTORAW('0AFF'), 1");
+        assertThat(render(SqlWithValuesRenderer.DEFAULT, sql, LiteralFormatters.SQLSERVER, timestamp, LocalDate.of(2024, 1, 2), bytes, false))
+                .isEqualTo("SELECT '2024-01-02 03:04:05.0', '2024-01-02', 0x0AFF, 0");
+    }
+
+    @Test
+    void testForDatabaseType() {
+        assertThat(LiteralFormatters.forDatabaseType("mysql")).isSameAs(LiteralFormatters.MYSQL);
+        assertThat(LiteralFormatters.forDatabaseType("h2")).isSameAs(LiteralFormatters.ANSI);
+        assertThat(LiteralFormatters.forDatabaseType(null)).isSameAs(LiteralFormatters.ANSI);
+        assertThat(LiteralFormatters.MYSQL.isBackslashEscapes()).isTrue();
+        assertThat(LiteralFormatters.POSTGRESQL.isBackslashEscapes()).isFalse();
+        assertThat(LiteralFormatters.ANSI.isBackslashEscapes()).isFalse();
+    }
+
+    @Test
+    void testRenderNamed() {
+        ParameterValues values = new ParameterValues();
+        values.setLong(0, 1L);
+        Map<String, Object> named = new LinkedHashMap<>();
+        named.put("name", "x");
+
+        String rendered = SqlWithValuesRenderer.DEFAULT.renderNamed("{call p(?, ?)}", values, named, LiteralFormatters.ANSI);
+
+        assertThat(rendered).isEqualTo("{call p(?, ?)} 0:1, name:'x'");
+    }
+
+    @Test
+    void testPreparedStatementInfo() {
+        PreparedStatementInfo info = new PreparedStatementInfo();
+        info.setNativeSql("SELECT * FROM t WHERE id = ?");
+        info.setParameterValue(1, 10L);
+        assertThat(info.getSqlWithValues()).isEqualTo("SELECT * FROM t WHERE id = ?");
+
+        info.enableParameterCapture(ParameterCapturePolicy.ALL);
+        info.setParameterValue(1, 10L);
+        assertThat(info.getSqlWithValues()).isEqualTo("SELECT * FROM t WHERE id = 10");
+    }
+}
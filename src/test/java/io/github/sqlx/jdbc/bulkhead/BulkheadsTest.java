@@ -0,0 +1,251 @@
+package io.github.sqlx.jdbc.bulkhead;
+
+import io.github.sqlx.NodeAttribute;
+import io.github.sqlx.NodeState;
+import io.github.sqlx.cluster.Cluster;
+import io.github.sqlx.config.BulkheadConfiguration;
+import io.github.sqlx.config.ClusterConfiguration;
+import io.github.sqlx.config.DataSourceConfiguration;
+import io.github.sqlx.config.SqlXConfiguration;
+import io.github.sqlx.exception.BulkheadFullException;
+import io.github.sqlx.loadbalance.WeightRandomLoadBalance;
+import io.github.sqlx.metrics.meter.PrometheusExposition;
+import io.github.sqlx.metrics.meter.SqlXMeters;
+import io.github.sqlx.rule.RouteInfo;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link Bulkheads}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class BulkheadsTest {
+
+    @Test
+    void testFullNodeRejectsAtOnce() throws SQLException {
+        Bulkheads bulkheads = new Bulkheads(configuration(bulkhead(), 1, null));
+        RouteInfo routeInfo = routeInfo("cluster_0", node("node_0"));
+
+        Bulkheads.Permit permit = bulkheads.acquire(routeInfo);
+        assertThatThrownBy(() -> bulkheads.acquire(routeInfo)).isInstanceOf(BulkheadFullException.class);
+
+        Bulkhead node = bulkheads.getNodes().iterator().next();
+        assertThat(node.getInFlight()).isEqualTo(1);
+        assertThat(node.getRejections()).isEqualTo(1);
+        assertThat(bulkheads.isSaturated(routeInfo.getHitNodeAttr())).isTrue();
+
+        permit.release(false);
+        permit.release(false);
+        assertThat(node.getInFlight()).isZero();
+        bulkheads.acquire(routeInfo).release(false);
+    }
+
+    @Test
+    void testQueuedStatementGetsReleasedPermit() throws Exception {
+        BulkheadConfiguration configuration = bulkhead();
+        configuration.setMaxWaitMillis(5_000L);
+        Bulkheads bulkheads = new Bulkheads(configuration(configuration, 1, null));
+        RouteInfo routeInfo = routeInfo("cluster_0", node("node_0"));
+        Bulkhead node = bulkheads.getNodes().iterator().next();
+
+        Bulkheads.Permit permit = bulkheads.acquire(routeInfo);
+        CompletableFuture<Bulkheads.Permit> queued = CompletableFuture.supplyAsync(() -> {
+            try {
+                return bulkheads.acquire(routeInfo);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (node.getQueued() == 0) {
+            Thread.sleep(1);
+        }
+        permit.release(false);
+
+        queued.get(5, TimeUnit.SECONDS).release(false);
+        assertThat(node.getRejections()).isZero();
+        assertThat(node.getInFlight()).isZero();
+    }
+
+    @Test
+    void testQueueIsBounded() throws Exception {
+        BulkheadConfiguration configuration = bulkhead();
+        configuration.setMaxWaitMillis(50L);
+        configuration.setMaxQueueSize(0);
+        Bulkheads bulkheads = new Bulkheads(configuration(configuration, 1, null));
+        RouteInfo routeInfo = routeInfo("cluster_0", node("node_0"));
+
+        Bulkheads.Permit permit = bulkheads.acquire(routeInfo);
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> bulkheads.acquire(routeInfo)).isInstanceOf(BulkheadFullException.class);
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.MILLISECONDS.toNanos(50L));
+        permit.release(false);
+
+        configuration.setMaxQueueSize(1);
+        Bulkheads waiting = new Bulkheads(configuration(configuration, 1, null));
+        Bulkheads.Permit held = waiting.acquire(routeInfo);
+        assertThatThrownBy(() -> waiting.acquire(routeInfo)).isInstanceOf(BulkheadFullException.class);
+        held.release(false);
+    }
+
+    @Test
+    void testClusterPermitIsReturnedWhenNodeRejects() throws SQLException {
+        Bulkheads bulkheads = new Bulkheads(configuration(bulkhead(), 1, 10));
+        RouteInfo routeInfo = routeInfo("cluster_0", node("node_0"));
+
+        Bulkheads.Permit permit = bulkheads.acquire(routeInfo);
+        assertThatThrownBy(() -> bulkheads.acquire(routeInfo)).isInstanceOf(BulkheadFullException.class);
+
+        Bulkhead cluster = bulkheads.getClusters().iterator().next();
+        assertThat(cluster.getInFlight()).isEqualTo(1);
+        permit.release(false);
+        assertThat(cluster.getInFlight()).isZero();
+    }
+
+    @Test
+    void testExecuteReleasesPermitWhenStatementFails() {
+        Bulkheads bulkheads = new Bulkheads(configuration(bulkhead(), 1, null));
+        RouteInfo routeInfo = routeInfo("cluster_0", node("node_0"));
+
+        assertThatThrownBy(() -> bulkheads.execute(routeInfo, () -> {
+            throw new SQLException("boom");
+        })).hasMessage("boom");
+        assertThat(bulkheads.getNodes().iterator().next().getInFlight()).isZero();
+    }
+
+    @Test
+    void testDisabledBulkheadsDoNotBound() throws SQLException {
+        BulkheadConfiguration configuration = bulkhead();
+        configuration.setEnabled(false);
+        Bulkheads bulkheads = new Bulkheads(configuration(configuration, 1, 1));
+        RouteInfo routeInfo = routeInfo("cluster_0", node("node_0"));
+
+        assertThat(bulkheads.acquire(routeInfo)).isSameAs(Bulkheads.Permit.NONE);
+        assertThat(bulkheads.acquire(routeInfo)).isSameAs(Bulkheads.Permit.NONE);
+        assertThat(bulkheads.getNodes()).isEmpty();
+    }
+
+    @Test
+    void testAdaptiveLimitBacksOffOnSlowStatementsAndRecovers() {
+        AdaptiveLimit limit = new AdaptiveLimit(2, 10, 2.0D, 0.5D);
+        limit.onSample(1_000_000L, 1);
+        assertThat(limit.getLimit()).isEqualTo(10);
+
+        limit.onSample(10_000_000L, 10);
+        assertThat(limit.getLimit()).isEqualTo(5);
+        limit.onSample(10_000_000L, 5);
+        limit.onSample(10_000_000L, 5);
+        assertThat(limit.getLimit()).isEqualTo(2);
+
+        for (int i = 0; i < 1_000; i++) {
+            limit.onSample(1_000_000L, limit.getLimit());
+        }
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void testLoadBalanceAvoidsSaturatedNode() throws SQLException {
+        NodeAttribute slow = node("node_0");
+        NodeAttribute healthy = node("node_1");
+        Bulkheads bulkheads = new Bulkheads(configuration(bulkhead(), 1, null, "node_0", "node_1"));
+        WeightRandomLoadBalance loadBalance = new WeightRandomLoadBalance(new HashSet<>(Arrays.asList(slow, healthy)));
+        loadBalance.addNodeAdmission(bulkheads);
+
+        Bulkheads.Permit permit = bulkheads.acquire(routeInfo("cluster_0", slow));
+        for (int i = 0; i < 100; i++) {
+            assertThat(loadBalance.choose()).isSameAs(healthy);
+        }
+
+        Bulkheads.Permit other = bulkheads.acquire(routeInfo("cluster_0", healthy));
+        assertThat(loadBalance.choose()).isIn(slow, healthy);
+        permit.release(false);
+        other.release(false);
+    }
+
+    @Test
+    void testRejectionKeepsNodeSaturatedForPenalty() throws SQLException {
+        BulkheadConfiguration configuration = bulkhead();
+        configuration.setRejectionPenaltyMillis(60_000L);
+        Bulkheads bulkheads = new Bulkheads(configuration(configuration, 1, null));
+        RouteInfo routeInfo = routeInfo("cluster_0", node("node_0"));
+
+        Bulkheads.Permit permit = bulkheads.acquire(routeInfo);
+        assertThatThrownBy(() -> bulkheads.acquire(routeInfo)).isInstanceOf(BulkheadFullException.class);
+        permit.release(false);
+
+        assertThat(bulkheads.getNodes().iterator().next().getInFlight()).isZero();
+        assertThat(bulkheads.isSaturated(routeInfo.getHitNodeAttr())).isTrue();
+    }
+
+    @Test
+    void testMetersExposeBulkheads() throws SQLException {
+        Bulkheads bulkheads = new Bulkheads(configuration(bulkhead(), 1, 5));
+        RouteInfo routeInfo = routeInfo("cluster_0", node("node_0"));
+        SqlXMeters meters = new SqlXMeters();
+        meters.setBulkheads(bulkheads);
+
+        Bulkheads.Permit permit = bulkheads.acquire(routeInfo);
+        assertThatThrownBy(() -> bulkheads.acquire(routeInfo)).isInstanceOf(BulkheadFullException.class);
+        String text = PrometheusExposition.write(meters);
+        permit.release(false);
+
+        assertThat(text)
+                .contains("sqlx_node_bulkhead_limit{node=\"node_0\"} 1\n")
+                .contains("sqlx_node_bulkhead_in_flight{node=\"node_0\"} 1\n")
+                .contains("sqlx_node_bulkhead_queued{node=\"node_0\"} 0\n")
+                .contains("sqlx_node_bulkhead_rejections_total{node=\"node_0\"} 1\n")
+                .contains("sqlx_cluster_bulkhead_in_flight{cluster=\"cluster_0\"} 1\n")
+                .contains("# TYPE sqlx_cluster_bulkhead_rejections_total counter\n");
+    }
+
+    private static BulkheadConfiguration bulkhead() {
+        BulkheadConfiguration configuration = new BulkheadConfiguration();
+        configuration.setEnabled(true);
+        return configuration;
+    }
+
+    private static SqlXConfiguration configuration(BulkheadConfiguration bulkhead, Integer nodeLimit, Integer clusterLimit, String... nodes) {
+        SqlXConfiguration configuration = new SqlXConfiguration();
+        configuration.setBulkhead(bulkhead);
+        for (String name : nodes.length == 0 ? new String[]{"node_0"} : nodes) {
+            DataSourceConfiguration dsConf = new DataSourceConfiguration();
+            dsConf.setName(name);
+            dsConf.setMaxConcurrency(nodeLimit);
+            configuration.getDataSources().add(dsConf);
+        }
+        ClusterConfiguration cc = new ClusterConfiguration();
+        cc.setName("cluster_0");
+        cc.setMaxConcurrency(clusterLimit);
+        configuration.setClusters(Collections.singletonList(cc));
+        return configuration;
+    }
+
+    private static NodeAttribute node(String name) {
+        NodeAttribute node = mock(NodeAttribute.class);
+        when(node.getName()).thenReturn(name);
+        when(node.getWeight()).thenReturn(1.0D);
+        when(node.getNodeState()).thenReturn(NodeState.UP);
+        return node;
+    }
+
+    private static RouteInfo routeInfo(String clusterName, NodeAttribute node) {
+        Cluster cluster = new Cluster();
+        cluster.setName(clusterName);
+        RouteInfo routeInfo = new RouteInfo();
+        routeInfo.setCluster(cluster);
+        routeInfo.setHitNodeAttr(node);
+        return routeInfo;
+    }
+}
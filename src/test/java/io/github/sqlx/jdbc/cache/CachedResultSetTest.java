@@ -0,0 +1,148 @@
+package io.github.sqlx.jdbc.cache;
+
+import io.github.sqlx.exception.UnsupportedJdbcMethodException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link ColumnarRows} and {@link CachedResultSet}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class CachedResultSetTest {
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:cached_result_set_test;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE t_item (id BIGINT, qty INT, price DECIMAL(10, 2), ratio DOUBLE, "
+                    + "status VARCHAR(16), created TIMESTAMP, payload CLOB)");
+            statement.execute("INSERT INTO t_item VALUES (1, 10, 1.50, 0.5, 'NEW', TIMESTAMP '2024-01-01 10:00:00', 'x')");
+            statement.execute("INSERT INTO t_item VALUES (2, NULL, 2.25, NULL, 'NEW', NULL, NULL)");
+            statement.execute("INSERT INTO t_item VALUES (3, 30, NULL, 1.5, NULL, TIMESTAMP '2024-01-03 10:00:00', NULL)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE t_item");
+        }
+        connection.close();
+    }
+
+    @Test
+    void testReadsTypedValuesAndNulls() throws SQLException {
+        ResultSet rs = new CachedResultSet(rows("SELECT id, qty, price, ratio, status, created FROM t_item ORDER BY id"), null);
+
+        assertThat(rs.next()).isTrue();
+        assertThat(rs.getLong(1)).isEqualTo(1L);
+        assertThat(rs.getObject("id")).isEqualTo(1L);
+        assertThat(rs.getInt("QTY")).isEqualTo(10);
+        assertThat(rs.getObject("qty")).isEqualTo(10);
+        assertThat(rs.getBigDecimal("price")).isEqualByComparingTo(new BigDecimal("1.50"));
+        assertThat(rs.getDouble("ratio")).isEqualTo(0.5D);
+        assertThat(rs.getString("status")).isEqualTo("NEW");
+        assertThat(rs.getTimestamp("created")).isEqualTo(Timestamp.valueOf("2024-01-01 10:00:00"));
+
+        assertThat(rs.next()).isTrue();
+        assertThat(rs.getInt("qty")).isZero();
+        assertThat(rs.wasNull()).isTrue();
+        assertThat(rs.getObject("ratio")).isNull();
+        assertThat(rs.getString("status")).isEqualTo("NEW");
+        assertThat(rs.getTimestamp("created")).isNull();
+
+        assertThat(rs.next()).isTrue();
+        assertThat(rs.getBigDecimal("price")).isNull();
+        assertThat(rs.getString("status")).isNull();
+        assertThat(rs.next()).isFalse();
+    }
+
+    @Test
+    void testScrolling() throws SQLException {
+        ResultSet rs = new CachedResultSet(rows("SELECT id FROM t_item ORDER BY id"), null);
+
+        assertThat(rs.getType()).isEqualTo(ResultSet.TYPE_SCROLL_INSENSITIVE);
+        assertThat(rs.last()).isTrue();
+        assertThat(rs.getRow()).isEqualTo(3);
+        assertThat(rs.getLong(1)).isEqualTo(3L);
+        assertThat(rs.absolute(1)).isTrue();
+        assertThat(rs.getLong(1)).isEqualTo(1L);
+        rs.afterLast();
+        assertThat(rs.previous()).isTrue();
+        assertThat(rs.getLong(1)).isEqualTo(3L);
+        rs.beforeFirst();
+        assertThat(rs.isBeforeFirst()).isTrue();
+    }
+
+    @Test
+    void testReturnedResultSetsDoNotShareCursor() throws SQLException {
+        ColumnarRows rows = rows("SELECT id FROM t_item ORDER BY id");
+        ResultSet first = new CachedResultSet(rows, null);
+        ResultSet second = new CachedResultSet(rows, null);
+
+        first.next();
+        first.next();
+        second.next();
+
+        assertThat(first.getLong(1)).isEqualTo(2L);
+        assertThat(second.getLong(1)).isEqualTo(1L);
+        assertThat(second.getMetaData().getColumnLabel(1)).isEqualToIgnoringCase("id");
+    }
+
+    @Test
+    void testLobColumnsAreNotCached() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT id, payload FROM t_item")) {
+            assertThat(ColumnarRows.builder(rs.getMetaData(), Long.MAX_VALUE)).isNull();
+        }
+    }
+
+    @Test
+    void testEntryLimit() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT id, status FROM t_item")) {
+            ColumnarRows.Builder builder = ColumnarRows.builder(rs.getMetaData(), 16);
+            while (builder.isStorable() && rs.next()) {
+                builder.add(rs);
+            }
+            assertThat(builder.isStorable()).isFalse();
+            assertThat(builder.build().getRowCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testUpdatesAreUnsupported() throws SQLException {
+        ResultSet rs = new CachedResultSet(rows("SELECT id FROM t_item"), null);
+        rs.next();
+
+        assertThatThrownBy(() -> rs.updateLong(1, 5L)).isInstanceOf(UnsupportedJdbcMethodException.class);
+    }
+
+    private ColumnarRows rows(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            ColumnarRows.Builder builder = ColumnarRows.builder(rs.getMetaData(), Long.MAX_VALUE);
+            while (rs.next()) {
+                builder.add(rs);
+            }
+            assertThat(builder.isStorable()).isTrue();
+            return builder.build();
+        }
+    }
+}
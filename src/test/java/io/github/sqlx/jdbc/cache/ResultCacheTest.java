@@ -0,0 +1,273 @@
+package io.github.sqlx.jdbc.cache;
+
+import io.github.sqlx.cluster.Cluster;
+import io.github.sqlx.config.ResultCacheConfiguration;
+import io.github.sqlx.jdbc.MergedResultSet;
+import io.github.sqlx.jdbc.ParameterValues;
+import io.github.sqlx.jdbc.StatementInfo;
+import io.github.sqlx.jdbc.transaction.Transaction;
+import io.github.sqlx.rule.RouteInfo;
+import io.github.sqlx.sql.SqlAttribute;
+import io.github.sqlx.sql.SqlType;
+import io.github.sqlx.sql.parser.AnnotationSqlParser;
+import io.github.sqlx.sql.parser.DefaultAnnotationSqlHintParser;
+import io.github.sqlx.sql.parser.JSqlParser;
+import io.github.sqlx.sql.parser.SqlParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ResultCache}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class ResultCacheTest {
+
+    private static final SqlParser SQL_PARSER = new AnnotationSqlParser(new JSqlParser(), new DefaultAnnotationSqlHintParser());
+
+    private Connection connection;
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:result_cache_test;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE t_user (id INT, name VARCHAR(32))");
+            statement.execute("INSERT INTO t_user VALUES (1, 'a'), (2, 'b'), (3, NULL)");
+            statement.execute("CREATE TABLE t_order (id INT, user_id INT)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE t_user");
+            statement.execute("DROP TABLE t_order");
+        }
+        connection.close();
+    }
+
+    @Test
+    void testHitReturnsCachedRowsWithoutExecution() throws SQLException {
+        ResultCache cache = new ResultCache(configuration(), Collections.singleton("cluster_0"));
+        StatementInfo statementInfo = statementInfo("select id, name from t_user order by id");
+
+        assertThat(names(query(cache, statementInfo, null))).containsExactly("a", "b", null);
+        assertThat(names(query(cache, statementInfo, null))).containsExactly("a", "b", null);
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getEntryCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testParametersArePartOfTheKey() throws SQLException {
+        ResultCache cache = new ResultCache(configuration(), Collections.singleton("cluster_0"));
+        StatementInfo statementInfo = statementInfo("select id, name from t_user where id = ?");
+
+        assertThat(names(query(cache, statementInfo, values(1)))).containsExactly("a");
+        assertThat(names(query(cache, statementInfo, values(2)))).containsExactly("b");
+        assertThat(names(query(cache, statementInfo, values(1)))).containsExactly("a");
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testUncacheableParameterBypassesCache() throws SQLException {
+        ResultCache cache = new ResultCache(configuration(), Collections.singleton("cluster_0"));
+        StatementInfo statementInfo = statementInfo("select id, name from t_user");
+        ParameterValues values = new ParameterValues();
+        values.setObject(0, new ByteArrayInputStream(new byte[0]));
+
+        cache.executeQuery(statementInfo, null, values, () -> {
+            executions.incrementAndGet();
+            return connection.createStatement().executeQuery("select id, name from t_user");
+        }).close();
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isZero();
+        assertThat(cache.getEntryCount()).isZero();
+    }
+
+    @Test
+    void testWriteInvalidatesResultsOfWrittenTables() throws SQLException {
+        ResultCache cache = new ResultCache(configuration(), Collections.singleton("cluster_0"));
+        StatementInfo users = statementInfo("select id, name from t_user order by id");
+        StatementInfo orders = statementInfo("select id from t_order");
+        query(cache, users, null).close();
+        query(cache, orders, null).close();
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("UPDATE t_user SET name = 'x' WHERE id = 1");
+        }
+        cache.invalidate(SQL_PARSER.parse("UPDATE t_user SET name = 'x' WHERE id = 1"));
+
+        assertThat(cache.getInvalidationCount()).isEqualTo(1);
+        assertThat(names(query(cache, users, null))).containsExactly("x", "b", null);
+        query(cache, orders, null).close();
+        assertThat(executions.get()).isEqualTo(3);
+    }
+
+    @Test
+    void testStatementWithUnknownTablesInvalidatesEverything() throws SQLException {
+        ResultCache cache = new ResultCache(configuration(), Collections.singleton("cluster_0"));
+        query(cache, statementInfo("select id, name from t_user"), null).close();
+
+        cache.invalidate(unknownWrite("SET @x = 1"));
+        assertThat(cache.getEntryCount()).isEqualTo(1);
+
+        cache.invalidate(unknownWrite("CALL refresh_users()"));
+        assertThat(cache.getEntryCount()).isZero();
+        assertThat(cache.getUsedBytes()).isZero();
+    }
+
+    @Test
+    void testOversizedResultIsStreamedAndNotCached() throws SQLException {
+        ResultCacheConfiguration configuration = configuration();
+        configuration.setMaxEntryBytes(64L);
+        ResultCache cache = new ResultCache(configuration, Collections.singleton("cluster_0"));
+        StatementInfo statementInfo = statementInfo("select id, name from t_user order by id");
+
+        ResultSet rs = query(cache, statementInfo, null);
+
+        assertThat(rs).isInstanceOf(MergedResultSet.class);
+        assertThat(names(rs)).containsExactly("a", "b", null);
+        assertThat(cache.getEntryCount()).isZero();
+    }
+
+    @Test
+    void testEvictionKeepsMemoryWithinBudget() throws SQLException {
+        ResultCacheConfiguration configuration = configuration();
+        ResultCache cache = new ResultCache(configuration, Collections.singleton("cluster_0"));
+        query(cache, statementInfo("select id, name from t_user where id = 1"), null).close();
+        long entryBytes = cache.getUsedBytes();
+        configuration.setMaxMemoryBytes(entryBytes * 2 + entryBytes / 2);
+        cache = new ResultCache(configuration, Collections.singleton("cluster_0"));
+
+        for (int i = 1; i <= 3; i++) {
+            query(cache, statementInfo("select id, name from t_user where id = " + i), null).close();
+        }
+
+        assertThat(cache.getEntryCount()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.getUsedBytes()).isLessThanOrEqualTo(configuration.getMaxMemoryBytes());
+    }
+
+    @Test
+    void testIsCacheable() {
+        ResultCacheConfiguration configuration = configuration();
+        configuration.setTables(new HashSet<>(Collections.singletonList("t_user")));
+        ResultCache cache = new ResultCache(configuration, Collections.singleton("cluster_0"));
+
+        assertThat(cache.isCacheable(routeInfo("select * from t_order", "cluster_0"))).isTrue();
+        assertThat(cache.isCacheable(routeInfo("select * from t_order", "cluster_1"))).isFalse();
+        assertThat(cache.isCacheable(routeInfo("select * from `T_USER`", "cluster_1"))).isTrue();
+        assertThat(cache.isCacheable(routeInfo("select * from t_user u join t_order o on u.id = o.user_id", "cluster_1"))).isFalse();
+        assertThat(cache.isCacheable(routeInfo("/*!cache=true;*/ select * from t_order", "cluster_1"))).isTrue();
+        assertThat(cache.isCacheable(routeInfo("/*!cache=false;*/ select * from t_order", "cluster_0"))).isFalse();
+        assertThat(cache.isCacheable(routeInfo("update t_order set user_id = 1", "cluster_0"))).isFalse();
+
+        RouteInfo inTransaction = routeInfo("select * from t_order", "cluster_0");
+        inTransaction.setIsTransactionActive(true);
+        assertThat(cache.isCacheable(inTransaction)).isFalse();
+    }
+
+    @Test
+    void testQueriesAreNotCacheableWhileTheTransactionIsActive() {
+        ResultCache cache = new ResultCache(configuration(), Collections.singleton("cluster_0"));
+        Transaction transaction = mock(Transaction.class);
+        cache.setTransaction(transaction);
+
+        assertThat(cache.isTransactionActive()).isFalse();
+        assertThat(cache.isCacheable(routeInfo("select * from t_order", "cluster_0"))).isTrue();
+
+        when(transaction.isActive()).thenReturn(true);
+        assertThat(cache.isTransactionActive()).isTrue();
+        assertThat(cache.isCacheable(routeInfo("select * from t_order", "cluster_0"))).isFalse();
+    }
+
+    private ResultSet query(ResultCache cache, StatementInfo statementInfo, ParameterValues values) throws SQLException {
+        return cache.executeQuery(statementInfo, null, values, () -> {
+            executions.incrementAndGet();
+            PreparedStatement ps = connection.prepareStatement(statementInfo.getNativeSql());
+            for (int i = 0; values != null && i < values.size(); i++) {
+                ps.setObject(i + 1, values.getValue(i));
+            }
+            return ps.executeQuery();
+        });
+    }
+
+    private static ResultCacheConfiguration configuration() {
+        ResultCacheConfiguration configuration = new ResultCacheConfiguration();
+        configuration.setEnabled(true);
+        return configuration;
+    }
+
+    private static StatementInfo statementInfo(String sql) {
+        RouteInfo routeInfo = routeInfo(sql, "cluster_0");
+        StatementInfo statementInfo = new StatementInfo();
+        statementInfo.setRouteInfo(routeInfo);
+        statementInfo.setSql(sql);
+        statementInfo.setNativeSql(routeInfo.getSqlAttribute().getNativeSql());
+        return statementInfo;
+    }
+
+    private static RouteInfo routeInfo(String sql, String clusterName) {
+        SqlAttribute sqlAttribute = SQL_PARSER.parse(sql);
+        Cluster cluster = new Cluster();
+        cluster.setName(clusterName);
+        RouteInfo routeInfo = new RouteInfo();
+        routeInfo.setSql(sql);
+        routeInfo.setSqlAttribute(sqlAttribute);
+        routeInfo.setCluster(cluster);
+        routeInfo.setIsTransactionActive(false);
+        return routeInfo;
+    }
+
+    private static SqlAttribute unknownWrite(String sql) {
+        SqlAttribute sqlAttribute = mock(SqlAttribute.class);
+        when(sqlAttribute.isWrite()).thenReturn(true);
+        when(sqlAttribute.getSqlType()).thenReturn(SqlType.OTHER);
+        when(sqlAttribute.getNativeSql()).thenReturn(sql);
+        return sqlAttribute;
+    }
+
+    private static ParameterValues values(Object... values) {
+        ParameterValues parameterValues = new ParameterValues();
+        for (int i = 0; i < values.length; i++) {
+            parameterValues.setObject(i, values[i]);
+        }
+        return parameterValues;
+    }
+
+    private static List<String> names(ResultSet rs) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try {
+            while (rs.next()) {
+                names.add(rs.getString("name"));
+            }
+        } finally {
+            rs.close();
+        }
+        return names;
+    }
+}
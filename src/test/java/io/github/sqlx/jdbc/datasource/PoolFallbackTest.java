@@ -0,0 +1,139 @@
+package io.github.sqlx.jdbc.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.sqlx.NodeState;
+import io.github.sqlx.cluster.Cluster;
+import io.github.sqlx.config.SqlXConfiguration;
+import io.github.sqlx.rule.RouteInfo;
+import io.github.sqlx.sql.SqlAttribute;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link PoolFallback}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class PoolFallbackTest {
+
+    private HikariDataSource pool;
+
+    private DataSourceWrapper dataSource;
+
+    private PoolFallback poolFallback;
+
+    @BeforeEach
+    void setUp() {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:pool_fallback_test;DB_CLOSE_DELAY=-1");
+        pool.setMaximumPoolSize(1);
+        pool.setConnectionTimeout(1_000L);
+        dataSource = new DataSourceWrapper("read_0", pool, attribute("read_0"), false);
+        DatasourceManager datasourceManager = mock(DatasourceManager.class);
+        when(datasourceManager.getDataSource("read_0")).thenReturn(dataSource);
+
+        SqlXConfiguration configuration = new SqlXConfiguration();
+        configuration.getPoolFallback().setEnabled(true);
+        configuration.getPoolFallback().setAcquireBudgetMillis(50L);
+        configuration.getPoolFallback().setSaturationPenaltyMillis(60_000L);
+        poolFallback = new PoolFallback(configuration, datasourceManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void testPoolReportsItsCapacity() throws SQLException {
+        assertThat(PoolFallback.hasCapacity(dataSource)).isNull();
+        try (Connection connection = pool.getConnection()) {
+            assertThat(PoolFallback.hasCapacity(dataSource)).isFalse();
+            assertThat(poolFallback.isSaturated(attribute("read_0"))).isTrue();
+        }
+        assertThat(PoolFallback.hasCapacity(dataSource)).isTrue();
+        assertThat(poolFallback.isSaturated(attribute("read_0"))).isFalse();
+        assertThat(PoolFallback.hasCapacity(mock(javax.sql.DataSource.class))).isNull();
+    }
+
+    @Test
+    void testAcquireWithinBudget() throws SQLException {
+        pool.getConnection().close();
+
+        try (Connection connection = poolFallback.acquire("read_0", dataSource, dataSource::getConnection)) {
+            assertThat(connection).isNotNull();
+        }
+    }
+
+    @Test
+    void testBudgetExceededReturnsLateConnectionToPool() throws Exception {
+        Connection held = pool.getConnection();
+        long start = System.nanoTime();
+
+        assertThat(poolFallback.acquire("read_0", dataSource, dataSource::getConnection)).isNull();
+        assertThat((System.nanoTime() - start) / 1_000_000L).isLessThan(1_000L);
+
+        held.close();
+        long deadline = System.currentTimeMillis() + 2_000L;
+        while (pool.getHikariPoolMXBean().getActiveConnections() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertThat(pool.getHikariPoolMXBean().getActiveConnections()).isZero();
+        assertThat(pool.getHikariPoolMXBean().getIdleConnections()).isEqualTo(1);
+    }
+
+    @Test
+    void testSaturatedNodeIsAvoidedAndExcludedWhileRoutedAgain() {
+        DataSourceAttribute node = attribute("read_0");
+        assertThat(poolFallback.isExcluded(node)).isFalse();
+
+        poolFallback.markSaturated("read_0");
+
+        assertThat(poolFallback.isSaturated(node)).isTrue();
+        assertThat(poolFallback.excluding("read_0", () -> poolFallback.isExcluded(node))).isTrue();
+        assertThat(poolFallback.isExcluded(node)).isFalse();
+    }
+
+    @Test
+    void testOnlyReadsOutsideOfTransactionsFallBack() {
+        assertThat(poolFallback.isEligible(routeInfo(true, false))).isTrue();
+        assertThat(poolFallback.isEligible(routeInfo(false, true))).isFalse();
+
+        RouteInfo inTransaction = routeInfo(true, false);
+        inTransaction.setIsTransactionActive(true);
+        assertThat(poolFallback.isEligible(inTransaction)).isFalse();
+
+        RouteInfo fallenBack = routeInfo(true, false);
+        fallenBack.setFallbackFrom("read_1");
+        assertThat(poolFallback.isEligible(fallenBack)).isFalse();
+
+        RouteInfo noCluster = routeInfo(true, false);
+        noCluster.setCluster(null);
+        assertThat(poolFallback.isEligible(noCluster)).isFalse();
+    }
+
+    private static RouteInfo routeInfo(boolean read, boolean write) {
+        SqlAttribute sqlAttribute = mock(SqlAttribute.class);
+        when(sqlAttribute.isRead()).thenReturn(read);
+        when(sqlAttribute.isWrite()).thenReturn(write);
+        RouteInfo routeInfo = new RouteInfo();
+        routeInfo.setSqlAttribute(sqlAttribute);
+        routeInfo.setCluster(new Cluster());
+        routeInfo.setHitNodeAttr(attribute("read_0"));
+        routeInfo.setIsTransactionActive(false);
+        return routeInfo;
+    }
+
+    private static DataSourceAttribute attribute(String name) {
+        return new DataSourceAttribute("jdbc:h2:mem:" + name, NodeState.UP, name, 1.0, "select 1", 1000, null);
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.sqlx.jdbc.timeout;
+
+import io.github.sqlx.NodeState;
+import io.github.sqlx.cluster.Cluster;
+import io.github.sqlx.config.ClusterConfiguration;
+import io.github.sqlx.config.DataSourceConfiguration;
+import io.github.sqlx.config.SqlXConfiguration;
+import io.github.sqlx.jdbc.datasource.DataSourceAttribute;
+import io.github.sqlx.rule.RouteInfo;
+import io.github.sqlx.sql.SqlAttribute;
+import io.github.sqlx.sql.SqlType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link QueryTimeouts}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class QueryTimeoutsTest {
+
+    private QueryTimeouts queryTimeouts;
+
+    @BeforeEach
+    void setUp() {
+        SqlXConfiguration configuration = new SqlXConfiguration();
+        configuration.getQueryTimeout().setEnabled(true);
+        configuration.getQueryTimeout().setWatchdogEnabled(false);
+        configuration.getQueryTimeout().setDefaultSeconds(60);
+        configuration.getQueryTimeout().getSqlTypeSeconds().put(SqlType.SELECT, 30);
+
+        DataSourceConfiguration analytics = new DataSourceConfiguration();
+        analytics.setName("read_analytics");
+        analytics.setQueryTimeoutSeconds(600);
+        DataSourceConfiguration read = new DataSourceConfiguration();
+        read.setName("read_0");
+        configuration.setDataSources(Arrays.asList(analytics, read));
+
+        ClusterConfiguration cluster = new ClusterConfiguration();
+        cluster.setName("cluster_oltp");
+        cluster.setQueryTimeoutSeconds(5);
+        configuration.setClusters(Collections.singletonList(cluster));
+        queryTimeouts = new QueryTimeouts(configuration);
+    }
+
+    @AfterEach
+    void tearDown() {
+        queryTimeouts.stop();
+    }
+
+    @Test
+    void testNodeOverridesClusterOverridesSqlTypeOverridesDefault() {
+        assertThat(queryTimeouts.resolve(routeInfo("read_analytics", "cluster_oltp", SqlType.SELECT))).isEqualTo(600);
+        assertThat(queryTimeouts.resolve(routeInfo("read_0", "cluster_oltp", SqlType.SELECT))).isEqualTo(5);
+        assertThat(queryTimeouts.resolve(routeInfo("read_0", "cluster_olap", SqlType.SELECT))).isEqualTo(30);
+        assertThat(queryTimeouts.resolve(routeInfo("read_0", "cluster_olap", SqlType.UPDATE))).isEqualTo(60);
+        assertThat(queryTimeouts.resolve(null)).isEqualTo(60);
+    }
+
+    @Test
+    void testApplyDefault() throws SQLException {
+        Statement statement = mock(Statement.class);
+
+        queryTimeouts.applyDefault(statement, routeInfo("read_0", "cluster_oltp", SqlType.SELECT));
+
+        verify(statement).setQueryTimeout(5);
+    }
+
+    @Test
+    void testDisabled() throws SQLException {
+        QueryTimeouts disabled = new QueryTimeouts(new SqlXConfiguration());
+        Statement statement = mock(Statement.class);
+
+        disabled.applyDefault(statement, routeInfo("read_0", "cluster_oltp", SqlType.SELECT));
+
+        assertThat(disabled.isEnabled()).isFalse();
+        verify(statement, never()).setQueryTimeout(anyInt());
+        assertThat(disabled.watch(statement, null)).isSameAs(StatementWatchdog.Watch.NONE);
+    }
+
+    private static RouteInfo routeInfo(String node, String clusterName, SqlType sqlType) {
+        SqlAttribute sqlAttribute = mock(SqlAttribute.class);
+        when(sqlAttribute.getSqlType()).thenReturn(sqlType);
+        Cluster cluster = new Cluster();
+        cluster.setName(clusterName);
+        RouteInfo routeInfo = new RouteInfo();
+        routeInfo.setSqlAttribute(sqlAttribute);
+        routeInfo.setCluster(cluster);
+        routeInfo.setHitNodeAttr(new DataSourceAttribute("jdbc:h2:mem:" + node, NodeState.UP, node, 1.0, "select 1", 1000, null));
+        return routeInfo;
+    }
+}
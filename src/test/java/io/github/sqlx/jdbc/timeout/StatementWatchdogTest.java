@@ -0,0 +1,88 @@
+package io.github.sqlx.jdbc.timeout;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link StatementWatchdog}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class StatementWatchdogTest {
+
+    private StatementWatchdog watchdog;
+
+    @BeforeEach
+    void setUp() {
+        watchdog = new StatementWatchdog(10L, 0L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        watchdog.stop();
+    }
+
+    @Test
+    void testOverdueStatementIsCancelled() throws SQLException {
+        Statement statement = statement(1);
+
+        StatementWatchdog.Watch watch = watchdog.watch(statement, "read_0");
+
+        verify(statement, timeout(3_000L)).cancel();
+        assertThat(watch.isExpired()).isTrue();
+        long deadline = System.currentTimeMillis() + 1_000L;
+        while (watchdog.getCancellationCount() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.yield();
+        }
+        assertThat(watchdog.getCancellations()).containsEntry("read_0", 1L);
+    }
+
+    @Test
+    void testCompletedStatementIsNotCancelled() throws SQLException {
+        Statement statement = statement(1);
+
+        StatementWatchdog.Watch watch = watchdog.watch(statement, "read_0");
+        watch.done();
+
+        verify(statement, after(1_500L).never()).cancel();
+        assertThat(watch.isExpired()).isFalse();
+        assertThat(watchdog.getCancellationCount()).isZero();
+    }
+
+    @Test
+    void testStatementCompletedBeforeItsPendingCancellationIsNotCancelled() throws SQLException {
+        Statement statement = statement(1);
+        StatementWatchdog.Watch watch = new StatementWatchdog.Watch(statement, "read_0", 0L);
+
+        assertThat(watch.expire()).isTrue();
+        watch.done();
+
+        assertThat(watch.cancel()).isFalse();
+        verify(statement, never()).cancel();
+        assertThat(watch.isExpired()).isFalse();
+    }
+
+    @Test
+    void testStatementWithoutTimeoutIsNotWatched() throws SQLException {
+        assertThat(watchdog.watch(statement(0), "read_0")).isSameAs(StatementWatchdog.Watch.NONE);
+    }
+
+    private static Statement statement(int queryTimeout) throws SQLException {
+        Statement statement = mock(Statement.class);
+        when(statement.getQueryTimeout()).thenReturn(queryTimeout);
+        return statement;
+    }
+}
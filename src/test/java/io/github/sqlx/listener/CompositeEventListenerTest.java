@@ -0,0 +1,70 @@
+package io.github.sqlx.listener;
+
+import io.github.sqlx.jdbc.PreparedStatementInfo;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link CompositeEventListener}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class CompositeEventListenerTest {
+
+    private final List<Object> values = new ArrayList<>();
+
+    @Test
+    void testPassesPrimitiveParameterValuesUnboxed() {
+        CompositeEventListener listener = new CompositeEventListener(new ArrayList<>());
+        listener.addListener(new EventListener() {
+            @Override
+            public void onAfterPreparedStatementSet(PreparedStatementInfo statementInformation, int parameterIndex, long value, SQLException e) {
+                values.add(value);
+            }
+        });
+
+        listener.onAfterPreparedStatementSet(null, 1, 42L, null);
+
+        assertThat(values).containsExactly(42L);
+    }
+
+    @Test
+    void testBoxesPrimitiveParameterValuesForObjectListeners() {
+        CompositeEventListener listener = new CompositeEventListener(new ArrayList<>());
+        listener.addListener(new EventListener() {
+            @Override
+            public void onAfterPreparedStatementSet(PreparedStatementInfo statementInformation, int parameterIndex, Object value, SQLException e) {
+                values.add(value);
+            }
+        });
+
+        listener.onAfterPreparedStatementSet(null, 1, (short) 7, null);
+        listener.onAfterPreparedStatementSet(null, 2, true, null);
+
+        assertThat(values).containsExactly((short) 7, true);
+    }
+
+    @Test
+    void testPassesParameterValuesOnceAListenerTakesThem() {
+        List<EventListener> listeners = new ArrayList<>();
+        listeners.add(new LoggingEventListener());
+        CompositeEventListener listener = new CompositeEventListener(listeners);
+        listener.onAfterPreparedStatementSet(null, 1, 41, null);
+
+        listener.addListener(new EventListener() {
+            @Override
+            public void onAfterPreparedStatementSet(PreparedStatementInfo statementInformation, int parameterIndex, int value, SQLException e) {
+                values.add(value);
+            }
+        });
+        listener.onAfterPreparedStatementSet(null, 1, 42, null);
+
+        assertThat(values).containsExactly(42);
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.sqlx.listener.audit;
+
+import io.github.sqlx.NodeAttribute;
+import io.github.sqlx.cluster.Cluster;
+import io.github.sqlx.config.AuditConfiguration;
+import io.github.sqlx.config.AuditFormat;
+import io.github.sqlx.exception.ConfigurationException;
+import io.github.sqlx.jdbc.ConnectionInfo;
+import io.github.sqlx.jdbc.StatementInfo;
+import io.github.sqlx.rule.RouteInfo;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link AuditEventListener} and {@link AuditRingBuffer}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class AuditEventListenerTest {
+
+    private final List<String> lines = new CopyOnWriteArrayList<>();
+
+    @Test
+    void testRingBufferDropsWhenFull() {
+        AuditRingBuffer ringBuffer = new AuditRingBuffer(2);
+        ringBuffer.publish(ringBuffer.claim());
+        ringBuffer.publish(ringBuffer.claim());
+
+        assertThat(ringBuffer.claim()).isEqualTo(-1L);
+        assertThat(ringBuffer.getDroppedCount()).isEqualTo(1L);
+
+        assertThat(ringBuffer.peek()).isNotNull();
+        ringBuffer.release();
+        assertThat(ringBuffer.claim()).isEqualTo(2L);
+        assertThat(ringBuffer.peek()).isNotNull();
+        ringBuffer.release();
+        assertThat(ringBuffer.peek()).isNull();
+    }
+
+    @Test
+    void testJsonLines() {
+        AuditEventListener listener = new AuditEventListener(configuration(AuditFormat.JSON_LINES, 0), lines::add);
+        listener.onAfterExecuteUpdate(statementInfo("update t_user set name = \"x\" where id = 1", 1), null);
+        listener.onAfterCommit(connectionInfo(), new SQLException("boom"));
+        listener.close();
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0))
+                .startsWith("{\"ts\":\"")
+                .contains("\"type\":\"EXECUTE\"", "\"cluster\":\"cluster_0\"", "\"node\":\"write_0\"", "\"tx_id\":\"tx-1\"", "\"rows\":1")
+                .contains("\"sql\":\"update t_user set name = \\\"x\\\" where id = 1\"")
+                .contains("\"fingerprint\":\"")
+                .endsWith("}");
+        assertThat(lines.get(1)).contains("\"type\":\"COMMIT\"", "\"tx_id\":\"tx-1\"", "\"error\":\"java.sql.SQLException: boom\"");
+    }
+
+    @Test
+    void testLogfmt() {
+        AuditEventListener listener = new AuditEventListener(configuration(AuditFormat.LOGFMT, 0), lines::add);
+        listener.onAfterExecuteQuery(statementInfo("select 1", 1), null);
+        listener.close();
+
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0)).startsWith("ts=").contains(" type=EXECUTE ", " node=write_0 ", " sql=\"select 1\"").doesNotContain("rows=");
+    }
+
+    @Test
+    void testRateLimitPerFingerprint() {
+        AuditEventListener listener = new AuditEventListener(configuration(AuditFormat.LOGFMT, 2), lines::add);
+        for (int i = 0; i < 5; i++) {
+            listener.onAfterExecuteQuery(statementInfo("select * from t_user where id = " + i, 1_000L), null);
+        }
+        listener.onAfterExecuteQuery(statementInfo("select * from t_order", 1_000L), null);
+        listener.onAfterExecuteQuery(statementInfo("select * from t_user where id = 9", 2_000L), null);
+        listener.close();
+
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(2)).contains("t_order");
+        assertThat(lines.get(3)).contains("id = 9", "suppressed=3");
+    }
+
+    @Test
+    void testValidate() {
+        AuditConfiguration configuration = configuration(AuditFormat.JSON_LINES, 0);
+        configuration.setBufferSize(1000);
+        assertThatThrownBy(configuration::validate).isInstanceOf(ConfigurationException.class);
+        configuration.setBufferSize(1024);
+        configuration.setRateLimitPerFingerprint(-1);
+        assertThatThrownBy(configuration::validate).isInstanceOf(ConfigurationException.class);
+    }
+
+    private static AuditConfiguration configuration(AuditFormat format, int rateLimit) {
+        AuditConfiguration configuration = new AuditConfiguration();
+        configuration.setEnabled(true);
+        configuration.setFormat(format);
+        configuration.setBufferSize(64);
+        configuration.setRateLimitPerFingerprint(rateLimit);
+        return configuration;
+    }
+
+    private static StatementInfo statementInfo(String sql, long timeMillis) {
+        Cluster cluster = new Cluster();
+        cluster.setName("cluster_0");
+        NodeAttribute node = mock(NodeAttribute.class);
+        when(node.getName()).thenReturn("write_0");
+        RouteInfo routeInfo = new RouteInfo();
+        routeInfo.setSql(sql);
+        routeInfo.setCluster(cluster);
+        routeInfo.setHitNodeAttr(node);
+        routeInfo.setTransactionId("tx-1");
+        StatementInfo statementInfo = new StatementInfo();
+        statementInfo.setRouteInfo(routeInfo);
+        statementInfo.setSql(sql);
+        statementInfo.setNativeSql(sql);
+        statementInfo.setAfterTimeToExecuteMillis(timeMillis);
+        statementInfo.setUpdatedRows(1);
+        return statementInfo;
+    }
+
+    private static ConnectionInfo connectionInfo() {
+        ConnectionInfo connectionInfo = new ConnectionInfo();
+        connectionInfo.setTransactionId("tx-1");
+        return connectionInfo;
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.sqlx.loadbalance;
+
+import io.github.sqlx.NodeAttribute;
+import io.github.sqlx.NodeState;
+import io.github.sqlx.jdbc.datasource.DataSourceAttribute;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ReplicationLagAdmission}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class ReplicationLagAdmissionTest {
+
+    @Test
+    void testUnknownLagIsAdmitted() {
+        ReplicationLagAdmission admission = new ReplicationLagAdmission("cluster_0", 10, null);
+
+        assertThat(admission.isExcluded(node("replica_0", null))).isFalse();
+    }
+
+    @Test
+    void testHysteresis() {
+        ReplicationLagAdmission admission = new ReplicationLagAdmission("cluster_0", 10, 4.0);
+        NodeAttribute replica = node("replica_0", 8.0);
+
+        assertThat(admission.isExcluded(replica)).isFalse();
+        replica.setReplicationLag(12.0);
+        assertThat(admission.isExcluded(replica)).isTrue();
+        replica.setReplicationLag(8.0);
+        assertThat(admission.isExcluded(replica)).isTrue();
+        assertThat(admission.getExcluded()).containsExactly("replica_0");
+        replica.setReplicationLag(4.0);
+        assertThat(admission.isExcluded(replica)).isFalse();
+        replica.setReplicationLag(8.0);
+        assertThat(admission.isExcluded(replica)).isFalse();
+        assertThat(admission.getExcluded()).isEmpty();
+    }
+
+    @Test
+    void testRecoveryDefaultsToHalfOfMaxLag() {
+        ReplicationLagAdmission admission = new ReplicationLagAdmission("cluster_0", 10, null);
+        NodeAttribute replica = node("replica_0", Double.POSITIVE_INFINITY);
+
+        assertThat(admission.isExcluded(replica)).isTrue();
+        replica.setReplicationLag(5.5);
+        assertThat(admission.isExcluded(replica)).isTrue();
+        replica.setReplicationLag(5.0);
+        assertThat(admission.isExcluded(replica)).isFalse();
+    }
+
+    @Test
+    void testLaggingReplicasAreNotChosen() {
+        NodeAttribute lagging = node("replica_0", 30.0);
+        NodeAttribute healthy = node("replica_1", 1.0);
+        WeightRandomLoadBalance loadBalance = new WeightRandomLoadBalance(new HashSet<>(Arrays.asList(lagging, healthy)));
+        loadBalance.addNodeAdmission(new ReplicationLagAdmission("cluster_0", 10, null));
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(loadBalance.choose()).isSameAs(healthy);
+        }
+
+        healthy.setReplicationLag(30.0);
+        assertThat(loadBalance.choose()).isNull();
+    }
+
+    private static NodeAttribute node(String name, Double lag) {
+        DataSourceAttribute attribute = new DataSourceAttribute("jdbc:h2:mem:" + name, NodeState.UP, name, 1.0, "select 1", 1000, null);
+        attribute.setReplicationLag(lag);
+        return attribute;
+    }
+}
@@ -0,0 +1,177 @@
+package io.github.sqlx.loadbalance;
+
+import io.github.sqlx.NodeAttribute;
+import io.github.sqlx.NodeState;
+import io.github.sqlx.config.ClusterConfiguration;
+import io.github.sqlx.config.SqlXConfiguration;
+import io.github.sqlx.config.WeightTuningConfiguration;
+import io.github.sqlx.jdbc.datasource.DataSourceAttribute;
+import io.github.sqlx.metrics.meter.NodeMeters;
+import io.github.sqlx.metrics.meter.SqlXMeters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link WeightTuner}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class WeightTunerTest {
+
+    private final NodeAttribute fast = node("fast", 4.0);
+
+    private final NodeAttribute slow = node("slow", 4.0);
+
+    private WeightTuningConfiguration configuration;
+
+    private WeightRandomLoadBalance loadBalance;
+
+    private WeightTuner tuner;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new WeightTuningConfiguration();
+        configuration.setEnabled(true);
+        configuration.setMinSamples(10L);
+        configuration.setSmoothing(1.0D);
+        ClusterConfiguration cluster = mock(ClusterConfiguration.class);
+        when(cluster.getReadableRoutingNodeAttributes()).thenReturn(new HashSet<>(Arrays.asList(fast, slow)));
+        SqlXConfiguration sqlXConfiguration = mock(SqlXConfiguration.class);
+        when(sqlXConfiguration.getWeightTuning()).thenReturn(configuration);
+        when(sqlXConfiguration.getCluster("cluster_0")).thenReturn(cluster);
+
+        loadBalance = new WeightRandomLoadBalance(new HashSet<>(Arrays.asList(fast, slow)));
+        tuner = new WeightTuner(sqlXConfiguration, new SqlXMeters());
+        tuner.register("cluster_0", loadBalance);
+    }
+
+    @Test
+    void testSlowNodeIsWeightedDown() {
+        record("fast", 100, 0, 2);
+        record("slow", 100, 0, 8);
+
+        tuner.tune();
+
+        Map<String, WeightTuningDecision> decisions = decisions();
+        assertThat(decisions.get("fast").getEffectiveWeight()).isEqualTo(4.0D);
+        assertThat(decisions.get("slow").getEffectiveWeight()).isLessThan(2.0D);
+        assertThat(decisions.get("slow").getLatencyMillis()).isGreaterThan(decisions.get("fast").getLatencyMillis());
+        assertThat(loadBalance.getWeight(fast)).isEqualTo(4.0D);
+        assertThat(loadBalance.getWeight(slow)).isEqualTo(decisions.get("slow").getEffectiveWeight());
+    }
+
+    @Test
+    void testErrorsLowerTheWeight() {
+        record("fast", 100, 50, 2);
+        record("slow", 100, 0, 2);
+
+        tuner.tune();
+
+        Map<String, WeightTuningDecision> decisions = decisions();
+        assertThat(decisions.get("fast").getErrorRate()).isEqualTo(0.5D);
+        assertThat(decisions.get("fast").getEffectiveWeight()).isEqualTo(2.0D);
+        assertThat(decisions.get("slow").getEffectiveWeight()).isEqualTo(4.0D);
+    }
+
+    @Test
+    void testWeightIsBoundedByConfiguredWeight() {
+        record("fast", 100, 0, 1);
+        record("slow", 100, 0, 5000);
+
+        tuner.tune();
+        assertThat(decisions().get("slow").getEffectiveWeight()).isEqualTo(0.4D);
+
+        slow.setNodeWeight(0.2D);
+        assertThat(loadBalance.getWeight(slow)).isEqualTo(0.2D);
+    }
+
+    @Test
+    void testWeightIsKeptWithoutEnoughSamples() {
+        record("fast", 100, 0, 2);
+        record("slow", 100, 0, 8);
+        tuner.tune();
+        double tuned = decisions().get("slow").getEffectiveWeight();
+
+        record("fast", 100, 0, 2);
+        record("slow", 5, 0, 1);
+        tuner.tune();
+
+        WeightTuningDecision decision = decisions().get("slow");
+        assertThat(decision.getEffectiveWeight()).isEqualTo(tuned);
+        assertThat(decision.getReason()).isEqualTo("insufficient samples");
+        assertThat(decision.getLatencyMillis()).isNull();
+    }
+
+    @Test
+    void testSmoothing() {
+        configuration.setSmoothing(0.5D);
+        record("fast", 100, 0, 1);
+        record("slow", 100, 0, 5000);
+
+        tuner.tune();
+
+        assertThat(decisions().get("slow").getEffectiveWeight()).isCloseTo(2.0D, within(0.01D));
+    }
+
+    @Test
+    void testRoundRobinFollowsFractionalTunedWeights() {
+        WeightRoundRobinLoadBalance roundRobin = new WeightRoundRobinLoadBalance(new HashSet<>(Arrays.asList(fast, slow)));
+        tuner.register("cluster_0", roundRobin);
+        record("fast", 100, 0, 2);
+        record("slow", 100, 0, 8);
+
+        tuner.tune();
+
+        double slowWeight = roundRobin.getWeight(slow);
+        assertThat(slowWeight).isLessThan(2.0D).isNotEqualTo(Math.rint(slowWeight));
+        Map<String, Long> counts = new HashMap<>();
+        int rounds = 10_000;
+        for (int i = 0; i < rounds; i++) {
+            counts.merge(roundRobin.choose().getName(), 1L, Long::sum);
+        }
+        double expected = rounds * slowWeight / (slowWeight + 4.0D);
+        assertThat(counts.get("slow").doubleValue()).isCloseTo(expected, within(1.0D));
+        assertThat(counts.get("fast")).isEqualTo(rounds - counts.get("slow"));
+    }
+
+    @Test
+    void testPercentileIsInterpolatedWithinTheWindow() {
+        long[] last = {10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10};
+        long[] counts = {10, 10, 10, 110, 110, 110, 110, 110, 110, 110, 110, 110, 110, 110};
+
+        assertThat(WeightTuner.percentile(counts, last, 0.5D)).isCloseTo(0.0075D, within(1e-9));
+        assertThat(WeightTuner.percentile(counts, null, 1.0D)).isCloseTo(0.01D, within(1e-9));
+        assertThat(WeightTuner.percentile(last, last, 0.9D)).isZero();
+    }
+
+    private void record(String node, int statements, int errors, long latencyMillis) {
+        NodeMeters meters = tuner.getMeters().node(node);
+        for (int i = 0; i < statements; i++) {
+            meters.getStatements().increment();
+            meters.getStatementLatency().record(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+        }
+        meters.getStatementErrors().add(errors);
+    }
+
+    private Map<String, WeightTuningDecision> decisions() {
+        return tuner.getDecisions().stream().collect(Collectors.toMap(WeightTuningDecision::getNode, d -> d));
+    }
+
+    private static NodeAttribute node(String name, double weight) {
+        return new DataSourceAttribute("jdbc:h2:mem:" + name, NodeState.UP, name, weight, "select 1", 1000, null);
+    }
+}
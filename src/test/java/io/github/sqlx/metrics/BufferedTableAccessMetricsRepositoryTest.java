@@ -0,0 +1,189 @@
+package io.github.sqlx.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link BufferedTableAccessMetricsRepository}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class BufferedTableAccessMetricsRepositoryTest {
+
+    private TableAccessMetricsRepository delegate;
+
+    private final Map<String, TableAccessMetrics> stored = new HashMap<>();
+
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    private BufferedTableAccessMetricsRepository repository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        delegate = mock(TableAccessMetricsRepository.class);
+        doAnswer(invocation -> {
+            Collection<TableAccessMetrics> deltas = invocation.getArgument(0);
+            batchSizes.add(deltas.size());
+            for (TableAccessMetrics delta : deltas) {
+                stored.merge(delta.getFullTableName(), delta, (a, b) -> a
+                        .setQueryCount(a.getQueryCount() + b.getQueryCount())
+                        .setInsertCount(a.getInsertCount() + b.getInsertCount())
+                        .setWriteCount(a.getWriteCount() + b.getWriteCount())
+                        .setTotalCount(a.getTotalCount() + b.getTotalCount()));
+            }
+            return null;
+        }).when(delegate).saveAll(any(Collection.class));
+        repository = new BufferedTableAccessMetricsRepository(delegate);
+    }
+
+    @Test
+    void testSaveOnlyAccumulates() {
+        repository.save(query("db.t_user"));
+
+        verify(delegate, never()).saveAll(any());
+        assertThat(stored).isEmpty();
+    }
+
+    @Test
+    void testFlushWritesDeltasInOneBatch() {
+        repository.save(query("db.t_user"));
+        repository.save(query("db.t_user"));
+        repository.save(insert("db.t_user"));
+        repository.save(query("db.t_order"));
+
+        repository.flush();
+        repository.flush();
+
+        assertThat(batchSizes).containsExactly(2);
+        TableAccessMetrics user = stored.get("db.t_user");
+        assertThat(user.getQueryCount()).isEqualTo(2L);
+        assertThat(user.getInsertCount()).isEqualTo(1L);
+        assertThat(user.getReadCount()).isEqualTo(2L);
+        assertThat(user.getWriteCount()).isEqualTo(1L);
+        assertThat(user.getTotalCount()).isEqualTo(3L);
+        assertThat(user.getUpdatedTime()).isPositive();
+        assertThat(stored.get("db.t_order").getTotalCount()).isEqualTo(1L);
+
+        repository.save(query("db.t_order"));
+        repository.flush();
+
+        assertThat(batchSizes).containsExactly(2, 1);
+        assertThat(stored.get("db.t_order").getQueryCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void testQueryFlushesFirst() {
+        repository.save(query("db.t_user"));
+
+        repository.selectList(new TableMetricsQueryCriteria());
+
+        assertThat(stored.get("db.t_user").getQueryCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void testStopFlushesAccumulatedCounts() {
+        repository.start(60_000L);
+        repository.save(query("db.t_user"));
+
+        repository.stop();
+
+        assertThat(stored.get("db.t_user").getQueryCount()).isEqualTo(1L);
+        repository.stop();
+        assertThat(batchSizes).containsExactly(1);
+    }
+
+    @Test
+    void testFailedFlushIsRetried() {
+        TableAccessMetricsRepository failing = mock(TableAccessMetricsRepository.class);
+        List<Long> written = new ArrayList<>();
+        boolean[] fail = {true};
+        doAnswer(invocation -> {
+            if (fail[0]) {
+                throw new IllegalStateException("storage unavailable");
+            }
+            Collection<TableAccessMetrics> deltas = invocation.getArgument(0);
+            deltas.forEach(d -> written.add(d.getQueryCount()));
+            return null;
+        }).when(failing).saveAll(any());
+        BufferedTableAccessMetricsRepository buffered = new BufferedTableAccessMetricsRepository(failing);
+        buffered.save(query("db.t_user"));
+
+        assertThatThrownBy(buffered::flush).isInstanceOf(IllegalStateException.class);
+        fail[0] = false;
+        buffered.save(query("db.t_user"));
+        buffered.flush();
+
+        assertThat(written).containsExactly(2L);
+    }
+
+    @Test
+    void testConcurrentSavesAreNotLost() throws Exception {
+        int threads = 8;
+        int savesPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < savesPerThread; j++) {
+                    repository.save(query("db.t_user"));
+                    if (j % 1000 == 0) {
+                        repository.flush();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        repository.flush();
+
+        assertThat(stored.get("db.t_user").getQueryCount()).isEqualTo((long) threads * savesPerThread);
+    }
+
+    private static TableAccessMetrics query(String fullTableName) {
+        return metrics(fullTableName, 1L, 0L);
+    }
+
+    private static TableAccessMetrics insert(String fullTableName) {
+        return metrics(fullTableName, 0L, 1L);
+    }
+
+    private static TableAccessMetrics metrics(String fullTableName, long queryCount, long insertCount) {
+        return new TableAccessMetrics()
+                .setFullTableName(fullTableName)
+                .setDatabase("db")
+                .setTable(fullTableName.substring(3))
+                .setQueryCount(queryCount)
+                .setInsertCount(insertCount)
+                .setUpdateCount(0L)
+                .setDeleteCount(0L)
+                .setReadCount(queryCount)
+                .setWriteCount(insertCount)
+                .setTotalCount(queryCount + insertCount);
+    }
+}
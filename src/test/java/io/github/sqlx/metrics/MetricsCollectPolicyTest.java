@@ -0,0 +1,111 @@
+package io.github.sqlx.metrics;
+
+import io.github.sqlx.config.MetricsCollectScope;
+import io.github.sqlx.config.MetricsConfiguration;
+import io.github.sqlx.jdbc.ConnectionInfo;
+import io.github.sqlx.jdbc.StatementInfo;
+import io.github.sqlx.jdbc.transaction.TransactionStatus;
+import io.github.sqlx.rule.RouteInfo;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link MetricsCollectPolicy}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class MetricsCollectPolicyTest {
+
+    @Test
+    void testSlowScopeRecordsOnlySlowOrFailedStatements() {
+        MetricsCollectPolicy policy = new MetricsCollectPolicy(MetricsCollectScope.SLOW, 100L, 200L, 1D, 0);
+
+        assertThat(policy.shouldCollect(statement("select 1", 100), null)).isFalse();
+        assertThat(policy.shouldCollect(statement("select 1", 101), null)).isTrue();
+        assertThat(policy.shouldCollect(statement("select 1", 5), new SQLException("boom"))).isTrue();
+        assertThat(policy.shouldCollect(route("select 1"), null)).isFalse();
+        assertThat(policy.shouldCollect(route("select 1"), new IllegalStateException())).isTrue();
+    }
+
+    @Test
+    void testSlowTransactionIncludesCommitTime() {
+        MetricsCollectPolicy policy = new MetricsCollectPolicy(MetricsCollectScope.SLOW, 100L, 200L, 1D, 0);
+        ConnectionInfo connectionInfo = transaction("tx_1", 150);
+        connectionInfo.setBeforeTimeToCommitNs(0);
+        connectionInfo.setAfterTimeToCommitNs(TimeUnit.MILLISECONDS.toNanos(60));
+
+        assertThat(policy.shouldCollect(TransactionStatus.COMMITTING, connectionInfo, null)).isFalse();
+        assertThat(policy.shouldCollect(TransactionStatus.COMMITTED, connectionInfo, null)).isTrue();
+    }
+
+    @Test
+    void testSamplingIsStablePerId() {
+        MetricsCollectPolicy policy = new MetricsCollectPolicy(MetricsCollectScope.ALL, null, null, 0.5D, 0);
+        int sampled = 0;
+        for (int i = 0; i < 1000; i++) {
+            StatementInfo statementInfo = statement("select " + i, 1);
+            boolean first = policy.shouldCollect(statementInfo, null);
+            assertThat(policy.shouldCollect(statementInfo, null)).isEqualTo(first);
+            sampled += first ? 1 : 0;
+        }
+
+        assertThat(sampled).isBetween(350, 650);
+        assertThat(new MetricsCollectPolicy(MetricsCollectScope.ALL, null, null, 0D, 0)
+                .shouldCollect(statement("select 1", 1), null)).isFalse();
+    }
+
+    @Test
+    void testRateLimitPerFingerprint() {
+        MetricsCollectPolicy policy = new MetricsCollectPolicy(MetricsCollectScope.ALL, 100L, null, 1D, 2);
+        int users = 0;
+        for (int i = 0; i < 10; i++) {
+            users += policy.shouldCollect(statement("select * from t_user where id = " + i, 1), null) ? 1 : 0;
+        }
+
+        assertThat(users).isBetween(2, 4);
+        assertThat(policy.shouldCollect(statement("select * from t_order", 1), null)).isTrue();
+        assertThat(policy.shouldCollect(statement("select * from t_user where id = 10", 500), null)).isTrue();
+        assertThat(policy.shouldCollect(statement("select * from t_user where id = 11", 1), new SQLException())).isTrue();
+    }
+
+    @Test
+    void testOfConfiguration() {
+        MetricsConfiguration configuration = new MetricsConfiguration();
+        configuration.setCollectScope(MetricsCollectScope.ALL);
+        configuration.setCollectSampleRate(null);
+        MetricsCollectPolicy policy = MetricsCollectPolicy.of(configuration);
+
+        assertThat(policy.shouldCollect(statement("select 1", 1), null)).isTrue();
+        assertThat(policy.shouldCollect(TransactionStatus.COMMITTED, transaction("tx_1", 1), null)).isTrue();
+    }
+
+    private static StatementInfo statement(String sql, long elapsedMillis) {
+        StatementInfo statementInfo = new StatementInfo();
+        statementInfo.setSql(sql);
+        statementInfo.setBeforeTimeToExecuteNs(0);
+        statementInfo.setAfterTimeToExecuteNs(TimeUnit.MILLISECONDS.toNanos(elapsedMillis));
+        return statementInfo;
+    }
+
+    private static ConnectionInfo transaction(String transactionId, long sqlMillis) {
+        ConnectionInfo connectionInfo = new ConnectionInfo();
+        connectionInfo.setTransactionId(transactionId);
+        connectionInfo.setTransactionName("tx");
+        LinkedList<StatementInfo> statementInfoList = new LinkedList<>();
+        statementInfoList.add(statement("update t set a = 1", sqlMillis));
+        connectionInfo.setStatementInfoList(statementInfoList);
+        return connectionInfo;
+    }
+
+    private static RouteInfo route(String sql) {
+        RouteInfo routeInfo = new RouteInfo();
+        routeInfo.setSql(sql);
+        return routeInfo;
+    }
+}
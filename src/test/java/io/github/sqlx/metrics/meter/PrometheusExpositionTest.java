@@ -0,0 +1,128 @@
+package io.github.sqlx.metrics.meter;
+
+import io.github.sqlx.NodeAttribute;
+import io.github.sqlx.cluster.Cluster;
+import io.github.sqlx.jdbc.ConnectionInfo;
+import io.github.sqlx.jdbc.PreparedStatementInfo;
+import io.github.sqlx.jdbc.StatementInfo;
+import io.github.sqlx.listener.MeterEventListener;
+import io.github.sqlx.rule.RouteInfo;
+import io.github.sqlx.util.SecurityUtils;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link MeterEventListener} and {@link PrometheusExposition}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class PrometheusExpositionTest {
+
+    @Test
+    void testHistogramBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(500));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(30));
+        histogram.record(TimeUnit.SECONDS.toNanos(20));
+        histogram.record(-1L);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.getCumulativeCounts()[0]).isEqualTo(3);
+        assertThat(snapshot.getCumulativeCounts()[5]).isEqualTo(4);
+        assertThat(snapshot.getCumulativeCounts()[LatencyHistogram.getBoundsSeconds().length - 1]).isEqualTo(4);
+        assertThat(snapshot.getCount()).isEqualTo(5);
+        assertThat(snapshot.getSumSeconds()).isCloseTo(20.0315D, offset(1e-9));
+    }
+
+    @Test
+    void testListenerUpdatesMeters() {
+        SqlXMeters meters = new SqlXMeters();
+        MeterEventListener listener = new MeterEventListener(meters);
+        RouteInfo routeInfo = routeInfo("cluster_0", "read_0");
+
+        listener.onBeforeRouting(routeInfo);
+        assertThat(meters.cluster("cluster_0").getRoutingsInFlight().sum()).isEqualTo(1);
+        listener.onAfterRouting(routeInfo, null);
+
+        ConnectionInfo connectionInfo = new ConnectionInfo();
+        connectionInfo.setCurrentRouteInfo(routeInfo);
+        listener.onBeforeGetConnection(connectionInfo);
+        listener.onAfterGetConnection(connectionInfo, new SQLException("refused"));
+
+        PreparedStatementInfo statementInfo = new PreparedStatementInfo();
+        statementInfo.setRouteInfo(routeInfo);
+        listener.onBeforeExecuteQuery(statementInfo);
+        assertThat(meters.node("read_0").getStatementsInFlight().sum()).isEqualTo(1);
+        listener.onAfterExecuteQuery(statementInfo, null);
+        listener.onBeforeExecuteBatch(statementInfo, 0L);
+        listener.onAfterExecuteBatch(statementInfo, 0L, TimeUnit.MILLISECONDS.toNanos(3), new long[]{1}, new SQLException());
+        listener.onAfterExecuteUpdate((StatementInfo) null, new SQLException("not routed"));
+
+        ClusterMeters cluster = meters.cluster("cluster_0");
+        NodeMeters node = meters.node("read_0");
+        assertThat(cluster.getRoutings().sum()).isEqualTo(1);
+        assertThat(cluster.getRoutingsInFlight().sum()).isZero();
+        assertThat(cluster.getStatements().sum()).isEqualTo(2);
+        assertThat(cluster.getStatementErrors().sum()).isEqualTo(1);
+        assertThat(node.getConnectionAcquisitions().sum()).isEqualTo(1);
+        assertThat(node.getConnectionAcquisitionErrors().sum()).isEqualTo(1);
+        assertThat(node.getConnectionAcquisitionsInFlight().sum()).isZero();
+        assertThat(node.getStatements().sum()).isEqualTo(2);
+        assertThat(node.getStatementsInFlight().sum()).isZero();
+        assertThat(node.getStatementLatency().snapshot().getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testExpositionFormat() {
+        SqlXMeters meters = new SqlXMeters();
+        meters.cluster("cluster_0").getRoutings().add(3);
+        NodeMeters node = meters.node("node \"a\"");
+        node.getStatements().increment();
+        node.getStatementLatency().record(TimeUnit.MILLISECONDS.toNanos(2));
+
+        String text = PrometheusExposition.write(meters);
+
+        assertThat(text)
+                .contains("# TYPE sqlx_routing_total counter\nsqlx_routing_total{cluster=\"cluster_0\"} 3\n")
+                .contains("# TYPE sqlx_statement_duration_seconds histogram\n")
+                .contains("sqlx_statement_duration_seconds_bucket{node=\"node \\\"a\\\"\",le=\"0.001\"} 0\n")
+                .contains("sqlx_statement_duration_seconds_bucket{node=\"node \\\"a\\\"\",le=\"0.0025\"} 1\n")
+                .contains("sqlx_statement_duration_seconds_bucket{node=\"node \\\"a\\\"\",le=\"+Inf\"} 1\n")
+                .contains("sqlx_statement_duration_seconds_sum{node=\"node \\\"a\\\"\"} 0.002\n")
+                .contains("sqlx_statement_duration_seconds_count{node=\"node \\\"a\\\"\"} 1\n")
+                .contains("sqlx_statements_in_flight{node=\"node \\\"a\\\"\"} 0\n");
+    }
+
+    @Test
+    void testBasicAuthorization() {
+        String header = "Basic " + Base64.getEncoder().encodeToString("admin:secret".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(SecurityUtils.isBasicAuthorized(header, "admin", "secret")).isTrue();
+        assertThat(SecurityUtils.isBasicAuthorized(header, "admin", "other")).isFalse();
+        assertThat(SecurityUtils.isBasicAuthorized("Basic !!", "admin", "secret")).isFalse();
+        assertThat(SecurityUtils.isBasicAuthorized(null, "admin", "secret")).isFalse();
+    }
+
+    private static RouteInfo routeInfo(String clusterName, String nodeName) {
+        Cluster cluster = new Cluster();
+        cluster.setName(clusterName);
+        NodeAttribute nodeAttribute = mock(NodeAttribute.class);
+        when(nodeAttribute.getName()).thenReturn(nodeName);
+        RouteInfo routeInfo = new RouteInfo();
+        routeInfo.setCluster(cluster);
+        routeInfo.setHitNodeAttr(nodeAttribute);
+        return routeInfo;
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.sqlx.metrics.nitrite;
+
+import io.github.sqlx.metrics.Page;
+import io.github.sqlx.metrics.PagingCriteria;
+import io.github.sqlx.metrics.SortOrder;
+import io.github.sqlx.metrics.SortOrderField;
+import io.github.sqlx.metrics.SqlMetrics;
+import io.github.sqlx.metrics.SqlMetricsQueryCriteria;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link NitriteSqlMetricsRepository}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class NitriteSqlMetricsRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    private NitriteSqlMetricsRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new NitriteSqlMetricsRepository(directory.toString());
+        repository.save(metrics("s1", "SELECT * FROM t_user WHERE id = 1", "tx_a", 1000L));
+        repository.save(metrics("s2", "select * from t_user where id = 2", "tx_b", 2000L));
+        repository.save(metrics("s3", "UPDATE t_order SET status = 'PAID' WHERE id = 7", "tx_b", 3000L));
+        repository.save(metrics("s4", "select count(*) from t_order", "tx_a", 4000L));
+    }
+
+    @Test
+    void testFingerprintIsStoredOncePerShape() {
+        List<SqlMetrics> list = repository.selectList(criteria(null));
+
+        assertThat(list).extracting(SqlMetrics::getSqlFingerprint)
+                .contains("select * from t_user where id = ?", "update t_order set status = ? where id = ?");
+        assertThat(repository.selectList(criteria("select * from t_user where id = 3")))
+                .extracting(SqlMetrics::getStatementId).containsExactlyInAnyOrder("s1", "s2");
+    }
+
+    @Test
+    void testSearchBySubstringAndTokens() {
+        assertThat(repository.selectList(criteria("FROM t_order")))
+                .extracting(SqlMetrics::getStatementId).containsExactly("s4");
+        assertThat(repository.selectList(criteria("t_order status")))
+                .extracting(SqlMetrics::getStatementId).containsExactly("s3");
+        assertThat(repository.selectList(criteria("t_order")))
+                .extracting(SqlMetrics::getStatementId).containsExactly("s4", "s3");
+        assertThat(repository.selectList(criteria("t_missing"))).isEmpty();
+    }
+
+    @Test
+    void testSearchIsCombinedWithOtherFilters() {
+        SqlMetricsQueryCriteria criteria = criteria("t_user");
+        criteria.setTransactionName("name_tx_b");
+
+        assertThat(repository.selectPage(criteria).getContent())
+                .extracting(SqlMetrics::getStatementId).containsExactly("s2");
+    }
+
+    @Test
+    void testDeleteRemovesUnusedFingerprints() {
+        assertThat(repository.deleteByCreatedTimeLessThan(3500L)).isEqualTo(3);
+
+        assertThat(repository.selectList(criteria("t_order")))
+                .extracting(SqlMetrics::getStatementId).containsExactly("s4");
+        assertThat(repository.selectList(criteria("t_user"))).isEmpty();
+    }
+
+    @Test
+    void testKeysetPaging() {
+        repository.save(metrics("s5", "select 5", "tx_c", 3000L));
+        repository.save(metrics("s6", "select 6", "tx_c", 3000L));
+        SqlMetricsQueryCriteria criteria = criteria(null);
+        criteria.getPagingCriteria().setPageSize(2);
+        criteria.getPagingCriteria().setIncludeTotalCount(false);
+
+        List<String> ids = new ArrayList<>();
+        Page<SqlMetrics> page = repository.selectPage(criteria);
+        page.getContent().forEach(metrics -> ids.add(metrics.getStatementId()));
+        assertThat(page.getTotalCount()).isNull();
+        assertThat(page.getNextCreatedTime()).isEqualTo(3000L);
+        while (page.getNextCreatedTime() != null) {
+            criteria.getPagingCriteria().setAfterCreatedTime(page.getNextCreatedTime());
+            criteria.getPagingCriteria().setAfterCreatedTimeOffset(page.getNextCreatedTimeOffset());
+            page = repository.selectPage(criteria, metrics -> ids.add(metrics.getStatementId()));
+            assertThat(page.getContent()).isNull();
+        }
+
+        assertThat(ids).hasSize(6).doesNotHaveDuplicates();
+        assertThat(ids.subList(0, 1)).containsExactly("s4");
+        assertThat(ids.subList(1, 4)).containsExactlyInAnyOrder("s3", "s5", "s6");
+        assertThat(ids.subList(4, 6)).containsExactly("s2", "s1");
+    }
+
+    @Test
+    void testKeysetPagingRequiresCreatedTimeOrder() {
+        SqlMetricsQueryCriteria criteria = criteria(null);
+        criteria.setSortOrderField(new SortOrderField("sqlType", SortOrder.ASC));
+        criteria.getPagingCriteria().setAfterCreatedTime(1000L);
+
+        assertThatThrownBy(() -> repository.selectPage(criteria)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static SqlMetricsQueryCriteria criteria(String sql) {
+        SqlMetricsQueryCriteria criteria = new SqlMetricsQueryCriteria();
+        criteria.setSql(sql);
+        PagingCriteria pagingCriteria = new PagingCriteria();
+        pagingCriteria.setPageNo(1);
+        pagingCriteria.setPageSize(10);
+        criteria.setPagingCriteria(pagingCriteria);
+        return criteria;
+    }
+
+    private static SqlMetrics metrics(String statementId, String sql, String transactionId, long createdTime) {
+        return new SqlMetrics()
+                .setStatementId(statementId)
+                .setSql(sql)
+                .setTransactionId(transactionId)
+                .setTransactionName("name_" + transactionId)
+                .setCreatedTime(createdTime);
+    }
+}
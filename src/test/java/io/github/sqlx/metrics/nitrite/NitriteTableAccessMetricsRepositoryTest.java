@@ -0,0 +1,106 @@
+package io.github.sqlx.metrics.nitrite;
+
+import io.github.sqlx.metrics.Page;
+import io.github.sqlx.metrics.PagingCriteria;
+import io.github.sqlx.metrics.SortOrder;
+import io.github.sqlx.metrics.SortOrderField;
+import io.github.sqlx.metrics.TableAccessMetrics;
+import io.github.sqlx.metrics.TableMetricsQueryCriteria;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link NitriteTableAccessMetricsRepository}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class NitriteTableAccessMetricsRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    private NitriteTableAccessMetricsRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new NitriteTableAccessMetricsRepository(directory.toString());
+    }
+
+    @Test
+    void testSaveAllAddsToExistingCounts() {
+        repository.saveAll(Arrays.asList(metrics("t_a", 1), metrics("t_b", 2)));
+        repository.saveAll(Collections.singletonList(metrics("t_a", 3)));
+        repository.save(metrics("t_a", 1));
+
+        List<TableAccessMetrics> list = repository.selectList(criteria("totalCount", SortOrder.DESC, 1, 10));
+
+        assertThat(list).extracting(TableAccessMetrics::getTable).containsExactly("t_a", "t_b");
+        assertThat(list).extracting(TableAccessMetrics::getQueryCount).containsExactly(5L, 2L);
+        assertThat(list).extracting(TableAccessMetrics::getTotalCount).containsExactly(5L, 2L);
+    }
+
+    @Test
+    void testSortedPageSelectsTopEntries() {
+        List<TableAccessMetrics> all = new ArrayList<>();
+        for (int i = 1; i <= 25; i++) {
+            all.add(metrics("t_" + i, i));
+        }
+        Collections.shuffle(all);
+        repository.saveAll(all);
+
+        Page<TableAccessMetrics> first = repository.selectPage(criteria("queryCount", SortOrder.DESC, 1, 10));
+        Page<TableAccessMetrics> last = repository.selectPage(criteria("queryCount", SortOrder.DESC, 3, 10));
+        Page<TableAccessMetrics> ascending = repository.selectPage(criteria("queryCount", SortOrder.ASC, 1, 3));
+
+        assertThat(first.getTotalCount()).isEqualTo(25L);
+        assertThat(first.getTotalPage()).isEqualTo(3L);
+        assertThat(first.getContent()).extracting(TableAccessMetrics::getQueryCount)
+                .containsExactly(25L, 24L, 23L, 22L, 21L, 20L, 19L, 18L, 17L, 16L);
+        assertThat(last.getContent()).extracting(TableAccessMetrics::getQueryCount).containsExactly(5L, 4L, 3L, 2L, 1L);
+        assertThat(ascending.getContent()).extracting(TableAccessMetrics::getQueryCount).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void testSortedPageAppliesFilter() {
+        repository.saveAll(Arrays.asList(metrics("t_a", 1), metrics("t_b", 2), metrics("t_c", 3)));
+        TableMetricsQueryCriteria criteria = criteria("totalCount", SortOrder.DESC, 1, 10);
+        criteria.setTables(new HashSet<>(Arrays.asList("t_a", "t_c")));
+
+        Page<TableAccessMetrics> page = repository.selectPage(criteria);
+
+        assertThat(page.getTotalCount()).isEqualTo(2L);
+        assertThat(page.getContent()).extracting(TableAccessMetrics::getTable).containsExactly("t_c", "t_a");
+    }
+
+    private static TableMetricsQueryCriteria criteria(String field, SortOrder sortOrder, int pageNo, int pageSize) {
+        TableMetricsQueryCriteria criteria = new TableMetricsQueryCriteria();
+        criteria.setSortOrderField(new SortOrderField(field, sortOrder));
+        criteria.setPagingCriteria(new PagingCriteria(pageNo, pageSize));
+        return criteria;
+    }
+
+    private static TableAccessMetrics metrics(String table, long queryCount) {
+        return new TableAccessMetrics()
+                .setFullTableName("db." + table)
+                .setDatabase("db")
+                .setTable(table)
+                .setQueryCount(queryCount)
+                .setInsertCount(0L)
+                .setUpdateCount(0L)
+                .setDeleteCount(0L)
+                .setReadCount(queryCount)
+                .setWriteCount(0L)
+                .setTotalCount(queryCount);
+    }
+}
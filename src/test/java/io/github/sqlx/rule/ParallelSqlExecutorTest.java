@@ -0,0 +1,117 @@
+package io.github.sqlx.rule;
+
+import io.github.sqlx.RoutingContext;
+import io.github.sqlx.integration.springboot.RouteAttribute;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ParallelSqlExecutorTest {
+
+    private static final String URL = "jdbc:h2:mem:parallel_sql_executor;DB_CLOSE_DELAY=-1";
+
+    private final Map<String, Object> routedNodes = new ConcurrentHashMap<>();
+
+    private final AtomicInteger running = new AtomicInteger();
+
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    private Connection keepAlive;
+
+    private ParallelSqlExecutor executor;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        keepAlive = DriverManager.getConnection(URL);
+        try (Statement stmt = keepAlive.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS t (id INT PRIMARY KEY, name VARCHAR(32))");
+            stmt.execute("MERGE INTO t KEY (id) VALUES (1, 'a'), (2, 'b'), (3, 'c')");
+        }
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenAnswer(invocation -> {
+            RouteAttribute ra = RoutingContext.getRoutingAttribute();
+            routedNodes.put(String.join(",", ra.getNodes()), RoutingContext.getResources().getOrDefault("tenant", "none"));
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return DriverManager.getConnection(URL);
+        });
+        executor = new ParallelSqlExecutor(dataSource, 2);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        executor.close();
+        RoutingContext.clear();
+        keepAlive.close();
+    }
+
+    @Test
+    void testExecuteEachNodeInSubmissionOrder() throws SQLException {
+        RoutingContext.addResource("tenant", "t1");
+        List<SqlTask<String>> tasks = SqlTask.queryEachNode("SELECT name FROM t WHERE id = ?", Collections.singletonList(2),
+                rs -> rs.next() ? rs.getString(1) : null, "read_0", "read_1", "read_2", "read_3");
+
+        List<String> values = executor.executeAllOrThrow(tasks);
+
+        assertThat(values).containsExactly("b", "b", "b", "b");
+        assertThat(routedNodes).containsOnlyKeys("read_0", "read_1", "read_2", "read_3");
+        assertThat(routedNodes.values()).containsOnly("t1");
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+        assertThat(RoutingContext.getRoutingAttribute()).isNull();
+    }
+
+    @Test
+    void testStreamInCompletionOrder() {
+        List<SqlTask<Integer>> tasks = Arrays.asList(
+                SqlTask.update("UPDATE t SET name = name WHERE id > ?", Collections.singletonList(1), "write_0"),
+                SqlTask.update("UPDATE t SET name = name WHERE id > ?", Collections.singletonList(0), "write_0"));
+
+        Iterator<SqlTaskResult<Integer>> results = executor.submit(tasks, ParallelSqlExecutor.ResultOrder.COMPLETION);
+        List<SqlTaskResult<Integer>> list = Arrays.asList(results.next(), results.next());
+
+        assertThat(results.hasNext()).isFalse();
+        assertThat(list).allMatch(SqlTaskResult::isSuccess);
+        assertThat(list.stream().collect(Collectors.toMap(SqlTaskResult::getIndex, SqlTaskResult::getValue)))
+                .containsEntry(0, 2).containsEntry(1, 3);
+    }
+
+    @Test
+    void testFailedTask() {
+        List<SqlTask<Integer>> tasks = Arrays.asList(
+                SqlTask.update("UPDATE missing SET a = 1", null, "write_0"),
+                SqlTask.update("UPDATE t SET name = name", null, "write_0"));
+
+        List<SqlTaskResult<Integer>> results = executor.executeAll(tasks, true);
+
+        assertThat(results.get(0).isSuccess()).isFalse();
+        assertThat(results.get(0).getError()).isInstanceOf(SQLException.class);
+        assertThat(results.get(1).getValue()).isEqualTo(3);
+        assertThatThrownBy(() -> executor.executeAllOrThrow(tasks)).isInstanceOf(SQLException.class);
+    }
+
+    @Test
+    void testInvalidTask() {
+        assertThatThrownBy(() -> SqlTask.update("UPDATE t SET a = 1", null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SqlTask.query(" ", null, rs -> null, "node")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
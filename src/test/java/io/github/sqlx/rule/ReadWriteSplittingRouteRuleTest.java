@@ -1,8 +1,10 @@
 package io.github.sqlx.rule;
 
 import io.github.sqlx.NodeAttribute;
+import io.github.sqlx.SessionConsistency;
 import io.github.sqlx.loadbalance.LoadBalance;
 import io.github.sqlx.sql.SqlAttribute;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -21,12 +23,20 @@ class ReadWriteSplittingRouteRuleTest {
     private LoadBalance readLoadBalance;
     private LoadBalance writeLoadBalance;
     private ReadWriteSplittingRouteRule readWriteSplittingRouteRule;
+    private SessionConsistency.Session session;
 
     @BeforeEach
     void setUp() {
         readLoadBalance = mock(LoadBalance.class);
         writeLoadBalance = mock(LoadBalance.class);
         readWriteSplittingRouteRule = new ReadWriteSplittingRouteRule(1, readLoadBalance, writeLoadBalance);
+        session = SessionConsistency.open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        session.close();
+        assertNull(SessionConsistency.current());
     }
 
     @Test
@@ -60,4 +70,95 @@ class ReadWriteSplittingRouteRuleTest {
         NodeAttribute nodeAttribute = readWriteSplittingRouteRule.routing(null);
         assertNull(nodeAttribute);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testReadAfterWriteIsRoutedToWritableNode() {
+        ReadWriteSplittingRouteRule rule = new ReadWriteSplittingRouteRule(1, readLoadBalance, writeLoadBalance, new ReadYourWrites("cluster_0", 60000));
+        NodeAttribute writeNode = mock(NodeAttribute.class);
+        NodeAttribute readNode = mock(NodeAttribute.class);
+        when(writeLoadBalance.choose()).thenReturn(writeNode);
+        when(readLoadBalance.choose()).thenReturn(readNode);
+
+        assertEquals(readNode, rule.routing(sqlAttribute(false)));
+        assertEquals(writeNode, rule.routing(sqlAttribute(true)));
+        assertEquals(readNode, rule.routing(sqlAttribute(false)));
+        SessionConsistency.recordWrite("cluster_0");
+        assertEquals(writeNode, rule.routing(sqlAttribute(false)));
+
+        session.close();
+        session = SessionConsistency.open();
+        assertEquals(readNode, rule.routing(sqlAttribute(false)));
+    }
+
+    @Test
+    void testWritesOutsideSessionAreNotRecorded() {
+        ReadWriteSplittingRouteRule rule = new ReadWriteSplittingRouteRule(1, readLoadBalance, writeLoadBalance, new ReadYourWrites("cluster_0", 60000));
+        NodeAttribute writeNode = mock(NodeAttribute.class);
+        NodeAttribute readNode = mock(NodeAttribute.class);
+        when(writeLoadBalance.choose()).thenReturn(writeNode);
+        when(readLoadBalance.choose()).thenReturn(readNode);
+        session.close();
+
+        SessionConsistency.recordWrite("cluster_0");
+        assertEquals(readNode, rule.routing(sqlAttribute(false)));
+        assertEquals("", SessionConsistency.getToken());
+        session = SessionConsistency.open();
+    }
+
+    @Test
+    void testReadAfterWriteUsesReplicaThatCaughtUp() throws InterruptedException {
+        ReadWriteSplittingRouteRule rule = new ReadWriteSplittingRouteRule(1, readLoadBalance, writeLoadBalance, new ReadYourWrites("cluster_0", 60000));
+        NodeAttribute writeNode = mock(NodeAttribute.class);
+        NodeAttribute readNode = mock(NodeAttribute.class);
+        when(writeLoadBalance.choose()).thenReturn(writeNode);
+        when(readLoadBalance.choose()).thenReturn(readNode);
+
+        SessionConsistency.recordWrite("cluster_0");
+        Thread.sleep(5);
+        when(readNode.getReplicationLagSampledAt()).thenReturn(System.currentTimeMillis());
+        when(readNode.getReplicationLag()).thenReturn(1.0);
+        assertEquals(writeNode, rule.routing(sqlAttribute(false)));
+
+        when(readNode.getReplicationLag()).thenReturn(0.0);
+        assertEquals(readNode, rule.routing(sqlAttribute(false)));
+    }
+
+    @Test
+    void testReadAfterWindowIsRoutedToReadableNode() throws InterruptedException {
+        ReadWriteSplittingRouteRule rule = new ReadWriteSplittingRouteRule(1, readLoadBalance, writeLoadBalance, new ReadYourWrites("cluster_0", 10));
+        NodeAttribute writeNode = mock(NodeAttribute.class);
+        NodeAttribute readNode = mock(NodeAttribute.class);
+        when(writeLoadBalance.choose()).thenReturn(writeNode);
+        when(readLoadBalance.choose()).thenReturn(readNode);
+
+        SessionConsistency.recordWrite("cluster_0");
+        Thread.sleep(20);
+        assertEquals(readNode, rule.routing(sqlAttribute(false)));
+    }
+
+    @Test
+    void testSessionTokenIsResumed() {
+        ReadWriteSplittingRouteRule rule = new ReadWriteSplittingRouteRule(1, readLoadBalance, writeLoadBalance, new ReadYourWrites("cluster_0", 60000));
+        NodeAttribute writeNode = mock(NodeAttribute.class);
+        NodeAttribute readNode = mock(NodeAttribute.class);
+        when(writeLoadBalance.choose()).thenReturn(writeNode);
+        when(readLoadBalance.choose()).thenReturn(readNode);
+
+        SessionConsistency.recordWrite("cluster_0");
+        String token = session.getToken();
+        session.close();
+        session = SessionConsistency.open();
+        assertEquals(readNode, rule.routing(sqlAttribute(false)));
+
+        session.close();
+        session = SessionConsistency.open(token);
+        assertEquals(writeNode, rule.routing(sqlAttribute(false)));
+        assertThrows(IllegalArgumentException.class, () -> SessionConsistency.open("cluster_0=x"));
+    }
+
+    private static SqlAttribute sqlAttribute(boolean write) {
+        SqlAttribute sqlAttribute = mock(SqlAttribute.class);
+        when(sqlAttribute.isWrite()).thenReturn(write);
+        return sqlAttribute;
+    }
+}
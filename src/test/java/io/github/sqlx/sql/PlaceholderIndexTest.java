@@ -0,0 +1,82 @@
+package io.github.sqlx.sql;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PlaceholderIndex}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class PlaceholderIndexTest {
+
+    @Test
+    void testPlaceholders() {
+        String sql = "SELECT * FROM t WHERE a = ? AND b IN (?, ?)";
+        PlaceholderIndex index = PlaceholderIndex.of(sql);
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(sql.charAt(index.offset(0))).isEqualTo('?');
+        assertThat(index.offset(1)).isEqualTo(sql.indexOf("(?") + 1);
+        assertThat(index.offset(2)).isEqualTo(sql.lastIndexOf('?'));
+    }
+
+    @Test
+    void testSkipLiteralsAndComments() {
+        String sql = "/* why? */ SELECT 'a?b', \"c?\", `d?`, 'it''s ?' FROM t -- where?\nWHERE a = ?";
+        PlaceholderIndex index = PlaceholderIndex.of(sql);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.offset(0)).isEqualTo(sql.length() - 1);
+    }
+
+    @Test
+    void testBackslashEscapedQuote() {
+        PlaceholderIndex index = PlaceholderIndex.of("SELECT 'it\\'s ?' FROM t WHERE a = ?", true);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testBackslashIsPlainCharacterWithoutBackslashEscapes() {
+        String sql = "SELECT * FROM t WHERE path = 'C:\\' AND a = ?";
+
+        assertThat(PlaceholderIndex.of(sql).size()).isEqualTo(1);
+        assertThat(PlaceholderIndex.of(sql).offset(0)).isEqualTo(sql.length() - 1);
+        assertThat(PlaceholderIndex.of(sql, true).size()).isZero();
+    }
+
+    @Test
+    void testCacheIsClearedWhenFull() {
+        String sql = "SELECT * FROM t WHERE id = ?";
+        PlaceholderIndex cached = PlaceholderIndex.of(sql);
+        for (int i = 0; i < 4096; i++) {
+            PlaceholderIndex.of("SELECT * FROM t" + i + " WHERE id = ?");
+        }
+        String recent = "SELECT * FROM t_recent WHERE id = ?";
+
+        assertThat(PlaceholderIndex.of(sql)).isNotSameAs(cached);
+        assertThat(PlaceholderIndex.of(recent)).isSameAs(PlaceholderIndex.of(new String(recent)));
+    }
+
+    @Test
+    void testNoPlaceholders() {
+        assertThat(PlaceholderIndex.of(null).size()).isZero();
+        assertThat(PlaceholderIndex.of("SELECT 1").size()).isZero();
+        assertThat(PlaceholderIndex.of("SELECT '?'").size()).isZero();
+    }
+
+    @Test
+    void testCachedPerSql() {
+        String sql = "UPDATE t SET a = ? WHERE id = ?";
+        assertThat(PlaceholderIndex.of(sql)).isSameAs(PlaceholderIndex.of(new String(sql)));
+    }
+
+    @Test
+    void testCachedWithParseResult() {
+        DefaultSqlAttribute attribute = new DefaultSqlAttribute().setNativeSql("DELETE FROM t WHERE id = ?");
+        assertThat(attribute.getPlaceholderIndex()).isSameAs(attribute.getPlaceholderIndex());
+        assertThat(attribute.getPlaceholderIndex().size()).isEqualTo(1);
+    }
+}
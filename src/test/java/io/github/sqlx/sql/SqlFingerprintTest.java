@@ -0,0 +1,44 @@
+package io.github.sqlx.sql;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SqlFingerprint}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class SqlFingerprintTest {
+
+    @Test
+    void testLiteralsAreReplaced() {
+        assertThat(SqlFingerprint.of("SELECT * FROM t_user WHERE id = 1 AND name = 'it''s' AND ratio > -1.5e3"))
+                .isEqualTo("select * from t_user where id = ? and name = ? and ratio > -?");
+        assertThat(SqlFingerprint.of("select * from t_user where id = ?"))
+                .isEqualTo(SqlFingerprint.of("SELECT  *\n FROM t_user\tWHERE id = 42;"));
+    }
+
+    @Test
+    void testCommentsAndQuotesAreRemoved() {
+        assertThat(SqlFingerprint.of("/*!nodeName=write_0;*/ SELECT `id`, \"name\" FROM `db`.`t_user` t1 -- list\nWHERE t1.id = 2"))
+                .isEqualTo("select id,name from db.t_user t1 where t1.id = ?");
+    }
+
+    @Test
+    void testValueListsAreCollapsed() {
+        assertThat(SqlFingerprint.of("select * from t where id in (1, 2, 3)"))
+                .isEqualTo(SqlFingerprint.of("select * from t where id in (?)"))
+                .isEqualTo("select * from t where id in (?+)");
+        assertThat(SqlFingerprint.of("INSERT INTO t (a, b) VALUES (1, 'x'), (2, 'y')"))
+                .isEqualTo("insert into t (a,b) values (?+)");
+    }
+
+    @Test
+    void testTokens() {
+        assertThat(SqlFingerprint.tokens("select id from t_user where id = ? and age > 18"))
+                .containsExactly("select", "id", "from", "t_user", "where", "and", "age");
+        assertThat(SqlFingerprint.tokens(null)).isEmpty();
+    }
+}
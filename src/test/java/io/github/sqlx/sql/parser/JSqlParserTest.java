@@ -473,6 +473,37 @@ public class JSqlParserTest {
         assertThat(statement.getSqlType()).isEqualTo(SqlType.DELETE);
     }
 
+    @Test
+    void testParseOrderByItems() {
+        String sql = "SELECT o.id, o.amount FROM orders o ORDER BY o.amount DESC, 1";
+        SqlAttribute statement = sqlParser.parse(sql);
+        assertThat(statement.getOrderByItems()).hasSize(2);
+        assertThat(statement.getOrderByItems().get(0).getColumn()).isEqualTo("amount");
+        assertThat(statement.getOrderByItems().get(0).isAsc()).isFalse();
+        assertThat(statement.getOrderByItems().get(1).getPosition()).isEqualTo(1);
+        assertThat(statement.getOrderByItems().get(1).isAsc()).isTrue();
+        assertThat(statement.getOrderByItems().get(1).getNullsFirst()).isNull();
+    }
+
+    @Test
+    void testParseOrderByNullOrdering() {
+        SqlAttribute statement = sqlParser.parse("SELECT id, name FROM users ORDER BY name NULLS LAST, id DESC NULLS FIRST");
+        assertThat(statement.getOrderByItems().get(0).getNullsFirst()).isFalse();
+        assertThat(statement.getOrderByItems().get(1).getNullsFirst()).isTrue();
+    }
+
+    @Test
+    void testParseRowLimit() {
+        assertThat(sqlParser.parse("SELECT id FROM users ORDER BY id LIMIT 10").getRowLimit()).isEqualTo(10);
+        assertThat(sqlParser.parse("SELECT TOP 5 id FROM users ORDER BY id").getRowLimit()).isEqualTo(5);
+        assertThat(sqlParser.parse("SELECT id FROM users ORDER BY id FETCH FIRST 3 ROWS ONLY").getRowLimit()).isEqualTo(3);
+        assertThat(sqlParser.parse("SELECT id FROM users ORDER BY id").getRowLimit()).isZero();
+        assertThat(sqlParser.parse("SELECT id FROM users LIMIT ?").getRowLimit()).isEqualTo(SqlAttribute.ROW_LIMIT_UNKNOWN);
+        assertThat(sqlParser.parse("SELECT id FROM users LIMIT 10 OFFSET 20").getRowLimit()).isEqualTo(SqlAttribute.ROW_LIMIT_UNKNOWN);
+        assertThat(sqlParser.parse("SELECT id FROM users LIMIT 20, 10").getRowLimit()).isEqualTo(SqlAttribute.ROW_LIMIT_UNKNOWN);
+        assertThat(sqlParser.parse("SELECT id FROM users UNION SELECT id FROM admins LIMIT 5").getRowLimit()).isEqualTo(SqlAttribute.ROW_LIMIT_UNKNOWN);
+    }
+
     @Test
     void test1() {
         String sql = "select\n" +
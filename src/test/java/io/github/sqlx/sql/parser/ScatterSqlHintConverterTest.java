@@ -0,0 +1,40 @@
+package io.github.sqlx.sql.parser;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ScatterSqlHintConverter}.
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class ScatterSqlHintConverterTest {
+
+    private ScatterSqlHintConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        converter = new ScatterSqlHintConverter();
+    }
+
+    @Test
+    void testConvertWithScatterHint() {
+        SqlHint sqlHint = new DefaultAnnotationSqlHintParser().parse("/*!scatter=true;*/ select * from employee");
+
+        assertThat(converter.convert(sqlHint)).isTrue();
+    }
+
+    @Test
+    void testConvertWithNoScatterHint() {
+        SqlHint sqlHint = new DefaultAnnotationSqlHintParser().parse("/*!nodeName=read_0;*/ select * from employee");
+
+        assertThat(converter.convert(sqlHint)).isNull();
+    }
+
+    @Test
+    void testConvertWithNullHint() {
+        assertThat(converter.convert(null)).isNull();
+    }
+}
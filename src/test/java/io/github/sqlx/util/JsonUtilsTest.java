@@ -0,0 +1,76 @@
+package io.github.sqlx.util;
+
+import io.github.sqlx.metrics.Page;
+import io.github.sqlx.metrics.PagingCriteria;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link JsonUtils}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class JsonUtilsTest {
+
+    @Test
+    void testWritePageStreamsContent() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        JsonUtils.<String>writePage(writer, consumer -> {
+            Arrays.asList("a", "b").forEach(consumer);
+            return Page.of(null, 12L, new PagingCriteria(1, 2));
+        });
+
+        JsonObject result = JsonParser.parseString(writer.toString()).getAsJsonObject();
+        assertThat(result.get("succeed").getAsBoolean()).isTrue();
+        JsonObject payload = result.getAsJsonObject("payload");
+        assertThat(payload.getAsJsonArray("content").toString()).isEqualTo("[\"a\",\"b\"]");
+        assertThat(payload.get("totalCount").getAsLong()).isEqualTo(12L);
+        assertThat(payload.get("totalPage").getAsLong()).isEqualTo(6L);
+        assertThat(payload.get("nextCreatedTime").isJsonNull()).isTrue();
+    }
+
+    @Test
+    void testWritePageWritesFailureWhenSelectFails() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        JsonUtils.<String>writePage(writer, consumer -> {
+            throw new IllegalArgumentException("bad criteria");
+        });
+
+        JsonObject result = JsonParser.parseString(writer.toString()).getAsJsonObject();
+        assertThat(result.get("succeed").getAsBoolean()).isFalse();
+        assertThat(result.get("msg").getAsString()).isEqualTo("bad criteria");
+    }
+
+    @Test
+    void testMaskPassword() {
+        Map<String, Object> nested = new HashMap<>();
+        nested.put("dbPassword", "secret");
+        nested.put("url", "jdbc:h2:mem:test");
+        Map<String, Object> root = new HashMap<>();
+        root.put("password", null);
+        root.put("dataSources", Arrays.asList(nested));
+
+        StringWriter writer = new StringWriter();
+        JsonUtils.maskPasswordToJson(root, writer);
+
+        assertThat(writer.toString()).isEqualTo(JsonUtils.maskPasswordToJson(root));
+        JsonElement element = JsonParser.parseString(writer.toString());
+        JsonObject dataSource = element.getAsJsonObject().getAsJsonArray("dataSources").get(0).getAsJsonObject();
+        assertThat(element.getAsJsonObject().get("password").getAsString()).isEqualTo("***");
+        assertThat(dataSource.get("dbPassword").getAsString()).isEqualTo("***");
+        assertThat(dataSource.get("url").getAsString()).isEqualTo("jdbc:h2:mem:test");
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.sqlx.util;
+
+import io.github.sqlx.jdbc.transaction.TimestampUUIDTransactionIdGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link TimeOrderedId}.
+ *
+ * @author He Xing Mo
+ * @since 1.0
+ */
+class TimeOrderedIdTest {
+
+    @Test
+    void testIdsOfAThreadAreIncreasing() {
+        long before = System.currentTimeMillis();
+        List<TimeOrderedId> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(TimeOrderedId.next());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(ids.get(i)).isGreaterThan(ids.get(i - 1));
+            assertThat(ids.get(i).toString()).isGreaterThan(ids.get(i - 1).toString());
+        }
+        assertThat(ids.get(0).getTimestamp()).isBetween(before, System.currentTimeMillis());
+    }
+
+    @Test
+    void testTextRoundTrip() {
+        TimeOrderedId id = TimeOrderedId.next();
+        String text = id.toString();
+
+        assertThat(text).hasSize(32).matches("[0-9a-f]{32}");
+        assertThat(TimeOrderedId.parse(text)).isEqualTo(id).hasSameHashCodeAs(id);
+        assertThat(new TimeOrderedId(-1L, 0L).toString()).isEqualTo("ffffffffffffffff0000000000000000");
+        assertThat(new TimeOrderedId(-1L, 0L)).isGreaterThan(new TimeOrderedId(1L, -1L));
+        assertThatThrownBy(() -> TimeOrderedId.parse("xyz")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testIdsAreUniqueAcrossThreads() throws InterruptedException {
+        Set<String> ids = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    ids.add(TimeOrderedId.nextString());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(ids).hasSize(20_000);
+    }
+
+    @Test
+    void testTimestampTransactionId() {
+        TimestampUUIDTransactionIdGenerator generator = new TimestampUUIDTransactionIdGenerator();
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            ids.add(generator.getTransactionId());
+        }
+
+        assertThat(ids).hasSize(100).allMatch(id -> id.matches("\\d{17}@[0-9a-f]{32}"));
+    }
+}